@@ -0,0 +1,64 @@
+package com.csse3200.game.benchmarks;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Cost of one {@link EntityService#update()} frame for different numbers of entities. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityServiceBenchmark {
+  @Param({"100", "1000", "10000"})
+  public int entityCount;
+
+  private EntityService entityService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity().addComponent(new CounterComponent());
+      entityService.register(entity);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ServiceLocator.clear();
+  }
+
+  @Benchmark
+  public void update(Blackhole blackhole) {
+    entityService.update();
+    blackhole.consume(entityService);
+  }
+
+  /** Minimal component so each update does a small, unavoidable amount of work. */
+  public static class CounterComponent extends Component {
+    private long ticks;
+
+    @Override
+    public void update() {
+      ticks++;
+    }
+
+    public long getTicks() {
+      return ticks;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.csse3200.game.benchmarks;
+
+import com.csse3200.game.entities.EntitySpawn;
+import com.csse3200.game.entities.WaveConfigProvider;
+import com.csse3200.game.entities.configs.BaseSpawnConfig;
+import com.csse3200.game.entities.factories.RobotFactory.RobotType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of building a wave's spawn list for increasingly large wave budgets. The list is built by
+ * the private {@code generateSpawnList}, which is reached through {@link
+ * EntitySpawn#previewEnemiesForCurrentWave()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntitySpawnBenchmark {
+  @Param({"100", "1000", "10000"})
+  public int waveWeight;
+
+  private EntitySpawn entitySpawn;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Map<String, BaseSpawnConfig> enemies = new HashMap<>();
+    enemies.put(RobotType.STANDARD.get(), new FixedSpawnConfig(2, 5f));
+    enemies.put(RobotType.FAST.get(), new FixedSpawnConfig(3, 2f));
+    enemies.put(RobotType.TANKY.get(), new FixedSpawnConfig(5, 1.5f));
+    enemies.put(RobotType.BUNGEE.get(), new FixedSpawnConfig(4, 1f));
+    enemies.put(RobotType.GUNNER.get(), new FixedSpawnConfig(6, 1f));
+    enemies.put(RobotType.GIANT.get(), new FixedSpawnConfig(12, 0.5f));
+    entitySpawn = new EntitySpawn(new FixedWaveConfigProvider(waveWeight, enemies), 2);
+  }
+
+  @Benchmark
+  public List<RobotType> generateSpawnList() {
+    return entitySpawn.previewEnemiesForCurrentWave();
+  }
+
+  /** Spawn config with a set cost and chance, since the real config is only filled from JSON. */
+  private static class FixedSpawnConfig extends BaseSpawnConfig {
+    private final int cost;
+    private final float chance;
+
+    FixedSpawnConfig(int cost, float chance) {
+      this.cost = cost;
+      this.chance = chance;
+    }
+
+    @Override
+    public int getCost() {
+      return cost;
+    }
+
+    @Override
+    public float getChance() {
+      return chance;
+    }
+  }
+
+  /** A single-wave provider that avoids loading level files. */
+  private static class FixedWaveConfigProvider implements WaveConfigProvider {
+    private final int waveWeight;
+    private final Map<String, BaseSpawnConfig> enemies;
+
+    FixedWaveConfigProvider(int waveWeight, Map<String, BaseSpawnConfig> enemies) {
+      this.waveWeight = waveWeight;
+      this.enemies = enemies;
+    }
+
+    @Override
+    public int getWaveWeight() {
+      return waveWeight;
+    }
+
+    @Override
+    public int getMinZombiesSpawn() {
+      return 0;
+    }
+
+    @Override
+    public Map<String, BaseSpawnConfig> getEnemyConfigs() {
+      return enemies;
+    }
+
+    @Override
+    public int getTotalWaves() {
+      return 1;
+    }
+
+    @Override
+    public int getWaveWeight(int waveIndex) {
+      return waveWeight;
+    }
+
+    @Override
+    public int getMinZombiesSpawn(int waveIndex) {
+      return 0;
+    }
+
+    @Override
+    public Map<String, BaseSpawnConfig> getEnemyConfigs(int waveIndex) {
+      return enemies;
+    }
+  }
+}
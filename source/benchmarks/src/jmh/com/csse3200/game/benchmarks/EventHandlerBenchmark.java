@@ -0,0 +1,61 @@
+package com.csse3200.game.benchmarks;
+
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKeys;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of {@link EventHandler#trigger} for events with no, one and many listeners, both by name
+ * and by interned ID.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventHandlerBenchmark {
+  private static final String EVENT_NAME = "benchmarkEvent";
+  private static final int EVENT_ID = EventKeys.intern(EVENT_NAME);
+  private static final int ARG_EVENT_ID = EventKeys.intern("benchmarkArgEvent");
+
+  @Param({"0", "1", "16"})
+  public int listenerCount;
+
+  private EventHandler eventHandler;
+  private long calls;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    eventHandler = new EventHandler();
+    for (int i = 0; i < listenerCount; i++) {
+      eventHandler.addListener(EVENT_ID, () -> calls++);
+      eventHandler.addListener(ARG_EVENT_ID, (Integer amount) -> calls += amount);
+    }
+  }
+
+  @Benchmark
+  public long triggerByName() {
+    eventHandler.trigger(EVENT_NAME);
+    return calls;
+  }
+
+  @Benchmark
+  public long triggerById() {
+    eventHandler.trigger(EVENT_ID);
+    return calls;
+  }
+
+  @Benchmark
+  public long triggerByIdWithArg() {
+    // Small integers are cached, so boxing does not show up in the allocation profile
+    eventHandler.trigger(ARG_EVENT_ID, 1);
+    return calls;
+  }
+}
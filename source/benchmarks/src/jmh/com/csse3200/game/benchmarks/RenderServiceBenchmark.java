@@ -0,0 +1,91 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.rendering.Renderable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of the per-frame layer sorting in {@link RenderService#render(SpriteBatch)}. Renderables
+ * draw nothing, so only sorting and iteration are measured. When {@code moving} is set, every
+ * renderable changes its z index each frame, as walking robots do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderServiceBenchmark {
+  private static final int LAYER_COUNT = 3;
+
+  @Param({"100", "1000", "5000"})
+  public int renderableCount;
+
+  @Param({"false", "true"})
+  public boolean moving;
+
+  private RenderService renderService;
+  private StubRenderable[] renderables;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    MathUtils.random.setSeed(0);
+    renderService = new RenderService();
+    renderables = new StubRenderable[renderableCount];
+    for (int i = 0; i < renderableCount; i++) {
+      renderables[i] = new StubRenderable(i % LAYER_COUNT, MathUtils.random(-10f, 10f));
+      renderService.register(renderables[i]);
+    }
+  }
+
+  @Benchmark
+  public long render() {
+    if (moving) {
+      for (StubRenderable renderable : renderables) {
+        renderable.zIndex += MathUtils.random(-0.1f, 0.1f);
+      }
+    }
+    renderService.render(null);
+    return StubRenderable.drawn;
+  }
+
+  /** A renderable that only counts how often it is drawn. */
+  private static class StubRenderable implements Renderable {
+    private static long drawn;
+    private final int layer;
+    private float zIndex;
+
+    StubRenderable(int layer, float zIndex) {
+      this.layer = layer;
+      this.zIndex = zIndex;
+    }
+
+    @Override
+    public void render(SpriteBatch batch) {
+      drawn++;
+    }
+
+    @Override
+    public float getZIndex() {
+      return zIndex;
+    }
+
+    @Override
+    public int getLayer() {
+      return layer;
+    }
+
+    @Override
+    public int compareTo(Renderable o) {
+      return Float.compare(getZIndex(), o.getZIndex());
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.persistence.SaveFormat;
+import com.csse3200.game.progression.Profile;
+import com.csse3200.game.services.ConfigService;
+import com.csse3200.game.services.ServiceLocator;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary saves against the pretty-printed JSON saves they replaced, for a profile partway through
+ * the game. Sizes of both encodings are logged during setup. Times cover encoding and decoding
+ * only, since the disk write happens on a background thread either way.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SaveFormatBenchmark {
+  private static final Logger logger = LoggerFactory.getLogger(SaveFormatBenchmark.class);
+  private final Json json = new Json();
+  private Profile profile;
+  private byte[] binarySave;
+  private String jsonSave;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Gdx.files = new HeadlessFiles();
+    ServiceLocator.registerConfigService(new ConfigService());
+
+    profile = new Profile();
+    profile.getWallet().addCoins(250);
+    profile.getInventory().addItem("grenade");
+    profile.getInventory().addItem("coffee");
+    profile.getArsenal().unlockDefence("boxer");
+    profile.completeLevel("levelOne");
+    profile.completeLevel("levelTwo");
+    profile.completeLevel("levelThree");
+    profile.unlockNode("levelFour");
+
+    binarySave = SaveFormat.encode(profile, 1, System.currentTimeMillis());
+    jsonSave = json.prettyPrint(profile);
+    logger.info(
+        "Binary save: {} bytes, JSON save: {} bytes",
+        binarySave.length,
+        jsonSave.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ServiceLocator.clear();
+  }
+
+  @Benchmark
+  public byte[] encodeBinary() {
+    return SaveFormat.encode(profile, 1, 0L);
+  }
+
+  @Benchmark
+  public String encodeJson() {
+    return json.prettyPrint(profile);
+  }
+
+  /** Loading a profile decodes only its header and core section. */
+  @Benchmark
+  public Profile decodeBinary() throws IOException {
+    return SaveFormat.decode(binarySave);
+  }
+
+  /** Loading a profile and then using every section of it. */
+  @Benchmark
+  public Profile decodeBinaryAllSections() throws IOException {
+    Profile loaded = SaveFormat.decode(binarySave);
+    loaded.getWallet();
+    loaded.getInventory();
+    loaded.getSkillset();
+    loaded.getStatistics();
+    loaded.getArsenal();
+    return loaded;
+  }
+
+  @Benchmark
+  public Profile decodeJson() {
+    return json.fromJson(Profile.class, jsonSave);
+  }
+}
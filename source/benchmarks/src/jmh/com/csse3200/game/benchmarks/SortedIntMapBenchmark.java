@@ -0,0 +1,74 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.csse3200.game.utils.SortedIntMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Cost of filling and reading a {@link SortedIntMap} with keys inserted in random order. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SortedIntMapBenchmark {
+  @Param({"4", "32", "256"})
+  public int size;
+
+  private int[] keys;
+  // Boxed once up front so boxing does not show up in the allocation profile
+  private Integer[] values;
+  private SortedIntMap<Integer> filled;
+  private SortedIntMap<Integer> scratch;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    MathUtils.random.setSeed(0);
+    keys = new int[size];
+    for (int i = 0; i < size; i++) {
+      keys[i] = i;
+    }
+    // Shuffle so inserts land throughout the map rather than always at the end
+    for (int i = size - 1; i > 0; i--) {
+      int j = MathUtils.random(i);
+      int tmp = keys[i];
+      keys[i] = keys[j];
+      keys[j] = tmp;
+    }
+
+    values = new Integer[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = keys[i];
+    }
+
+    filled = new SortedIntMap<>(size);
+    scratch = new SortedIntMap<>(size);
+    for (int i = 0; i < size; i++) {
+      filled.put(keys[i], values[i]);
+    }
+  }
+
+  @Benchmark
+  public SortedIntMap<Integer> putAll() {
+    scratch.clear();
+    for (int i = 0; i < size; i++) {
+      scratch.put(keys[i], values[i]);
+    }
+    return scratch;
+  }
+
+  @Benchmark
+  public long getAll() {
+    long sum = 0;
+    for (int key : keys) {
+      sum += filled.get(key);
+    }
+    return sum;
+  }
+}
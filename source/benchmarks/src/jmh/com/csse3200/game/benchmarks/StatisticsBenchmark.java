@@ -0,0 +1,74 @@
+package com.csse3200.game.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.csse3200.game.progression.statistics.Statistics;
+import com.csse3200.game.services.ConfigService;
+import com.csse3200.game.services.ProfileService;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Cost of {@link Statistics#incrementStatistic(String)}, including the achievement check against
+ * the real achievement configs. Achievements unlock within the first few calls of an iteration,
+ * so nearly all measured calls only pay for the check. Batched calls defer that check to the once
+ * per frame flush, which is left out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatisticsBenchmark {
+  private Statistics statistics;
+  private Statistics batched;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Internal files fall back to the classpath, where the benchmark resources include the configs
+    Gdx.files = new HeadlessFiles();
+    ServiceLocator.registerConfigService(new ConfigService());
+    ServiceLocator.registerProfileService(new ProfileService());
+  }
+
+  @Setup(Level.Iteration)
+  public void resetStatistics() {
+    // A fresh instance each iteration keeps the counters from overflowing
+    statistics = new Statistics();
+    batched = new Statistics();
+    batched.setBatching(true);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ServiceLocator.clear();
+  }
+
+  /** A statistic that an achievement tracks. */
+  @Benchmark
+  public Statistics incrementTracked() {
+    statistics.incrementStatistic("shotsFired");
+    return statistics;
+  }
+
+  /** A statistic no achievement tracks, which stops at the index lookup. */
+  @Benchmark
+  public Statistics incrementUntracked() {
+    statistics.incrementStatistic("defencesLost");
+    return statistics;
+  }
+
+  /** A statistic that an achievement tracks, during a level where checks happen per frame. */
+  @Benchmark
+  public Statistics incrementTrackedBatched() {
+    batched.incrementStatistic("shotsFired");
+    return batched;
+  }
+}
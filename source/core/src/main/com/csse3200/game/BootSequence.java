@@ -0,0 +1,199 @@
+package com.csse3200.game;
+
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.services.ResourceService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives the game's startup in stages so the loading screen keeps rendering while the game boots.
+ * Work that needs the render thread runs as a timed step, JSON parsing and other plain Java work
+ * runs as a background job on the {@link JobSystem}, and queued assets are streamed in small slices
+ * each frame with {@link ResourceService#loadForMillis(int)}.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ * boot.step("core services", this::registerCoreServices);
+ * boot.launch("configs", ConfigService::new, ServiceLocator::registerConfigService);
+ * ...
+ * // each frame
+ * if (boot.update(sliceMillis)) {
+ *   boot.logReport();
+ * }
+ * </pre>
+ *
+ * Job results are handed back on the thread calling {@link #update(int)}, so services can be
+ * registered there safely.
+ */
+public class BootSequence {
+  private static final Logger logger = LoggerFactory.getLogger(BootSequence.class);
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+
+  private final ResourceService resourceService;
+  private final List<Job<?>> jobs = new ArrayList<>();
+  private final List<String> phaseNames = new ArrayList<>();
+  private final List<Long> phaseNanos = new ArrayList<>();
+  private final long startTime;
+  private long assetNanos;
+  private int appliedJobs;
+  private boolean assetsLoaded;
+  private boolean finished;
+
+  /**
+   * Create a boot sequence. The clock for the total boot time starts now.
+   *
+   * @param resourceService service whose queued assets are streamed in by {@link #update(int)}
+   */
+  public BootSequence(ResourceService resourceService) {
+    this.resourceService = resourceService;
+    this.startTime = System.nanoTime();
+  }
+
+  /**
+   * Run a step on the calling thread straight away and record how long it took.
+   *
+   * @param name name of the phase in the timing report
+   * @param step work to run
+   */
+  public void step(String name, Runnable step) {
+    long start = System.nanoTime();
+    step.run();
+    addPhase(name, System.nanoTime() - start);
+  }
+
+  /**
+   * Start a background job. The job must not touch OpenGL or other render thread state, but may
+   * read files and wait on other jobs. Once it finishes, its result is passed to {@code
+   * onComplete} during a later {@link #update(int)}.
+   *
+   * @param name name of the phase in the timing report
+   * @param job work to run on the job system
+   * @param onComplete called with the job's result on the thread calling {@link #update(int)}
+   * @param <T> type of the job's result
+   */
+  public <T> void launch(String name, Supplier<T> job, Consumer<T> onComplete) {
+    Job<T> entry = new Job<>(name, onComplete);
+    entry.future =
+        JobSystem.launchBlocking(
+            () -> {
+              long start = System.nanoTime();
+              T result = job.get();
+              entry.nanos = System.nanoTime() - start;
+              return result;
+            });
+    jobs.add(entry);
+  }
+
+  /**
+   * Advance the boot by loading queued assets for up to the given time, then handing over the
+   * results of any finished jobs.
+   *
+   * @param budgetMillis time to spend loading assets
+   * @return true once all assets are loaded and all jobs are applied
+   */
+  public boolean update(int budgetMillis) {
+    if (finished) {
+      return true;
+    }
+
+    if (!assetsLoaded) {
+      long start = System.nanoTime();
+      assetsLoaded = resourceService.loadForMillis(budgetMillis);
+      assetNanos += System.nanoTime() - start;
+      if (assetsLoaded) {
+        addPhase("assets", assetNanos);
+      }
+    }
+
+    for (Job<?> job : jobs) {
+      if (!job.applied && job.future.isDone()) {
+        job.apply();
+        addPhase(job.name, job.nanos);
+        appliedJobs++;
+      }
+    }
+
+    finished = assetsLoaded && appliedJobs == jobs.size();
+    return finished;
+  }
+
+  /**
+   * Get the overall boot progress, counting the asset queue and each job equally.
+   *
+   * @return progress from 0 to 100
+   */
+  public int getProgress() {
+    if (finished) {
+      return 100;
+    }
+    int assetProgress = assetsLoaded ? 100 : resourceService.getProgress();
+    return (assetProgress + appliedJobs * 100) / (jobs.size() + 1);
+  }
+
+  /**
+   * @return true once {@link #update(int)} has finished the boot
+   */
+  public boolean isFinished() {
+    return finished;
+  }
+
+  /**
+   * Build a report of the time spent in each phase. Asset loading reports the time spent inside
+   * the per-frame slices and jobs report the time spent on their worker thread.
+   *
+   * @return multi-line timing report
+   */
+  public String getReport() {
+    StringBuilder report = new StringBuilder("Boot timings:");
+    for (int i = 0; i < phaseNames.size(); i++) {
+      report.append("\n  ").append(phaseNames.get(i)).append(": ");
+      report.append(phaseNanos.get(i) / NANOS_PER_MILLI).append(" ms");
+    }
+    report.append("\n  total: ").append(getElapsedMillis()).append(" ms");
+    return report.toString();
+  }
+
+  /** Log the timing report. */
+  public void logReport() {
+    String report = getReport();
+    logger.info(report);
+  }
+
+  /**
+   * @return wall time since the boot sequence was created, in milliseconds
+   */
+  public long getElapsedMillis() {
+    return (System.nanoTime() - startTime) / NANOS_PER_MILLI;
+  }
+
+  private void addPhase(String name, long nanos) {
+    phaseNames.add(name);
+    phaseNanos.add(nanos);
+  }
+
+  /** A background job and the callback that receives its result. */
+  private static class Job<T> {
+    private final String name;
+    private final Consumer<T> onComplete;
+    private CompletableFuture<T> future;
+    private volatile long nanos;
+    private boolean applied;
+
+    private Job(String name, Consumer<T> onComplete) {
+      this.name = name;
+      this.onComplete = onComplete;
+    }
+
+    /** Pass the result on. Rethrows anything the job threw, as if it had run inline. */
+    private void apply() {
+      applied = true;
+      onComplete.accept(future.join());
+    }
+  }
+}
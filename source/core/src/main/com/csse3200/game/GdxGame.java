@@ -7,6 +7,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Pixmap;
+import com.csse3200.game.persistence.Persistence;
 import com.csse3200.game.screens.*;
 import com.csse3200.game.services.*;
 import net.dermetfan.utils.Pair;
@@ -49,6 +50,7 @@ public class GdxGame extends Game {
   };
   private static final Pair<String, String> GLOBAL_FONT =
       new Pair<>("Default", "fonts/Jersey10-Regular.ttf");
+  private BootSequence boot;
 
   @Override
   public void create() {
@@ -57,22 +59,62 @@ public class GdxGame extends Game {
   }
 
   /**
-   * Initializes the game after loading screen is complete. This method is called by the
-   * LoadingScreen when loading is finished.
+   * Starts the staged boot. Core services are created and the global assets queued on the render
+   * thread, while the config, cutscene and world map services are built on the job system. Called
+   * by the LoadingScreen once it is showing.
    */
-  public void initializeGame() {
-    logger.info("[GdxGame] Initializing game after loading screen");
-    ServiceLocator.registerSettingsService(new SettingsService());
-    ServiceLocator.registerProfileService(new ProfileService());
-    ServiceLocator.registerGlobalResourceService(new ResourceService());
+  public void startBoot() {
+    logger.info("[GdxGame] Starting boot");
+    ResourceService globalResources = new ResourceService();
+    boot = new BootSequence(globalResources);
+    boot.step(
+        "core services",
+        () -> {
+          ServiceLocator.registerSettingsService(new SettingsService());
+          ServiceLocator.registerProfileService(new ProfileService());
+          ServiceLocator.registerGlobalResourceService(globalResources);
+          ServiceLocator.registerAssetCache(new AssetCache());
+        });
+    boot.step("queue global assets", this::queueGlobalAssets);
+    boot.launch("configs", ConfigService::new, ServiceLocator::registerConfigService);
+    boot.launch("cutscenes", CutsceneService::new, ServiceLocator::registerCutsceneService);
+    boot.launch("world map", WorldMapService::new, ServiceLocator::registerWorldMapService);
+  }
 
-    loadGlobalAssets();
+  /**
+   * Advances the boot by one frame. Once the global assets are loaded and the background jobs are
+   * done, the remaining services are created and the main menu is shown.
+   *
+   * @param budgetMillis time to spend loading assets this frame
+   * @return true once the boot has finished
+   */
+  public boolean updateBoot(int budgetMillis) {
+    if (boot == null) {
+      startBoot();
+    }
+    if (boot.isFinished() || !boot.update(budgetMillis)) {
+      return boot.isFinished();
+    }
+    boot.step("main menu", this::initializeGame);
+    boot.logReport();
+    return true;
+  }
 
+  /**
+   * Gets the progress of the boot for the loading screen.
+   *
+   * @return progress from 0 to 100
+   */
+  public int getBootProgress() {
+    return boot == null ? 0 : boot.getProgress();
+  }
+
+  /** Creates the services that need the global assets, then shows the main menu. */
+  private void initializeGame() {
+    logger.info("[GdxGame] Initializing game after loading screen");
     ServiceLocator.registerDialogService(new DialogService());
-    ServiceLocator.registerConfigService(new ConfigService());
-    ServiceLocator.registerCutsceneService(new CutsceneService());
-    ServiceLocator.registerWorldMapService(new WorldMapService());
     ServiceLocator.registerMusicService(new MusicService());
+    ServiceLocator.registerSoundService(new SoundService());
 
     DiscordRichPresenceService discordService = new DiscordRichPresenceService();
     discordService.initialize();
@@ -86,14 +128,13 @@ public class GdxGame extends Game {
     setScreen(ScreenType.MAIN_MENU, null);
   }
 
-  /** Loads the game's global assets. */
-  private void loadGlobalAssets() {
-    logger.debug("[GdxGame] Loading global assets");
+  /** Queues the game's global assets, to be streamed in by the boot sequence. */
+  private void queueGlobalAssets() {
+    logger.debug("[GdxGame] Queueing global assets");
     ServiceLocator.getGlobalResourceService().loadTextures(GLOBAL_ASSETS);
     ServiceLocator.getGlobalResourceService()
         .loadFont(GLOBAL_FONT.getValue(), GLOBAL_FONT.getKey());
     ServiceLocator.getGlobalResourceService().loadSounds(GLOBAL_SOUNDS);
-    ServiceLocator.getGlobalResourceService().loadAll();
   }
 
   /**
@@ -151,6 +192,12 @@ public class GdxGame extends Game {
   public void dispose() {
     logger.debug("[GdxGame] Disposing of current screen");
     getScreen().dispose();
+    Persistence.flush();
+    AssetCache assetCache = ServiceLocator.getAssetCache();
+    if (assetCache != null) {
+      assetCache.dispose();
+      ServiceLocator.deregisterAssetCache();
+    }
   }
 
   /**
@@ -251,6 +298,7 @@ public class GdxGame extends Game {
     ServiceLocator.getDialogService().hideAllDialogs();
     ServiceLocator.deregisterDialogService();
     ServiceLocator.deregisterDiscordRichPresenceService();
+    Persistence.flush();
     app.exit();
   }
 }
@@ -1,7 +1,9 @@
 package com.csse3200.game.ai.tasks;
 
 import com.csse3200.game.components.Component;
+import com.csse3200.game.events.EventKeys;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,16 +14,43 @@ import org.slf4j.LoggerFactory;
  *
  * <p>This is a simple implementation of Goal-Oriented Action Planning (GOAP), a common AI decision
  * algorithm in games that's more powerful than Finite State Machines (FSMs) (State pattern).
+ *
+ * <p>Tasks that allow it ({@link PriorityTask#canDeferPriority()}) only have their priority
+ * re-evaluated every few frames, with each component starting at a different frame so the work is
+ * spread evenly. All priorities are re-evaluated straight away after a collision, a task change, or
+ * the current task stopping itself.
  */
 public class AITaskComponent extends Component implements TaskRunner {
   private static final Logger logger = LoggerFactory.getLogger(AITaskComponent.class);
 
+  /** Frames between re-evaluations of deferrable task priorities */
+  public static final int DEFAULT_EVALUATION_INTERVAL = 4;
+
+  private static final AtomicInteger nextPhase = new AtomicInteger();
+
   private final List<PriorityTask> priorityTasks = new ArrayList<>(2);
+  private int[] priorities = new int[0];
   private PriorityTask currentTask;
+  private final int evaluationInterval;
+  private final int phase;
+  private long tick;
+  private boolean updating;
+  private boolean evaluateAll = true;
 
   /** Creates a new AI task component with an empty task list. */
   public AITaskComponent() {
-    // Default constructor
+    this(DEFAULT_EVALUATION_INTERVAL);
+  }
+
+  /**
+   * Creates a new AI task component with an empty task list.
+   *
+   * @param evaluationInterval frames between re-evaluations of deferrable task priorities, where 1
+   *     re-evaluates every task every frame
+   */
+  public AITaskComponent(int evaluationInterval) {
+    this.evaluationInterval = Math.max(1, evaluationInterval);
+    this.phase = Math.floorMod(nextPhase.getAndIncrement(), this.evaluationInterval);
   }
 
   /**
@@ -34,19 +63,56 @@ public class AITaskComponent extends Component implements TaskRunner {
   public AITaskComponent addTask(PriorityTask task) {
     logger.debug("{} Adding task {}", this, task);
     priorityTasks.add(task);
+    priorities = Arrays.copyOf(priorities, priorityTasks.size());
+    evaluateAll = true;
     task.create(this);
 
     return this;
   }
 
+  @Override
+  public void create() {
+    entity.getEvents().addListener(EventKeys.COLLISION_START, (me, other) -> evaluateAll = true);
+    entity.getEvents().addListener(EventKeys.COLLISION_END, (me, other) -> evaluateAll = true);
+  }
+
   /**
    * On update, run the current highest priority task. If it's a different one, stop the old one and
    * start the new one. If the highest priority task has negative priority, no task will be run.
    */
   @Override
   public void update() {
-    PriorityTask desiredtask = getHighestPriorityTask();
-    if (desiredtask == null || desiredtask.getPriority() < 0) {
+    tick++;
+    updating = true;
+    try {
+      updateTasks();
+    } finally {
+      updating = false;
+    }
+  }
+
+  private void updateTasks() {
+    boolean evaluateDeferred =
+        evaluateAll
+            || currentTask == null
+            || currentTask.getStatus() != Task.Status.ACTIVE
+            || (tick + phase) % evaluationInterval == 0;
+    evaluateAll = false;
+
+    PriorityTask desiredtask = null;
+    int desiredPriority = Integer.MIN_VALUE;
+    for (int i = 0; i < priorityTasks.size(); i++) {
+      PriorityTask task = priorityTasks.get(i);
+      if (evaluateDeferred || !task.canDeferPriority()) {
+        priorities[i] = task.getPriority();
+      }
+      // Ties go to the earliest added task
+      if (desiredtask == null || priorities[i] > desiredPriority) {
+        desiredtask = task;
+        desiredPriority = priorities[i];
+      }
+    }
+    if (desiredtask == null || desiredPriority < 0) {
       return;
     }
 
@@ -56,6 +122,23 @@ public class AITaskComponent extends Component implements TaskRunner {
     currentTask.update();
   }
 
+  /**
+   * Gets the number of times this component has updated. Tasks can use this to reuse work within a
+   * frame, see {@link TickMemo}.
+   *
+   * @return the current tick
+   */
+  public long getTick() {
+    return tick;
+  }
+
+  /**
+   * @return true while this component is updating its tasks
+   */
+  public boolean isUpdating() {
+    return updating;
+  }
+
   @Override
   public void dispose() {
     if (currentTask != null) {
@@ -63,20 +146,14 @@ public class AITaskComponent extends Component implements TaskRunner {
     }
   }
 
-  private PriorityTask getHighestPriorityTask() {
-    try {
-      return Collections.max(priorityTasks, Comparator.comparingInt(PriorityTask::getPriority));
-    } catch (NoSuchElementException e) {
-      return null;
-    }
-  }
-
   private void changeTask(PriorityTask desiredTask) {
     logger.debug("{} Changing to task {}", this, desiredTask);
     if (currentTask != null) {
       currentTask.stop();
     }
     currentTask = desiredTask;
+    // Starting a task can change the priorities of the others
+    evaluateAll = true;
     if (desiredTask != null) {
       desiredTask.start();
     }
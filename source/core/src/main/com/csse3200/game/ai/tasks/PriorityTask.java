@@ -11,4 +11,15 @@ public interface PriorityTask extends Task {
    * @return the priority value
    */
   int getPriority();
+
+  /**
+   * Whether the AI task component may reuse this task's last priority for a few frames instead of
+   * asking every frame. Only tasks whose priority is a pure function of the world, without timers
+   * or random rolls inside {@link #getPriority()}, should allow this.
+   *
+   * @return true if the priority can be re-evaluated less than once per frame
+   */
+  default boolean canDeferPriority() {
+    return false;
+  }
 }
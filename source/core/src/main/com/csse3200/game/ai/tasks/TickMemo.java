@@ -0,0 +1,61 @@
+package com.csse3200.game.ai.tasks;
+
+/**
+ * Remembers the result of a query for the rest of an AI tick, so a task that needs it in both
+ * {@link PriorityTask#getPriority()} and {@link Task#update()} only runs it once per frame.
+ *
+ * <p>Results are only remembered while an {@link AITaskComponent} is updating its tasks. Calls
+ * from outside its update, or for tasks with any other runner, always miss.
+ *
+ * <pre>
+ * if (memo.has(owner)) {
+ *   return memo.get();
+ * }
+ * return memo.put(owner, query());
+ * </pre>
+ *
+ * @param <T> query result type
+ */
+public class TickMemo<T> {
+  private AITaskComponent runner;
+  private long tick = -1;
+  private T value;
+
+  /**
+   * Checks whether a result was stored during the runner's current update.
+   *
+   * @param taskRunner runner of the task asking
+   * @return true if {@link #get()} holds this tick's result
+   */
+  public boolean has(TaskRunner taskRunner) {
+    return taskRunner instanceof AITaskComponent ai
+        && ai == runner
+        && ai.isUpdating()
+        && ai.getTick() == tick;
+  }
+
+  /**
+   * @return the last stored result
+   */
+  public T get() {
+    return value;
+  }
+
+  /**
+   * Stores a result for the rest of the runner's current update.
+   *
+   * @param taskRunner runner of the task storing the result
+   * @param result query result
+   * @return the result
+   */
+  public T put(TaskRunner taskRunner, T result) {
+    value = result;
+    if (taskRunner instanceof AITaskComponent ai && ai.isUpdating()) {
+      runner = ai;
+      tick = ai.getTick();
+    } else {
+      runner = null;
+    }
+    return result;
+  }
+}
@@ -5,7 +5,6 @@ import static com.csse3200.game.services.ItemEffectsService.spawnEffect;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.components.DefenderStatsComponent;
 import com.csse3200.game.components.GeneratorStatsComponent;
 import com.csse3200.game.components.items.ItemComponent;
@@ -134,15 +133,12 @@ public class ItemHandler {
 
         logger.info("Start {} on {}", trigger, entity);
 
-        Timer.schedule(
-            new Timer.Task() {
-              @Override
-              public void run() {
-                entity.getEvents().trigger(trigger + "Stop");
-                logger.info("Stop {}", trigger);
-              }
-            },
-            30f);
+        area.schedule(
+            30f,
+            () -> {
+              entity.getEvents().trigger(trigger + "Stop");
+              logger.info("Stop {}", trigger);
+            });
       }
     }
   }
@@ -0,0 +1,176 @@
+package com.csse3200.game.areas;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.ProjectileType;
+import com.csse3200.game.entities.factories.ProjectileFactory;
+import com.csse3200.game.events.EventKeys;
+
+/**
+ * Resolves hits for defence projectiles that fly in a straight line along a lane, without giving
+ * them Box2D bodies. Each update sweeps every projectile from where it was last update to where it
+ * is now and checks the swept box against the robots in a {@link RobotLaneIndex}, so the cost is a
+ * binary search per lane rather than a broadphase proxy and contact callbacks per projectile.
+ *
+ * <p>A hit behaves like {@link com.csse3200.game.components.TouchAttackComponent} without
+ * knockback: the robot takes the projectile's damage through {@link CombatStatsComponent#hit}, the
+ * hit marker and "attack" events fire, and the projectile fires "despawnSlingshot". Projectiles
+ * that need anything else, such as harpoons passing through robots or gunner bullets hitting
+ * defences, keep using Box2D.
+ */
+public class LaneHitSystem {
+  private final RobotLaneIndex robotIndex;
+  private final Array<LaneProjectile> projectiles = new Array<>(false, 32);
+  private final Array<LaneProjectile> freeProjectiles = new Array<>(false, 32);
+  private final Vector2 scratch = new Vector2();
+  private int hits;
+
+  /**
+   * Create a lane hit system that checks projectiles against the given robots.
+   *
+   * @param robotIndex lane index of the robots, which must be refreshed before each {@link
+   *     #update()}
+   */
+  public LaneHitSystem(RobotLaneIndex robotIndex) {
+    this.robotIndex = robotIndex;
+  }
+
+  /**
+   * Check whether projectiles of a type can have their hits resolved by lane.
+   *
+   * @param type projectile type
+   * @return true if the type only travels straight and despawns on its first robot hit
+   */
+  public static boolean supports(ProjectileType type) {
+    return type == ProjectileType.SLINGSHOT
+        || type == ProjectileType.BULLET
+        || type == ProjectileType.SHOCK;
+  }
+
+  /**
+   * Start resolving hits for a projectile, from its current position. The projectile needs a
+   * {@link CombatStatsComponent} holding its damage.
+   *
+   * @param projectile projectile entity
+   */
+  public void add(Entity projectile) {
+    if (indexOf(projectile) != -1) {
+      return;
+    }
+    LaneProjectile laneProjectile =
+        freeProjectiles.isEmpty() ? new LaneProjectile() : freeProjectiles.pop();
+    laneProjectile.entity = projectile;
+    laneProjectile.combatStats = projectile.getComponent(CombatStatsComponent.class);
+    laneProjectile.lastX = hitboxLeft(projectile);
+    projectiles.add(laneProjectile);
+  }
+
+  /**
+   * Stop resolving hits for a projectile. Does nothing if the projectile was not added.
+   *
+   * @param projectile projectile entity
+   */
+  public void remove(Entity projectile) {
+    int index = indexOf(projectile);
+    if (index != -1) {
+      release(index);
+    }
+  }
+
+  /**
+   * Sweep every projectile since the last update and apply its first hit. Should be called once per
+   * frame, after entities have moved and the robot index has been refreshed.
+   */
+  public void update() {
+    for (int i = projectiles.size - 1; i >= 0; i--) {
+      LaneProjectile projectile = projectiles.get(i);
+      Entity entity = projectile.entity;
+      float x = hitboxLeft(entity);
+      float bottom = entity.getPosition(scratch).y;
+      Vector2 scale = entity.getScale(scratch);
+      float top = bottom + scale.y * ProjectileFactory.HITBOX_SCALE;
+      Entity target =
+          robotIndex.findFirstHit(
+              projectile.lastX, x, scale.x * ProjectileFactory.HITBOX_SCALE, bottom, top);
+      projectile.lastX = x;
+      if (target != null && hit(projectile, target)) {
+        release(i);
+      }
+    }
+  }
+
+  /**
+   * Get the number of projectiles having their hits resolved.
+   *
+   * @return tracked projectiles
+   */
+  public int size() {
+    return projectiles.size;
+  }
+
+  /**
+   * Get the number of hits resolved since the system was created.
+   *
+   * @return resolved hits
+   */
+  public int getHits() {
+    return hits;
+  }
+
+  /** Stop resolving hits for every projectile. */
+  public void clear() {
+    while (projectiles.notEmpty()) {
+      release(projectiles.size - 1);
+    }
+  }
+
+  private boolean hit(LaneProjectile projectile, Entity target) {
+    CombatStatsComponent targetStats = target.getComponent(CombatStatsComponent.class);
+    // A robot killed earlier this update is still in the index until the next refresh
+    if (targetStats == null || Boolean.TRUE.equals(targetStats.isDead())) {
+      return false;
+    }
+    Entity entity = projectile.entity;
+    targetStats.hit(projectile.combatStats);
+    target.getEvents().trigger(EventKeys.HIT_MARKER, target);
+    entity.getEvents().trigger("attack", target);
+    entity.getEvents().trigger(EventKeys.DESPAWN_SLINGSHOT, entity);
+    hits++;
+    return true;
+  }
+
+  private int indexOf(Entity projectile) {
+    for (int i = 0; i < projectiles.size; i++) {
+      if (projectiles.get(i).entity == projectile) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void release(int index) {
+    LaneProjectile projectile = projectiles.removeIndex(index);
+    projectile.entity = null;
+    projectile.combatStats = null;
+    freeProjectiles.add(projectile);
+  }
+
+  /**
+   * Left edge of the hitbox Box2D would have given the projectile. {@link
+   * com.csse3200.game.physics.PhysicsUtils#setScaledCollider} aligns it with {@code AlignX.CENTER}
+   * and {@code AlignY.BOTTOM}, so it is centred on the sprite in x and sits on the sprite's bottom.
+   */
+  private float hitboxLeft(Entity projectile) {
+    float width = projectile.getScale(scratch).x;
+    return projectile.getPosition(scratch).x + width * (1f - ProjectileFactory.HITBOX_SCALE) / 2f;
+  }
+
+  /** A projectile being tracked, with its hitbox's left edge as of the last update. */
+  private static class LaneProjectile {
+    private Entity entity;
+    private CombatStatsComponent combatStats;
+    private float lastX;
+  }
+}
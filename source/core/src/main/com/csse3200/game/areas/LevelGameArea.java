@@ -7,9 +7,10 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
-import com.badlogic.gdx.utils.Timer;
+import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.*;
 import com.csse3200.game.components.currency.CurrencyGeneratorComponent;
@@ -25,6 +26,7 @@ import com.csse3200.game.components.projectiles.PhysicsProjectileComponent;
 import com.csse3200.game.components.tasks.TargetDetectionTasks;
 import com.csse3200.game.components.tile.TileStorageComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.ProjectilePool;
 import com.csse3200.game.entities.ProjectileType;
 import com.csse3200.game.entities.configs.BaseDefenderConfig;
 import com.csse3200.game.entities.configs.BaseGeneratorConfig;
@@ -37,6 +39,7 @@ import com.csse3200.game.entities.factories.ItemFactory;
 import com.csse3200.game.entities.factories.ProjectileFactory;
 import com.csse3200.game.entities.factories.RobotFactory;
 import com.csse3200.game.entities.factories.RobotFactory.RobotType;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.progression.Profile;
 import com.csse3200.game.progression.arsenal.Arsenal;
 import com.csse3200.game.progression.inventory.Inventory;
@@ -47,7 +50,6 @@ import com.csse3200.game.services.*;
 import com.csse3200.game.ui.DragOverlay;
 import com.csse3200.game.ui.tutorial.LevelMapTutorial;
 import java.util.*;
-import java.util.Random;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,9 +63,19 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   private static final float X_MARGIN_TILES = 2f;
   private static final float Y_MARGIN_TILES = 1f;
   private static final float MAP_HEIGHT_TILES = 8f;
-  private static final String ENTITY_DEATH_EVENT = "entityDeath";
-  private static final String DESPAWN_SLINGSHOT_EVENT = "despawnSlingshot";
+  private static final int ENTITY_DEATH_EVENT = EventKeys.ENTITY_DEATH;
+  private static final int DESPAWN_SLINGSHOT_EVENT = EventKeys.DESPAWN_SLINGSHOT;
   private static final String HEAL = "heal";
+  private static final float PROJECTILE_SIZE = 30f;
+  // How far, in tiles, a robot may have moved since the lane index was last refreshed
+  private static final float ROBOT_QUERY_SLACK_TILES = 0.5f;
+  // Projectiles built when the level starts, sized for a busy early board
+  private static final Map<ProjectileType, Integer> PROJECTILE_WARM_UP =
+      Map.of(
+          ProjectileType.SLINGSHOT, 16,
+          ProjectileType.BULLET, 8,
+          ProjectileType.SHOCK, 8,
+          ProjectileType.GUNNER_BULLET, 8);
   private static final Logger logger = LoggerFactory.getLogger(LevelGameArea.class);
   private float xOffset;
   private float yOffset;
@@ -73,6 +85,11 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   private LevelGameGrid grid;
   private Entity selectedUnit;
   private final ArrayList<Entity> robots = new ArrayList<>();
+  private final RobotLaneIndex robotIndex = new RobotLaneIndex();
+  private final LaneHitSystem laneHits = new LaneHitSystem(robotIndex);
+  // Set whenever the robots list changes so area effects never see robots that have left it
+  private boolean robotIndexDirty = true;
+  private final Array<Entity> robotQueryResults = new Array<>(false, 16, Entity.class);
   private final Map<String, Supplier<Entity>> unitList = new HashMap<>();
   private final Map<String, Supplier<Entity>> itemList = new HashMap<>();
 
@@ -87,10 +104,23 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   private boolean characterSelected = false;
   // Next placement comes from slot-machine reward and should be free (one-shot flag)
   private boolean nextPlacementFree = false;
+  // Defender config key of that reward, so the placement can be recorded and replayed
+  private String nextPlacementRewardKey;
 
   /** Mark the next unit placement as free (used by slot-machine rewards). One-shot flag. */
   public void markNextPlacementFree() {
+    markNextPlacementFree(null);
+  }
+
+  /**
+   * Mark the next unit placement as a free slot-machine reward. One-shot flag.
+   *
+   * @param rewardKey defender config key of the reward, so the placement can be recorded, or null
+   *     if it has none
+   */
+  public void markNextPlacementFree(String rewardKey) {
     this.nextPlacementFree = true;
+    this.nextPlacementRewardKey = rewardKey;
   }
 
   // Level configuration
@@ -102,7 +132,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   private String mapFilePath; // from level config
   private final ItemHandler itemHandler = new ItemHandler(this);
   private final WavePreviewManager wavePreview = new WavePreviewManager(this);
-  private final Random random = new Random();
+  private final ProjectilePool projectilePool = new ProjectilePool(PROJECTILE_WARM_UP, laneHits);
 
   /**
    * Initialise this LevelGameArea for a specific level.
@@ -199,11 +229,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
 
   /** Spawns the level UI, including hotbar, item/defence lists, and game-over window. */
   protected void displayUI() {
-    Profile profile = ServiceLocator.getProfileService().getProfile();
-    ConfigService configService = ServiceLocator.getConfigService();
-
-    populateUnitList(profile, configService);
-    populateItemList(profile.getInventory(), configService);
+    populateHotbarLists();
 
     ui =
         new Entity()
@@ -215,6 +241,18 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
     createLevelCompleteEntity();
   }
 
+  /**
+   * Populates the units and items the hotbar offers from the player's profile. Placements and item
+   * uses, including replayed ones, can only use what is listed here.
+   */
+  protected void populateHotbarLists() {
+    Profile profile = ServiceLocator.getProfileService().getProfile();
+    ConfigService configService = ServiceLocator.getConfigService();
+
+    populateUnitList(profile, configService);
+    populateItemList(profile.getInventory(), configService);
+  }
+
   /**
    * Populates unitList with all available defenders and generators from the player's arsenal.
    *
@@ -324,32 +362,29 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
           .addListener(
               ENTITY_DEATH_EVENT,
               () ->
-                  Timer.schedule(
-                      new Timer.Task() {
-                        @Override
-                        public void run() {
-                          spawnEffect(
-                              ServiceLocator.getResourceService()
-                                  .getAsset(
-                                      "images/effects/shell_explosion.atlas", TextureAtlas.class),
-                              "shell_explosion",
-                              new Vector2[] {damageTile, damageTile}, // effect stays in place
-                              (int) tileSize, // scale to match tile size
-                              new float[] {0.05f, 0.5f}, // frame duration & total effect time
-                              Animation.PlayMode.NORMAL,
-                              false, // not moving
-                              false);
-                          damageRobotsAtPosition(
-                              damageTile,
-                              tileSize,
-                              wall.getComponent(DefenderStatsComponent.class).getBaseAttack());
-                          knockbackRobotsAtPosition(knockbackTile, 3);
-                          knockbackRobotsAtPosition(knockbackTile2, 3);
-                          requestDespawn(wall);
-                          robots.remove(wall);
-                        }
-                      },
-                      0f));
+                  schedule(
+                      0f,
+                      () -> {
+                        spawnEffect(
+                            ServiceLocator.getResourceService()
+                                .getAsset(
+                                    "images/effects/shell_explosion.atlas", TextureAtlas.class),
+                            "shell_explosion",
+                            new Vector2[] {damageTile, damageTile}, // effect stays in place
+                            (int) tileSize, // scale to match tile size
+                            new float[] {0.05f, 0.5f}, // frame duration & total effect time
+                            Animation.PlayMode.NORMAL,
+                            false, // not moving
+                            false);
+                        damageRobotsAtPosition(
+                            damageTile,
+                            tileSize,
+                            wall.getComponent(DefenderStatsComponent.class).getBaseAttack());
+                        knockbackRobotsAtPosition(knockbackTile, 3);
+                        knockbackRobotsAtPosition(knockbackTile2, 3);
+                        requestDespawn(wall);
+                        removeRobot(wall);
+                      }));
 
       spawnEntity(wall);
       wall.getEvents().trigger("idleStart");
@@ -521,14 +556,14 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
               mini.scaleHeight(tileSize);
 
               spawnEntity(mini);
-              robots.add(mini);
+              addRobot(mini);
 
               mini.getEvents()
                   .addListener(
                       ENTITY_DEATH_EVENT,
                       () -> {
                         requestDespawn(mini);
-                        robots.remove(mini);
+                        removeRobot(mini);
                       });
             });
   }
@@ -555,7 +590,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
     unit.scaleHeight(tileSize);
 
     spawnEntity(unit);
-    robots.add(unit);
+    addRobot(unit);
 
     int coins;
     CoinRewardedComponent coinsRewarded = unit.getComponent(CoinRewardedComponent.class);
@@ -572,11 +607,11 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
               increaseOutGameCurrency(coins);
               requestDespawn(unit);
               ServiceLocator.getWaveService().onEnemyDispose();
-              robots.remove(unit);
+              removeRobot(unit);
             });
 
     // Keep list in sync if something else despawns the robot
-    unit.getEvents().addListener("despawned", () -> robots.remove(unit));
+    unit.getEvents().addListener("despawned", () -> removeRobot(unit));
   }
 
   /**
@@ -606,6 +641,61 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
     return (bestCol >= 0) ? new GridPoint2(bestCol, bestRow) : null;
   }
 
+  /**
+   * Fires a defence's projectile. Straight-line projectiles are taken from the projectile pool;
+   * other types are built fresh through the defence's {@link ProjectileComponent}.
+   *
+   * @param spawnPos the coordinates the projectile should spawn at
+   * @param projectileComponent the firing defence's projectile component
+   * @param direction the direction the projectile moves in, left or right
+   * @param damage the amount of damage the projectile should inflict
+   */
+  private void fireProjectile(
+      Vector2 spawnPos,
+      ProjectileComponent projectileComponent,
+      TargetDetectionTasks.AttackDirection direction,
+      int damage) {
+    String path = projectileComponent.getPath();
+    ProjectileType type = ProjectileFactory.getProjectileTypeFromPath(path);
+    if (ProjectilePool.isPoolable(type) && path.equals(ProjectileFactory.getTexturePath(type))) {
+      spawnPooledProjectile(spawnPos, type, direction, damage);
+    } else {
+      spawnProjectile(spawnPos, projectileComponent.getProjectile(), direction, damage);
+    }
+  }
+
+  /**
+   * Spawns a pooled straight-line projectile at a given position. Matches the placement and
+   * statistics of {@link #spawnProjectile} for the same projectile types.
+   *
+   * @param spawnPos the coordinates the projectile should spawn at
+   * @param type the projectile type, must be poolable
+   * @param direction the direction the projectile moves in, left or right
+   * @param damage the amount of damage the projectile should inflict
+   */
+  public void spawnPooledProjectile(
+      Vector2 spawnPos,
+      ProjectileType type,
+      TargetDetectionTasks.AttackDirection direction,
+      int damage) {
+    if (spawnPos == null || direction == null) {
+      logger.warn("Invalid projectile spawn parameters");
+      return;
+    }
+    projectilePool.obtain(
+        type,
+        spawnPos.x + tileSize / 2f + 1f,
+        spawnPos.y + tileSize / 2f - 5f,
+        PROJECTILE_SIZE,
+        damage,
+        direction);
+
+    ServiceLocator.getProfileService()
+        .getProfile()
+        .getStatistics()
+        .incrementStatistic("shotsFired");
+  }
+
   /**
    * Spawns a projectile entity at a given position and initiates its behaviour, depending on the
    * type of projectile (identified by the ProjectileTagComponent).
@@ -631,7 +721,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
     ProjectileTagComponent tag = projectile.getComponent(ProjectileTagComponent.class);
 
     // Scale the projectile so it’s more visible
-    float size = 30f;
+    float size = PROJECTILE_SIZE;
     if (tag.getType() == ProjectileType.HARPOON_PROJECTILE) {
       projectile.setPosition(spawnPos.x + tileSize / 2f + 1f, spawnPos.y + tileSize / 4f);
       size = 100f;
@@ -642,7 +732,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
     if (tag.getType() == ProjectileType.SHELL) {
       int col = (int) ((spawnPos.x - xOffset) / tileSize);
       int maxRange = 9 - col;
-      int num = random.nextInt(maxRange - 1) + 2; // pick random num between 2 and 7
+      int num = MathUtils.random.nextInt(maxRange - 1) + 2; // pick random num between 2 and 7
       projectile.addComponent(new PhysicsProjectileComponent(num * tileSize, direction));
 
       projectile
@@ -691,15 +781,60 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
    * @param spawnPos the position to spawn the projectile at
    */
   public void spawnRobotProjectile(Vector2 spawnPos) {
-    Entity projectile = ProjectileFactory.createGunnerProjectile(5, 150f);
-    projectile.setPosition(spawnPos.x, spawnPos.y);
+    projectilePool.obtain(
+        ProjectileType.GUNNER_BULLET,
+        spawnPos.x,
+        spawnPos.y,
+        PROJECTILE_SIZE,
+        5,
+        TargetDetectionTasks.AttackDirection.LEFT);
+    logger.info("Gunner projectile spawned at {}", spawnPos);
+  }
 
-    projectile.scaleHeight(30f);
-    projectile.scaleWidth(30f);
-    projectile.getEvents().addListener(DESPAWN_SLINGSHOT_EVENT, this::requestDespawn);
+  /**
+   * Run a task after a delay in game time, through the {@link TimerService}, so it pauses and
+   * speeds up with the game. Dropped when no timer service is registered.
+   *
+   * @param delay game time to wait in seconds, 0 to run at the end of the current update
+   * @param task task to run
+   */
+  void schedule(float delay, Runnable task) {
+    TimerService timers = ServiceLocator.getTimerService();
+    if (timers != null) {
+      timers.schedule(delay, task);
+    }
+  }
 
-    spawnEntity(projectile);
-    logger.info("Gunner projectile spawned at {}", spawnPos);
+  /**
+   * Resolve hits for projectiles flying along lanes against where the robots are now. Should be
+   * called once per frame, after entities have moved.
+   */
+  public void resolveLaneHits() {
+    if (laneHits.size() == 0) {
+      return;
+    }
+    if (robotIndexDirty) {
+      refreshRobotIndex();
+    }
+    laneHits.update();
+  }
+
+  /**
+   * Gets the system resolving hits for pooled straight-line projectiles.
+   *
+   * @return lane hit system
+   */
+  public LaneHitSystem getLaneHits() {
+    return laneHits;
+  }
+
+  /**
+   * Gets the pool that pooled projectiles are drawn from.
+   *
+   * @return projectile pool
+   */
+  public ProjectilePool getProjectilePool() {
+    return projectilePool;
   }
 
   /**
@@ -714,7 +849,9 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
 
     List<Entity> robotsInRange = new ArrayList<>();
 
-    for (Entity robot : robots) {
+    Array<Entity> candidates = queryRobotsNear(pos, radius);
+    for (int i = 0; i < candidates.size; i++) {
+      Entity robot = candidates.get(i);
       CombatStatsComponent stats = robot.getComponent(CombatStatsComponent.class);
       if (stats == null) continue;
 
@@ -726,7 +863,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
       if (distanceSq <= radius * radius) {
         // Apply damage by subtracting health
         stats.addHealth(-damage);
-        robot.getEvents().trigger("hitMarker", robot);
+        robot.getEvents().trigger(EventKeys.HIT_MARKER, robot);
 
         logger.info("Damaged robot at ({}, {}) for {} damage", robotPos.x, robotPos.y, damage);
 
@@ -748,7 +885,9 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   public void knockbackRobotsAtPosition(Vector2 pos, int dist) {
     if (robots.isEmpty()) return;
 
-    for (Entity robot : robots) {
+    Array<Entity> candidates = queryRobotsNear(pos, tileSize);
+    for (int i = 0; i < candidates.size; i++) {
+      Entity robot = candidates.get(i);
       CombatStatsComponent stats = robot.getComponent(CombatStatsComponent.class);
       if (stats == null) continue;
 
@@ -760,12 +899,81 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
       if (distanceSq <= tileSize * tileSize) {
         // offset entity position
         robot.setPosition(robotPos.x + dist * tileSize, robotPos.y);
+        robotIndex.move(robot);
 
         logger.info("Robot knocked back {} tiles", dist);
       }
     }
   }
 
+  /**
+   * Get robots that may be within a radius of a point, using the lane index. The index is only as
+   * fresh as the last update, so the search is widened by {@link #ROBOT_QUERY_SLACK_TILES} to
+   * cover robots that moved since then. Callers should still check the exact distance.
+   *
+   * @param pos centre of the search in world coordinates
+   * @param radius radius in world units
+   * @return candidate robots, reused between calls
+   */
+  private Array<Entity> queryRobotsNear(Vector2 pos, float radius) {
+    if (robotIndexDirty) {
+      refreshRobotIndex();
+    }
+    robotQueryResults.clear();
+    return robotIndex.getWithinRadius(
+        pos, radius + ROBOT_QUERY_SLACK_TILES * tileSize, robotQueryResults);
+  }
+
+  /**
+   * Check whether there is certainly no robot along a horizontal line, using the lane index. This
+   * is a cheap test to skip exact physics queries such as raycasts. Robots within a tile of the
+   * line count as along it, so a false result does not mean one is on the line.
+   *
+   * @param fromX world x the line starts at
+   * @param toX world x the line ends at
+   * @param y world y of the line
+   * @return true if no robot is near the line
+   */
+  public boolean hasNoRobotAlong(float fromX, float toX, float y) {
+    if (robotIndexDirty) {
+      refreshRobotIndex();
+    }
+    float left = Math.min(fromX, toX) - tileSize;
+    float right = Math.max(fromX, toX) + tileSize;
+    return robotIndex.findFirstHit(left, right, 0f, y - tileSize, y + tileSize) == null;
+  }
+
+  /**
+   * Bring the lane index up to date with where robots moved this tick. Should be called once per
+   * tick, after entities have updated. Only robots that moved are touched, unless the robot list
+   * was handed out or the grid changed, in which case the index is rebuilt.
+   */
+  public void updateRobotIndex() {
+    if (robotIndexDirty) {
+      refreshRobotIndex();
+    } else {
+      robotIndex.update();
+    }
+  }
+
+  /** Rebuild the lane index from the robot list and the current grid layout. */
+  private void refreshRobotIndex() {
+    robotIndex.setLayout(yOffset, tileSize, levelRows);
+    robotIndex.refresh(robots);
+    robotIndexDirty = false;
+  }
+
+  private void addRobot(Entity robot) {
+    robots.add(robot);
+    robotIndex.add(robot);
+  }
+
+  private void removeRobot(Entity robot) {
+    if (robots.remove(robot)) {
+      robotIndex.remove(robot);
+    }
+  }
+
   /**
    * Spawns a boss of the given type at the right edge of the map and registers its behaviour.
    *
@@ -776,7 +984,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
 
     Entity boss = BossFactory.createBossType(bossType);
     int spawnCol = levelCols;
-    final int firstspawnRow = random.nextInt(levelRows);
+    final int firstspawnRow = MathUtils.random.nextInt(levelRows);
 
     float spawnX = xOffset + tileSize * spawnCol;
     float firstspawnY = yOffset + tileSize * firstspawnRow - (tileSize / 1.5f);
@@ -787,7 +995,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
     logger.info("Boss spawned in random lane {} at x={}, y={}", firstspawnRow, spawnX, firstspawnY);
 
     spawnEntity(boss);
-    robots.add(boss);
+    addRobot(boss);
 
     int coins;
     CoinRewardedComponent coinsRewarded = boss.getComponent(CoinRewardedComponent.class);
@@ -824,19 +1032,16 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
                 anim.startAnimation("death");
               }
 
-              Timer.schedule(
-                  new Timer.Task() {
-                    @Override
-                    public void run() {
-                      requestDespawn(boss);
-                      robots.remove(boss);
-                      logger.info("Boss defeated");
-                      if (ServiceLocator.getWaveService() != null) {
-                        ServiceLocator.getWaveService().onBossDefeated();
-                      }
+              schedule(
+                  1.84f,
+                  () -> {
+                    requestDespawn(boss);
+                    removeRobot(boss);
+                    logger.info("Boss defeated");
+                    if (ServiceLocator.getWaveService() != null) {
+                      ServiceLocator.getWaveService().onBossDefeated();
                     }
-                  },
-                  1.84f);
+                  });
             });
   }
 
@@ -869,14 +1074,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
             (Entity target) -> {
               if (!despawned[0]) {
                 despawned[0] = true;
-                Timer.schedule(
-                    new Timer.Task() {
-                      @Override
-                      public void run() {
-                        requestDespawn(projectile);
-                      }
-                    },
-                    0f);
+                schedule(0f, () -> requestDespawn(projectile));
               }
             });
 
@@ -887,14 +1085,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
             projectileEntity -> {
               if (!despawned[0]) {
                 despawned[0] = true;
-                Timer.schedule(
-                    new Timer.Task() {
-                      @Override
-                      public void run() {
-                        requestDespawn(projectile);
-                      }
-                    },
-                    0f);
+                schedule(0f, () -> requestDespawn(projectile));
               }
             });
 
@@ -905,14 +1096,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
             () -> {
               if (!despawned[0]) {
                 despawned[0] = true;
-                Timer.schedule(
-                    new Timer.Task() {
-                      @Override
-                      public void run() {
-                        requestDespawn(projectile);
-                      }
-                    },
-                    0f);
+                schedule(0f, () -> requestDespawn(projectile));
               }
             });
 
@@ -977,6 +1161,48 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
       resetSelectionUI();
       return;
     }
+    Supplier<Entity> supplier = getSelectedSupplier();
+    recordHotbarUse(supplier, position);
+    spawnFromSupplier(position, supplier);
+  }
+
+  /**
+   * Spawn a unit or use an item as if it had been dragged from the hotbar, for replaying a recorded
+   * session.
+   *
+   * @param key hotbar key of the unit or item, as recorded
+   * @param position the grid tile for spawning
+   */
+  public void spawnRecordedUnit(String key, int position) {
+    Supplier<Entity> supplier = unitList.get(key);
+    if (supplier == null) {
+      supplier = itemList.get(key);
+    }
+    if (supplier == null) {
+      logger.warn("No hotbar unit or item {} to replay", key);
+      return;
+    }
+    spawnFromSupplier(position, supplier);
+  }
+
+  /**
+   * Place a free defence as if it had been won from a slot machine, for replaying a recorded
+   * session.
+   *
+   * @param defenderKey config key of the defence, as recorded
+   * @param position the grid tile for spawning
+   */
+  public void spawnRecordedReward(String defenderKey, int position) {
+    BaseDefenderConfig config = ServiceLocator.getConfigService().getDefenderConfig(defenderKey);
+    if (config == null) {
+      logger.warn("No defender config {} to replay", defenderKey);
+      return;
+    }
+    markNextPlacementFree(defenderKey);
+    spawnFromSupplier(position, () -> DefenceFactory.createDefenceUnit(config));
+  }
+
+  private void spawnFromSupplier(int position, Supplier<Entity> supplier) {
     // --- Step 1: Resolve grid/tile/selected entity ---
     Entity tile = grid.getTile(position);
 
@@ -985,7 +1211,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
       return;
     }
 
-    Entity newEntity = getSelectedEntity();
+    Entity newEntity = supplier != null ? supplier.get() : null;
     if (newEntity == null) {
       logger.warn("No selected entity to spawn");
       return;
@@ -1015,14 +1241,69 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   }
 
   /**
-   * Safely obtain the selected entity's supplier and create it.
+   * Place a defence or generator directly onto a tile, without going through the hotbar selection.
+   * Used for scripted layouts such as headless simulations. The placement cost is still paid.
    *
-   * @return the newly created entity or null when no selection exists
+   * @param position the grid tile to place the unit on
+   * @param unit the unit to place
+   * @return true if the unit was placed
    */
-  private Entity getSelectedEntity() {
+  public boolean placeUnit(int position, Entity unit) {
+    Entity tile = grid.getTile(position);
+    if (tile == null || grid.isOccupiedIndex(position)) {
+      return false;
+    }
+    Vector2 worldPos = resolveWorldPosition(position);
+    unit.setPosition(worldPos);
+    placeDefenceUnit(position, tile, unit, worldPos);
+    return grid.getOccupantIndex(position) == unit;
+  }
+
+  /**
+   * Safely obtain the selected entity's supplier.
+   *
+   * @return the supplier of the selected unit or null when no selection exists
+   */
+  private Supplier<Entity> getSelectedSupplier() {
     if (selectedUnit == null) return null;
     DeckInputComponent deck = selectedUnit.getComponent(DeckInputComponent.class);
-    return (deck != null) ? deck.getEntitySupplier().get() : null;
+    return (deck != null) ? deck.getEntitySupplier() : null;
+  }
+
+  /**
+   * Record a unit placement or item use for the session recorder. Slot machine rewards are recorded
+   * by their defender config key. Anything else that did not come from the hotbar lists has no key
+   * to replay it by, so it is logged and the recording will not replay exactly.
+   */
+  private void recordHotbarUse(Supplier<Entity> supplier, int position) {
+    SessionRecorder recorder = ServiceLocator.getSessionRecorder();
+    if (supplier == null || recorder == null || !recorder.isRecording()) {
+      return;
+    }
+    String unitKey = findKey(unitList, supplier);
+    if (unitKey != null) {
+      recorder.recordPlacement(unitKey, position);
+      return;
+    }
+    String itemKey = findKey(itemList, supplier);
+    if (itemKey != null) {
+      recorder.recordItemUse(itemKey, position);
+      return;
+    }
+    if (nextPlacementFree && nextPlacementRewardKey != null) {
+      recorder.recordRewardPlacement(nextPlacementRewardKey, position);
+      return;
+    }
+    logger.warn("Placement on tile {} has no key to record, so it will not be replayed", position);
+  }
+
+  private static String findKey(Map<String, Supplier<Entity>> list, Supplier<Entity> supplier) {
+    for (Map.Entry<String, Supplier<Entity>> entry : list.entrySet()) {
+      if (entry.getValue() == supplier) {
+        return entry.getKey();
+      }
+    }
+    return null;
   }
 
   /** Reset drag state and selection after any placement. */
@@ -1151,6 +1432,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   private boolean consumeFreePlacementFlag() {
     boolean free = nextPlacementFree;
     nextPlacementFree = false;
+    nextPlacementRewardKey = null;
     return free;
   }
 
@@ -1223,7 +1505,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
             () -> {
               requestDespawn(unit);
               clearTile.run();
-              robots.remove(unit);
+              removeRobot(unit);
             });
     unit.getEvents().addListener("despawned", clearTile::run);
 
@@ -1234,8 +1516,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
               ProjectileComponent projectileComponent =
                   unit.getComponent(ProjectileComponent.class);
               if (projectileComponent != null) {
-                spawnProjectile(
-                    worldPos, projectileComponent.getProjectile(), dir, getUnitBaseDamage(unit));
+                fireProjectile(worldPos, projectileComponent, dir, getUnitBaseDamage(unit));
               }
               unit.getEvents().trigger("attackStart");
             });
@@ -1249,9 +1530,10 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   private void playPlacementSound(Entity unit) {
     try {
       String soundPath = unit.getProperty("soundPath").toString();
-      Sound sound = ServiceLocator.getResourceService().getAsset(soundPath, Sound.class);
-      float volume = ServiceLocator.getSettingsService().getSoundVolume();
-      sound.play(volume);
+      SoundService soundService = ServiceLocator.getSoundService();
+      if (soundService != null) {
+        soundService.play(soundPath, 1f, SoundService.Priority.HIGH);
+      }
       logger.info("Playing sound: {}", soundPath);
     } catch (Exception e) {
       logger.info("No soundPath property found on this entity");
@@ -1412,6 +1694,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
       robot.setPosition(newX, newY);
       robot.scaleHeight(tileSize);
     }
+    robotIndexDirty = true;
   }
 
   /** Checks the game over condition when a robot reaches the end of the grid. */
@@ -1419,12 +1702,14 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
     if (isGameOver) {
       return;
     }
-    for (Entity robot : robots) {
-      int gridX = getGridXForRobot(robot);
-      if (gridX <= -1) {
-        handleGameOver(gridX);
-        break;
-      }
+    // The index is updated once per tick after robots move. A robot is past column -1 exactly
+    // when its x is at or before one tile left of the grid
+    if (robotIndexDirty) {
+      refreshRobotIndex();
+    }
+    Entity robot = robotIndex.findRobotAtOrBefore(xOffset - tileSize);
+    if (robot != null) {
+      handleGameOver(getGridXForRobot(robot));
     }
   }
 
@@ -1469,6 +1754,7 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
       }
     }
     robots.clear();
+    robotIndex.clear();
     logger.info("All robots and bosses despawned after game over");
   }
 
@@ -1687,14 +1973,38 @@ public class LevelGameArea extends GameArea implements AreaAPI, EnemySpawner {
   }
 
   /**
-   * Getter for robots
+   * Getter for robots. The list may be modified by the caller, so the lane index is rebuilt before
+   * it is next used.
    *
    * @return robots list
    */
   public List<Entity> getRobots() {
+    robotIndexDirty = true;
     return robots;
   }
 
+  /**
+   * Get the number of robots in the level, without handing out the list.
+   *
+   * @return number of robots
+   */
+  public int getRobotCount() {
+    return robots.size();
+  }
+
+  /**
+   * Getter for the lane index of robots, as of the last {@link #updateRobotIndex}. Used for lane
+   * based lookups such as the front-most robot in a row, without scanning every robot.
+   *
+   * @return robot lane index
+   */
+  public RobotLaneIndex getRobotIndex() {
+    if (robotIndexDirty) {
+      refreshRobotIndex();
+    }
+    return robotIndex;
+  }
+
   /**
    * Getter for tile size in world units
    *
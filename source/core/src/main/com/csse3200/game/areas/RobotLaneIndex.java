@@ -0,0 +1,455 @@
+package com.csse3200.game.areas;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.entities.Entity;
+import java.util.List;
+
+/**
+ * Spatial index over the robots in a level. Robots are bucketed by lane (grid row) and each lane is
+ * kept sorted by x, so area effects and end-state checks only visit the robots near the point of
+ * interest instead of every robot on the board.
+ *
+ * <p>Robots are added and removed as they spawn and despawn, and {@link #update} is called once per
+ * tick to follow them as they move. Physics moves robots without firing events, so updating still
+ * compares each robot's position with the cached one, but only robots that moved are re-bucketed
+ * or shifted to their new place in the lane, with no map lookups and no full sort. {@link
+ * #refresh} rebuilds the index from a robot list when it may have been changed from outside.
+ */
+public class RobotLaneIndex {
+  /**
+   * Size of a robot's hitbox relative to its sprite. Robots use {@link
+   * com.csse3200.game.physics.components.ColliderComponent}'s default bounding box, which covers
+   * the lower-left quarter of the sprite from the entity position.
+   */
+  static final float HITBOX_SCALE = 0.5f;
+
+  private final Array<Array<Entry>> lanes = new Array<>();
+  private final ObjectMap<Entity, Entry> entries = new ObjectMap<>();
+  private final Array<Entry> freeEntries = new Array<>(false, 16);
+  private final Vector2 scratch = new Vector2();
+  private float yOffset;
+  private float tileSize = 1f;
+  private int laneCount;
+  private int stamp;
+  // Largest robot hitbox seen since the last refresh, bounding how far a query must look back
+  private float maxWidth;
+  private float maxHeight;
+
+  /** Create an empty index with a single lane. Call {@link #setLayout} to match the level grid. */
+  public RobotLaneIndex() {
+    setLayout(0f, 1f, 1);
+  }
+
+  /**
+   * Set the grid layout used to work out which lane a robot is in.
+   *
+   * @param yOffset world y of the bottom of the grid
+   * @param tileSize size of a grid tile in world units
+   * @param laneCount number of lanes (grid rows), at least 1
+   */
+  public void setLayout(float yOffset, float tileSize, int laneCount) {
+    this.yOffset = yOffset;
+    this.tileSize = tileSize;
+    int count = Math.max(1, laneCount);
+    if (count != this.laneCount) {
+      this.laneCount = count;
+      while (lanes.size < count) {
+        // Ordered, so removals keep the lane close to sorted
+        lanes.add(new Array<>(true, 16));
+      }
+      // Robots are re-bucketed into the new lanes on the next refresh
+      for (Entry entry : entries.values()) {
+        entry.lane = -1;
+      }
+      for (Array<Entry> lane : lanes) {
+        lane.clear();
+      }
+    }
+  }
+
+  /**
+   * Add a robot to the index at its current position. Does nothing if it is already indexed.
+   *
+   * @param robot robot to add
+   */
+  public void add(Entity robot) {
+    if (entries.containsKey(robot)) {
+      return;
+    }
+    Entry entry = freeEntries.isEmpty() ? new Entry() : freeEntries.pop();
+    entry.robot = robot;
+    entries.put(robot, entry);
+    readPosition(entry);
+    insert(entry);
+  }
+
+  /**
+   * Remove a robot from the index. Does nothing if it is not indexed.
+   *
+   * @param robot robot to remove
+   */
+  public void remove(Entity robot) {
+    Entry entry = entries.remove(robot);
+    if (entry == null) {
+      return;
+    }
+    if (entry.lane != -1) {
+      lanes.get(entry.lane).removeValue(entry, true);
+    }
+    entry.robot = null;
+    freeEntries.add(entry);
+  }
+
+  /**
+   * Re-read one robot's position, e.g. after it was moved by a game effect rather than by its own
+   * movement. Does nothing if it is not indexed.
+   *
+   * @param robot robot that moved
+   */
+  public void move(Entity robot) {
+    Entry entry = entries.get(robot);
+    if (entry == null) {
+      return;
+    }
+    if (entry.lane != -1) {
+      lanes.get(entry.lane).removeValue(entry, true);
+    }
+    readPosition(entry);
+    insert(entry);
+  }
+
+  /**
+   * Follow indexed robots to their current positions. Each lane is walked in order, and a robot is
+   * only moved in the index if it changed position or scale. A robot that stayed in its lane is
+   * shifted back past any robots it overtook, and one that changed lane is moved to the new lane.
+   */
+  public void update() {
+    for (int l = 0; l < laneCount; l++) {
+      Array<Entry> lane = lanes.get(l);
+      Object[] items = lane.items;
+      int i = 0;
+      while (i < lane.size) {
+        Entry entry = (Entry) items[i];
+        if (!hasMoved(entry)) {
+          shiftBack(items, i);
+          i++;
+          continue;
+        }
+        readPosition(entry);
+        int newLane = getLane(entry.y);
+        if (newLane == l) {
+          shiftBack(items, i);
+          i++;
+        } else {
+          lane.removeIndex(i);
+          insert(entry);
+        }
+      }
+    }
+  }
+
+  /**
+   * Bring the index up to date with the given robots and their current positions. Robots no longer
+   * in the list are dropped and new robots are added.
+   *
+   * @param robots every robot currently in the level
+   */
+  public void refresh(List<Entity> robots) {
+    stamp++;
+    maxWidth = 0f;
+    maxHeight = 0f;
+    for (int i = 0, n = robots.size(); i < n; i++) {
+      Entity robot = robots.get(i);
+      Entry entry = entries.get(robot);
+      if (entry == null) {
+        entry = freeEntries.isEmpty() ? new Entry() : freeEntries.pop();
+        entry.robot = robot;
+        entry.lane = -1;
+        entries.put(robot, entry);
+      }
+      entry.stamp = stamp;
+    }
+
+    for (int l = 0; l < laneCount; l++) {
+      Array<Entry> lane = lanes.get(l);
+      for (int i = lane.size - 1; i >= 0; i--) {
+        Entry entry = lane.get(i);
+        if (entry.stamp != stamp) {
+          lane.removeIndex(i);
+          entries.remove(entry.robot);
+          entry.robot = null;
+          freeEntries.add(entry);
+          continue;
+        }
+        readPosition(entry);
+        int newLane = getLane(entry.y);
+        if (newLane != l) {
+          lane.removeIndex(i);
+          entry.lane = -1;
+        }
+      }
+    }
+
+    // Anything not currently in a lane is either new or changed lanes above
+    for (Entry entry : entries.values()) {
+      if (entry.lane == -1) {
+        readPosition(entry);
+        entry.lane = getLane(entry.y);
+        lanes.get(entry.lane).add(entry);
+      }
+    }
+
+    for (int l = 0; l < laneCount; l++) {
+      sortByX(lanes.get(l));
+    }
+  }
+
+  /**
+   * Get the lane a world y position falls in, clamped to the lanes of the grid.
+   *
+   * @param worldY world y position
+   * @return lane index
+   */
+  public int getLane(float worldY) {
+    int lane = Math.round((worldY - yOffset) / tileSize);
+    return Math.max(0, Math.min(lane, laneCount - 1));
+  }
+
+  /**
+   * Get the number of lanes in the index.
+   *
+   * @return number of lanes
+   */
+  public int getLaneCount() {
+    return laneCount;
+  }
+
+  /**
+   * Get the number of robots in the index.
+   *
+   * @return number of indexed robots
+   */
+  public int size() {
+    return entries.size;
+  }
+
+  /**
+   * Get the number of robots in a lane.
+   *
+   * @param lane lane index
+   * @return number of robots in the lane
+   */
+  public int getLaneSize(int lane) {
+    return lanes.get(lane).size;
+  }
+
+  /**
+   * Get the robot furthest along a lane, i.e. the one with the smallest x.
+   *
+   * @param lane lane index
+   * @return front-most robot, or null if the lane is empty
+   */
+  public Entity getFrontMost(int lane) {
+    Array<Entry> entriesInLane = lanes.get(lane);
+    return entriesInLane.isEmpty() ? null : entriesInLane.first().robot;
+  }
+
+  /**
+   * Get the closest robot in a lane at or to the right of a world x position, e.g. the robot a
+   * defender facing right would hit first.
+   *
+   * @param lane lane index
+   * @param fromX world x to search from
+   * @param maxX largest world x to accept
+   * @return nearest robot in range, or null if there is none
+   */
+  public Entity getNearestAhead(int lane, float fromX, float maxX) {
+    Array<Entry> entriesInLane = lanes.get(lane);
+    int i = lowerBound(entriesInLane, fromX);
+    if (i < entriesInLane.size && entriesInLane.get(i).x <= maxX) {
+      return entriesInLane.get(i).robot;
+    }
+    return null;
+  }
+
+  /**
+   * Find a robot whose x is at or below a threshold, checking only the front of each lane.
+   *
+   * @param worldX threshold world x
+   * @return a robot past the threshold, or null if there is none
+   */
+  public Entity findRobotAtOrBefore(float worldX) {
+    for (int l = 0; l < laneCount; l++) {
+      Array<Entry> lane = lanes.get(l);
+      if (lane.notEmpty() && lane.first().x <= worldX) {
+        return lane.first().robot;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Collect every robot within a radius of a point. Only lanes overlapping the circle are visited,
+   * and within each lane only the robots inside the circle's x range.
+   *
+   * @param pos centre of the circle in world coordinates
+   * @param radius radius in world units
+   * @param out array the robots are added to, not cleared first
+   * @return the out array
+   */
+  public Array<Entity> getWithinRadius(Vector2 pos, float radius, Array<Entity> out) {
+    float radiusSq = radius * radius;
+    int firstLane = getLane(pos.y - radius);
+    int lastLane = getLane(pos.y + radius);
+    for (int l = firstLane; l <= lastLane; l++) {
+      Array<Entry> lane = lanes.get(l);
+      for (int i = lowerBound(lane, pos.x - radius); i < lane.size; i++) {
+        Entry entry = lane.get(i);
+        float dx = entry.x - pos.x;
+        if (dx > radius) {
+          break;
+        }
+        float dy = entry.y - pos.y;
+        if (dx * dx + dy * dy <= radiusSq) {
+          out.add(entry.robot);
+        }
+      }
+    }
+    return out;
+  }
+
+  /**
+   * Find the first robot a box moving along x would touch, treating each robot as the hitbox Box2D
+   * would give it (see {@link #HITBOX_SCALE}). The box sweeps every x between {@code fromX} and
+   * {@code toX}, so fast movers cannot pass through a robot between refreshes.
+   *
+   * @param fromX left edge of the box before moving
+   * @param toX left edge of the box after moving, less than fromX when moving left
+   * @param width width of the box
+   * @param bottom bottom edge of the box
+   * @param top top edge of the box
+   * @return the robot touched first in the direction of travel, or null if there is none
+   */
+  public Entity findFirstHit(float fromX, float toX, float width, float bottom, float top) {
+    boolean movingRight = toX >= fromX;
+    float left = Math.min(fromX, toX);
+    float right = Math.max(fromX, toX) + width;
+    Entry first = null;
+    int firstLane = getLane(bottom - maxHeight);
+    int lastLane = getLane(top);
+    for (int l = firstLane; l <= lastLane; l++) {
+      Array<Entry> lane = lanes.get(l);
+      for (int i = lowerBound(lane, left - maxWidth); i < lane.size; i++) {
+        Entry entry = lane.get(i);
+        if (entry.x > right) {
+          break;
+        }
+        if (entry.x + entry.width < left || entry.y > top || entry.y + entry.height < bottom) {
+          continue;
+        }
+        if (first == null
+            || (movingRight ? entry.x < first.x : entry.x + entry.width > first.x + first.width)) {
+          first = entry;
+        }
+      }
+    }
+    return first == null ? null : first.robot;
+  }
+
+  /** Remove every robot from the index. */
+  public void clear() {
+    for (Entry entry : entries.values()) {
+      entry.robot = null;
+      freeEntries.add(entry);
+    }
+    entries.clear();
+    for (Array<Entry> lane : lanes) {
+      lane.clear();
+    }
+  }
+
+  private void readPosition(Entry entry) {
+    Vector2 position = entry.robot.getPosition(scratch);
+    entry.x = position.x;
+    entry.y = position.y;
+    Vector2 scale = entry.robot.getScale(scratch);
+    entry.scaleX = scale.x;
+    entry.scaleY = scale.y;
+    entry.width = scale.x * HITBOX_SCALE;
+    entry.height = scale.y * HITBOX_SCALE;
+    maxWidth = Math.max(maxWidth, entry.width);
+    maxHeight = Math.max(maxHeight, entry.height);
+  }
+
+  private boolean hasMoved(Entry entry) {
+    Vector2 position = entry.robot.getPosition(scratch);
+    if (position.x != entry.x || position.y != entry.y) {
+      return true;
+    }
+    Vector2 scale = entry.robot.getScale(scratch);
+    return scale.x != entry.scaleX || scale.y != entry.scaleY;
+  }
+
+  /** Put an entry into the lane for its cached position, keeping the lane sorted by x. */
+  private void insert(Entry entry) {
+    entry.lane = getLane(entry.y);
+    Array<Entry> lane = lanes.get(entry.lane);
+    lane.insert(lowerBound(lane, entry.x), entry);
+  }
+
+  /** Move the entry at index i towards the front of its lane until the lane is sorted up to it. */
+  private static void shiftBack(Object[] items, int i) {
+    Entry entry = (Entry) items[i];
+    int j = i - 1;
+    if (j < 0 || ((Entry) items[j]).x <= entry.x) {
+      return;
+    }
+    while (j >= 0 && ((Entry) items[j]).x > entry.x) {
+      items[j + 1] = items[j];
+      j--;
+    }
+    items[j + 1] = entry;
+  }
+
+  private static int lowerBound(Array<Entry> lane, float x) {
+    int low = 0;
+    int high = lane.size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (lane.get(mid).x < x) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static void sortByX(Array<Entry> lane) {
+    Object[] items = lane.items;
+    for (int i = 1; i < lane.size; i++) {
+      Entry entry = (Entry) items[i];
+      int j = i - 1;
+      while (j >= 0 && ((Entry) items[j]).x > entry.x) {
+        items[j + 1] = items[j];
+        j--;
+      }
+      items[j + 1] = entry;
+    }
+  }
+
+  /** A robot's cached position, scale, hitbox size and lane. */
+  private static class Entry {
+    private Entity robot;
+    private float x;
+    private float y;
+    private float scaleX;
+    private float scaleY;
+    private float width;
+    private float height;
+    private int lane = -1;
+    private int stamp;
+  }
+}
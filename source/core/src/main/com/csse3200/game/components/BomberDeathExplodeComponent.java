@@ -2,6 +2,7 @@ package com.csse3200.game.components;
 
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,8 +40,8 @@ public class BomberDeathExplodeComponent extends Component {
   @Override
   public void create() {
     super.create();
-    entity.getEvents().addListener("updateHealth", this::onHealthUpdate);
-    entity.getEvents().addListener("entityDeath", this::onDeath);
+    entity.getEvents().addListener(EventKeys.UPDATE_HEALTH, this::onHealthUpdate);
+    entity.getEvents().addListener(EventKeys.ENTITY_DEATH, this::onDeath);
     entity.getEvents().addListener("bomberExplodeAnimComplete", this::explodeAndDispose);
   }
 
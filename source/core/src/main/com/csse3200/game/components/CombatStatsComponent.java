@@ -1,9 +1,8 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.audio.Sound;
-import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.services.ServiceLocator;
-import com.csse3200.game.services.SettingsService;
+import com.csse3200.game.services.SoundService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,7 +70,7 @@ public class CombatStatsComponent extends Component {
     this.health = Math.max(health, 0);
 
     if (entity == null) return;
-    entity.getEvents().trigger("updateHealth", this.health, this.maxHealth);
+    entity.getEvents().trigger(EventKeys.UPDATE_HEALTH, this.health, this.maxHealth);
   }
 
   /**
@@ -114,12 +113,9 @@ public class CombatStatsComponent extends Component {
     int newHealth = getHealth() - target.getBaseAttack();
 
     // Play damage sound
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    SettingsService settingsService = ServiceLocator.getSettingsService();
-    if (resourceService != null && settingsService != null) {
-      Sound damageSound = resourceService.getAsset("sounds/damage.mp3", Sound.class);
-      float volume = settingsService.getSoundVolume();
-      damageSound.play(0.5f * volume);
+    SoundService soundService = ServiceLocator.getSoundService();
+    if (soundService != null) {
+      soundService.play("sounds/damage.mp3", 0.5f);
     }
 
     setHealth(newHealth);
@@ -136,10 +132,10 @@ public class CombatStatsComponent extends Component {
     if (entity.getDeathFlag()) return;
 
     if (isDead || getHealth() < 0) {
-      entity.getEvents().trigger("entityDeath");
+      entity.getEvents().trigger(EventKeys.ENTITY_DEATH);
 
       // sound
-      Sound deathSound;
+      String deathSound;
       // checks for components unique to defenders
       String soundPath =
           (String) entity.getProperty("soundPath"); // only way I am aware of to find unit type :/
@@ -152,8 +148,7 @@ public class CombatStatsComponent extends Component {
             .getProfile()
             .getStatistics()
             .incrementStatistic("defencesLost");
-        deathSound =
-            ServiceLocator.getResourceService().getAsset("sounds/generator-death.mp3", Sound.class);
+        deathSound = "sounds/generator-death.mp3";
       } else if (entity.getComponent(GeneratorStatsComponent.class) != null
           || soundPath.contains("mortar")) {
         // entity is a generator / mortar
@@ -162,8 +157,7 @@ public class CombatStatsComponent extends Component {
             .getProfile()
             .getStatistics()
             .incrementStatistic("defencesLost");
-        deathSound =
-            ServiceLocator.getResourceService().getAsset("sounds/generator-death.mp3", Sound.class);
+        deathSound = "sounds/generator-death.mp3";
       } else {
         // entity is a robot
         ServiceLocator.getProfileService()
@@ -175,12 +169,11 @@ public class CombatStatsComponent extends Component {
             .getProfile()
             .getStatistics()
             .incrementStatistic("coinsCollected");
-        deathSound =
-            ServiceLocator.getResourceService().getAsset("sounds/robot-death.mp3", Sound.class);
+        deathSound = "sounds/robot-death.mp3";
       }
-      if (deathSound != null) {
-        float volume = ServiceLocator.getSettingsService().getSoundVolume();
-        deathSound.play(volume);
+      SoundService soundService = ServiceLocator.getSoundService();
+      if (soundService != null) {
+        soundService.play(deathSound, 1f);
       }
     }
   }
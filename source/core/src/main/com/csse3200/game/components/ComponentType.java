@@ -1,14 +1,23 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Bits;
 
 /**
  * Internal type system for components. Used to generate unique IDs for each component type at
  * runtime, allowing entities to get components by type.
+ *
+ * <p>Each ID doubles as a bit index, so the set of component types on an entity can be kept as a
+ * {@link Bits} mask and matched against queries without looking up individual components.
  */
 public class ComponentType {
-  private static final ObjectMap<Class<? extends Component>, ComponentType> componentTypes =
-      new ObjectMap<>();
+  // ClassValue caches the type on the class itself, avoiding a hash map probe on every lookup
+  private static final ClassValue<ComponentType> componentTypes =
+      new ClassValue<>() {
+        @Override
+        protected ComponentType computeValue(Class<?> type) {
+          return new ComponentType();
+        }
+      };
   private static int nextId = 0;
 
   private final int id;
@@ -20,12 +29,22 @@ public class ComponentType {
    * @return the ComponentType for the class
    */
   public static ComponentType getFrom(Class<? extends Component> type) {
-    ComponentType componentType = componentTypes.get(type);
-    if (componentType == null) {
-      componentType = new ComponentType();
-      componentTypes.put(type, componentType);
+    return componentTypes.get(type);
+  }
+
+  /**
+   * Builds a mask with the bit set for each of the given component classes.
+   *
+   * @param types component classes to include
+   * @return mask of the component types
+   */
+  @SafeVarargs
+  public static Bits getMask(Class<? extends Component>... types) {
+    Bits mask = new Bits();
+    for (Class<? extends Component> type : types) {
+      mask.set(getFrom(type).getId());
     }
-    return componentType;
+    return mask;
   }
 
   /**
@@ -38,7 +57,9 @@ public class ComponentType {
   }
 
   private ComponentType() {
-    id = nextId;
-    nextId++;
+    synchronized (ComponentType.class) {
+      id = nextId;
+      nextId++;
+    }
   }
 }
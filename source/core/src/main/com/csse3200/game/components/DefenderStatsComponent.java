@@ -1,11 +1,9 @@
 package com.csse3200.game.components;
 
-import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.MathUtils;
 import com.csse3200.game.progression.skilltree.Skill;
-import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
-import com.csse3200.game.services.SettingsService;
-import java.util.Random;
+import com.csse3200.game.services.SoundService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,9 +33,6 @@ public class DefenderStatsComponent extends CombatStatsComponent {
   /** Chance (percentage) of delivering a critical hit when attacking. */
   private float critChance;
 
-  // Random number gen for crit chance
-  private Random rand = new Random();
-
   /** Scrap cost of the defender. */
   private int cost;
 
@@ -185,15 +180,12 @@ public class DefenderStatsComponent extends CombatStatsComponent {
   @Override
   public void hit(CombatStatsComponent target) {
     // Play damage sound
-    ResourceService resourceService = ServiceLocator.getResourceService();
-    SettingsService settingsService = ServiceLocator.getSettingsService();
-    if (resourceService != null && settingsService != null) {
-      Sound damageSound = resourceService.getAsset("sounds/damage.mp3", Sound.class);
-      float volume = settingsService.getSoundVolume();
-      damageSound.play(0.5f * volume);
+    SoundService soundService = ServiceLocator.getSoundService();
+    if (soundService != null) {
+      soundService.play("sounds/damage.mp3", 0.5f);
     }
 
-    if (rand.nextDouble() < critChance) {
+    if (MathUtils.random.nextDouble() < critChance) {
       setHealth(getHealth() - target.getBaseAttack() * 2);
       logger.info("Entity just landed a critical hit!");
     } else {
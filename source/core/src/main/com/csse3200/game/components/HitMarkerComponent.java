@@ -3,19 +3,23 @@ package com.csse3200.game.components;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.ParallelUpdatePhase;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.rendering.RenderComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
 
-public class HitMarkerComponent extends Component {
+public class HitMarkerComponent extends Component implements ParallelSafe {
   protected static final float FLASH_DURATION = 0.13f;
   protected static final Color FLASH_COLOUR = new Color(0.8f, 1f, 0, 0.2f);
   protected float flashTime = 0f;
   protected RenderComponent render;
+  private Runnable triggerHit;
 
   @Override
   public void create() {
-    entity.getEvents().addListener("hitMarker", this::onHitMarkerStart);
+    triggerHit = () -> entity.getEvents().trigger("hit");
+    entity.getEvents().addListener(EventKeys.HIT_MARKER, this::onHitMarkerStart);
     render = entity.getComponent(TextureRenderComponent.class);
     if (render == null) {
       render = entity.getComponent(AnimationRenderComponent.class);
@@ -32,7 +36,8 @@ public class HitMarkerComponent extends Component {
       flashTime -= Gdx.graphics.getDeltaTime();
       DefenderStatsComponent stats = getEntity().getComponent(DefenderStatsComponent.class);
       if (stats != null && stats.getBaseAttack() == 1000) { // it's the wall!
-        entity.getEvents().trigger("hit");
+        // Listeners of "hit" may reach other entities, so wait for the parallel phase to end
+        ParallelUpdatePhase.defer(triggerHit);
       } else {
         render.setColour(FLASH_COLOUR);
         return;
@@ -0,0 +1,15 @@
+package com.csse3200.game.components;
+
+import com.csse3200.game.entities.ParallelUpdatePhase;
+
+/**
+ * Marks a component whose {@link Component#update()} can run on a worker thread, at the same time
+ * as the updates of other entities. Such updates run in a parallel phase before the rest of the
+ * frame's updates, so they see entity positions as they were at the end of the last frame.
+ *
+ * <p>A parallel-safe update may only change state belonging to its own entity, and may only read
+ * state that nothing else changes during the phase (e.g. the time source). Anything that reaches
+ * further, such as triggering events, touching services, the stage or physics, must be passed to
+ * {@link ParallelUpdatePhase#defer(Runnable)} to be run on the main thread once the phase is over.
+ */
+public interface ParallelSafe {}
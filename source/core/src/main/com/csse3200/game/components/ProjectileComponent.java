@@ -7,6 +7,8 @@ import java.util.function.Supplier;
 /** Component for supplying the level area with an entity's associated projectile entity */
 public class ProjectileComponent extends Component {
   private final Supplier<Entity> supplier;
+  private final String path;
+  private final int damage;
 
   /**
    * Constructs the component's supplier for later use
@@ -16,6 +18,26 @@ public class ProjectileComponent extends Component {
    */
   public ProjectileComponent(String path, int damage) {
     this.supplier = () -> ProjectileFactory.createProjectile(path, damage);
+    this.path = path;
+    this.damage = damage;
+  }
+
+  /**
+   * Gets the file location of the projectile's sprite
+   *
+   * @return sprite path
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Gets the damage value of the projectile
+   *
+   * @return damage
+   */
+  public int getDamage() {
+    return damage;
   }
 
   /**
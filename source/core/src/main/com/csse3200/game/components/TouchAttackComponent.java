@@ -4,6 +4,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
@@ -45,7 +46,7 @@ public class TouchAttackComponent extends Component {
 
   @Override
   public void create() {
-    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    entity.getEvents().addListener(EventKeys.COLLISION_START, this::onCollisionStart);
     combatStats = entity.getComponent(CombatStatsComponent.class);
     hitboxComponent = entity.getComponent(HitboxComponent.class);
   }
@@ -73,13 +74,10 @@ public class TouchAttackComponent extends Component {
         targetStats = target.getComponent(GeneratorStatsComponent.class);
       }
     }
-    if (targetStats == null) {
-      targetStats = target.getComponent(GeneratorStatsComponent.class);
-    }
 
     if (targetStats != null) {
       targetStats.hit(combatStats);
-      target.getEvents().trigger("hitMarker", target);
+      target.getEvents().trigger(EventKeys.HIT_MARKER, target);
       entity.getEvents().trigger("attack", target);
     }
 
@@ -91,6 +89,6 @@ public class TouchAttackComponent extends Component {
       Vector2 impulse = direction.setLength(knockbackForce);
       targetBody.applyLinearImpulse(impulse, targetBody.getWorldCenter(), true);
     }
-    entity.getEvents().trigger("despawnSlingshot", entity);
+    entity.getEvents().trigger(EventKeys.DESPAWN_SLINGSHOT, entity);
   }
 }
@@ -5,7 +5,9 @@ import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.GeneratorStatsComponent;
+import com.csse3200.game.components.ParallelSafe;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.ParallelUpdatePhase;
 import com.csse3200.game.progression.skilltree.Skill;
 import com.csse3200.game.services.GameStateService;
 import com.csse3200.game.services.ResourceService;
@@ -18,7 +20,7 @@ import org.slf4j.LoggerFactory;
  * scrap value, texture path and motion parameters are configurable. Actions registered on the Stage
  * are removed in {@link #dispose()} to avoid leaks.
  */
-public class CurrencyGeneratorComponent extends Component {
+public class CurrencyGeneratorComponent extends Component implements ParallelSafe {
   private static final Logger logger = LoggerFactory.getLogger(CurrencyGeneratorComponent.class);
 
   /** Spawn interval in seconds */
@@ -45,6 +47,9 @@ public class CurrencyGeneratorComponent extends Component {
   /** Listener for responding to global freeze state changes. */
   private GameStateService.FreezeListener freezeListener;
 
+  /** Spawns a scrap once the parallel update phase is over, as the stage is shared */
+  private final Runnable spawnScrap = this::spawnScrapAt;
+
   /**
    * Creates a new currency generator component with the specified parameters.
    *
@@ -107,7 +112,7 @@ public class CurrencyGeneratorComponent extends Component {
 
       // Check if enough time has passed for a generation
       if (generationAccumulator >= intervalSec) {
-        spawnScrapAt();
+        ParallelUpdatePhase.defer(spawnScrap);
         generationAccumulator -= intervalSec; // Keep remainder for next cycle
       }
     }
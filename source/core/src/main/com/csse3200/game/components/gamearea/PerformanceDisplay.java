@@ -3,13 +3,34 @@ package com.csse3200.game.components.gamearea;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.events.EventKeys;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.PhysicsStats;
+import com.csse3200.game.rendering.AnimationCache;
+import com.csse3200.game.services.AssetCache;
+import com.csse3200.game.services.FrameProfiler;
+import com.csse3200.game.services.FrameProfiler.Section;
 import com.csse3200.game.services.ServiceLocator;
 import com.csse3200.game.ui.UIComponent;
 
-/** Displays performance stats about the game for debugging purposes. */
+/**
+ * Displays performance stats about the game for debugging purposes, including the min, average and
+ * 99th percentile time of each profiled section of the frame, the asset and animation caches, the
+ * physics body and contact counts, and the events triggered most in the last frame. The text is
+ * rebuilt a few times a second into a reused builder rather than every frame.
+ */
 public class PerformanceDisplay extends UIComponent {
   private static final float Z_INDEX = 5f;
+  private static final long REFRESH_INTERVAL_MS = 250;
+  private static final int PERCENTILE = 99;
+  private static final long NANOS_PER_HUNDREDTH_MS = 10_000L;
+  private static final int TOP_EVENTS = 3;
+  private final StringBuilder stats = new StringBuilder(512);
+  private final int[] topEvents = new int[TOP_EVENTS];
   private Label profileLabel;
+  private long lastRefresh;
 
   @Override
   public void create() {
@@ -18,7 +39,8 @@ public class PerformanceDisplay extends UIComponent {
   }
 
   private void addActors() {
-    profileLabel = ui.text(getStats());
+    buildStats();
+    profileLabel = ui.text(stats.toString());
     stage.addActor(profileLabel);
   }
 
@@ -26,7 +48,12 @@ public class PerformanceDisplay extends UIComponent {
   public void draw(SpriteBatch batch) {
     if (ServiceLocator.getRenderService().getDebug().getActive()) {
       profileLabel.setVisible(true);
-      profileLabel.setText(getStats());
+      long now = TimeUtils.millis();
+      if (now - lastRefresh >= REFRESH_INTERVAL_MS) {
+        lastRefresh = now;
+        buildStats();
+        profileLabel.setText(stats);
+      }
 
       float offsetX = 25f;
       float offsetY = 100f;
@@ -36,13 +63,75 @@ public class PerformanceDisplay extends UIComponent {
     }
   }
 
-  private String getStats() {
-    String message = "Debug\n";
-    message =
-        message
-            .concat(String.format("FPS: %d fps%n", Gdx.graphics.getFramesPerSecond()))
-            .concat(String.format("RAM: %d MB%n", Gdx.app.getJavaHeap() / 1000000));
-    return message;
+  private void buildStats() {
+    stats.clear();
+    stats.append("Debug\n");
+    stats.append("FPS: ").append(Gdx.graphics.getFramesPerSecond()).append(" fps\n");
+    stats.append("RAM: ").append(Gdx.app.getJavaHeap() / 1000000).append(" MB\n");
+
+    AssetCache assetCache = ServiceLocator.getAssetCache();
+    if (assetCache != null) {
+      stats.append("Assets: ").append(assetCache.getResidentBytes() / 1000000).append(" MB, ");
+      stats.append(assetCache.getHits()).append(" hits, ");
+      stats.append(assetCache.getMisses()).append(" misses\n");
+    }
+    stats.append("Animations: ").append(AnimationCache.size()).append(" shared, ");
+    stats.append(AnimationCache.getHits()).append(" hits, ");
+    stats.append(AnimationCache.getMisses()).append(" misses\n");
+
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    if (physicsService != null) {
+      PhysicsStats physics = physicsService.getPhysics().getStats();
+      stats.append("Bodies: ").append(physics.getStaticBodies()).append(" static, ");
+      stats.append(physics.getKinematicBodies()).append(" kinematic, ");
+      stats.append(physics.getDynamicBodies()).append(" dynamic (");
+      stats.append(physics.getAwakeBodies()).append(" awake)\n");
+      stats.append("Contacts: ").append(physics.getContacts()).append(", ");
+      stats.append(physics.getTouchingContacts()).append(" touching\n");
+      stats.append("Physics step: ").append(physics.getSteps()).append(" steps, ");
+      appendMillis(physics.getStepNanos());
+      stats.append(" ms\n");
+    }
+
+    FrameProfiler profiler = ServiceLocator.getFrameProfiler();
+    if (profiler == null || profiler.getFrameCount() == 0) {
+      return;
+    }
+    stats.append("Draw calls: ").append(Math.round(profiler.getAverageDrawCalls()));
+    stats.append(" avg, ").append(profiler.getMaxDrawCalls()).append(" max\n");
+    appendEvents(profiler);
+    stats.append("Last ").append(profiler.getFrameCount()).append(" frames (min/avg/p99 ms)\n");
+    for (Section section : Section.values()) {
+      stats.append(section.getLabel()).append(": ");
+      appendMillis(profiler.getMin(section));
+      stats.append(" / ");
+      appendMillis(profiler.getAverage(section));
+      stats.append(" / ");
+      appendMillis(profiler.getPercentile(section, PERCENTILE));
+      stats.append('\n');
+    }
+  }
+
+  private void appendEvents(FrameProfiler profiler) {
+    stats.append("Events: ").append(profiler.getTotalEventTriggers()).append(" last frame");
+    int found = profiler.getTopEvents(topEvents);
+    for (int i = 0; i < found; i++) {
+      stats.append(i == 0 ? " (" : ", ");
+      stats.append(EventKeys.getName(topEvents[i])).append(' ');
+      stats.append(profiler.getEventTriggers(topEvents[i]));
+    }
+    stats.append(found > 0 ? ")\n" : "\n");
+  }
+
+  /** Append nanoseconds as milliseconds with two decimal places, without String.format. */
+  private void appendMillis(long nanos) {
+    long hundredths = nanos / NANOS_PER_HUNDREDTH_MS;
+    long fraction = hundredths % 100;
+    stats.append(hundredths / 100).append('.');
+    if (fraction < 10) {
+      stats.append('0');
+    }
+    stats.append(fraction);
   }
 
   @Override
@@ -18,6 +18,7 @@ import com.csse3200.game.components.DefenderStatsComponent;
 import com.csse3200.game.components.GeneratorStatsComponent;
 import com.csse3200.game.components.items.ItemComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityQuery;
 import com.csse3200.game.persistence.Settings;
 import com.csse3200.game.rendering.TextureRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
@@ -48,6 +49,7 @@ public class HotbarDisplay extends UIComponent {
   private static final long SCRAP_MESSAGE_DURATION = 2000; // 2 seconds in ms
   private final Map<Entity, Label> generatorCostLabels = new HashMap<>();
   private int lastFurnaceCount = -1;
+  private EntityQuery generators;
 
   public HotbarDisplay(
       LevelGameArea game,
@@ -63,6 +65,7 @@ public class HotbarDisplay extends UIComponent {
   @Override
   public void create() {
     super.create();
+    generators = ServiceLocator.getEntityService().query(GeneratorStatsComponent.class);
     addActors();
   }
 
@@ -392,14 +395,7 @@ public class HotbarDisplay extends UIComponent {
   @Override
   public void update() {
 
-    int currentFurnaceCount = 0;
-    if (ServiceLocator.getGameArea() != null) {
-      for (Entity entity : ServiceLocator.getGameArea().getEntities()) {
-        if (entity.getComponent(GeneratorStatsComponent.class) != null) {
-          currentFurnaceCount++;
-        }
-      }
-    }
+    int currentFurnaceCount = generators.size();
     if (currentFurnaceCount != lastFurnaceCount) {
       for (Map.Entry<Entity, Label> entry : generatorCostLabels.entrySet()) {
 
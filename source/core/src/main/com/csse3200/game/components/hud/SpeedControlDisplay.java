@@ -15,18 +15,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * HUD component that lets the player cycle gameplay speed between 1.0x, 1.5x and 2.0x. Uses
- * GameTime timeScale to speed up time-dependent systems.
+ * HUD component that lets the player cycle gameplay speed between 1.0x, 1.5x, 2.0x and the
+ * fast-forward speeds 4x, 8x and 16x. Uses GameTime timeScale to speed up time-dependent systems;
+ * fast-forward speeds are run in fixed ticks by {@link com.csse3200.game.screens.WorldUpdater}.
  */
 public class SpeedControlDisplay extends UIComponent {
   private static final Logger logger = LoggerFactory.getLogger(SpeedControlDisplay.class);
   private static final float Z_INDEX = 40f;
   private static final int BUTTON_SIZE = 60;
 
-  private final float[] speeds = new float[] {1.0f, 1.5f, 2.0f};
+  private final float[] speeds = new float[] {1.0f, 1.5f, 2.0f, 4.0f, 8.0f, 16.0f};
+  // Fast-forward speeds share the 2x icon; the badge shows the actual speed
   private final String[] speedImages =
       new String[] {
-        "images/ui/speedup1x.png", "images/ui/speedup15x.png", "images/ui/speedup2x.png"
+        "images/ui/speedup1x.png",
+        "images/ui/speedup15x.png",
+        "images/ui/speedup2x.png",
+        "images/ui/speedup2x.png",
+        "images/ui/speedup2x.png",
+        "images/ui/speedup2x.png"
       };
   private int speedIndex = 0;
 
@@ -107,6 +114,10 @@ public class SpeedControlDisplay extends UIComponent {
       ServiceLocator.getGameStateService().setPreferredTimeScale(newScale);
     }
 
+    if (ServiceLocator.getSessionRecorder() != null) {
+      ServiceLocator.getSessionRecorder().recordSpeedChange(newScale);
+    }
+
     // Persist selection and update UI to reflect the new speed
     ServiceLocator.getSettingsService().setGameplaySpeedScale(newScale);
     updateButtonTexture();
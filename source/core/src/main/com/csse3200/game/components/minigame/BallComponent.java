@@ -1,9 +1,9 @@
 package com.csse3200.game.components.minigame;
 
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SoundService;
 import java.util.Random;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,12 +79,9 @@ public class BallComponent extends Component {
     this.decayFactor *= 0.9f;
     speedMultiplier = randomizer();
 
-    if (ServiceLocator.getSettingsService() != null
-        && ServiceLocator.getResourceService() != null) {
-      float volume = ServiceLocator.getSettingsService().getSoundVolume();
-
-      Sound bounce = ServiceLocator.getResourceService().getAsset("sounds/bounce.mp3", Sound.class);
-      bounce.play(0.7f * volume);
+    SoundService soundService = ServiceLocator.getSoundService();
+    if (soundService != null) {
+      soundService.play("sounds/bounce.mp3", 0.7f);
     }
   }
 
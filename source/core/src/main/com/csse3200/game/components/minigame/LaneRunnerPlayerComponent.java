@@ -1,10 +1,10 @@
 package com.csse3200.game.components.minigame;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.screens.LaneRunnerScreen;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SoundService;
 
 /** Component for the Lane Runner player that handles input and lane tracking. */
 public class LaneRunnerPlayerComponent extends Component {
@@ -46,12 +46,9 @@ public class LaneRunnerPlayerComponent extends Component {
 
   /** Plays the lane move sound. */
   private void playLaneMoveSound() {
-    if (ServiceLocator.getSettingsService() != null
-        && ServiceLocator.getResourceService() != null) {
-      float volume = ServiceLocator.getSettingsService().getSoundVolume();
-      Sound move =
-          ServiceLocator.getResourceService().getAsset("sounds/lane_move.mp3", Sound.class);
-      move.play(0.1f * volume);
+    SoundService soundService = ServiceLocator.getSoundService();
+    if (soundService != null) {
+      soundService.play("sounds/lane_move.mp3", 0.1f);
     }
   }
 
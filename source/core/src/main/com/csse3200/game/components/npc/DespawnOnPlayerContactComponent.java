@@ -2,6 +2,7 @@ package com.csse3200.game.components.npc;
 
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
 import org.slf4j.Logger;
@@ -19,7 +20,7 @@ public class DespawnOnPlayerContactComponent extends Component {
   @Override
   public void create() {
     hitbox = entity.getComponent(HitboxComponent.class);
-    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    entity.getEvents().addListener(EventKeys.COLLISION_START, this::onCollisionStart);
   }
 
   private void onCollisionStart(Fixture me, Fixture other) {
@@ -1,6 +1,7 @@
 package com.csse3200.game.components.npc;
 
 import com.csse3200.game.components.Component;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 
 /**
@@ -32,7 +33,7 @@ public class RobotAnimationController extends Component {
     animator = this.entity.getComponent(AnimationRenderComponent.class);
     entity.getEvents().addListener("moveLeftStart", this::animateMoveLeft);
     entity.getEvents().addListener("attackStart", this::animateAttack);
-    entity.getEvents().addListener("updateHealth", this::updateHealth);
+    entity.getEvents().addListener(EventKeys.UPDATE_HEALTH, this::updateHealth);
     entity.getEvents().addListener("teleportDisappearStart", this::animateTeleportStart);
     entity.getEvents().addListener("teleportReappearStart", this::animateTeleportEnd);
     entity.getEvents().addListener("shootStart", this::animateShoot);
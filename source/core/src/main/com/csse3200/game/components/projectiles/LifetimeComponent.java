@@ -1,22 +1,40 @@
 package com.csse3200.game.components.projectiles;
 
 import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ParallelSafe;
 import com.csse3200.game.components.ProjectileTagComponent;
+import com.csse3200.game.entities.ParallelUpdatePhase;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.services.ServiceLocator;
 
-public class LifetimeComponent extends Component {
+public class LifetimeComponent extends Component implements ParallelSafe {
   private final float lifetime;
   private float elapsed = 0f;
+  private boolean isProjectile;
+  private Runnable despawn;
 
   public LifetimeComponent(float lifetime) {
     this.lifetime = lifetime;
   }
 
+  @Override
+  public void create() {
+    // Components are fixed once the entity is created, so the tag only needs checking once
+    isProjectile = entity.hasComponent(ProjectileTagComponent.class);
+    despawn = () -> entity.getEvents().trigger(EventKeys.DESPAWN_SLINGSHOT, entity);
+  }
+
+  /** Restarts the lifetime countdown, e.g. when a pooled projectile is reused. */
+  public void reset() {
+    elapsed = 0f;
+  }
+
   @Override
   public void update() {
     elapsed += ServiceLocator.getTimeSource().getDeltaTime();
-    if (elapsed >= lifetime && entity.getComponent(ProjectileTagComponent.class) != null) {
-      entity.getEvents().trigger("despawnSlingshot", entity);
+    if (elapsed >= lifetime && isProjectile) {
+      // Despawning returns the projectile to its pool, which is shared with other entities
+      ParallelUpdatePhase.defer(despawn);
     }
   }
 }
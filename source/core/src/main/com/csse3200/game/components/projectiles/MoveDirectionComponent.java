@@ -35,6 +35,10 @@ public class MoveDirectionComponent extends Component {
     }
   }
 
+  public void setDirection(TargetDetectionTasks.AttackDirection direction) {
+    this.direction = direction;
+  }
+
   public void setShoot(boolean shoot) {
     this.shoot = shoot;
   }
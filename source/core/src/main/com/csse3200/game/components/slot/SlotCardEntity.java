@@ -55,77 +55,53 @@ public final class SlotCardEntity {
   public static final class CardSpec {
     public final String atlasRegion; // Atlas Area Name (Map)
     public final Supplier<Entity> factory; // The factory that produces the unit
+    public final String defenderKey; // Defender config key for session recordings, may be null
 
     public CardSpec(String atlasRegion, Supplier<Entity> factory) {
+      this(atlasRegion, factory, null);
+    }
+
+    public CardSpec(String atlasRegion, Supplier<Entity> factory, String defenderKey) {
       this.atlasRegion = Objects.requireNonNull(atlasRegion, "atlasRegion");
       this.factory = Objects.requireNonNull(factory, "factory");
+      this.defenderKey = defenderKey;
     }
 
     public static CardSpec of(String region, Supplier<Entity> factory) {
       return new CardSpec(region, factory);
     }
+
+    /** Card that places the defender with the given config key. */
+    public static CardSpec ofDefender(String region, String defenderKey) {
+      return new CardSpec(
+          region,
+          () ->
+              DefenceFactory.createDefenceUnit(
+                  ServiceLocator.getConfigService().getDefenderConfig(defenderKey)),
+          defenderKey);
+    }
   }
 
   /** Only trebuchet version (retain compatibility); internally calls the general entry */
   public static void dropSlingShooterCard(
       Stage uiStage, ScrollPane uiReelsPane, LevelGameArea area) {
-    dropCard(
-        uiStage,
-        uiReelsPane,
-        area,
-        CardSpec.of(
-            "Card_SlingShooter",
-            () ->
-                DefenceFactory.createDefenceUnit(
-                    ServiceLocator.getConfigService().getDefenderConfig("slingshooter"))));
+    dropCard(uiStage, uiReelsPane, area, CardSpec.ofDefender("Card_SlingShooter", "slingshooter"));
   }
 
   public static void dropBoxerCard(Stage uiStage, ScrollPane uiReelsPane, LevelGameArea area) {
-    dropCard(
-        uiStage,
-        uiReelsPane,
-        area,
-        CardSpec.of(
-            "Card_Boxer",
-            () ->
-                DefenceFactory.createDefenceUnit(
-                    ServiceLocator.getConfigService().getDefenderConfig("boxer"))));
+    dropCard(uiStage, uiReelsPane, area, CardSpec.ofDefender("Card_Boxer", "boxer"));
   }
 
   public static void dropHarpoonCard(Stage uiStage, ScrollPane uiReelsPane, LevelGameArea area) {
-    dropCard(
-        uiStage,
-        uiReelsPane,
-        area,
-        CardSpec.of(
-            "Card_Harpoon",
-            () ->
-                DefenceFactory.createDefenceUnit(
-                    ServiceLocator.getConfigService().getDefenderConfig("harpoon"))));
+    dropCard(uiStage, uiReelsPane, area, CardSpec.ofDefender("Card_Harpoon", "harpoon"));
   }
 
   public static void dropMortarCard(Stage uiStage, ScrollPane uiReelsPane, LevelGameArea area) {
-    dropCard(
-        uiStage,
-        uiReelsPane,
-        area,
-        CardSpec.of(
-            "Card_Mortar",
-            () ->
-                DefenceFactory.createDefenceUnit(
-                    ServiceLocator.getConfigService().getDefenderConfig("mortar"))));
+    dropCard(uiStage, uiReelsPane, area, CardSpec.ofDefender("Card_Mortar", "mortar"));
   }
 
   public static void dropShieldCard(Stage uiStage, ScrollPane uiReelsPane, LevelGameArea area) {
-    dropCard(
-        uiStage,
-        uiReelsPane,
-        area,
-        CardSpec.of(
-            "Card_Shield",
-            () ->
-                DefenceFactory.createDefenceUnit(
-                    ServiceLocator.getConfigService().getDefenderConfig("shield"))));
+    dropCard(uiStage, uiReelsPane, area, CardSpec.ofDefender("Card_Shield", "shield"));
   }
 
   // Universal drop entrance
@@ -318,7 +294,7 @@ public final class SlotCardEntity {
       currentArea.setSelectedUnit(selected);
       currentArea.setIsCharacterSelected(true);
       // Slot-machine card placements are free
-      currentArea.markNextPlacementFree();
+      currentArea.markNextPlacementFree(spec.defenderKey);
       currentArea.spawnUnit(pos);
 
       boolean occupiedAfter = currentArea.getGrid().isOccupiedIndex(pos);
@@ -1,8 +1,8 @@
 package com.csse3200.game.components.slot;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.csse3200.game.areas.SlotMachineArea;
 import com.csse3200.game.services.ServiceLocator;
-import java.security.SecureRandom;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -343,9 +343,9 @@ public class SlotEngine {
   private final SlotConfig config;
   private final Random random;
 
-  /** Construct with default config and RNG. */
+  /** Construct with default config, using the game's seeded RNG so sessions can be replayed. */
   public SlotEngine() {
-    this(new SlotConfig(), new SecureRandom());
+    this(new SlotConfig(), MathUtils.random);
   }
 
   /** Construct with injected config and RNG. */
@@ -367,7 +367,7 @@ public class SlotEngine {
   private SlotMachineArea slotMachineArea;
 
   public SlotEngine(SlotMachineArea area) {
-    this(new SlotConfig(), new SecureRandom());
+    this(new SlotConfig(), MathUtils.random);
     this.slotMachineArea = area;
   }
 
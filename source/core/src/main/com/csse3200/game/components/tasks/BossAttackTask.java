@@ -26,7 +26,7 @@ public class BossAttackTask extends TargetDetectionTasks {
   }
 
   @Override
-  protected Entity getNearestVisibleTarget() {
+  protected Entity findNearestVisibleTarget() {
     Vector2 from = owner.getEntity().getCenterPosition();
     Entity closestTarget = null;
     float closestDist = Float.MAX_VALUE;
@@ -87,14 +87,14 @@ public class BossAttackTask extends TargetDetectionTasks {
 
   @Override
   protected List<Entity> getAllTargets() {
-    Array<Entity> allEntities = ServiceLocator.getEntityService().getEntities();
-    Array<Entity> copy = new Array<>(allEntities);
+    Array<Entity> candidates = hitboxEntities.get().getEntities();
     List<Entity> targets = new ArrayList<>();
 
-    for (Entity e : copy) {
+    for (int i = 0; i < candidates.size; i++) {
+      Entity e = candidates.get(i);
       HitboxComponent hitbox = e.getComponent(HitboxComponent.class);
 
-      if (hitbox != null && hitbox.getLayer() == PhysicsLayer.NPC) {
+      if (hitbox.getLayer() == PhysicsLayer.NPC) {
         targets.add(e);
       }
     }
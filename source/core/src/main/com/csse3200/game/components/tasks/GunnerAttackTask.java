@@ -5,6 +5,7 @@ import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.components.DefenderStatsComponent;
 import com.csse3200.game.components.GeneratorStatsComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.LazyEntityQuery;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.services.ServiceLocator;
 import java.util.ArrayList;
@@ -19,6 +20,8 @@ public class GunnerAttackTask extends RobotTargetDetectionTasks {
   private static final int GUNNER_TASK_PRIORITY = 10;
   private static final float FIRE_COOLDOWN = 0.95f;
   private float timeSinceLastFire = 0f;
+  private final LazyEntityQuery defenders = new LazyEntityQuery(DefenderStatsComponent.class);
+  private final LazyEntityQuery generators = new LazyEntityQuery(GeneratorStatsComponent.class);
 
   /**
    * Constructor for GunnerAttackTask
@@ -83,12 +86,16 @@ public class GunnerAttackTask extends RobotTargetDetectionTasks {
    * @return List of all defense entities
    */
   protected List<Entity> getAllTargets() {
-    Array<Entity> allEntities = ServiceLocator.getEntityService().getEntities();
-    List<Entity> defenses = new ArrayList<>();
-    for (Entity entity : allEntities) {
-      if (entity.getComponent(DefenderStatsComponent.class) != null
-          || entity.getComponent(GeneratorStatsComponent.class) != null) {
-        defenses.add(entity);
+    List<Entity> defenses = new ArrayList<>(defenders.get().size() + generators.get().size());
+    Array<Entity> entities = defenders.get().getEntities();
+    for (int i = 0; i < entities.size; i++) {
+      defenses.add(entities.get(i));
+    }
+    entities = generators.get().getEntities();
+    for (int i = 0; i < entities.size; i++) {
+      // Skip anything already added as a defender
+      if (!entities.get(i).hasComponent(DefenderStatsComponent.class)) {
+        defenses.add(entities.get(i));
       }
     }
     return defenses;
@@ -100,7 +107,7 @@ public class GunnerAttackTask extends RobotTargetDetectionTasks {
    * @return the nearest visible defense to the left in the same lane
    */
   @Override
-  protected Entity getNearestVisibleTarget() {
+  protected Entity findNearestVisibleTarget() {
     List<Entity> defenses = getAllTargets();
     Entity nearest = null;
     float nearestDistance = Float.MAX_VALUE;
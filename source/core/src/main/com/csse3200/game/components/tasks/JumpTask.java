@@ -53,6 +53,12 @@ public class JumpTask extends RobotTargetDetectionTasks {
     return 200;
   }
 
+  /** The jump finishing changes the priority, so it must be asked every frame. */
+  @Override
+  public boolean canDeferPriority() {
+    return false;
+  }
+
   /**
    * Begins the jump animation and stores the starting y position. There is no jump animation
    * implemented currently, but if one is to be added, it would use an event listener for
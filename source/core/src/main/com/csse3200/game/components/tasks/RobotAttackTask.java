@@ -1,12 +1,12 @@
 package com.csse3200.game.components.tasks;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SoundService;
 
 /**
  * Allows an entity to attack the closest target entity from a list of potential targets. This task
@@ -57,15 +57,16 @@ public class RobotAttackTask extends RobotTargetDetectionTasks {
       stop();
       return;
     }
-    float delta = Gdx.graphics.getDeltaTime();
+    float delta = ServiceLocator.getTimeSource().getDeltaTime();
     timeLeft -= delta;
     soundTimeLeft -= delta;
 
     // play sound every 0.5s regardless of attack timing
-    if (soundTimeLeft - Gdx.graphics.getDeltaTime() < 0) {
-      Sound attackSound =
-          ServiceLocator.getResourceService().getAsset("sounds/robot-attack.mp3", Sound.class);
-      attackSound.play(ServiceLocator.getSettingsService().getSoundVolume() * 0.3f);
+    if (soundTimeLeft - delta < 0) {
+      SoundService soundService = ServiceLocator.getSoundService();
+      if (soundService != null) {
+        soundService.play("sounds/robot-attack.mp3", 0.3f);
+      }
       soundTimeLeft = TIME_BETWEEN_ATTACK_SOUNDS;
     }
     if (timeLeft < 0) {
@@ -78,7 +79,10 @@ public class RobotAttackTask extends RobotTargetDetectionTasks {
       if (target.getDeathFlag()) {
         return;
       }
-      this.owner.getEntity().getEvents().trigger("collisionStart", meFixture, targetFixture);
+      this.owner
+          .getEntity()
+          .getEvents()
+          .trigger(EventKeys.COLLISION_START, meFixture, targetFixture);
       timeLeft = TIME_BETWEEN_ATTACKS;
     }
   }
@@ -6,7 +6,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
+import com.csse3200.game.ai.tasks.TickMemo;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.LazyEntityQuery;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.raycast.RaycastHit;
@@ -19,6 +21,9 @@ public abstract class RobotTargetDetectionTasks extends DefaultTask implements P
   protected final DebugRenderer debugRenderer;
   protected final RaycastHit hit = new RaycastHit();
   protected short targetLayer;
+  private final TickMemo<Entity> nearestTarget = new TickMemo<>();
+  // Entities with a hitbox, the candidates for a target
+  protected final LazyEntityQuery hitboxEntities = new LazyEntityQuery(HitboxComponent.class);
 
   /**
    * Creates the target detection task.
@@ -62,15 +67,38 @@ public abstract class RobotTargetDetectionTasks extends DefaultTask implements P
   }
 
   /**
-   * Finds the nearest visible target within attack range.
+   * Target detection only depends on where entities are, so the AI component may re-evaluate it
+   * every few frames.
+   */
+  @Override
+  public boolean canDeferPriority() {
+    return true;
+  }
+
+  /**
+   * Gets the nearest visible target within attack range. The search runs at most once per AI tick,
+   * however many times this is called.
    *
    * @return the closest visible target within range, or {@code null} if none
    */
   protected Entity getNearestVisibleTarget() {
-    Vector2 from = owner.getEntity().getCenterPosition();
-    Array<Entity> targets = new Array<>(ServiceLocator.getEntityService().getEntities());
+    if (nearestTarget.has(owner)) {
+      return nearestTarget.get();
+    }
+    return nearestTarget.put(owner, findNearestVisibleTarget());
+  }
 
-    for (Entity target : targets) {
+  /**
+   * Finds the nearest visible target within attack range.
+   *
+   * @return the closest visible target within range, or {@code null} if none
+   */
+  protected Entity findNearestVisibleTarget() {
+    Vector2 from = owner.getEntity().getCenterPosition();
+    // Indexed rather than copied, since the entity service may be iterating the same array
+    Array<Entity> targets = hitboxEntities.get().getEntities();
+    for (int i = 0; i < targets.size; i++) {
+      Entity target = targets.get(i);
       HitboxComponent hitbox = target.getComponent(HitboxComponent.class);
       Vector2 targetPos = target.getCenterPosition();
 
@@ -32,6 +32,12 @@ public class SplashAttackTask extends TargetDetectionTasks implements PriorityTa
     return super.getPriority();
   }
 
+  /** The splash cooldown advances in {@link #getPriority()}, so it must be asked every frame. */
+  @Override
+  public boolean canDeferPriority() {
+    return false;
+  }
+
   @Override
   public int getActivePriority(float distance, Entity target) {
     return -1;
@@ -5,9 +5,11 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.ai.tasks.DefaultTask;
 import com.csse3200.game.ai.tasks.PriorityTask;
+import com.csse3200.game.ai.tasks.TickMemo;
 import com.csse3200.game.areas.LevelGameArea;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.LazyEntityQuery;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
 import com.csse3200.game.physics.components.HitboxComponent;
@@ -47,6 +49,9 @@ public abstract class TargetDetectionTasks extends DefaultTask implements Priori
   private final Vector2 offsetFrom = new Vector2();
   private final Vector2 end = new Vector2();
   private final RaycastHit tempHit = new RaycastHit();
+  private final TickMemo<Entity> nearestTarget = new TickMemo<>();
+  // Entities with a hitbox, the candidates for a target
+  protected final LazyEntityQuery hitboxEntities = new LazyEntityQuery(HitboxComponent.class);
 
   /** Enum representing the direction the entity should attack or scan for targets. */
   public enum AttackDirection {
@@ -74,7 +79,10 @@ public abstract class TargetDetectionTasks extends DefaultTask implements Priori
    *     found
    */
   protected float getDistanceToTarget() {
-    Entity target = getNearestVisibleTarget();
+    return getDistanceTo(getNearestVisibleTarget());
+  }
+
+  private float getDistanceTo(Entity target) {
     if (target == null) {
       return Float.MAX_VALUE;
     }
@@ -111,8 +119,8 @@ public abstract class TargetDetectionTasks extends DefaultTask implements Priori
    */
   @Override
   public int getPriority() {
-    float dst = getDistanceToTarget();
     Entity target = getNearestVisibleTarget();
+    float dst = getDistanceTo(target);
     if (status == Status.ACTIVE) {
       return getActivePriority(dst, target);
     } else {
@@ -120,16 +128,39 @@ public abstract class TargetDetectionTasks extends DefaultTask implements Priori
     }
   }
 
+  /**
+   * Target detection only depends on where entities are, so the AI component may re-evaluate it
+   * every few frames.
+   */
+  @Override
+  public boolean canDeferPriority() {
+    return true;
+  }
+
+  /**
+   * Gets the closest visible enemy within attack range. The search runs at most once per AI tick,
+   * however many times this is called.
+   *
+   * @return The closest visible entity matching enemy or boss layer, or {@code null} if none found.
+   */
+  protected Entity getNearestVisibleTarget() {
+    if (nearestTarget.has(owner)) {
+      return nearestTarget.get();
+    }
+    return nearestTarget.put(owner, findNearestVisibleTarget());
+  }
+
   /**
    * Performs a raycast in the specified attack direction to find the closest visible enemy within
    * attack range.
    *
    * <p>Scans vertically from -1 to +1 tile around the entity’s Y-center to improve hit accuracy on
-   * tall or offset targets.
+   * tall or offset targets. The level's robot lane index is checked first, so defenders with no
+   * robot near their line of fire skip the raycasts.
    *
    * @return The closest visible entity matching enemy or boss layer, or {@code null} if none found.
    */
-  protected Entity getNearestVisibleTarget() {
+  protected Entity findNearestVisibleTarget() {
     Vector2 from = owner.getEntity().getCenterPosition();
     castDir.set((direction == AttackDirection.RIGHT) ? 1f : -1f, 0f);
 
@@ -143,6 +174,17 @@ public abstract class TargetDetectionTasks extends DefaultTask implements Priori
 
     final float backupOffset = 0.10f;
 
+    // Skip both raycasts when the lane index has no robot anywhere along them
+    float firstStart = from.x + castDir.x * forwardOffset;
+    float firstEnd = firstStart + castDir.x * (attackRange + forwardOffset);
+    float secondStart = from.x - 20 - castDir.x * backupOffset;
+    float secondEnd = secondStart + castDir.x * (attackRange + forwardOffset + backupOffset);
+    float left = Math.min(Math.min(firstStart, firstEnd), Math.min(secondStart, secondEnd));
+    float right = Math.max(Math.max(firstStart, firstEnd), Math.max(secondStart, secondEnd));
+    if (area.hasNoRobotAlong(left, right, from.y - 20)) {
+      return null;
+    }
+
     offsetFrom.set(from.x, from.y - 20).mulAdd(castDir, forwardOffset);
     end.set(offsetFrom).mulAdd(castDir, attackRange + forwardOffset);
 
@@ -174,13 +216,12 @@ public abstract class TargetDetectionTasks extends DefaultTask implements Priori
    * @return List of all potential attack targets (enemy or boss entities).
    */
   protected List<Entity> getAllTargets() {
-    Array<Entity> allEntities = ServiceLocator.getEntityService().getEntities();
-    Array<Entity> copy = new Array<>(allEntities);
+    Array<Entity> candidates = hitboxEntities.get().getEntities();
     List<Entity> targets = new ArrayList<>();
-    for (Entity e : copy) {
+    for (int i = 0; i < candidates.size; i++) {
+      Entity e = candidates.get(i);
       HitboxComponent hitbox = e.getComponent(HitboxComponent.class);
-      if (hitbox != null
-          && (hitbox.getLayer() == PhysicsLayer.ENEMY || hitbox.getLayer() == PhysicsLayer.BOSS)
+      if ((hitbox.getLayer() == PhysicsLayer.ENEMY || hitbox.getLayer() == PhysicsLayer.BOSS)
           && e.getComponent(CombatStatsComponent.class) != null) {
         targets.add(e);
       }
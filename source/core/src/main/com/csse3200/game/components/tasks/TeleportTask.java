@@ -1,6 +1,5 @@
 package com.csse3200.game.components.tasks;
 
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.ai.tasks.DefaultTask;
@@ -10,6 +9,7 @@ import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SoundService;
 
 /**
  * Teleport behaviour component for enemies. After a cooldown, roll a chance and (if successful)
@@ -131,10 +131,9 @@ public class TeleportTask extends DefaultTask implements PriorityTask {
     owner.getEntity().getEvents().trigger("teleportDisappearStart");
 
     // Plays the teleport sound
-    Sound teleportSound =
-        ServiceLocator.getResourceService().getAsset("sounds/teleport_start.mp3", Sound.class);
-    if (teleportSound != null) {
-      teleportSound.play(ServiceLocator.getSettingsService().getSoundVolume() * 0.4f);
+    SoundService soundService = ServiceLocator.getSoundService();
+    if (soundService != null) {
+      soundService.play("sounds/teleport_start.mp3", 0.4f);
     }
 
     // Updates state
@@ -150,10 +149,9 @@ public class TeleportTask extends DefaultTask implements PriorityTask {
     performTeleport();
     owner.getEntity().getEvents().trigger("teleportReappearStart");
     // Plays the teleport sound
-    Sound teleportSound =
-        ServiceLocator.getResourceService().getAsset("sounds/teleport_end.mp3", Sound.class);
-    if (teleportSound != null) {
-      teleportSound.play(ServiceLocator.getSettingsService().getSoundVolume() * 0.4f);
+    SoundService soundService = ServiceLocator.getSoundService();
+    if (soundService != null) {
+      soundService.play("sounds/teleport_end.mp3", 0.4f);
     }
   }
 
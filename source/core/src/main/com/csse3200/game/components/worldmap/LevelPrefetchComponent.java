@@ -0,0 +1,201 @@
+package com.csse3200.game.components.worldmap;
+
+import com.csse3200.game.GdxGame;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.entities.configs.BaseLevelConfig;
+import com.csse3200.game.screens.MainGameScreen;
+import com.csse3200.game.services.AssetCache;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.WorldMapService;
+import com.csse3200.game.ui.WorldMapNode;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the assets of the level the player is most likely to enter next while they are on the
+ * world map, so entering it finds them in the {@link AssetCache}. The predicted level is the
+ * unlocked level the player stands next to, or otherwise the lowest unlocked level not yet
+ * completed.
+ *
+ * <p>Prefetching starts once the player has stood still for a moment, and loads in short slices
+ * each frame. It is cancelled when the prediction changes and stops early once the cache holds
+ * more than its memory budget. Cancelling only drops assets still waiting to load. Those already
+ * loaded stay in the cache.
+ *
+ * <p>Attach to the world map player entity, next to its {@link WorldMapPlayerComponent}.
+ */
+public class LevelPrefetchComponent extends Component {
+  private static final Logger logger = LoggerFactory.getLogger(LevelPrefetchComponent.class);
+  private static final float DEFAULT_IDLE_DELAY = 1.5f;
+  private static final long DEFAULT_BUDGET_BYTES = 384L * 1024 * 1024;
+  private static final int SLICE_MILLIS = 4;
+
+  private final AssetCache cache;
+  private final float idleDelay;
+  private final long budgetBytes;
+  private ResourceService prefetch;
+  private String targetLevel;
+  private float idleTime;
+  private int lastProgress;
+  private boolean done;
+
+  /** Prefetch through the shared asset cache after 1.5 s idle, with a 384 MB budget. */
+  public LevelPrefetchComponent() {
+    this(ServiceLocator.getAssetCache(), DEFAULT_IDLE_DELAY, DEFAULT_BUDGET_BYTES);
+  }
+
+  /**
+   * Create a prefetch component.
+   *
+   * @param cache cache to load into. Prefetching is disabled if null.
+   * @param idleDelay seconds the player must stand still before prefetching starts
+   * @param budgetBytes estimated bytes the cache may hold before prefetching stops
+   */
+  public LevelPrefetchComponent(AssetCache cache, float idleDelay, long budgetBytes) {
+    this.cache = cache;
+    this.idleDelay = idleDelay;
+    this.budgetBytes = budgetBytes;
+  }
+
+  @Override
+  public void update() {
+    if (cache == null) {
+      return;
+    }
+    WorldMapPlayerComponent player = entity.getComponent(WorldMapPlayerComponent.class);
+    boolean idle = player == null || !player.isCurrentlyMoving();
+    String level = predictLevel(player == null ? null : player.getNearbyNode());
+    step(level, idle, ServiceLocator.getTimeSource().getDeltaTime());
+  }
+
+  /**
+   * Advance prefetching by one frame.
+   *
+   * @param level level predicted to be entered next, or null for none
+   * @param idle whether the player is standing still
+   * @param delta seconds since the last frame
+   */
+  void step(String level, boolean idle, float delta) {
+    if (!Objects.equals(level, targetLevel)) {
+      cancel();
+      targetLevel = level;
+    }
+    if (targetLevel == null || done) {
+      return;
+    }
+
+    if (prefetch == null) {
+      idleTime = idle ? idleTime + delta : 0f;
+      if (idleTime >= idleDelay) {
+        start();
+      }
+      return;
+    }
+
+    if (prefetch.loadForMillis(SLICE_MILLIS)) {
+      logger.info("[LevelPrefetch] Prefetched {}", targetLevel);
+      done = true;
+      return;
+    }
+    // Only re-check the budget once another asset has finished loading
+    int progress = prefetch.getProgress();
+    if (progress != lastProgress) {
+      lastProgress = progress;
+      if (cache.getResidentBytes() > budgetBytes) {
+        logger.info("[LevelPrefetch] Stopped prefetching {}, over memory budget", targetLevel);
+        stop();
+      }
+    }
+  }
+
+  /** Cancel prefetching, dropping assets not loaded yet. Loaded ones stay in the cache. */
+  public void cancel() {
+    if (prefetch != null) {
+      logger.debug("[LevelPrefetch] Cancelling prefetch of {}", targetLevel);
+      prefetch.dispose();
+      prefetch = null;
+    }
+    targetLevel = null;
+    idleTime = 0f;
+    done = false;
+  }
+
+  /**
+   * @return level being prefetched or waited on, or null if none
+   */
+  public String getTargetLevel() {
+    return targetLevel;
+  }
+
+  /**
+   * @return true if prefetching has started and is still loading
+   */
+  public boolean isPrefetching() {
+    return prefetch != null && !done;
+  }
+
+  /**
+   * @return true once the target level's assets are loaded or prefetching hit the budget
+   */
+  public boolean isDone() {
+    return done;
+  }
+
+  private void start() {
+    if (cache.getResidentBytes() > budgetBytes) {
+      logger.debug("[LevelPrefetch] Cache over budget, not prefetching {}", targetLevel);
+      done = true;
+      return;
+    }
+    logger.debug("[LevelPrefetch] Prefetching {}", targetLevel);
+    prefetch = new ResourceService(cache);
+    MainGameScreen.queueLevelAssets(prefetch, targetLevel);
+    lastProgress = prefetch.getProgress();
+  }
+
+  /** Stop loading the target. What has loaded so far stays in the cache. */
+  private void stop() {
+    String level = targetLevel;
+    cancel();
+    targetLevel = level;
+    done = true;
+  }
+
+  private static String predictLevel(WorldMapNode nearbyNode) {
+    if (isPlayableLevel(nearbyNode)) {
+      return nearbyNode.getRegistrationKey();
+    }
+    WorldMapService worldMapService = ServiceLocator.getWorldMapService();
+    if (worldMapService == null) {
+      return null;
+    }
+    String next = null;
+    int nextNumber = Integer.MAX_VALUE;
+    for (WorldMapNode node : worldMapService.getNodesList()) {
+      if (!isPlayableLevel(node) || node.isCompleted()) {
+        continue;
+      }
+      BaseLevelConfig config =
+          ServiceLocator.getConfigService().getLevelConfig(node.getRegistrationKey());
+      if (config != null && config.getLevelNumber() < nextNumber) {
+        next = node.getRegistrationKey();
+        nextNumber = config.getLevelNumber();
+      }
+    }
+    return next;
+  }
+
+  private static boolean isPlayableLevel(WorldMapNode node) {
+    return node != null
+        && node.isUnlocked()
+        && node.getTargetScreen() == GdxGame.ScreenType.MAIN_GAME;
+  }
+
+  @Override
+  public void dispose() {
+    cancel();
+    super.dispose();
+  }
+}
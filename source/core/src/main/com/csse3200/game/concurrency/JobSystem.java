@@ -3,6 +3,9 @@ package com.csse3200.game.concurrency;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -19,7 +22,12 @@ public class JobSystem {
    * one permanent thread per CPU core, where each thread has a queue of tasks to run. Threads may
    * steal tasks from other busy threads. This means that we don't need a thread per task.
    */
-  private static final ExecutorService executor = Executors.newWorkStealingPool();
+  private static final ForkJoinPool executor =
+      new ForkJoinPool(
+          Runtime.getRuntime().availableProcessors(),
+          ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+          null,
+          true);
 
   /**
    * We also maintain a second thread pool for any blocking operations, since we don't want one of
@@ -57,7 +65,53 @@ public class JobSystem {
     return CompletableFuture.supplyAsync(supplier, blockingExecutor);
   }
 
+  /**
+   * Run a job once for every index from 0 to count - 1, spread over the main thread pool, and wait
+   * for all of them to finish. Jobs for different indices may run at the same time, so they must
+   * not share mutable state.
+   *
+   * <p>Each index should be a reasonable amount of work (e.g. a chunk of entities rather than a
+   * single one), since every index is scheduled as its own task. A single index runs directly on
+   * the calling thread.
+   *
+   * @param count number of indices
+   * @param job job to run for each index
+   */
+  public static void parallelFor(int count, IntConsumer job) {
+    if (count <= 0) {
+      return;
+    }
+    if (count == 1) {
+      job.accept(0);
+      return;
+    }
+    executor.invoke(new RangeAction(job, 0, count));
+  }
+
   private JobSystem() {
     throw new IllegalStateException("Instantiating static util class");
   }
+
+  /** Splits an index range in half until each task has a single index to run. */
+  private static class RangeAction extends RecursiveAction {
+    private final transient IntConsumer job;
+    private final int start;
+    private final int end;
+
+    private RangeAction(IntConsumer job, int start, int end) {
+      this.job = job;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start == 1) {
+        job.accept(start);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new RangeAction(job, start, mid), new RangeAction(job, mid, end));
+    }
+  }
 }
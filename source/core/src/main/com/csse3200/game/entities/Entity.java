@@ -2,11 +2,14 @@ package com.csse3200.game.entities;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
 import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentPriority;
 import com.csse3200.game.components.ComponentType;
+import com.csse3200.game.components.ParallelSafe;
 import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.services.ServiceLocator;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -32,18 +35,30 @@ import org.slf4j.LoggerFactory;
 public class Entity {
   private static final Logger logger = LoggerFactory.getLogger(Entity.class);
   private static int nextId = 0;
-  private static final String EVT_NAME_POS = "setPosition";
   private final int id;
   private final IntMap<Component> components;
+  // One bit per component type on this entity, see ComponentType
+  final Bits componentMask = new Bits();
   private final EventHandler eventHandler;
   private boolean enabled = true;
   private boolean created = false;
   private Vector2 position = Vector2.Zero.cpy();
+  // Reused as the "setPosition" event argument so moving an entity does not allocate
+  private final Vector2 positionEventArg = new Vector2();
   private Vector2 scale = new Vector2(1, 1);
   private Array<Component> createdComponents;
+  // Split of createdComponents by whether their update can run in the parallel phase
+  private Array<Component> serialComponents;
+  private Array<Component> parallelComponents;
   private boolean disposed = false;
   private boolean deathFlag = false;
 
+  /** Slot in the entity service's dense array, or -1 when not stored. */
+  int storeIndex = -1;
+
+  /** Whether the entity is currently registered with the entity service. */
+  boolean registered = false;
+
   public Entity() {
     id = nextId;
     nextId++;
@@ -81,17 +96,30 @@ public class Entity {
   }
 
   /**
-   * Set the entity's game position.
+   * Copy the entity's game position into an existing vector, for hot paths that should not
+   * allocate.
+   *
+   * @param out vector to copy the position into
+   * @return out, for chaining
+   */
+  public Vector2 getPosition(Vector2 out) {
+    return out.set(position);
+  }
+
+  /**
+   * Set the entity's game position. The "setPosition" event is fired with a vector the entity
+   * reuses, so listeners must copy it to keep it.
    *
    * @param position new position.
    */
   public void setPosition(Vector2 position) {
     this.position = position.cpy();
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    getEvents().trigger(EventKeys.SET_POSITION, positionEventArg.set(position));
   }
 
   /**
-   * Set the entity's game position.
+   * Set the entity's game position. The "setPosition" event is fired with a vector the entity
+   * reuses, so listeners must copy it to keep it.
    *
    * @param x new x position
    * @param y new y position
@@ -99,7 +127,7 @@ public class Entity {
   public void setPosition(float x, float y) {
     this.position.x = x;
     this.position.y = y;
-    getEvents().trigger(EVT_NAME_POS, position.cpy());
+    getEvents().trigger(EventKeys.SET_POSITION, positionEventArg.set(x, y));
   }
 
   /**
@@ -111,7 +139,7 @@ public class Entity {
   public void setPosition(Vector2 position, boolean notify) {
     this.position = position;
     if (notify) {
-      getEvents().trigger(EVT_NAME_POS, position);
+      getEvents().trigger(EventKeys.SET_POSITION, position);
     }
   }
 
@@ -124,6 +152,16 @@ public class Entity {
     return scale.cpy(); // Cpy gives us pass-by-value to prevent bugs
   }
 
+  /**
+   * Copy the entity's scale into an existing vector, for hot paths that should not allocate.
+   *
+   * @param out vector to copy the scale into
+   * @return out, for chaining
+   */
+  public Vector2 getScale(Vector2 out) {
+    return out.set(scale);
+  }
+
   /**
    * Set the entity's scale.
    *
@@ -203,6 +241,25 @@ public class Entity {
     return (T) components.get(componentType.getId());
   }
 
+  /**
+   * Check whether the entity has a component of type T, without fetching it.
+   *
+   * @param type The component class, e.g. RenderComponent.class
+   * @return true if the entity has a component of that type
+   */
+  public boolean hasComponent(Class<? extends Component> type) {
+    return componentMask.get(ComponentType.getFrom(type).getId());
+  }
+
+  /**
+   * Get the mask of component types on this entity. Each set bit is a {@link ComponentType} ID.
+   *
+   * @return component type mask. Should not be modified.
+   */
+  public Bits getComponentMask() {
+    return componentMask;
+  }
+
   /**
    * Add a component to the entity. Can only be called before the entity is registered in the world.
    *
@@ -225,6 +282,7 @@ public class Entity {
       return this;
     }
     components.put(componentType.getId(), component);
+    componentMask.set(componentType.getId());
     component.setEntity(this);
 
     return this;
@@ -232,6 +290,9 @@ public class Entity {
 
   /** Dispose of the entity. This will dispose of all components on this entity. */
   public void dispose() {
+    if (disposed) {
+      return;
+    }
     disposed = true;
     for (Component component : createdComponents) {
       component.dispose();
@@ -254,6 +315,15 @@ public class Entity {
     createdComponents.sort(
         Comparator.comparing(
             c -> Optional.ofNullable(c.getPriority()).orElse(ComponentPriority.LOW).getValue()));
+    serialComponents = new Array<>(true, createdComponents.size, Component.class);
+    parallelComponents = new Array<>(true, 0, Component.class);
+    for (Component component : createdComponents) {
+      if (component instanceof ParallelSafe) {
+        parallelComponents.add(component);
+      } else {
+        serialComponents.add(component);
+      }
+    }
     for (Component component : createdComponents) {
       component.create();
     }
@@ -274,19 +344,38 @@ public class Entity {
   }
 
   /**
-   * Perform an update on all components. This is called by the entity service and should not be
-   * called manually.
+   * Perform an update on all components that are not {@link ParallelSafe}. This is called by the
+   * entity service, after {@link #updateParallelSafe()}, and should not be called manually.
    */
   public void update() {
     if (!enabled) {
       return;
     }
-    for (int i = 0; i < createdComponents.size; i++) {
-      Component component = createdComponents.get(i);
+    for (int i = 0; i < serialComponents.size; i++) {
+      Component component = serialComponents.get(i);
       component.triggerUpdate();
     }
   }
 
+  /**
+   * Check whether the entity has components that are updated in the parallel phase.
+   *
+   * @return true if any component is {@link ParallelSafe}
+   */
+  boolean hasParallelSafeComponents() {
+    return parallelComponents != null && parallelComponents.notEmpty();
+  }
+
+  /** Update the {@link ParallelSafe} components. May be called from a worker thread. */
+  void updateParallelSafe() {
+    if (!enabled) {
+      return;
+    }
+    for (int i = 0; i < parallelComponents.size; i++) {
+      parallelComponents.get(i).triggerUpdate();
+    }
+  }
+
   /**
    * This entity's unique ID. Used for equality checks
    *
@@ -296,6 +385,15 @@ public class Entity {
     return id;
   }
 
+  /**
+   * Check if the entity has been created, i.e. registered with the entity service at least once.
+   *
+   * @return true if the entity has been created, false otherwise
+   */
+  public boolean isCreated() {
+    return created;
+  }
+
   /**
    * Check if the entity has been disposed.
    *
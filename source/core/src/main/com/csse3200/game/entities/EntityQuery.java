@@ -0,0 +1,78 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/**
+ * A cached view of all registered entities that have a given set of components. Views are created
+ * through {@link EntityService#query} and are kept up to date by the entity service as entities are
+ * registered and removed, so systems can walk a tight list instead of probing every entity.
+ *
+ * <p>The view is read-only from the outside. Like the entity service, structural changes made
+ * during an update are only reflected once that update has finished.
+ */
+public class EntityQuery {
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int ABSENT = -1;
+
+  private final Bits mask;
+  private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY, Entity.class);
+  // Entity ID -> slot in the entities array, for constant time removal
+  private final IntIntMap indices = new IntIntMap();
+
+  EntityQuery(Bits mask) {
+    this.mask = mask;
+  }
+
+  /**
+   * Get the entities currently matching this query. Should not be modified.
+   *
+   * @return matching entities
+   */
+  public Array<Entity> getEntities() {
+    return entities;
+  }
+
+  /**
+   * Get the number of entities currently matching this query.
+   *
+   * @return number of matching entities
+   */
+  public int size() {
+    return entities.size;
+  }
+
+  /**
+   * Check whether an entity's components satisfy this query.
+   *
+   * @param entity entity to check
+   * @return true if the entity has every component in the query
+   */
+  public boolean matches(Entity entity) {
+    return entity.componentMask != null && entity.componentMask.containsAll(mask);
+  }
+
+  void add(Entity entity) {
+    if (!matches(entity) || indices.containsKey(entity.getId())) {
+      return;
+    }
+    indices.put(entity.getId(), entities.size);
+    entities.add(entity);
+  }
+
+  void remove(Entity entity) {
+    int index = indices.remove(entity.getId(), ABSENT);
+    if (index == ABSENT) {
+      return;
+    }
+    int last = entities.size - 1;
+    if (index != last) {
+      Entity moved = entities.items[last];
+      entities.items[index] = moved;
+      indices.put(moved.getId(), index);
+    }
+    entities.items[last] = null;
+    entities.size = last;
+  }
+}
@@ -1,6 +1,10 @@
 package com.csse3200.game.entities;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ComponentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -8,6 +12,17 @@ import org.slf4j.LoggerFactory;
  * Provides a global access point for entities to register themselves. This allows for iterating
  * over entities to perform updates each loop. All game entities should be registered here.
  *
+ * <p>Entities are kept in a dense array and each entity remembers its own slot, so removal is a
+ * constant time swap with the last element. Registering or unregistering while the service is
+ * iterating (e.g. from inside a component update) does not touch the array directly; the change is
+ * queued and applied once the iteration finishes.
+ *
+ * <p>Systems that only care about entities with particular components can use {@link #query} to
+ * get a cached view that is kept up to date as entities are added and removed.
+ *
+ * <p>Components marked {@link com.csse3200.game.components.ParallelSafe} are updated first, in a
+ * {@link ParallelUpdatePhase}; every other component is then updated on the calling thread.
+ *
  * <p>Avoid adding additional state here! Global access is often the easy but incorrect answer to
  * sharing data.
  */
@@ -15,49 +30,183 @@ public class EntityService {
   private static final Logger logger = LoggerFactory.getLogger(EntityService.class);
   private static final int INITIAL_CAPACITY = 16;
 
-  private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY);
+  private final Array<Entity> entities = new Array<>(false, INITIAL_CAPACITY, Entity.class);
+  private final Array<Entity> pendingAdds = new Array<>(false, INITIAL_CAPACITY, Entity.class);
+  private final Array<Entity> pendingRemovals =
+      new Array<>(false, INITIAL_CAPACITY, Entity.class);
+  private final ObjectMap<Bits, EntityQuery> queries = new ObjectMap<>();
+  private final Array<EntityQuery> queryList = new Array<>(false, INITIAL_CAPACITY);
+  private final ParallelUpdatePhase parallelPhase = new ParallelUpdatePhase();
+  private int iterationDepth = 0;
 
+  /**
+   * Get the dense array of entities. While an update is in progress this may still contain entities
+   * that were unregistered earlier in the same frame; they are removed at the end of the update.
+   *
+   * @return registered entities
+   */
   public Array<Entity> getEntities() {
     return entities;
   }
 
+  /**
+   * Get a cached view of all registered entities that have every one of the given components. The
+   * same view is returned for the same set of components, so callers should look it up once (e.g.
+   * in create()) and keep the reference rather than querying every frame.
+   *
+   * @param types component classes the entities must have
+   * @return view of matching entities
+   */
+  @SafeVarargs
+  public final EntityQuery query(Class<? extends Component>... types) {
+    Bits mask = ComponentType.getMask(types);
+    EntityQuery query = queries.get(mask);
+    if (query == null) {
+      query = new EntityQuery(mask);
+      for (int i = 0; i < entities.size; i++) {
+        query.add(entities.items[i]);
+      }
+      queries.put(mask, query);
+      queryList.add(query);
+    }
+    return query;
+  }
+
   /**
    * Register a new entity with the entity service. The entity will be created and start updating.
+   * Entities registered during an update will start updating from the next frame. Re-registering an
+   * entity that was previously unregistered (but not disposed) resumes it without creating it again.
    *
    * @param entity new entity.
    */
   public void register(Entity entity) {
     logger.debug("Registering {} in entity service", entity);
-    entities.add(entity);
-    entity.create();
+    if (entity.registered) {
+      logger.warn("{} is already registered in the entity service", entity);
+      return;
+    }
+    entity.registered = true;
+    if (iterationDepth > 0) {
+      pendingAdds.add(entity);
+    } else {
+      append(entity);
+    }
+    // Pooled entities are unregistered rather than disposed, and keep their components on return
+    if (!entity.isCreated()) {
+      entity.create();
+    }
   }
 
   /**
    * Unregister an entity with the entity service. The entity will be removed and stop updating.
+   * Entities unregistered during an update are skipped for the rest of the frame.
    *
    * @param entity entity to be removed.
    */
   public void unregister(Entity entity) {
+    if (!entity.registered) {
+      return;
+    }
     logger.debug("Unregistering {} in entity service", entity);
-    entities.removeValue(entity, true);
+    entity.registered = false;
+    if (iterationDepth > 0) {
+      pendingRemovals.add(entity);
+    } else {
+      remove(entity);
+    }
   }
 
   /** Update all registered entities. Should only be called from the main game loop. */
   public void update() {
-    Array<Entity> entitiesSnapshot = new Array<>(entities);
-    for (Entity entity : entitiesSnapshot) {
-      if (entities.contains(entity, true)) {
-        entity.earlyUpdate();
-        entity.update();
+    iterationDepth++;
+    try {
+      Entity[] items = entities.items;
+      int n = entities.size;
+      for (int i = 0; i < n; i++) {
+        Entity entity = items[i];
+        if (entity.registered && entity.hasParallelSafeComponents()) {
+          parallelPhase.add(entity);
+        }
+      }
+      parallelPhase.run();
+      for (int i = 0; i < n; i++) {
+        Entity entity = items[i];
+        if (entity.registered) {
+          entity.earlyUpdate();
+          entity.update();
+        }
       }
+    } finally {
+      iterationDepth--;
     }
+    applyPendingChanges();
   }
 
   /** Dispose all entities. */
   public void dispose() {
-    Array<Entity> entitiesSnapshot = new Array<>(entities);
-    for (Entity entity : entitiesSnapshot) {
-      entity.dispose();
+    iterationDepth++;
+    try {
+      Entity[] items = entities.items;
+      for (int i = 0, n = entities.size; i < n; i++) {
+        Entity entity = items[i];
+        if (entity.registered) {
+          entity.dispose();
+        }
+      }
+    } finally {
+      iterationDepth--;
+    }
+    applyPendingChanges();
+  }
+
+  /**
+   * Apply queued registrations and removals. Only runs once the outermost iteration has finished.
+   */
+  private void applyPendingChanges() {
+    if (iterationDepth > 0) {
+      return;
+    }
+    for (int i = 0; i < pendingRemovals.size; i++) {
+      Entity entity = pendingRemovals.get(i);
+      if (!entity.registered) {
+        remove(entity);
+      }
+    }
+    pendingRemovals.clear();
+
+    for (int i = 0; i < pendingAdds.size; i++) {
+      Entity entity = pendingAdds.get(i);
+      if (entity.registered && entity.storeIndex < 0) {
+        append(entity);
+      }
+    }
+    pendingAdds.clear();
+  }
+
+  private void append(Entity entity) {
+    entity.storeIndex = entities.size;
+    entities.add(entity);
+    for (int i = 0; i < queryList.size; i++) {
+      queryList.get(i).add(entity);
+    }
+  }
+
+  private void remove(Entity entity) {
+    int index = entity.storeIndex;
+    if (index < 0 || index >= entities.size || entities.items[index] != entity) {
+      return;
+    }
+    int last = entities.size - 1;
+    if (index != last) {
+      Entity moved = entities.items[last];
+      entities.items[index] = moved;
+      moved.storeIndex = index;
+    }
+    entities.items[last] = null;
+    entities.size = last;
+    entity.storeIndex = -1;
+    for (int i = 0; i < queryList.size; i++) {
+      queryList.get(i).remove(entity);
     }
   }
 }
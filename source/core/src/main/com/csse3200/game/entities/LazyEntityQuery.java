@@ -0,0 +1,37 @@
+package com.csse3200.game.entities;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.services.ServiceLocator;
+
+/**
+ * An {@link EntityQuery} looked up from the registered entity service on first use. For code that
+ * is created before the entity service is registered, such as AI tasks built by entity factories,
+ * and would otherwise look the view up on every call. The view is kept up to date by the entity
+ * service, so once found it is kept.
+ */
+public class LazyEntityQuery {
+  private final Class<? extends Component>[] types;
+  private EntityQuery query;
+
+  /**
+   * Create a query that is looked up on first use.
+   *
+   * @param types component classes the entities must have
+   */
+  @SafeVarargs
+  public LazyEntityQuery(Class<? extends Component>... types) {
+    this.types = types;
+  }
+
+  /**
+   * Get the view of matching entities, looking it up from the entity service on the first call.
+   *
+   * @return view of matching entities
+   */
+  public EntityQuery get() {
+    if (query == null) {
+      query = ServiceLocator.getEntityService().query(types);
+    }
+    return query;
+  }
+}
@@ -0,0 +1,91 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.components.ParallelSafe;
+import com.csse3200.game.concurrency.JobSystem;
+
+/**
+ * Runs the updates of {@link ParallelSafe} components across the job system's thread pool, before
+ * the serial update of the frame.
+ *
+ * <p>Entities are split into fixed-size chunks, and each chunk is updated by one thread. Work that
+ * must not run during the phase is passed to {@link #defer(Runnable)}; each chunk keeps its own
+ * list of deferred commands and the lists are run in chunk order once every chunk is done. The
+ * order commands run in therefore only depends on the order of the entities, not on thread timing.
+ */
+public class ParallelUpdatePhase {
+  /** Entities updated by a single task. Small boards fit in one chunk and stay on the caller. */
+  static final int CHUNK_SIZE = 64;
+
+  private static final ThreadLocal<Array<Runnable>> currentCommands = new ThreadLocal<>();
+
+  private final Array<Entity> batch = new Array<>(false, CHUNK_SIZE, Entity.class);
+  private final Array<Array<Runnable>> chunkCommands = new Array<>();
+
+  /**
+   * Run a command once the current parallel phase is over, on the main thread. Outside of a
+   * parallel phase the command runs straight away.
+   *
+   * @param command work that affects more than the calling component's own entity
+   */
+  public static void defer(Runnable command) {
+    Array<Runnable> commands = currentCommands.get();
+    if (commands == null) {
+      command.run();
+    } else {
+      commands.add(command);
+    }
+  }
+
+  /**
+   * Queue an entity to have its parallel-safe components updated in the next {@link #run()}.
+   *
+   * @param entity entity with at least one parallel-safe component
+   */
+  void add(Entity entity) {
+    batch.add(entity);
+  }
+
+  /**
+   * @return number of entities queued for the next run
+   */
+  int size() {
+    return batch.size;
+  }
+
+  /** Update every queued entity's parallel-safe components, then run the deferred commands. */
+  void run() {
+    int chunks = (batch.size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    while (chunkCommands.size < chunks) {
+      chunkCommands.add(new Array<>(false, 4));
+    }
+    try {
+      JobSystem.parallelFor(chunks, this::updateChunk);
+      for (int c = 0; c < chunks; c++) {
+        Array<Runnable> commands = chunkCommands.get(c);
+        for (int i = 0; i < commands.size; i++) {
+          commands.get(i).run();
+        }
+      }
+    } finally {
+      for (int c = 0; c < chunks; c++) {
+        chunkCommands.get(c).clear();
+      }
+      batch.clear();
+    }
+  }
+
+  private void updateChunk(int chunk) {
+    Array<Runnable> previous = currentCommands.get();
+    currentCommands.set(chunkCommands.get(chunk));
+    try {
+      Entity[] items = batch.items;
+      int end = Math.min(batch.size, (chunk + 1) * CHUNK_SIZE);
+      for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+        items[i].updateParallelSafe();
+      }
+    } finally {
+      currentCommands.set(previous);
+    }
+  }
+}
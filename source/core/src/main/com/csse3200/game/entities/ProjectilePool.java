@@ -0,0 +1,333 @@
+package com.csse3200.game.entities;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.csse3200.game.areas.LaneHitSystem;
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.components.projectiles.LifetimeComponent;
+import com.csse3200.game.components.projectiles.MoveDirectionComponent;
+import com.csse3200.game.components.tasks.TargetDetectionTasks;
+import com.csse3200.game.entities.factories.ProjectileFactory;
+import com.csse3200.game.events.EventKeys;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.rendering.TextureRenderComponent;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.EnumMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reuses straight-line projectile entities instead of building and tearing down a new entity (and
+ * Box2D body) for every shot. Each {@link ProjectileType} has its own free list.
+ *
+ * <p>Projectiles are obtained with {@link #obtain}, which either reactivates a free projectile or
+ * builds a new one through {@link ProjectileFactory}. When a pooled projectile fires
+ * "despawnSlingshot" it is queued for release; {@link #processReleases()} must then be called
+ * outside of the physics step to deactivate it and return it to its free list.
+ *
+ * <p>Only projectile types whose behaviour is fully described by their components are pooled, see
+ * {@link #isPoolable(ProjectileType)}.
+ *
+ * <p>If the pool is given a {@link LaneHitSystem}, the types it supports are built without a Box2D
+ * body and their hits are resolved by the lane hit system while they are in flight.
+ */
+public class ProjectilePool implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(ProjectilePool.class);
+  private static final float PROJECTILE_SPEED = 150f;
+
+  private final Map<ProjectileType, Integer> warmUpSizes;
+  private final LaneHitSystem laneHits;
+  private final Map<ProjectileType, Array<PooledProjectile>> free =
+      new EnumMap<>(ProjectileType.class);
+  private final Array<PooledProjectile> all = new Array<>(false, 32);
+  private final Array<PooledProjectile> pendingRelease = new Array<>(false, 16);
+  private final Map<ProjectileType, Stats> stats = new EnumMap<>(ProjectileType.class);
+
+  /** Create a pool that does not pre-allocate any projectiles. */
+  public ProjectilePool() {
+    this(Map.of());
+  }
+
+  /**
+   * Create a pool.
+   *
+   * @param warmUpSizes number of projectiles of each type to build when {@link #warmUp()} is called
+   */
+  public ProjectilePool(Map<ProjectileType, Integer> warmUpSizes) {
+    this(warmUpSizes, null);
+  }
+
+  /**
+   * Create a pool that resolves the hits of supported projectile types by lane.
+   *
+   * @param warmUpSizes number of projectiles of each type to build when {@link #warmUp()} is called
+   * @param laneHits lane hit system for the types it supports, or null to use Box2D for every type
+   */
+  public ProjectilePool(Map<ProjectileType, Integer> warmUpSizes, LaneHitSystem laneHits) {
+    this.warmUpSizes = warmUpSizes;
+    this.laneHits = laneHits;
+    for (ProjectileType type : ProjectileType.values()) {
+      free.put(type, new Array<>(false, 16));
+      stats.put(type, new Stats());
+    }
+  }
+
+  /**
+   * Check whether projectiles of a type can be pooled. Harpoons pass through robots and shells arc
+   * towards a landing point, so both keep being built per shot.
+   *
+   * @param type projectile type
+   * @return true if obtain() supports the type
+   */
+  public static boolean isPoolable(ProjectileType type) {
+    return type == ProjectileType.SLINGSHOT
+        || type == ProjectileType.BULLET
+        || type == ProjectileType.SHOCK
+        || type == ProjectileType.GUNNER_BULLET;
+  }
+
+  /**
+   * Build the configured number of projectiles for each type ahead of time so the first waves do
+   * not pay for construction. Should be called once the level's assets and services are available.
+   */
+  public void warmUp() {
+    for (Map.Entry<ProjectileType, Integer> entry : warmUpSizes.entrySet()) {
+      ProjectileType type = entry.getKey();
+      if (!isPoolable(type)) {
+        logger.warn("Ignoring warm up for non-poolable projectile type {}", type);
+        continue;
+      }
+      for (int i = free.get(type).size; i < entry.getValue(); i++) {
+        PooledProjectile projectile = build(type, 0, TargetDetectionTasks.AttackDirection.RIGHT);
+        ServiceLocator.getEntityService().register(projectile.entity);
+        deactivate(projectile);
+        free.get(type).add(projectile);
+      }
+    }
+    logger.debug("Projectile pool warmed up with {} projectiles", all.size);
+  }
+
+  /**
+   * Get an active projectile of the given type, reusing a free one where possible. The projectile
+   * is registered with the entity service and will be returned to the pool when it despawns.
+   *
+   * @param type projectile type, must be poolable
+   * @param x world x position
+   * @param y world y position
+   * @param size width and height in world units, height is scaled to keep the sprite ratio
+   * @param damage damage dealt on hit
+   * @param direction direction of travel
+   * @return active projectile entity
+   */
+  public Entity obtain(
+      ProjectileType type,
+      float x,
+      float y,
+      float size,
+      int damage,
+      TargetDetectionTasks.AttackDirection direction) {
+    if (!isPoolable(type)) {
+      throw new IllegalArgumentException("Projectile type " + type + " cannot be pooled");
+    }
+    Array<PooledProjectile> freeList = free.get(type);
+    Stats typeStats = stats.get(type);
+    PooledProjectile projectile;
+    if (freeList.notEmpty()) {
+      typeStats.hits++;
+      projectile = freeList.pop();
+      projectile.reset(damage, direction);
+    } else {
+      typeStats.misses++;
+      projectile = build(type, damage, direction);
+    }
+
+    Entity entity = projectile.entity;
+    entity.scaleHeight(size);
+    entity.scaleWidth(size);
+    entity.setPosition(x, y);
+    activate(projectile);
+    typeStats.active++;
+    return entity;
+  }
+
+  /**
+   * Return released projectiles to their free lists. Deactivating a Box2D body is not allowed while
+   * the world is stepping, so this should be called after the physics update.
+   */
+  public void processReleases() {
+    for (int i = 0; i < pendingRelease.size; i++) {
+      PooledProjectile projectile = pendingRelease.get(i);
+      projectile.releasePending = false;
+      if (projectile.entity.isDisposed()) {
+        continue;
+      }
+      deactivate(projectile);
+      free.get(projectile.type).add(projectile);
+      Stats typeStats = stats.get(projectile.type);
+      typeStats.releases++;
+      typeStats.active--;
+    }
+    pendingRelease.clear();
+  }
+
+  /**
+   * Get the number of obtain() calls for a type that reused a free projectile.
+   *
+   * @param type projectile type
+   * @return pool hits
+   */
+  public int getHits(ProjectileType type) {
+    return stats.get(type).hits;
+  }
+
+  /**
+   * Get the number of obtain() calls for a type that had to build a new projectile.
+   *
+   * @param type projectile type
+   * @return pool misses
+   */
+  public int getMisses(ProjectileType type) {
+    return stats.get(type).misses;
+  }
+
+  /**
+   * Get the number of projectiles of a type currently in flight.
+   *
+   * @param type projectile type
+   * @return active projectiles
+   */
+  public int getActiveCount(ProjectileType type) {
+    return stats.get(type).active;
+  }
+
+  /**
+   * Get the number of projectiles of a type waiting in the free list.
+   *
+   * @param type projectile type
+   * @return free projectiles
+   */
+  public int getFreeCount(ProjectileType type) {
+    return free.get(type).size;
+  }
+
+  /** Dispose every projectile the pool has built, whether in flight or free. */
+  @Override
+  public void dispose() {
+    for (Map.Entry<ProjectileType, Stats> entry : stats.entrySet()) {
+      Stats typeStats = entry.getValue();
+      if (typeStats.hits + typeStats.misses > 0) {
+        logger.info(
+            "Projectile pool {}: hits={} misses={} releases={} free={}",
+            entry.getKey(),
+            typeStats.hits,
+            typeStats.misses,
+            typeStats.releases,
+            free.get(entry.getKey()).size);
+      }
+    }
+    for (PooledProjectile projectile : all) {
+      projectile.entity.dispose();
+    }
+    all.clear();
+    pendingRelease.clear();
+    if (laneHits != null) {
+      laneHits.clear();
+    }
+    for (Array<PooledProjectile> freeList : free.values()) {
+      freeList.clear();
+    }
+  }
+
+  private PooledProjectile build(
+      ProjectileType type, int damage, TargetDetectionTasks.AttackDirection direction) {
+    boolean laneResolved = laneHits != null && LaneHitSystem.supports(type);
+    Entity entity =
+        laneResolved
+            ? ProjectileFactory.createLaneProjectile(type, damage, direction, PROJECTILE_SPEED)
+            : ProjectileFactory.createMovingProjectile(type, damage, direction, PROJECTILE_SPEED);
+    PooledProjectile projectile = new PooledProjectile(type, entity, laneResolved);
+    entity.getEvents().addListener(EventKeys.DESPAWN_SLINGSHOT, (Entity e) -> release(projectile));
+    all.add(projectile);
+    return projectile;
+  }
+
+  private void release(PooledProjectile projectile) {
+    if (projectile.releasePending || !projectile.active) {
+      return;
+    }
+    projectile.releasePending = true;
+    pendingRelease.add(projectile);
+  }
+
+  private void activate(PooledProjectile projectile) {
+    Entity entity = projectile.entity;
+    boolean reused = entity.isCreated();
+    ServiceLocator.getEntityService().register(entity);
+    if (reused) {
+      if (projectile.physics != null) {
+        projectile.physics.setEnabled(true);
+      }
+      ServiceLocator.getRenderService().register(projectile.render);
+    }
+    if (projectile.laneResolved) {
+      laneHits.add(entity);
+    }
+    projectile.active = true;
+  }
+
+  private void deactivate(PooledProjectile projectile) {
+    ServiceLocator.getEntityService().unregister(projectile.entity);
+    ServiceLocator.getRenderService().unregister(projectile.render);
+    if (projectile.laneResolved) {
+      laneHits.remove(projectile.entity);
+    } else {
+      projectile.physics.setLinearVelocity(0f, 0f);
+      projectile.physics.setEnabled(false);
+    }
+    projectile.active = false;
+  }
+
+  /**
+   * A pooled projectile with its components cached, so reuse needs no component lookups. Lane
+   * resolved projectiles have no physics component.
+   */
+  private static class PooledProjectile {
+    private final ProjectileType type;
+    private final Entity entity;
+    private final boolean laneResolved;
+    private final PhysicsComponent physics;
+    private final TextureRenderComponent render;
+    private final LifetimeComponent lifetime;
+    private final CombatStatsComponent combatStats;
+    private final MoveDirectionComponent mover;
+    private boolean active = false;
+    private boolean releasePending = false;
+
+    private PooledProjectile(ProjectileType type, Entity entity, boolean laneResolved) {
+      this.type = type;
+      this.entity = entity;
+      this.laneResolved = laneResolved;
+      this.physics = entity.getComponent(PhysicsComponent.class);
+      this.render = entity.getComponent(TextureRenderComponent.class);
+      this.lifetime = entity.getComponent(LifetimeComponent.class);
+      this.combatStats = entity.getComponent(CombatStatsComponent.class);
+      this.mover = entity.getComponent(MoveDirectionComponent.class);
+    }
+
+    private void reset(int damage, TargetDetectionTasks.AttackDirection direction) {
+      lifetime.reset();
+      combatStats.setHealth(combatStats.getMaxHealth());
+      combatStats.setBaseAttack(damage);
+      mover.setDirection(direction);
+    }
+  }
+
+  /** Usage counters for a single projectile type. */
+  private static class Stats {
+    private int hits;
+    private int misses;
+    private int releases;
+    private int active;
+  }
+}
@@ -5,5 +5,6 @@ public enum ProjectileType {
   BULLET,
   HARPOON_PROJECTILE,
   SHOCK,
-  SHELL
+  SHELL,
+  GUNNER_BULLET
 }
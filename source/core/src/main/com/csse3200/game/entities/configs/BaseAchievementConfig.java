@@ -1,5 +1,6 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -7,7 +8,7 @@ import java.util.Map;
  * Base configuration class for achievements. Defines the structure for achievement definitions that
  * are loaded from JSON config files.
  */
-public class BaseAchievementConfig {
+public class BaseAchievementConfig implements Serializable {
   private String name;
   private String description;
   private String statistic;
@@ -136,7 +137,7 @@ public class BaseAchievementConfig {
   }
 
   /** DeserializedAchievementConfig is a wrapper class for the BaseAchievementConfig class. */
-  public static class DeserializedAchievementConfig {
+  public static class DeserializedAchievementConfig implements Serializable {
     private HashMap<String, BaseAchievementConfig> config;
 
     /** Creates a new DeserializedAchievementConfig. */
@@ -1,5 +1,6 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -164,7 +165,7 @@ public class BaseEnemyConfig extends BaseEntityConfig {
   }
 
   /** DeserializedEnemyConfig is a wrapper class for the BaseEnemyConfig class. */
-  public static class DeserializedEnemyConfig {
+  public static class DeserializedEnemyConfig implements Serializable {
     private HashMap<String, BaseEnemyConfig> config;
 
     /** Creates a new DeserializedEnemyConfig. */
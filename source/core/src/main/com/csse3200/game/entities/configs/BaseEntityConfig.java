@@ -1,10 +1,12 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
+
 /**
  * Defines a basic set of properties stored in entities config files to be loaded by Entity
  * Factories.
  */
-public class BaseEntityConfig {
+public class BaseEntityConfig implements Serializable {
   private String name;
   private String description;
   private int health;
@@ -1,10 +1,11 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 /** Defines a basic set of properties stored in item config files to be loaded by Item Factories. */
-public class BaseItemConfig {
+public class BaseItemConfig implements Serializable {
   private String name;
   private String description;
   private String eventName;
@@ -72,7 +73,7 @@ public class BaseItemConfig {
   }
 
   /** DeserializedItemConfig is a wrapper class for the BaseItemConfig class. */
-  public static class DeserializedItemConfig {
+  public static class DeserializedItemConfig implements Serializable {
     private HashMap<String, BaseItemConfig> config;
 
     /** Creates a new DeserializedItemConfig. */
@@ -1,10 +1,11 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class BaseLevelConfig {
+public class BaseLevelConfig implements Serializable {
   private int levelNumber;
   private String mapFile;
   private int rows;
@@ -82,7 +83,7 @@ public class BaseLevelConfig {
   }
 
   /** DeserializedLevelConfig is a wrapper class for the BaseLevelConfig class. */
-  public static class DeserializedLevelConfig {
+  public static class DeserializedLevelConfig implements Serializable {
     private HashMap<String, BaseLevelConfig> config;
 
     /** Creates a new DeserializedLevelConfig. */
@@ -1,7 +1,9 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
+
 /** BaseSpawnConfig is a class that represents a spawn configuration. */
-public class BaseSpawnConfig {
+public class BaseSpawnConfig implements Serializable {
   /** Default enemy cost. */
   private int cost = 1;
 
@@ -1,10 +1,11 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 /** BaseWaveConfig is a class that represents a wave configuration. */
-public class BaseWaveConfig {
+public class BaseWaveConfig implements Serializable {
   private int waveWeight;
   private int minZombiesSpawn;
   private HashMap<String, BaseSpawnConfig> spawnConfigs;
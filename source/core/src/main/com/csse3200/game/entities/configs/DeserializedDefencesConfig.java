@@ -1,5 +1,6 @@
 package com.csse3200.game.entities.configs;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -7,7 +8,7 @@ import java.util.Map;
  * DeserializedDefencesConfig is a wrapper class for the BaseDefenderConfig and BaseGeneratorConfig
  * classes.
  */
-public class DeserializedDefencesConfig {
+public class DeserializedDefencesConfig implements Serializable {
   private DefenceConfigWrapper config;
 
   /** Creates a new DeserializedDefencesConfig. */
@@ -34,7 +35,7 @@ public class DeserializedDefencesConfig {
   }
 
   /** Inner class to match the JSON structure with "config" wrapper */
-  public static class DefenceConfigWrapper {
+  public static class DefenceConfigWrapper implements Serializable {
     private HashMap<String, BaseDefenderConfig> defenders;
     private HashMap<String, BaseGeneratorConfig> generators;
 
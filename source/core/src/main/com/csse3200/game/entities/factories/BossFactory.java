@@ -2,7 +2,6 @@ package com.csse3200.game.entities.factories;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.components.CoinRewardedComponent;
 import com.csse3200.game.components.CombatStatsComponent;
@@ -22,6 +21,7 @@ import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.components.PhysicsMovementComponent;
 import com.csse3200.game.rendering.AnimationRenderComponent;
 import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
 
 /**
  * Factory to create non-playable character (NPC) entities with predefined components.
@@ -152,23 +152,8 @@ public class BossFactory {
             () -> {
               if (isGunBot) {
                 animator.startAnimation("gun");
-                Timer.schedule(
-                    new Timer.Task() {
-                      @Override
-                      public void run() {
-                        boss.getEvents().trigger("fireProjectile", boss);
-                      }
-                    },
-                    0.3f);
-
-                Timer.schedule(
-                    new Timer.Task() {
-                      @Override
-                      public void run() {
-                        animator.startAnimation("walk");
-                      }
-                    },
-                    1.2f);
+                schedule(0.3f, () -> boss.getEvents().trigger("fireProjectile", boss));
+                schedule(1.2f, () -> animator.startAnimation("walk"));
               }
             });
 
@@ -182,35 +167,14 @@ public class BossFactory {
 
                 if (samuraiAttackCount[0] % 3 == 0) {
                   animator.startAnimation("slash");
-                  Timer.schedule(
-                      new Timer.Task() {
-                        @Override
-                        public void run() {
-                          animator.startAnimation("walk");
-                        }
-                      },
-                      1.8f);
+                  schedule(1.8f, () -> animator.startAnimation("walk"));
                 } else {
                   animator.startAnimation("sword");
-                  Timer.schedule(
-                      new Timer.Task() {
-                        @Override
-                        public void run() {
-                          animator.startAnimation("walk");
-                        }
-                      },
-                      1.8f);
+                  schedule(1.8f, () -> animator.startAnimation("walk"));
                 }
               } else {
                 animator.startAnimation("punch");
-                Timer.schedule(
-                    new Timer.Task() {
-                      @Override
-                      public void run() {
-                        animator.startAnimation("moveLeft");
-                      }
-                    },
-                    1.05f);
+                schedule(1.05f, () -> animator.startAnimation("moveLeft"));
               }
             });
 
@@ -255,4 +219,18 @@ public class BossFactory {
     preview.setScale(config.scale, config.scale);
     return preview;
   }
+
+  /**
+   * Run an animation or attack step after a delay in game time, so it pauses and speeds up with the
+   * game. Dropped when no level is running.
+   *
+   * @param delay game time to wait in seconds
+   * @param task task to run
+   */
+  private static void schedule(float delay, Runnable task) {
+    TimerService timers = ServiceLocator.getTimerService();
+    if (timers != null) {
+      timers.schedule(delay, task);
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.csse3200.game.entities.factories;
 
+import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.csse3200.game.components.items.ItemComponent;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.entities.configs.BaseItemConfig;
@@ -107,12 +108,12 @@ public class ItemFactory {
    * @return an item entity
    */
   private static Entity createBaseItem() {
-    // components may need to be changed (may not want collision)
+    // Items sit on the grid and nothing collides with them, so they get a static sensor body
     Entity item =
         new Entity()
-            .addComponent(new PhysicsComponent())
+            .addComponent(new PhysicsComponent().setBodyType(BodyDef.BodyType.StaticBody))
             .addComponent(new PhysicsMovementComponent())
-            .addComponent(new ColliderComponent())
+            .addComponent(new ColliderComponent().setSensor(true))
             .addComponent(new HitboxComponent().setLayer(PhysicsLayer.ALL));
 
     PhysicsUtils.setScaledCollider(item, 0.9f, 0.4f);
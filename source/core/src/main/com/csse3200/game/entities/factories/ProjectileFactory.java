@@ -14,6 +14,7 @@ import com.csse3200.game.physics.components.ColliderComponent;
 import com.csse3200.game.physics.components.HitboxComponent;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.rendering.TextureRenderComponent;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,8 +29,16 @@ public class ProjectileFactory {
     throw new IllegalStateException("Instantiating static util class");
   }
 
+  private static final String GUNNER_PROJECTILE_PATH = "images/effects/sling_projectile_pad.png";
+
+  /** Size of a defence projectile's hitbox relative to its sprite, in both x and y */
+  public static final float HITBOX_SCALE = 0.1f;
+
   // Static map for path to projectile type
   private static final Map<String, ProjectileType> pathToTypeMap = new HashMap<>();
+  // Reverse of pathToTypeMap, used to rebuild a projectile from its type
+  private static final Map<ProjectileType, String> typeToPathMap =
+      new EnumMap<>(ProjectileType.class);
 
   static {
     // Initialize the mapping once
@@ -39,6 +48,18 @@ public class ProjectileFactory {
     pathToTypeMap.put("images/effects/shock.png", ProjectileType.SHOCK);
     pathToTypeMap.put("images/effects/shell.png", ProjectileType.SHELL);
     // add more mappings as needed
+    pathToTypeMap.forEach((path, type) -> typeToPathMap.put(type, path));
+    typeToPathMap.put(ProjectileType.GUNNER_BULLET, GUNNER_PROJECTILE_PATH);
+  }
+
+  /**
+   * Gets the sprite path used for projectiles of the given type.
+   *
+   * @param type the projectile type
+   * @return the texture path, or null if the type has no fixed sprite
+   */
+  public static String getTexturePath(ProjectileType type) {
+    return typeToPathMap.get(type);
   }
 
   /**
@@ -61,10 +82,8 @@ public class ProjectileFactory {
    */
   public static Entity createProjectile(String path, int damage) {
     ProjectileType type = getProjectileTypeFromPath(path);
-    ColliderComponent collider = new ColliderComponent();
-    if (type == ProjectileType.HARPOON_PROJECTILE) {
-      collider.setSensor(true);
-    }
+    // Hits only need overlap with the hitbox, so the collider does not take part in the solver
+    ColliderComponent collider = new ColliderComponent().setSensor(true);
     Entity proj = new Entity();
     if (type
         != ProjectileType
@@ -85,8 +104,59 @@ public class ProjectileFactory {
 
     render.scaleEntity(); // mimic human entities to ensure it renders correctly
     if (type != ProjectileType.SHELL) { // no collider for the mortar shell
-      PhysicsUtils.setScaledCollider(proj, 0.1f, 0.1f);
+      PhysicsUtils.setScaledCollider(proj, HITBOX_SCALE, HITBOX_SCALE);
+    }
+    return proj;
+  }
+
+  /**
+   * Creates a defence projectile that travels in a straight line, for use with the projectile pool.
+   * Unlike {@link #createProjectile}, the movement component is attached up front so the entity can
+   * be reused without adding components after creation.
+   *
+   * @param type the projectile type, which determines the sprite
+   * @param damage amount of damage that the projectile does
+   * @param direction the direction the projectile moves in
+   * @param speed the speed the projectile moves at
+   * @return fully configured projectile entity
+   */
+  public static Entity createMovingProjectile(
+      ProjectileType type,
+      int damage,
+      TargetDetectionTasks.AttackDirection direction,
+      float speed) {
+    if (type == ProjectileType.GUNNER_BULLET) {
+      return createGunnerProjectile(damage, speed);
     }
+    Entity proj = createProjectile(getTexturePath(type), damage);
+    proj.addComponent(new MoveDirectionComponent(direction, speed));
+    return proj;
+  }
+
+  /**
+   * Creates a defence projectile that travels in a straight line and has its hits resolved by a
+   * {@link com.csse3200.game.areas.LaneHitSystem} rather than Box2D, so it has no physics body or
+   * collider.
+   *
+   * @param type the projectile type, which determines the sprite
+   * @param damage amount of damage that the projectile does
+   * @param direction the direction the projectile moves in
+   * @param speed the speed the projectile moves at
+   * @return fully configured projectile entity
+   */
+  public static Entity createLaneProjectile(
+      ProjectileType type,
+      int damage,
+      TargetDetectionTasks.AttackDirection direction,
+      float speed) {
+    Entity proj =
+        new Entity()
+            .addComponent(new LifetimeComponent(10f))
+            .addComponent(new CombatStatsComponent(1, damage))
+            .addComponent(new TextureRenderComponent(getTexturePath(type)))
+            .addComponent(new ProjectileTagComponent(type))
+            .addComponent(new MoveDirectionComponent(direction, speed));
+    proj.getComponent(TextureRenderComponent.class).scaleEntity();
     return proj;
   }
 
@@ -105,19 +175,18 @@ public class ProjectileFactory {
     Entity gunnerProjectile =
         new Entity()
             .addComponent(new PhysicsComponent())
-            .addComponent(new ColliderComponent())
+            .addComponent(new ColliderComponent().setSensor(true))
             .addComponent(new HitboxComponent().setLayer(PhysicsLayer.PROJECTILE))
             .addComponent(new TouchAttackComponent(PhysicsLayer.NPC, 0)) // defense
             .addComponent(new CombatStatsComponent(1, damage))
             .addComponent(
                 new MoveDirectionComponent(TargetDetectionTasks.AttackDirection.LEFT, speed))
             .addComponent(new LifetimeComponent(10f))
-            .addComponent(new TextureRenderComponent("images/effects/sling_projectile_pad.png"));
+            .addComponent(new TextureRenderComponent(GUNNER_PROJECTILE_PATH))
+            .addComponent(new ProjectileTagComponent(ProjectileType.GUNNER_BULLET));
 
     gunnerProjectile.getComponent(TextureRenderComponent.class).scaleEntity();
-    PhysicsUtils.setScaledCollider(gunnerProjectile, 0.1f, 0.1f);
-    // enable continuous collision detection for projectiles
-    gunnerProjectile.getComponent(PhysicsComponent.class).getBody().setBullet(true);
+    PhysicsUtils.setScaledCollider(gunnerProjectile, HITBOX_SCALE, HITBOX_SCALE);
     return gunnerProjectile;
   }
 
@@ -129,7 +198,7 @@ public class ProjectileFactory {
    */
   public static Entity createBossProjectile(int damage) {
     short targetLayers = PhysicsLayer.NPC;
-    ColliderComponent collider = new ColliderComponent();
+    ColliderComponent collider = new ColliderComponent().setSensor(true);
     collider.setCollisionFilter(PhysicsLayer.BOSS_PROJECTILE, targetLayers);
     Entity bossProjectile =
         new Entity()
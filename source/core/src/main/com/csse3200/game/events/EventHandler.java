@@ -1,10 +1,8 @@
 package com.csse3200.game.events;
 
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
 import com.csse3200.game.events.listeners.*;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,16 +14,20 @@ import org.slf4j.LoggerFactory;
  * <p>Currently supports up to 3 arguments for an event. More can be added, but consider instead
  * passing a class with required fields.
  *
+ * <p>Listeners are keyed by interned event IDs from {@link EventKeys}. The ID based overloads of
+ * addListener() and trigger() skip the name lookup entirely and should be preferred for events
+ * fired every frame; the string overloads intern the name and delegate to them.
+ *
  * <p>If you get a ClassCastException from an event, trigger is being called with different
  * arguments than the listeners expect.
  */
 public class EventHandler {
   private static final Logger logger = LoggerFactory.getLogger(EventHandler.class);
-  Map<String, Array<EventListener>> listeners;
+  IntMap<Array<EventListener>> listeners;
 
   public EventHandler() {
     // Assume no events by default, which will be the case for most entities
-    listeners = HashMap.newHashMap(0);
+    listeners = new IntMap<>(0);
   }
 
   /**
@@ -35,7 +37,17 @@ public class EventHandler {
    * @param listener function to call when event fires
    */
   public void addListener(String eventName, EventListener0 listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKeys.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with zero arguments
+   *
+   * @param eventId interned ID of the event
+   * @param listener function to call when event fires
+   */
+  public void addListener(int eventId, EventListener0 listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -46,7 +58,18 @@ public class EventHandler {
    * @param <T> argument type
    */
   public <T> void addListener(String eventName, EventListener1<T> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKeys.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with one argument
+   *
+   * @param eventId interned ID of the event
+   * @param listener function to call when event fires
+   * @param <T> argument type
+   */
+  public <T> void addListener(int eventId, EventListener1<T> listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -58,7 +81,19 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    */
   public <T0, T1> void addListener(String eventName, EventListener2<T0, T1> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKeys.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with two arguments
+   *
+   * @param eventId interned ID of the event
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  public <T0, T1> void addListener(int eventId, EventListener2<T0, T1> listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -71,7 +106,20 @@ public class EventHandler {
    * @param <T2> Type of arg 2
    */
   public <T0, T1, T2> void addListener(String eventName, EventListener3<T0, T1, T2> listener) {
-    registerListener(eventName, listener);
+    registerListener(EventKeys.intern(eventName), listener);
+  }
+
+  /**
+   * Add a listener to an event with three arguments
+   *
+   * @param eventId interned ID of the event
+   * @param listener function to call when event fires
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  public <T0, T1, T2> void addListener(int eventId, EventListener3<T0, T1, T2> listener) {
+    registerListener(eventId, listener);
   }
 
   /**
@@ -80,8 +128,22 @@ public class EventHandler {
    * @param eventName name of the event
    */
   public void trigger(String eventName) {
-    logTrigger(eventName);
-    forEachListener(eventName, (EventListener listener) -> ((EventListener0) listener).handle());
+    trigger(EventKeys.intern(eventName));
+  }
+
+  /**
+   * Trigger an event with no arguments
+   *
+   * @param eventId interned ID of the event
+   */
+  public void trigger(int eventId) {
+    Array<EventListener> eventListeners = beginTrigger(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener0) eventListeners.get(i)).handle();
+    }
   }
 
   /**
@@ -91,32 +153,63 @@ public class EventHandler {
    * @param arg0 arg to pass to event
    * @param <T> argument type
    */
-  @SuppressWarnings("unchecked")
   public <T> void trigger(String eventName, T arg0) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName, (EventListener listener) -> ((EventListener1<T>) listener).handle(arg0));
+    trigger(EventKeys.intern(eventName), arg0);
   }
 
   /**
    * Trigger an event with one argument
    *
+   * @param eventId interned ID of the event
+   * @param arg0 arg to pass to event
+   * @param <T> argument type
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void trigger(int eventId, T arg0) {
+    Array<EventListener> eventListeners = beginTrigger(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener1<T>) eventListeners.get(i)).handle(arg0);
+    }
+  }
+
+  /**
+   * Trigger an event with two arguments
+   *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
    * @param arg1 arg 1 to pass to event
    * @param <T0> Type of arg 0
    * @param <T1> Type of arg 1
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1> void trigger(String eventName, T0 arg0, T1 arg1) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) -> ((EventListener2<T0, T1>) listener).handle(arg0, arg1));
+    trigger(EventKeys.intern(eventName), arg0, arg1);
   }
 
   /**
-   * Trigger an event with one argument
+   * Trigger an event with two arguments
+   *
+   * @param eventId interned ID of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1> void trigger(int eventId, T0 arg0, T1 arg1) {
+    Array<EventListener> eventListeners = beginTrigger(eventId);
+    if (eventListeners == null) {
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener2<T0, T1>) eventListeners.get(i)).handle(arg0, arg1);
+    }
+  }
+
+  /**
+   * Trigger an event with three arguments
    *
    * @param eventName name of the event
    * @param arg0 arg 0 to pass to event
@@ -126,33 +219,55 @@ public class EventHandler {
    * @param <T1> Type of arg 1
    * @param <T2> Type of arg 2
    */
-  @SuppressWarnings("unchecked")
   public <T0, T1, T2> void trigger(String eventName, T0 arg0, T1 arg1, T2 arg2) {
-    logTrigger(eventName);
-    forEachListener(
-        eventName,
-        (EventListener listener) ->
-            ((EventListener3<T0, T1, T2>) listener).handle(arg0, arg1, arg2));
+    trigger(EventKeys.intern(eventName), arg0, arg1, arg2);
   }
 
-  private void registerListener(String eventName, EventListener listener) {
-    logger.debug("Adding listener {} to event {}", listener, eventName);
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
+  /**
+   * Trigger an event with three arguments
+   *
+   * @param eventId interned ID of the event
+   * @param arg0 arg 0 to pass to event
+   * @param arg1 arg 1 to pass to event
+   * @param arg2 arg 2 to pass to event
+   * @param <T0> Type of arg 0
+   * @param <T1> Type of arg 1
+   * @param <T2> Type of arg 2
+   */
+  @SuppressWarnings("unchecked")
+  public <T0, T1, T2> void trigger(int eventId, T0 arg0, T1 arg1, T2 arg2) {
+    Array<EventListener> eventListeners = beginTrigger(eventId);
     if (eventListeners == null) {
-      eventListeners = new Array<>(1);
-      listeners.put(eventName, eventListeners);
+      return;
+    }
+    for (int i = 0; i < eventListeners.size; i++) {
+      ((EventListener3<T0, T1, T2>) eventListeners.get(i)).handle(arg0, arg1, arg2);
     }
-    eventListeners.add(listener);
   }
 
-  private void forEachListener(String eventName, Consumer<EventListener> func) {
-    Array<EventListener> eventListeners = listeners.getOrDefault(eventName, null);
-    if (eventListeners != null) {
-      eventListeners.forEach(func);
+  private void registerListener(int eventId, EventListener listener) {
+    if (logger.isDebugEnabled()) {
+      logger.debug("Adding listener {} to event {}", listener, EventKeys.getName(eventId));
+    }
+    Array<EventListener> eventListeners = listeners.get(eventId);
+    if (eventListeners == null) {
+      eventListeners = new Array<>(1);
+      listeners.put(eventId, eventListeners);
     }
+    eventListeners.add(listener);
   }
 
-  private static void logTrigger(String eventName) {
-    logger.debug("Triggering event {}", eventName);
+  /**
+   * Records the trigger and looks up its listeners.
+   *
+   * @param eventId interned ID of the event
+   * @return listeners for the event, or null if there are none
+   */
+  private Array<EventListener> beginTrigger(int eventId) {
+    EventKeys.recordTrigger(eventId);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Triggering event {}", EventKeys.getName(eventId));
+    }
+    return listeners.get(eventId);
   }
 }
@@ -0,0 +1,155 @@
+package com.csse3200.game.events;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Registry that interns event names into small integer IDs. {@link EventHandler} keys its
+ * listeners by these IDs, so hot events can be triggered without hashing a string each time.
+ *
+ * <p>Frequently fired events have constants here. Any other name is interned on first use, so the
+ * string based API on {@link EventHandler} keeps working unchanged.
+ *
+ * <p>Also counts how many times each event is triggered. {@link
+ * com.csse3200.game.services.FrameProfiler} drains the counts at the end of every frame, so they
+ * show which events dominate a frame.
+ *
+ * <p>Safe to use from several threads, since events can be triggered from the parallel update
+ * phase. Looking up an interned name and counting a trigger do not lock.
+ */
+public final class EventKeys {
+  // Counters are allocated in chunks, so growing never copies or loses a count
+  private static final int CHUNK_SHIFT = 5;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final Object lock = new Object();
+  private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+  private static volatile String[] names = new String[CHUNK_SIZE];
+  private static volatile AtomicLongArray[] triggerCounts = {new AtomicLongArray(CHUNK_SIZE)};
+  private static volatile int eventCount;
+
+  public static final int COLLISION_START = intern("collisionStart");
+  public static final int COLLISION_END = intern("collisionEnd");
+  public static final int HIT_MARKER = intern("hitMarker");
+  public static final int UPDATE_HEALTH = intern("updateHealth");
+
+  /**
+   * Fired with the entity's new position when it is moved. The argument may be a vector owned by
+   * the entity and reused for its next move, so listeners must copy it rather than keep it.
+   */
+  public static final int SET_POSITION = intern("setPosition");
+
+  public static final int DESPAWN_SLINGSHOT = intern("despawnSlingshot");
+  public static final int ENTITY_DEATH = intern("entityDeath");
+
+  private EventKeys() {}
+
+  /**
+   * Gets the ID for an event name, creating one if the name has not been seen before.
+   *
+   * @param eventName name of the event
+   * @return interned event ID
+   */
+  public static int intern(String eventName) {
+    Integer id = ids.get(eventName);
+    if (id != null) {
+      return id;
+    }
+    synchronized (lock) {
+      id = ids.get(eventName);
+      if (id != null) {
+        return id;
+      }
+      int newId = eventCount;
+      if (newId >= names.length) {
+        names = Arrays.copyOf(names, names.length * 2);
+      }
+      names[newId] = eventName;
+      int chunk = newId >> CHUNK_SHIFT;
+      if (chunk >= triggerCounts.length) {
+        AtomicLongArray[] grown = Arrays.copyOf(triggerCounts, triggerCounts.length + 1);
+        grown[chunk] = new AtomicLongArray(CHUNK_SIZE);
+        triggerCounts = grown;
+      }
+      eventCount = newId + 1;
+      ids.put(eventName, newId);
+      return newId;
+    }
+  }
+
+  /**
+   * Gets the name an event ID was interned from.
+   *
+   * @param eventId interned event ID
+   * @return event name
+   */
+  public static String getName(int eventId) {
+    return names[eventId];
+  }
+
+  /**
+   * Gets the number of distinct event names interned so far. Valid IDs are 0 to this value minus
+   * one.
+   *
+   * @return number of interned events
+   */
+  public static int getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Gets how many times an event has been triggered since the counters were last reset or drained.
+   *
+   * @param eventId interned event ID
+   * @return trigger count
+   */
+  public static long getTriggerCount(int eventId) {
+    return counters(eventId).get(eventId & (CHUNK_SIZE - 1));
+  }
+
+  /**
+   * Gets how many times an event has been triggered since the counters were last reset or drained.
+   *
+   * @param eventName name of the event
+   * @return trigger count, or 0 if the event has never been interned
+   */
+  public static long getTriggerCount(String eventName) {
+    Integer id = ids.get(eventName);
+    return id == null ? 0 : getTriggerCount(id);
+  }
+
+  /**
+   * Copy every event's trigger count into an array, indexed by event ID, and reset the counters.
+   * Triggers counted while draining go to either this drain or the next, never neither.
+   *
+   * @param out array to copy into. Events with IDs past its end are reset without being copied.
+   * @return number of events copied, at most the length of out
+   */
+  public static int drainTriggerCounts(long[] out) {
+    int count = eventCount;
+    for (int id = 0; id < count; id++) {
+      long triggers = counters(id).getAndSet(id & (CHUNK_SIZE - 1), 0L);
+      if (id < out.length) {
+        out[id] = triggers;
+      }
+    }
+    return Math.min(count, out.length);
+  }
+
+  /** Resets all trigger counters. */
+  public static void resetTriggerCounts() {
+    int count = eventCount;
+    for (int id = 0; id < count; id++) {
+      counters(id).set(id & (CHUNK_SIZE - 1), 0L);
+    }
+  }
+
+  static void recordTrigger(int eventId) {
+    counters(eventId).incrementAndGet(eventId & (CHUNK_SIZE - 1));
+  }
+
+  private static AtomicLongArray counters(int eventId) {
+    return triggerCounts[eventId >> CHUNK_SHIFT];
+  }
+}
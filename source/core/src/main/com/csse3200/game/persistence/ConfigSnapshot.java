@@ -0,0 +1,195 @@
+package com.csse3200.game.persistence;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches parsed config files as binary snapshots, so later launches skip JSON parsing.
+ *
+ * <p>Each snapshot is the Java-serialised result of parsing one config file, stored with the
+ * SHA-256 hash of that file's contents. A snapshot is only used while the hash still matches, so
+ * editing a config file rebuilds its snapshot from JSON on the next launch. Config classes do not
+ * declare a serialVersionUID, so changing one also makes its old snapshots fail to read and fall
+ * back to JSON. Only config classes and the collections they use can be read back from a snapshot.
+ *
+ * <p>Safe to use from several threads at once for different config files.
+ */
+public class ConfigSnapshot {
+  private static final Logger logger = LoggerFactory.getLogger(ConfigSnapshot.class);
+  private static final String CACHE_DIR =
+      "The Day We Fought Back" + File.separator + "cache" + File.separator + "configs";
+  private static final String SNAPSHOT_EXTENSION = ".bin";
+  private static final int MAGIC = 0x54444343; // "TDCC"
+  /** Bump to discard every existing snapshot */
+  private static final int VERSION = 1;
+  private static final ObjectInputFilter FILTER =
+      ObjectInputFilter.Config.createFilter(
+          "maxdepth=16;com.csse3200.game.entities.configs.**;java.util.HashMap;"
+              + "java.util.ArrayList;java.lang.*;!*");
+
+  private final FileHandle directory;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+
+  /** Create a snapshot cache in the game's external cache directory. */
+  public ConfigSnapshot() {
+    this(Gdx.files.external(CACHE_DIR));
+  }
+
+  /**
+   * Create a snapshot cache.
+   *
+   * @param directory directory to keep snapshots in, created when first written to, or null to
+   *     always read from JSON without snapshotting
+   */
+  public ConfigSnapshot(FileHandle directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Create a snapshot cache that never reads or writes snapshots, for tests and tools that should
+   * not touch the player's cache directory.
+   *
+   * @return a cache that always reads from JSON
+   */
+  public static ConfigSnapshot disabled() {
+    return new ConfigSnapshot(null);
+  }
+
+  /**
+   * Read an internal config file, from its snapshot if it is up to date or otherwise from JSON.
+   *
+   * @param type class type
+   * @param filename internal config file to read
+   * @param <T> Class type to read JSON into
+   * @return instance of class, may be null
+   */
+  public <T extends Serializable> T load(Class<T> type, String filename) {
+    return load(type, Gdx.files.internal(filename));
+  }
+
+  /**
+   * Read a config file, from its snapshot if it is up to date or otherwise from JSON. A config read
+   * from JSON is snapshotted for next time.
+   *
+   * @param type class type
+   * @param source config file to read
+   * @param <T> Class type to read JSON into
+   * @return instance of class, may be null
+   */
+  public <T extends Serializable> T load(Class<T> type, FileHandle source) {
+    byte[] contents;
+    try {
+      contents = source.readBytes();
+    } catch (GdxRuntimeException e) {
+      logger.error("Error reading config file {}: {}", source.path(), e.getMessage());
+      return null;
+    }
+    if (directory == null) {
+      misses.incrementAndGet();
+      return FileLoader.fromJson(type, new String(contents, StandardCharsets.UTF_8), source.path());
+    }
+    String hash = hash(contents);
+    FileHandle snapshot = directory.child(source.nameWithoutExtension() + SNAPSHOT_EXTENSION);
+
+    T cached = read(type, snapshot, hash);
+    if (cached != null) {
+      hits.incrementAndGet();
+      logger.debug("Loaded {} from snapshot", source.path());
+      return cached;
+    }
+
+    misses.incrementAndGet();
+    String rawJson = new String(contents, StandardCharsets.UTF_8);
+    T object = FileLoader.fromJson(type, rawJson, source.path());
+    if (object != null) {
+      write(snapshot, hash, object);
+    }
+    return object;
+  }
+
+  /**
+   * @return number of configs read from an up to date snapshot
+   */
+  public int getHits() {
+    return hits.get();
+  }
+
+  /**
+   * @return number of configs that had to be read from JSON
+   */
+  public int getMisses() {
+    return misses.get();
+  }
+
+  private static <T> T read(Class<T> type, FileHandle snapshot, String hash) {
+    if (!snapshot.exists()) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot.readBytes()))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(hash)) {
+        logger.debug("Snapshot {} is out of date", snapshot.name());
+        return null;
+      }
+      ObjectInputStream objects = new ObjectInputStream(in);
+      objects.setObjectInputFilter(FILTER);
+      return type.cast(objects.readObject());
+    } catch (IOException | ClassNotFoundException | ClassCastException | GdxRuntimeException e) {
+      // Usually a config class changed since the snapshot was written
+      logger.info("Discarding snapshot {}: {}", snapshot.name(), e.toString());
+      return null;
+    }
+  }
+
+  private static void write(FileHandle snapshot, String hash, Serializable object) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeUTF(hash);
+      ObjectOutputStream objects = new ObjectOutputStream(out);
+      objects.writeObject(object);
+      objects.flush();
+    } catch (IOException e) {
+      logger.warn("Could not snapshot {}: {}", snapshot.name(), e.toString());
+      return;
+    }
+
+    try {
+      // Write then rename, so a launch running at the same time never reads half a snapshot
+      FileHandle temp = snapshot.sibling(snapshot.name() + "." + Thread.currentThread().threadId());
+      temp.writeBytes(bytes.toByteArray(), false);
+      temp.moveTo(snapshot);
+      logger.debug("Wrote snapshot {}", snapshot.name());
+    } catch (GdxRuntimeException e) {
+      logger.warn("Could not write snapshot {}: {}", snapshot.name(), e.getMessage());
+    }
+  }
+
+  private static String hash(byte[] contents) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(contents));
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
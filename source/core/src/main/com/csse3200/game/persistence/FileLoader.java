@@ -10,11 +10,12 @@ import org.slf4j.LoggerFactory;
  * Wrapper for reading Java objects from JSON files.
  *
  * <p>A generic method is provided already, but methods for reading specific classes can be added
- * for more control.
+ * for more control. Safe to use from several threads at once, since each thread gets its own
+ * {@link Json}.
  */
 public class FileLoader {
   private static final Logger logger = LoggerFactory.getLogger(FileLoader.class);
-  static final Json json = new Json();
+  private static final ThreadLocal<Json> json = ThreadLocal.withInitial(Json::new);
 
   /**
    * Read generic Java classes from a JSON file. Properties in the JSON file will override class
@@ -59,17 +60,35 @@ public class FileLoader {
    * @return instance of class, may be null
    */
   public static <T> T readClass(Class<T> type, FileHandle file) {
-    T object;
+    String rawJson;
     try {
-      String rawJson = file.readString();
-      logger.debug("Read {} characters: {}", rawJson.length(), rawJson);
-      object = json.fromJson(type, file);
+      rawJson = file.readString();
     } catch (Exception e) {
       logger.error("Error parsing JSON from file {}: {}", file.path(), e.getMessage());
       return null;
     }
+    return fromJson(type, rawJson, file.path());
+  }
+
+  /**
+   * Read generic Java classes from JSON that has already been read from a file.
+   *
+   * @param type class type
+   * @param rawJson JSON text
+   * @param path file the JSON was read from, for logging
+   * @param <T> Class type to read JSON into
+   * @return instance of class, may be null
+   */
+  public static <T> T fromJson(Class<T> type, String rawJson, String path) {
+    logger.debug("Read {} characters: {}", rawJson.length(), rawJson);
+    T object;
+    try {
+      object = json.get().fromJson(type, rawJson);
+    } catch (Exception e) {
+      logger.error("Error parsing JSON from file {}: {}", path, e.getMessage());
+      return null;
+    }
     if (object == null) {
-      String path = file.path();
       logger.error("Error creating {} class instance from {}", type.getSimpleName(), path);
     }
     return object;
@@ -97,7 +116,7 @@ public class FileLoader {
     logger.debug("Reading class {} from {}", object.getClass().getSimpleName(), filename);
     FileHandle file = getFileHandle(filename, location);
     assert file != null;
-    file.writeString(json.prettyPrint(object), false);
+    file.writeString(json.get().prettyPrint(object), false);
   }
 
   private static FileHandle getFileHandle(String filename, Location location) {
@@ -2,9 +2,12 @@ package com.csse3200.game.persistence;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.csse3200.game.progression.Profile;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -15,13 +18,22 @@ import org.slf4j.LoggerFactory;
 /**
  * Persistence utilities for loading and saving user profiles.
  *
- * <p>Save files follow the format: {@code <profilename>$<unixtime>$<slot>.json}
+ * <p>Save files follow the format: {@code <profilename>$<unixtime>$<slot>.sav}, encoded with {@link
+ * SaveFormat}. Saves from before the binary format end in {@code .json} instead. They still load,
+ * and are replaced by a binary save the next time their slot is saved.
+ *
+ * <p>Saves are written in the background by a {@link SaveWriter}. Call {@link #flush()} to wait
+ * for them, e.g. before exiting.
  */
 public class Persistence {
   private static final Logger logger = LoggerFactory.getLogger(Persistence.class);
   private static final String ROOT_DIR = "The Day We Fought Back" + File.separator + "saves";
-  private static final String SAVE_FILE_PATTERN = "^(.+?)\\$(\\d{10,13})(?:\\$(\\d+))?\\.json$";
-  private static final String FILE_EXTENSION = ".json";
+  private static final String SAVE_FILE_PATTERN =
+      "^(.+?)\\$(\\d{10,13})(?:\\$(\\d+))?\\.(?:sav|json)$";
+  static final String SAVE_EXTENSION = ".sav";
+  private static final String LEGACY_EXTENSION = ".json";
+  private static final Pattern FILE_PATTERN = Pattern.compile(SAVE_FILE_PATTERN);
+  private static SaveWriter writer;
 
   /** Prevent instantiation of this static utility class. */
   private Persistence() {
@@ -29,8 +41,8 @@ public class Persistence {
   }
 
   /** Builds the absolute external path for the given savefile. */
-  private static String getPath(Savefile save) {
-    return ROOT_DIR + File.separator + save.toString() + FILE_EXTENSION;
+  private static String getPath(Savefile save, String extension) {
+    return ROOT_DIR + File.separator + save.toString() + extension;
   }
 
   /**
@@ -40,8 +52,14 @@ public class Persistence {
    * @return the profile and the slot
    */
   public static Pair<Profile, Integer> load(Savefile save) {
-    String path = getPath(save);
-    Profile savedProfile = FileLoader.readClass(Profile.class, path, FileLoader.Location.EXTERNAL);
+    FileHandle file = Gdx.files.external(getPath(save, SAVE_EXTENSION));
+    Profile savedProfile;
+    if (file.exists()) {
+      savedProfile = readBinary(file);
+    } else {
+      String path = getPath(save, LEGACY_EXTENSION);
+      savedProfile = FileLoader.readClass(Profile.class, path, FileLoader.Location.EXTERNAL);
+    }
     if (savedProfile != null) {
       return new Pair<>(savedProfile, save.getSlot());
     } else {
@@ -49,6 +67,48 @@ public class Persistence {
     }
   }
 
+  /**
+   * Read the header of a savefile without loading the rest of it.
+   *
+   * @param save the savefile object
+   * @return the header, or null if the save is in the old JSON format or cannot be read
+   */
+  public static SaveHeader readHeader(Savefile save) {
+    FileHandle file = Gdx.files.external(getPath(save, SAVE_EXTENSION));
+    if (!file.exists()) {
+      return null;
+    }
+    try {
+      return SaveFormat.readHeader(file);
+    } catch (IOException | GdxRuntimeException e) {
+      logger.error("Failed to read header of {}", file.name(), e);
+      return null;
+    }
+  }
+
+  /**
+   * Export a savefile as JSON, e.g. for debugging.
+   *
+   * @param save the savefile to export
+   * @param target file to write the JSON to
+   */
+  public static void exportJson(Savefile save, FileHandle target) {
+    target.writeString(SaveFormat.toJson(load(save).getKey()), false);
+  }
+
+  /**
+   * Import a profile from JSON, such as an exported or old save, and save it to a slot.
+   *
+   * @param source JSON file to import
+   * @param slot slot to save the profile to (1-3)
+   * @return Pair of (imported Profile, slot)
+   */
+  public static Pair<Profile, Integer> importJson(FileHandle source, int slot) {
+    Profile profile = SaveFormat.fromJson(source.readString());
+    save(slot, profile);
+    return new Pair<>(profile, slot);
+  }
+
   /**
    * Creates a new user profile and immediately persists it to the given slot.
    *
@@ -75,11 +135,13 @@ public class Persistence {
   }
 
   /**
-   * Scans the save directory and returns the latest save per slot (1..3).
+   * Scans the save directory and returns the latest save per slot (1..3). Waits for pending saves
+   * to be written first.
    *
    * @return List of 3 entries (null = empty slot)
    */
   public static List<Savefile> fetch() {
+    flush();
     List<Savefile> saves = new ArrayList<>(3);
     for (int i = 0; i < 3; i++) {
       saves.add(null);
@@ -87,14 +149,11 @@ public class Persistence {
 
     ensureDirectoryExists();
     FileHandle rootDir = Gdx.files.external(ROOT_DIR);
-    FileHandle[] files = rootDir.list(FILE_EXTENSION);
-    if (files.length == 0) {
-      return saves;
-    }
-
-    for (FileHandle file : files) {
+    for (FileHandle file : listSaves(rootDir)) {
       Savefile savefile = parseSavefile(file);
-      if (savefile != null) {
+      Savefile current = savefile == null ? null : saves.get(savefile.getSlot() - 1);
+      // A crash while saving can leave the previous save behind, so keep the newest
+      if (savefile != null && (current == null || savefile.getDate() > current.getDate())) {
         saves.set(savefile.getSlot() - 1, savefile);
       }
     }
@@ -102,15 +161,37 @@ public class Persistence {
     return saves;
   }
 
+  /**
+   * Lists the binary and old JSON saves in a directory.
+   *
+   * @param directory directory to list
+   * @return save files, binary ones first
+   */
+  static FileHandle[] listSaves(FileHandle directory) {
+    FileHandle[] saves = directory.list(SAVE_EXTENSION);
+    FileHandle[] legacySaves = directory.list(LEGACY_EXTENSION);
+    FileHandle[] all = Arrays.copyOf(saves, saves.length + legacySaves.length);
+    System.arraycopy(legacySaves, 0, all, saves.length, legacySaves.length);
+    return all;
+  }
+
+  private static Profile readBinary(FileHandle file) {
+    try {
+      return SaveFormat.read(file);
+    } catch (IOException | GdxRuntimeException e) {
+      logger.error("Failed to read save {}", file.name(), e);
+      return null;
+    }
+  }
+
   /**
    * Parses a savefile descriptor from a filename.
    *
    * @param file File handle to parse
    * @return Savefile or null if filename is invalid
    */
-  private static Savefile parseSavefile(FileHandle file) {
-    Pattern filePattern = Pattern.compile(SAVE_FILE_PATTERN);
-    Matcher matcher = filePattern.matcher(file.name());
+  static Savefile parseSavefile(FileHandle file) {
+    Matcher matcher = FILE_PATTERN.matcher(file.name());
     if (!matcher.matches()) {
       logger.error("Failed to parse savefile");
       return null;
@@ -135,7 +216,8 @@ public class Persistence {
   }
 
   /**
-   * Save the current user profile to a specific slot.
+   * Save the current user profile to a specific slot. The profile is snapshotted straight away and
+   * written in the background, replacing the slot's previous save once complete.
    *
    * @param slot the slot to save the profile to
    * @param profile the profile to save
@@ -145,42 +227,31 @@ public class Persistence {
       logger.error("Invalid slot: {}", slot);
       return;
     }
+    getWriter().submit(slot, profile);
+  }
 
-    // Delete any existing save in this slot
-    List<Savefile> saves = fetch();
-    try {
-      if (saves.get(slot - 1) != null) {
-        delete(saves.get(slot - 1));
-      }
-    } catch (IndexOutOfBoundsException e) {
-      // slot is empty
+  /** Block until all saves submitted so far have been written to disk. */
+  public static void flush() {
+    if (writer != null) {
+      writer.flush();
     }
+  }
 
-    // Create filename with slot information
-    String filename =
-        profile.getName() + "$" + System.currentTimeMillis() + "$" + slot + FILE_EXTENSION;
-    String path = ROOT_DIR + File.separator + filename;
-    FileLoader.writeClass(profile, path, FileLoader.Location.EXTERNAL);
-    logger.info("Saved profile to slot {}: {}", slot, filename);
+  private static SaveWriter getWriter() {
+    if (writer == null) {
+      writer = new SaveWriter(Gdx.files.external(ROOT_DIR));
+    }
+    return writer;
   }
 
   /**
-   * Deletes the given savefile from disk.
+   * Replace the writer used for saves, e.g. to save into a temporary directory in tests. Pending
+   * saves on the previous writer are flushed first.
    *
-   * @param save Savefile descriptor
+   * @param saveWriter writer to use, or null to create the default one on the next save
    */
-  private static void delete(Savefile save) {
-    String path = getPath(save);
-    FileHandle file = Gdx.files.external(path);
-    if (file.exists()) {
-      boolean success = file.delete();
-      if (success) {
-        logger.info("Deleted savefile: {}", path);
-      } else {
-        logger.error("Failed to delete savefile: {}", path);
-      }
-    } else {
-      logger.warn("Savefile does not exist: {}", path);
-    }
+  static void setWriter(SaveWriter saveWriter) {
+    flush();
+    writer = saveWriter;
   }
 }
@@ -0,0 +1,372 @@
+package com.csse3200.game.persistence;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.progression.Profile;
+import com.csse3200.game.progression.arsenal.Arsenal;
+import com.csse3200.game.progression.inventory.Inventory;
+import com.csse3200.game.progression.skilltree.Skill;
+import com.csse3200.game.progression.skilltree.SkillSet;
+import com.csse3200.game.progression.statistics.Statistics;
+import com.csse3200.game.progression.wallet.Wallet;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary save format for profiles.
+ *
+ * <p>A save starts with a magic number, the format version and a length-prefixed header with the
+ * profile name, timestamp, slot and a few summary stats, so reading the header only touches the
+ * first few bytes of the file. Length-prefixed sections follow, one per part of the profile. The
+ * core section is decoded on load, and the wallet, inventory, skills, statistics and arsenal
+ * sections the first time the profile uses them (see {@link SaveSections}). Readers skip header
+ * fields and sections they do not know, so fields can be added without bumping the version.
+ *
+ * <p>JSON import and export are kept for debugging and for saves written before this format.
+ */
+public final class SaveFormat {
+  static final int MAGIC = 0x54445742; // "TDWB"
+  static final int VERSION = 1;
+
+  static final int CORE = 1;
+  static final int WALLET = 2;
+  static final int INVENTORY = 3;
+  static final int SKILLS = 4;
+  static final int STATISTICS = 5;
+  static final int ARSENAL = 6;
+  private static final int MAX_SECTION = ARSENAL;
+  private static final int SECTION_COUNT = 6;
+
+  /** Enough to read the header of any save in one buffer fill */
+  private static final int HEADER_BUFFER_SIZE = 512;
+  private static final int MAX_HEADER_LENGTH = 64 * 1024;
+
+  private SaveFormat() {
+    throw new IllegalStateException("Instantiating static util class");
+  }
+
+  /**
+   * Encode a profile as a binary save. Every section of the profile is decoded first.
+   *
+   * @param profile profile to encode
+   * @param slot slot the save belongs to
+   * @param timestamp time of the save
+   * @return encoded save
+   */
+  public static byte[] encode(Profile profile, int slot, long timestamp) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeShort(VERSION);
+      writeBlock(out, header -> writeHeader(header, profile, slot, timestamp));
+
+      out.writeShort(SECTION_COUNT);
+      writeSection(out, CORE, section -> writeCore(section, profile));
+      writeSection(out, WALLET, section -> writeWallet(section, profile.getWallet()));
+      writeSection(out, INVENTORY, section -> writeInventory(section, profile.getInventory()));
+      writeSection(out, SKILLS, section -> writeSkillSet(section, profile.getSkillset()));
+      writeSection(out, STATISTICS, section -> writeStatistics(section, profile.getStatistics()));
+      writeSection(out, ARSENAL, section -> writeArsenal(section, profile.getArsenal()));
+    } catch (IOException e) {
+      // Writing to memory cannot fail
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Decode a binary save. Only the header and core section are decoded straight away.
+   *
+   * @param data encoded save
+   * @return the decoded profile
+   * @throws IOException if the data is not a save, is from a newer version, or is truncated
+   */
+  public static Profile decode(byte[] data) throws IOException {
+    ByteArrayInputStream bytes = new ByteArrayInputStream(data);
+    DataInputStream in = new DataInputStream(bytes);
+    SaveHeader header = readHeader(in);
+
+    int[] offsets = new int[MAX_SECTION + 1];
+    int[] lengths = new int[MAX_SECTION + 1];
+    Arrays.fill(lengths, -1);
+    int count = in.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      int id = in.readUnsignedByte();
+      int length = in.readInt();
+      int offset = data.length - bytes.available();
+      if (length < 0 || length > bytes.available()) {
+        throw new IOException("Truncated section " + id);
+      }
+      if (id <= MAX_SECTION) {
+        offsets[id] = offset;
+        lengths[id] = length;
+      }
+      in.skipNBytes(length);
+    }
+    return new Profile(new SaveSections(data, offsets, lengths, header));
+  }
+
+  /**
+   * Read a binary save file.
+   *
+   * @param file save file
+   * @return the decoded profile
+   * @throws IOException if the file cannot be read or is not a valid save
+   */
+  public static Profile read(FileHandle file) throws IOException {
+    return decode(file.readBytes());
+  }
+
+  /**
+   * Read only the header of a binary save file.
+   *
+   * @param file save file
+   * @return the header
+   * @throws IOException if the file cannot be read or is not a valid save
+   */
+  public static SaveHeader readHeader(FileHandle file) throws IOException {
+    try (DataInputStream in = new DataInputStream(file.read(HEADER_BUFFER_SIZE))) {
+      return readHeader(in);
+    }
+  }
+
+  /**
+   * Export a profile as pretty-printed JSON, in the format used before binary saves.
+   *
+   * @param profile profile to export
+   * @return JSON text
+   */
+  public static String toJson(Profile profile) {
+    // JSON reads fields directly, so decode every section first
+    profile.getWallet();
+    profile.getInventory();
+    profile.getSkillset();
+    profile.getStatistics().flushAchievements();
+    profile.getArsenal();
+    return new Json().prettyPrint(profile);
+  }
+
+  /**
+   * Import a profile from JSON, such as a save written before binary saves.
+   *
+   * @param text JSON text
+   * @return the imported profile
+   */
+  public static Profile fromJson(String text) {
+    return new Json().fromJson(Profile.class, text);
+  }
+
+  private static SaveHeader readHeader(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a save file");
+    }
+    int version = in.readUnsignedShort();
+    if (version > VERSION) {
+      throw new IOException("Save version " + version + " is newer than " + VERSION);
+    }
+    int length = in.readInt();
+    if (length < 0 || length > MAX_HEADER_LENGTH) {
+      throw new IOException("Bad header length " + length);
+    }
+    byte[] block = new byte[length];
+    in.readFully(block);
+
+    DataInputStream header = new DataInputStream(new ByteArrayInputStream(block));
+    return new SaveHeader(
+        header.readUTF(),
+        header.readLong(),
+        header.readUnsignedByte(),
+        header.readUTF(),
+        header.readInt(),
+        header.readInt(),
+        header.readInt(),
+        header.readInt());
+  }
+
+  private static void writeHeader(DataOutputStream out, Profile profile, int slot, long timestamp)
+      throws IOException {
+    out.writeUTF(profile.getName());
+    out.writeLong(timestamp);
+    out.writeByte(slot);
+    out.writeUTF(profile.getCurrentLevel());
+    out.writeInt(profile.getWallet().getCoins());
+    out.writeInt(profile.getWallet().getSkillsPoints());
+    out.writeInt(profile.getCompletedLevels().size());
+    out.writeInt(profile.getStatistics().getUnlockedAchievements().size());
+  }
+
+  private static void writeCore(DataOutputStream out, Profile profile) throws IOException {
+    out.writeFloat(profile.getWorldMapX());
+    out.writeFloat(profile.getWorldMapY());
+    out.writeInt(profile.getWorldMapZoomIdx());
+    out.writeBoolean(profile.getPlayedLevelTutorial());
+    out.writeBoolean(profile.getPlayedMapTutorial());
+    writeStrings(out, profile.getCompletedLevels());
+    writeStrings(out, profile.getUnlockedNodes());
+    boolean[] soldItems = profile.getSoldItems();
+    out.writeByte(soldItems.length);
+    for (boolean sold : soldItems) {
+      out.writeBoolean(sold);
+    }
+    out.writeLong(profile.getLastShopPeriod());
+  }
+
+  static SaveSections.Core readCore(DataInputStream in) throws IOException {
+    float worldMapX = in.readFloat();
+    float worldMapY = in.readFloat();
+    int worldMapZoomIdx = in.readInt();
+    boolean playedLevelTutorial = in.readBoolean();
+    boolean playedMapTutorial = in.readBoolean();
+    Set<String> completedLevels = new HashSet<>(readStrings(in));
+    Set<String> unlockedNodes = new HashSet<>(readStrings(in));
+    boolean[] soldItems = new boolean[in.readUnsignedByte()];
+    for (int i = 0; i < soldItems.length; i++) {
+      soldItems[i] = in.readBoolean();
+    }
+    return new SaveSections.Core(
+        worldMapX,
+        worldMapY,
+        worldMapZoomIdx,
+        playedLevelTutorial,
+        playedMapTutorial,
+        completedLevels,
+        unlockedNodes,
+        soldItems,
+        in.readLong());
+  }
+
+  private static void writeWallet(DataOutputStream out, Wallet wallet) throws IOException {
+    out.writeInt(wallet.getCoins());
+    out.writeInt(wallet.getSkillsPoints());
+  }
+
+  static Wallet readWallet(DataInputStream in) throws IOException {
+    return new Wallet(in.readInt(), in.readInt());
+  }
+
+  private static void writeInventory(DataOutputStream out, Inventory inventory)
+      throws IOException {
+    writeStrings(out, inventory.getKeys());
+  }
+
+  static Inventory readInventory(DataInputStream in) throws IOException {
+    Inventory inventory = new Inventory();
+    inventory.getKeys().addAll(readStrings(in));
+    return inventory;
+  }
+
+  private static void writeSkillSet(DataOutputStream out, SkillSet skillSet) throws IOException {
+    List<Skill> skills = skillSet.getUnlockedSkills();
+    out.writeInt(skills.size());
+    for (Skill skill : skills) {
+      out.writeUTF(skill.getName());
+      out.writeUTF(skill.getStatType().name());
+      out.writeFloat(skill.getPercentage());
+      out.writeInt(skill.getCost());
+    }
+  }
+
+  static SkillSet readSkillSet(DataInputStream in) throws IOException {
+    SkillSet skillSet = new SkillSet();
+    int count = readCount(in);
+    for (int i = 0; i < count; i++) {
+      String name = in.readUTF();
+      Skill.StatType statType = Skill.StatType.valueOf(in.readUTF());
+      skillSet.addSkill(new Skill(name, statType, in.readFloat(), in.readInt()));
+    }
+    return skillSet;
+  }
+
+  private static void writeStatistics(DataOutputStream out, Statistics statistics)
+      throws IOException {
+    Map<String, Integer> stats = statistics.getAllStatistics();
+    out.writeInt(stats.size());
+    for (Map.Entry<String, Integer> stat : stats.entrySet()) {
+      out.writeUTF(stat.getKey());
+      out.writeInt(stat.getValue());
+    }
+    writeStrings(out, statistics.getUnlockedAchievements());
+  }
+
+  static Statistics readStatistics(DataInputStream in) throws IOException {
+    int count = readCount(in);
+    Map<String, Integer> stats = new HashMap<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      stats.put(in.readUTF(), in.readInt());
+    }
+    return new Statistics(stats, readStrings(in));
+  }
+
+  private static void writeArsenal(DataOutputStream out, Arsenal arsenal) throws IOException {
+    writeStrings(out, arsenal.getDefenders());
+    writeStrings(out, arsenal.getGenerators());
+  }
+
+  static Arsenal readArsenal(DataInputStream in) throws IOException {
+    // A new arsenal starts with the initial defences, which the save already includes
+    Arsenal arsenal = new Arsenal();
+    arsenal.getDefenders().clear();
+    arsenal.getDefenders().addAll(readStrings(in));
+    arsenal.getGenerators().clear();
+    arsenal.getGenerators().addAll(readStrings(in));
+    return arsenal;
+  }
+
+  private static void writeStrings(DataOutputStream out, Collection<String> strings)
+      throws IOException {
+    out.writeInt(strings.size());
+    for (String string : strings) {
+      out.writeUTF(string);
+    }
+  }
+
+  private static List<String> readStrings(DataInputStream in) throws IOException {
+    int count = readCount(in);
+    List<String> strings = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      strings.add(in.readUTF());
+    }
+    return strings;
+  }
+
+  /** Read an element count, checking it against the bytes left so corrupt saves fail fast. */
+  private static int readCount(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < 0 || count > in.available()) {
+      throw new IOException("Bad element count " + count);
+    }
+    return count;
+  }
+
+  private static void writeSection(DataOutputStream out, int id, BlockWriter writer)
+      throws IOException {
+    out.writeByte(id);
+    writeBlock(out, writer);
+  }
+
+  private static void writeBlock(DataOutputStream out, BlockWriter writer) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    DataOutputStream block = new DataOutputStream(bytes);
+    writer.write(block);
+    block.flush();
+    out.writeInt(bytes.size());
+    bytes.writeTo(out);
+  }
+
+  /** Writes one length-prefixed block. */
+  private interface BlockWriter {
+    void write(DataOutputStream out) throws IOException;
+  }
+}
@@ -0,0 +1,23 @@
+package com.csse3200.game.persistence;
+
+/**
+ * The header of a binary save. It is read on its own, without decoding the rest of the save.
+ *
+ * @param name profile name
+ * @param timestamp time the save was written, in milliseconds since the epoch
+ * @param slot slot the save belongs to (1-3)
+ * @param currentLevel level the profile is up to
+ * @param coins coins in the profile's wallet
+ * @param skillPoints skill points in the profile's wallet
+ * @param levelsCompleted number of completed levels
+ * @param achievementsUnlocked number of unlocked achievements
+ */
+public record SaveHeader(
+    String name,
+    long timestamp,
+    int slot,
+    String currentLevel,
+    int coins,
+    int skillPoints,
+    int levelsCompleted,
+    int achievementsUnlocked) {}
@@ -0,0 +1,132 @@
+package com.csse3200.game.persistence;
+
+import com.csse3200.game.progression.arsenal.Arsenal;
+import com.csse3200.game.progression.inventory.Inventory;
+import com.csse3200.game.progression.skilltree.SkillSet;
+import com.csse3200.game.progression.statistics.Statistics;
+import com.csse3200.game.progression.wallet.Wallet;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The sections of a binary save read by {@link SaveFormat}. The header and core section are decoded
+ * up front, while the others are decoded each time they are asked for, so a {@link
+ * com.csse3200.game.progression.Profile} only pays for the parts it uses. A section missing from
+ * the save decodes to its default.
+ */
+public final class SaveSections {
+  private final byte[] data;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final SaveHeader header;
+  private final Core core;
+
+  SaveSections(byte[] data, int[] offsets, int[] lengths, SaveHeader header) throws IOException {
+    this.data = data;
+    this.offsets = offsets;
+    this.lengths = lengths;
+    this.header = header;
+    DataInputStream in = open(SaveFormat.CORE);
+    if (in == null) {
+      throw new IOException("Save has no core section");
+    }
+    this.core = SaveFormat.readCore(in);
+  }
+
+  /**
+   * @return the save's header
+   */
+  public SaveHeader header() {
+    return header;
+  }
+
+  /**
+   * @return the core section
+   */
+  public Core core() {
+    return core;
+  }
+
+  /**
+   * @return a newly decoded wallet
+   */
+  public Wallet wallet() {
+    return decode(SaveFormat.WALLET, SaveFormat::readWallet, Wallet::new);
+  }
+
+  /**
+   * @return a newly decoded inventory
+   */
+  public Inventory inventory() {
+    return decode(SaveFormat.INVENTORY, SaveFormat::readInventory, Inventory::new);
+  }
+
+  /**
+   * @return a newly decoded skill set
+   */
+  public SkillSet skillset() {
+    return decode(SaveFormat.SKILLS, SaveFormat::readSkillSet, SkillSet::new);
+  }
+
+  /**
+   * @return newly decoded statistics
+   */
+  public Statistics statistics() {
+    return decode(SaveFormat.STATISTICS, SaveFormat::readStatistics, Statistics::new);
+  }
+
+  /**
+   * @return a newly decoded arsenal
+   */
+  public Arsenal arsenal() {
+    return decode(SaveFormat.ARSENAL, SaveFormat::readArsenal, Arsenal::new);
+  }
+
+  private <T> T decode(int id, SectionReader<T> reader, Supplier<T> fallback) {
+    try {
+      DataInputStream in = open(id);
+      return in == null ? fallback.get() : reader.read(in);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new IllegalStateException("Corrupt section " + id + " in save " + header.name(), e);
+    }
+  }
+
+  private DataInputStream open(int id) {
+    if (lengths[id] < 0) {
+      return null;
+    }
+    return new DataInputStream(new ByteArrayInputStream(data, offsets[id], lengths[id]));
+  }
+
+  /** Reads one section's payload. */
+  interface SectionReader<T> {
+    T read(DataInputStream in) throws IOException;
+  }
+
+  /**
+   * The small fields of a profile, decoded together with the header.
+   *
+   * @param worldMapX last X position on the world map
+   * @param worldMapY last Y position on the world map
+   * @param worldMapZoomIdx last world map zoom step
+   * @param playedLevelTutorial whether the level tutorial has been played
+   * @param playedMapTutorial whether the map tutorial has been played
+   * @param completedLevels completed level keys
+   * @param unlockedNodes unlocked world map node keys
+   * @param soldItems which shop items are sold
+   * @param lastShopPeriod the last 15-minute shop period
+   */
+  public record Core(
+      float worldMapX,
+      float worldMapY,
+      int worldMapZoomIdx,
+      boolean playedLevelTutorial,
+      boolean playedMapTutorial,
+      Set<String> completedLevels,
+      Set<String> unlockedNodes,
+      boolean[] soldItems,
+      long lastShopPeriod) {}
+}
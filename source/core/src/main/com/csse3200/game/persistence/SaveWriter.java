@@ -0,0 +1,191 @@
+package com.csse3200.game.persistence;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.csse3200.game.concurrency.JobSystem;
+import com.csse3200.game.progression.Profile;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes profile saves in the background, so saving does not stall the render thread.
+ *
+ * <p>{@link #submit(int, Profile)} encodes the profile with {@link SaveFormat} on the calling
+ * thread, so later changes to the profile do not leak into the save. A blocking job then writes it
+ * to a temporary file and renames it over the final name, and only then deletes the slot's older
+ * save, so a crash never leaves the slot without a complete save. Saves submitted to a slot while
+ * an earlier one is still waiting replace it, so bursts of saves cost one write.
+ */
+public class SaveWriter {
+  private static final Logger logger = LoggerFactory.getLogger(SaveWriter.class);
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final FileHandle directory;
+  private final Executor executor;
+
+  private final Object lock = new Object();
+  private final Map<Integer, Snapshot> pending = new LinkedHashMap<>();
+  private boolean running;
+  private int submitted;
+  private int written;
+
+  /**
+   * Create a writer that saves into a directory using the job system.
+   *
+   * @param directory save directory, created when first written to
+   */
+  public SaveWriter(FileHandle directory) {
+    this(directory, task -> JobSystem.launchBlocking(() -> runTask(task)));
+  }
+
+  /**
+   * Create a writer that runs its write job on the given executor.
+   *
+   * @param directory save directory, created when first written to
+   * @param executor executor for the write job
+   */
+  SaveWriter(FileHandle directory, Executor executor) {
+    this.directory = directory;
+    this.executor = executor;
+  }
+
+  /**
+   * Queue a save of the profile to a slot. Returns once the profile is encoded, before anything is
+   * written.
+   *
+   * @param slot slot to save to (1-3)
+   * @param profile profile to save
+   */
+  public void submit(int slot, Profile profile) {
+    long timestamp = System.currentTimeMillis();
+    Snapshot snapshot =
+        new Snapshot(
+            slot, profile.getName(), timestamp, SaveFormat.encode(profile, slot, timestamp));
+
+    boolean start;
+    synchronized (lock) {
+      submitted++;
+      if (pending.put(slot, snapshot) != null) {
+        logger.debug("Coalesced save to slot {}", slot);
+      }
+      start = !running;
+      running = true;
+    }
+    if (start) {
+      executor.execute(this::drain);
+    }
+  }
+
+  /**
+   * Block until every submitted save has been written. Call before exiting, or before reading the
+   * save directory.
+   */
+  public void flush() {
+    synchronized (lock) {
+      while (running) {
+        try {
+          lock.wait();
+        } catch (InterruptedException e) {
+          logger.warn("Interrupted while flushing saves");
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return number of saves submitted
+   */
+  public int getSubmittedCount() {
+    synchronized (lock) {
+      return submitted;
+    }
+  }
+
+  /**
+   * @return number of saves written to disk. Less than submitted when saves were coalesced.
+   */
+  public int getWrittenCount() {
+    synchronized (lock) {
+      return written;
+    }
+  }
+
+  /** Write pending snapshots until none are left. */
+  private void drain() {
+    while (true) {
+      List<Snapshot> batch;
+      synchronized (lock) {
+        if (pending.isEmpty()) {
+          running = false;
+          lock.notifyAll();
+          return;
+        }
+        batch = new ArrayList<>(pending.values());
+        pending.clear();
+      }
+
+      for (Snapshot snapshot : batch) {
+        try {
+          write(snapshot);
+          synchronized (lock) {
+            written++;
+          }
+        } catch (IOException | RuntimeException e) {
+          logger.error("Failed to save profile to slot {}", snapshot.slot(), e);
+        }
+      }
+    }
+  }
+
+  private void write(Snapshot snapshot) throws IOException {
+    directory.mkdirs();
+    Savefile savefile = new Savefile(snapshot.name(), snapshot.timestamp(), snapshot.slot());
+    String filename = savefile + Persistence.SAVE_EXTENSION;
+    FileHandle target = directory.child(filename);
+    FileHandle temp = directory.child(filename + TEMP_SUFFIX);
+
+    temp.writeBytes(snapshot.data(), false);
+    move(temp.file().toPath(), target.file().toPath());
+    deleteOlderSaves(snapshot.slot(), filename);
+    logger.info("Saved profile to slot {}: {}", snapshot.slot(), filename);
+  }
+
+  private static void move(Path from, Path to) throws IOException {
+    try {
+      Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private void deleteOlderSaves(int slot, String keep) {
+    for (FileHandle file : Persistence.listSaves(directory)) {
+      if (file.name().equals(keep)) {
+        continue;
+      }
+      Savefile savefile = Persistence.parseSavefile(file);
+      if (savefile != null && savefile.getSlot() == slot && !file.delete()) {
+        logger.error("Failed to delete old savefile: {}", file.path());
+      }
+    }
+  }
+
+  private static Void runTask(Runnable task) {
+    task.run();
+    return null;
+  }
+
+  /** A profile encoded at the time it was submitted. */
+  private record Snapshot(int slot, String name, long timestamp, byte[] data) {}
+}
@@ -0,0 +1,256 @@
+package com.csse3200.game.persistence;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import java.util.List;
+
+/**
+ * The inputs of one play of a level, with the seed its randomness was started from and the units
+ * and items the player brought. Feeding the inputs back at the same game times on a fixed timestep
+ * plays the level out the same way every time, which makes recorded sessions usable as repeatable
+ * benchmarks.
+ *
+ * <p>Recordings are written as JSON so they can be inspected and trimmed by hand.
+ */
+public class SessionRecording {
+  private String levelKey;
+  private long seed;
+  private Array<String> defenders = new Array<>();
+  private Array<String> generators = new Array<>();
+  private Array<String> items = new Array<>();
+  private Array<Input> inputs = new Array<>();
+
+  /** What kind of player input was recorded. */
+  public enum InputType {
+    /** A defence or generator was placed from the hotbar */
+    PLACE_UNIT,
+    /** A defence won from a slot machine was placed for free */
+    PLACE_REWARD,
+    /** An item was used from the hotbar */
+    USE_ITEM,
+    /** The gameplay speed was changed */
+    SET_SPEED
+  }
+
+  /** One recorded player input. */
+  public static class Input {
+    private float time;
+    private InputType type;
+    private String key;
+    private int position;
+    private float speed;
+
+    /** Creates an empty input. */
+    public Input() {
+      // Used for JSON deserialization
+    }
+
+    private Input(float time, InputType type, String key, int position, float speed) {
+      this.time = time;
+      this.type = type;
+      this.key = key;
+      this.position = position;
+      this.speed = speed;
+    }
+
+    /**
+     * Gets the game time the input was made at.
+     *
+     * @return seconds of scaled, unfrozen game time since the level started
+     */
+    public float getTime() {
+      return time;
+    }
+
+    /**
+     * Gets the kind of input.
+     *
+     * @return input type
+     */
+    public InputType getType() {
+      return type;
+    }
+
+    /**
+     * Gets the hotbar key of the placed unit or used item, or the config key of a placed reward.
+     *
+     * @return asset path the hotbar lists the unit or item under, defender config key for rewards,
+     *     or null for speed changes
+     */
+    public String getKey() {
+      return key;
+    }
+
+    /**
+     * Gets the grid tile the unit or item was placed on.
+     *
+     * @return tile index
+     */
+    public int getPosition() {
+      return position;
+    }
+
+    /**
+     * Gets the gameplay speed that was chosen.
+     *
+     * @return time scale, only set for speed changes
+     */
+    public float getSpeed() {
+      return speed;
+    }
+  }
+
+  /** Creates an empty recording. */
+  public SessionRecording() {
+    // Used for JSON deserialization
+  }
+
+  /**
+   * Creates a recording for a level.
+   *
+   * @param levelKey level being played
+   * @param seed seed the level's randomness was started from
+   */
+  public SessionRecording(String levelKey, long seed) {
+    this.levelKey = levelKey;
+    this.seed = seed;
+  }
+
+  /**
+   * Record the units and items the player brought into the level.
+   *
+   * @param defenders keys of the defences in the player's arsenal
+   * @param generators keys of the generators in the player's arsenal
+   * @param items keys of the items in the player's inventory, once per item held
+   */
+  public void setLoadout(List<String> defenders, List<String> generators, List<String> items) {
+    this.defenders.clear();
+    this.generators.clear();
+    this.items.clear();
+    defenders.forEach(this.defenders::add);
+    generators.forEach(this.generators::add);
+    items.forEach(this.items::add);
+  }
+
+  /**
+   * Record a unit placed from the hotbar.
+   *
+   * @param time game time of the input
+   * @param key hotbar key of the unit
+   * @param position tile index the unit was placed on
+   */
+  public void addPlacement(float time, String key, int position) {
+    inputs.add(new Input(time, InputType.PLACE_UNIT, key, position, 0f));
+  }
+
+  /**
+   * Record a free defence placed from a slot machine reward.
+   *
+   * @param time game time of the input
+   * @param defenderKey config key of the defence
+   * @param position tile index the defence was placed on
+   */
+  public void addRewardPlacement(float time, String defenderKey, int position) {
+    inputs.add(new Input(time, InputType.PLACE_REWARD, defenderKey, position, 0f));
+  }
+
+  /**
+   * Record an item used from the hotbar.
+   *
+   * @param time game time of the input
+   * @param key hotbar key of the item
+   * @param position tile index the item was used on
+   */
+  public void addItemUse(float time, String key, int position) {
+    inputs.add(new Input(time, InputType.USE_ITEM, key, position, 0f));
+  }
+
+  /**
+   * Record a change of gameplay speed.
+   *
+   * @param time game time of the input
+   * @param speed new time scale
+   */
+  public void addSpeedChange(float time, float speed) {
+    inputs.add(new Input(time, InputType.SET_SPEED, null, -1, speed));
+  }
+
+  /**
+   * Gets the level that was played.
+   *
+   * @return level key
+   */
+  public String getLevelKey() {
+    return levelKey;
+  }
+
+  /**
+   * Gets the seed the level's randomness was started from.
+   *
+   * @return seed for {@link com.badlogic.gdx.math.MathUtils#random}
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * @return keys of the defences the player brought
+   */
+  public Array<String> getDefenders() {
+    return defenders;
+  }
+
+  /**
+   * @return keys of the generators the player brought
+   */
+  public Array<String> getGenerators() {
+    return generators;
+  }
+
+  /**
+   * @return keys of the items the player brought, once per item held
+   */
+  public Array<String> getItems() {
+    return items;
+  }
+
+  /**
+   * Gets the recorded inputs.
+   *
+   * @return inputs in the order they were made
+   */
+  public Array<Input> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * Write the recording to a file, replacing it if it exists.
+   *
+   * @param file file to write to
+   */
+  public void save(FileHandle file) {
+    file.writeString(json().prettyPrint(this), false);
+  }
+
+  /**
+   * Read a recording from a file.
+   *
+   * @param file file written by {@link #save(FileHandle)}
+   * @return the recording
+   */
+  public static SessionRecording load(FileHandle file) {
+    return json().fromJson(SessionRecording.class, file);
+  }
+
+  private static Json json() {
+    Json json = new Json(JsonWriter.OutputType.json);
+    json.setUsePrototypes(false);
+    json.setElementType(SessionRecording.class, "defenders", String.class);
+    json.setElementType(SessionRecording.class, "generators", String.class);
+    json.setElementType(SessionRecording.class, "items", String.class);
+    json.setElementType(SessionRecording.class, "inputs", Input.class);
+    return json;
+  }
+}
@@ -1,6 +1,7 @@
 package com.csse3200.game.physics;
 
 import com.badlogic.gdx.physics.box2d.*;
+import com.csse3200.game.events.EventKeys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,14 +20,14 @@ public class PhysicsContactListener implements ContactListener {
 
   @Override
   public void beginContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionStart", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionStart", contact.getFixtureA());
+    triggerEventOn(contact.getFixtureA(), EventKeys.COLLISION_START, contact.getFixtureB());
+    triggerEventOn(contact.getFixtureB(), EventKeys.COLLISION_START, contact.getFixtureA());
   }
 
   @Override
   public void endContact(Contact contact) {
-    triggerEventOn(contact.getFixtureA(), "collisionEnd", contact.getFixtureB());
-    triggerEventOn(contact.getFixtureB(), "collisionEnd", contact.getFixtureA());
+    triggerEventOn(contact.getFixtureA(), EventKeys.COLLISION_END, contact.getFixtureB());
+    triggerEventOn(contact.getFixtureB(), EventKeys.COLLISION_END, contact.getFixtureA());
   }
 
   @Override
@@ -39,10 +40,10 @@ public class PhysicsContactListener implements ContactListener {
     // Nothing to do after resolving contact
   }
 
-  private void triggerEventOn(Fixture fixture, String evt, Fixture otherFixture) {
+  private void triggerEventOn(Fixture fixture, int evt, Fixture otherFixture) {
     BodyUserData userData = (BodyUserData) fixture.getBody().getUserData();
     if (userData != null && userData.getEntity() != null) {
-      logger.debug("{} on entity {}", evt, userData.getEntity());
+      logger.debug("{} on entity {}", EventKeys.getName(evt), userData.getEntity());
       userData.getEntity().getEvents().trigger(evt, fixture, otherFixture);
     }
   }
@@ -2,8 +2,10 @@ package com.csse3200.game.physics;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityQuery;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.physics.components.PhysicsComponent;
 import com.csse3200.game.physics.raycast.AllHitCallback;
@@ -30,7 +32,10 @@ public class PhysicsEngine implements Disposable {
   private final GameTime timeSource;
   private final SingleHitCallback singleHitCallback = new SingleHitCallback();
   private final AllHitCallback allHitCallback = new AllHitCallback();
+  private final PhysicsStats stats = new PhysicsStats();
   private float accumulator;
+  private EntityService queriedService;
+  private EntityQuery physicsEntities;
 
   public PhysicsEngine() {
     this(new World(GRAVITY, true), ServiceLocator.getTimeSource());
@@ -52,10 +57,14 @@ public class PhysicsEngine implements Disposable {
 
     // Depending on how much time has passed, we may compute 0 or more physics steps in one go. If
     // we need to catch up, we'll compute multiple in a row before getting to rendering.
+    long stepStart = System.nanoTime();
+    int steps = 0;
     while (accumulator >= PHYSICS_TIMESTEP) {
       world.step(PHYSICS_TIMESTEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
       accumulator -= PHYSICS_TIMESTEP;
+      steps++;
     }
+    stats.recordSteps(steps, System.nanoTime() - stepStart);
 
     // NEW CHANGES: guaranteed disposal of entities with physics bodies after physics step
     // Handles the entity service not existing. This should prevent crashes with Tests
@@ -63,15 +72,25 @@ public class PhysicsEngine implements Disposable {
     if (entityService == null) {
       return;
     }
-    // Disposes of all entities that have been marked as dead in the last physics step. Iterating
-    // backwards to avoid index shifting issues when removing entities.
-    for (int i = entityService.getEntities().size - 1; i >= 0; i--) {
-      Entity entity = entityService.getEntities().get(i);
+    if (entityService != queriedService) {
+      queriedService = entityService;
+      physicsEntities = entityService.query(PhysicsComponent.class);
+    }
+    // Disposes of all entities with physics bodies that have been marked as dead in the last
+    // physics step. Iterating backwards since removal swaps the last entity into the freed slot. A
+    // disposal can cascade into other removals, so the index is re-clamped against the shrinking
+    // array.
+    Array<Entity> entities = physicsEntities.getEntities();
+    for (int i = entities.size - 1; i >= 0; i--) {
+      if (i >= entities.size) {
+        continue;
+      }
+      Entity entity = entities.get(i);
       if (!entity.getDeathFlag()) {
         continue;
       }
       PhysicsComponent pc = entity.getComponent(PhysicsComponent.class);
-      if (pc == null || pc.getBody() == null) {
+      if (pc.getBody() == null) {
         continue;
       }
       entity.dispose();
@@ -102,6 +121,18 @@ public class PhysicsEngine implements Disposable {
     return world;
   }
 
+  /**
+   * Get the body and contact counts of the world as they are now, along with the step time of the
+   * last update. Counting visits every body, so this is meant for debug displays rather than every
+   * frame.
+   *
+   * @return physics stats, reused between calls
+   */
+  public PhysicsStats getStats() {
+    stats.count(world);
+    return stats;
+  }
+
   /**
    * Cast a ray in a straight line from one point to another, checking for a collision against any
    * colliders.
@@ -0,0 +1,144 @@
+package com.csse3200.game.physics;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Counts of the bodies and contacts in a physics world, and how long the last {@link
+ * PhysicsEngine#update()} spent stepping it. Only active bodies are counted by type, since inactive
+ * bodies (such as pooled projectiles) are skipped by Box2D entirely.
+ *
+ * <p>Body and contact counts are read from the world by {@link PhysicsEngine#getStats()}, so they
+ * cost nothing unless something is displaying them.
+ */
+public class PhysicsStats {
+  private final Array<Body> bodies = new Array<>(false, 64);
+  private int staticBodies;
+  private int kinematicBodies;
+  private int dynamicBodies;
+  private int awakeBodies;
+  private int inactiveBodies;
+  private int contacts;
+  private int touchingContacts;
+  private int steps;
+  private long stepNanos;
+
+  /**
+   * Re-count the bodies and contacts of a world.
+   *
+   * @param world physics world
+   */
+  void count(World world) {
+    staticBodies = 0;
+    kinematicBodies = 0;
+    dynamicBodies = 0;
+    awakeBodies = 0;
+    inactiveBodies = 0;
+    world.getBodies(bodies);
+    for (int i = 0; i < bodies.size; i++) {
+      Body body = bodies.get(i);
+      if (!body.isActive()) {
+        inactiveBodies++;
+        continue;
+      }
+      BodyType type = body.getType();
+      if (type == BodyType.StaticBody) {
+        staticBodies++;
+      } else if (type == BodyType.KinematicBody) {
+        kinematicBodies++;
+      } else {
+        dynamicBodies++;
+      }
+      if (body.isAwake()) {
+        awakeBodies++;
+      }
+    }
+    bodies.clear();
+
+    touchingContacts = 0;
+    Array<Contact> contactList = world.getContactList();
+    contacts = contactList.size;
+    for (int i = 0; i < contactList.size; i++) {
+      if (contactList.get(i).isTouching()) {
+        touchingContacts++;
+      }
+    }
+  }
+
+  /**
+   * Record the steps taken by an update.
+   *
+   * @param steps number of world steps
+   * @param nanos total time spent stepping, in nanoseconds
+   */
+  void recordSteps(int steps, long nanos) {
+    this.steps = steps;
+    this.stepNanos = nanos;
+  }
+
+  /**
+   * @return active static bodies
+   */
+  public int getStaticBodies() {
+    return staticBodies;
+  }
+
+  /**
+   * @return active kinematic bodies
+   */
+  public int getKinematicBodies() {
+    return kinematicBodies;
+  }
+
+  /**
+   * @return active dynamic bodies
+   */
+  public int getDynamicBodies() {
+    return dynamicBodies;
+  }
+
+  /**
+   * @return active bodies that are awake
+   */
+  public int getAwakeBodies() {
+    return awakeBodies;
+  }
+
+  /**
+   * @return bodies that are not active
+   */
+  public int getInactiveBodies() {
+    return inactiveBodies;
+  }
+
+  /**
+   * @return contacts whose bounding boxes overlap
+   */
+  public int getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return contacts whose fixtures are touching
+   */
+  public int getTouchingContacts() {
+    return touchingContacts;
+  }
+
+  /**
+   * @return world steps taken by the last update
+   */
+  public int getSteps() {
+    return steps;
+  }
+
+  /**
+   * @return time the last update spent stepping the world, in nanoseconds
+   */
+  public long getStepNanos() {
+    return stepNanos;
+  }
+}
@@ -3,6 +3,7 @@ package com.csse3200.game.physics.attacking_system;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.physics.BodyUserData;
 
 /**
@@ -17,7 +18,7 @@ public class DamageMappingSystem {
    * @param entity the entity to attach the damage system to
    */
   public DamageMappingSystem(Entity entity) {
-    entity.getEvents().addListener("collisionStart", this::onCollisionStart);
+    entity.getEvents().addListener(EventKeys.COLLISION_START, this::onCollisionStart);
   }
 
   /**
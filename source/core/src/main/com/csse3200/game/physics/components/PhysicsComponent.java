@@ -6,6 +6,7 @@ import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.csse3200.game.components.Component;
 import com.csse3200.game.components.ComponentPriority;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.physics.BodyUserData;
 import com.csse3200.game.physics.PhysicsContactListener;
 import com.csse3200.game.physics.PhysicsEngine;
@@ -48,7 +49,11 @@ public class PhysicsComponent extends Component {
   }
 
   /**
-   * Set body type
+   * Set body type. Entities that never move once placed, such as defences and generators, should
+   * be static so Box2D leaves them out of the solver. Entities that move at a set velocity without
+   * being pushed, such as robots, should be kinematic. Box2D only creates contacts when one of the
+   * two bodies is dynamic, so anything that has to detect kinematic or static bodies (e.g.
+   * projectiles hitting robots) must stay dynamic.
    *
    * @param bodyType body type, default = dynamic
    * @return self
@@ -91,7 +96,9 @@ public class PhysicsComponent extends Component {
     userData.setEntity(entity);
     body.setUserData(userData);
 
-    entity.getEvents().addListener("setPosition", (Vector2 pos) -> body.setTransform(pos, 0f));
+    entity
+        .getEvents()
+        .addListener(EventKeys.SET_POSITION, (Vector2 pos) -> body.setTransform(pos, 0f));
   }
 
   /**
@@ -1,5 +1,6 @@
 package com.csse3200.game.progression;
 
+import com.csse3200.game.persistence.SaveSections;
 import com.csse3200.game.persistence.Savefile;
 import com.csse3200.game.progression.arsenal.Arsenal;
 import com.csse3200.game.progression.inventory.Inventory;
@@ -31,6 +32,7 @@ public class Profile {
   private Set<String> unlockedNodes; // List of unlocked nodes
   private boolean[] soldItems; // Track which shop items are sold (length 3)
   private long lastShopPeriod; // Track the last 15-minute period for shop reset
+  private transient SaveSections sections; // Binary save sections not decoded yet
 
   /** Creates a new profile with default values. */
   public Profile() {
@@ -92,6 +94,28 @@ public class Profile {
     this.lastShopPeriod = System.currentTimeMillis() / (15 * 60 * 1000); // Current 15-minute period
   }
 
+  /**
+   * Initialise a profile from a binary save. The wallet, inventory, skillset, statistics and
+   * arsenal are decoded from their sections the first time they are used.
+   *
+   * @param sections the save's sections
+   */
+  public Profile(SaveSections sections) {
+    SaveSections.Core core = sections.core();
+    this.name = sections.header().name();
+    this.currentLevel = sections.header().currentLevel();
+    this.worldMapX = core.worldMapX();
+    this.worldMapY = core.worldMapY();
+    this.worldMapZoomIdx = core.worldMapZoomIdx();
+    this.playedLevelTutorial = core.playedLevelTutorial();
+    this.playedMapTutorial = core.playedMapTutorial();
+    this.completedLevels = core.completedLevels();
+    this.unlockedNodes = core.unlockedNodes();
+    this.soldItems = core.soldItems();
+    this.lastShopPeriod = core.lastShopPeriod();
+    this.sections = sections;
+  }
+
   /**
    * Get the name of the profile.
    *
@@ -134,6 +158,9 @@ public class Profile {
    * @return the wallet of the profile.
    */
   public Wallet getWallet() {
+    if (wallet == null && sections != null) {
+      wallet = sections.wallet();
+    }
     return wallet;
   }
 
@@ -143,6 +170,9 @@ public class Profile {
    * @return the inventory of the profile.
    */
   public Inventory getInventory() {
+    if (inventory == null && sections != null) {
+      inventory = sections.inventory();
+    }
     return inventory;
   }
 
@@ -152,6 +182,9 @@ public class Profile {
    * @return the arsenal of the profile.
    */
   public Arsenal getArsenal() {
+    if (arsenal == null && sections != null) {
+      arsenal = sections.arsenal();
+    }
     return arsenal;
   }
 
@@ -161,6 +194,9 @@ public class Profile {
    * @return the skillset of the profile.
    */
   public SkillSet getSkillset() {
+    if (skillset == null && sections != null) {
+      skillset = sections.skillset();
+    }
     return skillset;
   }
 
@@ -170,6 +206,9 @@ public class Profile {
    * @return the statistics of the profile.
    */
   public Statistics getStatistics() {
+    if (statistics == null && sections != null) {
+      statistics = sections.statistics();
+    }
     return statistics;
   }
 
@@ -0,0 +1,110 @@
+package com.csse3200.game.progression.statistics;
+
+import com.csse3200.game.entities.configs.BaseAchievementConfig;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the achievement configs by the statistic they track, with each group sorted by quota. A
+ * statistic change then only needs to compare against the lowest quota not yet reached, rather than
+ * scanning every achievement config.
+ *
+ * <p>The index for the current configs is built once and shared by every {@link Statistics}
+ * instance. It is rebuilt if the config service hands out a different config map.
+ */
+final class AchievementIndex {
+  private static volatile AchievementIndex shared;
+
+  private final Map<String, BaseAchievementConfig> configs;
+  private final Map<String, Track> tracks = new HashMap<>();
+  private final Track[] byId;
+
+  /**
+   * An achievement that unlocks once its statistic reaches the quota.
+   *
+   * @param key achievement key
+   * @param config achievement config
+   * @param quota statistic value the achievement unlocks at
+   */
+  record Threshold(String key, BaseAchievementConfig config, int quota) {}
+
+  /**
+   * The achievements tracking one statistic.
+   *
+   * @param id position of this track within the index, from 0 to {@link #size()} - 1
+   * @param statistic key of the tracked statistic
+   * @param thresholds achievements tracking the statistic, in increasing quota order
+   */
+  record Track(int id, String statistic, Threshold[] thresholds) {}
+
+  private AchievementIndex(Map<String, BaseAchievementConfig> configs) {
+    this.configs = configs;
+    Map<String, List<Threshold>> grouped = new HashMap<>();
+    for (Map.Entry<String, BaseAchievementConfig> entry : configs.entrySet()) {
+      BaseAchievementConfig config = entry.getValue();
+      if (config == null || config.getStatistic() == null) {
+        continue;
+      }
+      grouped
+          .computeIfAbsent(config.getStatistic(), k -> new ArrayList<>())
+          .add(new Threshold(entry.getKey(), config, config.getQuota()));
+    }
+    for (Map.Entry<String, List<Threshold>> entry : grouped.entrySet()) {
+      Threshold[] thresholds =
+          entry.getValue().stream()
+              .sorted(Comparator.comparingInt(Threshold::quota))
+              .toArray(Threshold[]::new);
+      tracks.put(entry.getKey(), new Track(tracks.size(), entry.getKey(), thresholds));
+    }
+    byId = new Track[tracks.size()];
+    for (Track track : tracks.values()) {
+      byId[track.id()] = track;
+    }
+  }
+
+  /**
+   * Gets the index for a set of achievement configs, building it if these configs have not been
+   * indexed yet.
+   *
+   * @param configs achievement key to config, as given by the config service
+   * @return index of the configs
+   */
+  static AchievementIndex of(Map<String, BaseAchievementConfig> configs) {
+    AchievementIndex index = shared;
+    if (index == null || index.configs != configs) {
+      index = new AchievementIndex(configs);
+      shared = index;
+    }
+    return index;
+  }
+
+  /**
+   * Gets the achievements tracking a statistic.
+   *
+   * @param statistic statistic key
+   * @return the track, or null if no achievement tracks the statistic
+   */
+  Track track(String statistic) {
+    return tracks.get(statistic);
+  }
+
+  /**
+   * Gets the achievements tracking a statistic by track id.
+   *
+   * @param id track id
+   * @return the track
+   */
+  Track track(int id) {
+    return byId[id];
+  }
+
+  /**
+   * @return number of tracked statistics
+   */
+  int size() {
+    return byId.length;
+  }
+}
@@ -20,11 +20,20 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Achievements are stored as a list of unlocked achievement keys, similar to how Arsenal and
  * Inventory work.
+ *
+ * <p>While batching is on, statistics still update straight away but achievements are only checked
+ * when {@link #flushAchievements()} is called, which levels do once per frame. Reading the unlocked
+ * achievements always flushes first.
  */
 public class Statistics {
   private static final Logger logger = LoggerFactory.getLogger(Statistics.class);
   private Map<String, Integer> stats;
   private List<String> achievements;
+  private transient AchievementIndex index;
+  private transient int[] cursors; // Per track, the first threshold not yet passed
+  private transient boolean[] pending; // Per track, changed since the last flush
+  private transient boolean hasPending;
+  private transient boolean batching;
 
   /** Default constructor for Statistics. */
   public Statistics() {
@@ -91,6 +100,7 @@ public class Statistics {
    * @return list of unlocked achievement keys
    */
   public List<String> getUnlockedAchievements() {
+    flushAchievements();
     return new ArrayList<>(achievements);
   }
 
@@ -101,6 +111,7 @@ public class Statistics {
    * @return true if unlocked, false otherwise
    */
   public boolean isAchievementUnlocked(String achievementKey) {
+    flushAchievements();
     return achievements.contains(achievementKey);
   }
 
@@ -144,6 +155,40 @@ public class Statistics {
     }
   }
 
+  /**
+   * Turns batching of achievement checks on or off. Turning it off checks any pending statistics.
+   *
+   * @param batching true to defer achievement checks until {@link #flushAchievements()}
+   */
+  public void setBatching(boolean batching) {
+    this.batching = batching;
+    if (!batching) {
+      flushAchievements();
+    }
+  }
+
+  /**
+   * Checks achievements for every statistic changed since the last flush. Does nothing when no
+   * tracked statistic has changed.
+   */
+  public void flushAchievements() {
+    // Unlocking adds skill points, which can mark more statistics as pending
+    while (hasPending) {
+      hasPending = false;
+      AchievementIndex current = currentIndex();
+      if (current == null) {
+        return;
+      }
+      for (int id = 0; id < pending.length; id++) {
+        if (pending[id]) {
+          pending[id] = false;
+          AchievementIndex.Track track = current.track(id);
+          checkTrack(track, getStatistic(track.statistic()));
+        }
+      }
+    }
+  }
+
   /**
    * Checks if any achievements should be unlocked based on the updated statistic.
    *
@@ -151,27 +196,55 @@ public class Statistics {
    * @param newValue the new value of the statistic
    */
   private void checkAchievements(String key, int newValue) {
-    ConfigService configService = ServiceLocator.getConfigService();
-    if (configService == null) {
+    AchievementIndex current = currentIndex();
+    if (current == null) {
       return;
     }
-
-    Map<String, BaseAchievementConfig> achievementConfigs = configService.getAchievementConfigs();
-    if (achievementConfigs == null) {
+    AchievementIndex.Track track = current.track(key);
+    if (track == null) {
       return;
     }
+    if (batching) {
+      pending[track.id()] = true;
+      hasPending = true;
+      return;
+    }
+    checkTrack(track, newValue);
+  }
 
-    for (Map.Entry<String, BaseAchievementConfig> entry : achievementConfigs.entrySet()) {
-      String achievementKey = entry.getKey();
-      BaseAchievementConfig config = entry.getValue();
+  private void checkTrack(AchievementIndex.Track track, int value) {
+    AchievementIndex.Threshold[] thresholds = track.thresholds();
+    int id = track.id();
+    // Read the cursor each time, as unlocking can recurse into this track via skill points
+    while (cursors[id] < thresholds.length && thresholds[cursors[id]].quota() <= value) {
+      AchievementIndex.Threshold threshold = thresholds[cursors[id]++];
+      unlockAchievement(threshold.key(), threshold.config());
+    }
+  }
 
-      // Check if this achievement tracks the updated statistic
-      if (key.equals(config.getStatistic())
-          && !isAchievementUnlocked(achievementKey)
-          && newValue >= config.getQuota()) {
-        unlockAchievement(achievementKey, config);
-      }
+  /**
+   * Gets the index of the current achievement configs, resetting the per-track state if the configs
+   * changed since the last check.
+   *
+   * @return the index, or null if there are no achievement configs
+   */
+  private AchievementIndex currentIndex() {
+    ConfigService configService = ServiceLocator.getConfigService();
+    if (configService == null) {
+      return null;
+    }
+    Map<String, BaseAchievementConfig> achievementConfigs = configService.getAchievementConfigs();
+    if (achievementConfigs == null) {
+      return null;
+    }
+    AchievementIndex current = AchievementIndex.of(achievementConfigs);
+    if (current != index) {
+      index = current;
+      cursors = new int[current.size()];
+      pending = new boolean[current.size()];
+      hasPending = false;
     }
+    return current;
   }
 
   /**
@@ -0,0 +1,98 @@
+package com.csse3200.game.rendering;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Animations shared between every {@link AnimationRenderComponent}. An animation holds only its
+ * frames, frame duration and play mode, while the play time lives in each component, so entities
+ * using the same atlas animation can all use one instance. Without this, each robot spawned looked
+ * its regions up in the atlas and built its own copy of every animation.
+ *
+ * <p>Animations are keyed by atlas, region name, frame duration and play mode. Atlases are held
+ * weakly, so the animations of an atlas unloaded with its screen can be collected. {@link
+ * Animation} is mutable, so the shared instances are only handed to {@link
+ * AnimationRenderComponent}, which never changes or exposes them. The cache is only used from the
+ * render thread. Its lookup counts and size are shown in the debug overlay.
+ */
+public final class AnimationCache {
+  private static final Map<TextureAtlas, Map<Key, Animation<TextureRegion>>> animations =
+      new WeakHashMap<>();
+  private static int hits;
+  private static int misses;
+
+  private record Key(String name, float frameDuration, PlayMode playMode) {}
+
+  private AnimationCache() {}
+
+  /**
+   * Get the shared animation of an atlas region, building it the first time it is asked for. The
+   * animation must not be changed, e.g. with {@link Animation#setPlayMode}, since that would change
+   * it for every component sharing it.
+   *
+   * @param atlas texture atlas containing the animation
+   * @param name name of the animation's regions in the atlas
+   * @param frameDuration how long, in seconds, each frame is shown for
+   * @param playMode how the animation is played
+   * @return the shared animation, or null if the atlas has no regions with the name
+   */
+  static Animation<TextureRegion> get(
+      TextureAtlas atlas, String name, float frameDuration, PlayMode playMode) {
+    Map<Key, Animation<TextureRegion>> atlasAnimations =
+        animations.computeIfAbsent(atlas, a -> new HashMap<>());
+    Key key = new Key(name, frameDuration, playMode);
+    Animation<TextureRegion> animation = atlasAnimations.get(key);
+    if (animation != null) {
+      hits++;
+      return animation;
+    }
+
+    misses++;
+    Array<AtlasRegion> regions = atlas.findRegions(name);
+    if (regions == null || regions.size == 0) {
+      return null;
+    }
+    animation = new Animation<>(frameDuration, regions, playMode);
+    atlasAnimations.put(key, animation);
+    return animation;
+  }
+
+  /**
+   * @return number of lookups answered with an animation that was already built
+   */
+  public static int getHits() {
+    return hits;
+  }
+
+  /**
+   * @return number of lookups that had to search the atlas
+   */
+  public static int getMisses() {
+    return misses;
+  }
+
+  /**
+   * @return number of animations held
+   */
+  public static int size() {
+    int size = 0;
+    for (Map<Key, Animation<TextureRegion>> atlasAnimations : animations.values()) {
+      size += atlasAnimations.size();
+    }
+    return size;
+  }
+
+  /** Drop every cached animation and reset the lookup counts. */
+  public static void clear() {
+    animations.clear();
+    hits = 0;
+    misses = 0;
+  }
+}
@@ -5,10 +5,8 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.services.GameTime;
 import com.csse3200.game.services.ServiceLocator;
 import java.util.HashMap;
@@ -38,6 +36,7 @@ public class AnimationRenderComponent extends RenderComponent {
   private static final Logger logger = LoggerFactory.getLogger(AnimationRenderComponent.class);
   private final GameTime timeSource;
   private final TextureAtlas atlas;
+  // Shared with other components through AnimationCache, so never changed or handed out
   private final Map<String, Animation<TextureRegion>> animations;
   private Animation<TextureRegion> currentAnimation;
   private String currentAnimationName;
@@ -67,7 +66,8 @@ public class AnimationRenderComponent extends RenderComponent {
   }
 
   /**
-   * Register an animation from the texture atlas.
+   * Register an animation from the texture atlas. The animation is shared through {@link
+   * AnimationCache} with other components using it, and only the play time is kept per component.
    *
    * @param name Name of the animation. Must match the name of this animation inside the texture
    *     atlas.
@@ -76,8 +76,8 @@ public class AnimationRenderComponent extends RenderComponent {
    * @return true if added successfully, false otherwise
    */
   public boolean addAnimation(String name, float frameDuration, PlayMode playMode) {
-    Array<AtlasRegion> regions = atlas.findRegions(name);
-    if (regions == null || regions.size == 0) {
+    Animation<TextureRegion> animation = AnimationCache.get(atlas, name, frameDuration, playMode);
+    if (animation == null) {
       logger.warn("Animation {} not found in texture atlas", name);
       return false;
     } else if (animations.containsKey(name)) {
@@ -87,7 +87,6 @@ public class AnimationRenderComponent extends RenderComponent {
       return false;
     }
 
-    Animation<TextureRegion> animation = new Animation<>(frameDuration, regions, playMode);
     animations.put(name, animation);
     logger.debug("Adding animation {}", name);
     return true;
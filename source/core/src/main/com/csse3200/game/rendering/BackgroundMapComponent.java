@@ -9,6 +9,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
  * viewport height; width is scaled by aspect.
  */
 public class BackgroundMapComponent extends RenderComponent {
+  public static final int TERRAIN_LAYER = 0;
   private final Sprite sprite;
   private final float worldWidth;
   private final float worldHeight;
@@ -43,6 +44,6 @@ public class BackgroundMapComponent extends RenderComponent {
 
   @Override
   public int getLayer() {
-    return 0; // terrain layer
+    return TERRAIN_LAYER;
   }
 }
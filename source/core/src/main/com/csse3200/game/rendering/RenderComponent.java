@@ -2,8 +2,10 @@ package com.csse3200.game.rendering;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Disposable;
 import com.csse3200.game.components.Component;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.services.ServiceLocator;
 
 /**
@@ -12,11 +14,20 @@ import com.csse3200.game.services.ServiceLocator;
  */
 public abstract class RenderComponent extends Component implements Renderable, Disposable {
   private static final int DEFAULT_LAYER = 1;
+  // Only read on the render thread, so one shared vector avoids a copy per z index lookup
+  private static final Vector2 zIndexPosition = new Vector2();
   protected Color colour = new Color(1, 1, 1, 1);
 
   @Override
   public void create() {
-    ServiceLocator.getRenderService().register(this);
+    RenderService renderService = ServiceLocator.getRenderService();
+    renderService.register(this);
+    if (entity != null) {
+      // Static layers are only re-sorted when told something in them has moved
+      entity
+          .getEvents()
+          .addListener(EventKeys.SET_POSITION, (Vector2 pos) -> renderService.invalidate(this));
+    }
   }
 
   @Override
@@ -42,7 +53,7 @@ public abstract class RenderComponent extends Component implements Renderable, D
   @Override
   public float getZIndex() {
     // The smaller the Y value, the higher the Z index, so that closer entities are drawn in front
-    return -entity.getPosition().y;
+    return -entity.getPosition(zIndexPosition).y;
   }
 
   /**
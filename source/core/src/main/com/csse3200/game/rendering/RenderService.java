@@ -4,11 +4,17 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntSet;
 import com.csse3200.game.utils.SortedIntMap;
+import java.util.Comparator;
 
 /**
  * Globally accessible service for registering renderable components. Any renderable registered with
  * this service has render() called once per frame.
+ *
+ * <p>Each layer is kept in rendering order between frames and re-sorted with an insertion sort,
+ * which is close to linear when only a few renderables have changed depth since the last frame.
+ * Layers marked static, e.g. terrain and UI, are only re-sorted when something in them changes.
  */
 public class RenderService implements Disposable {
   private static final int INITIAL_LAYER_CAPACITY = 4;
@@ -17,8 +23,9 @@ public class RenderService implements Disposable {
   private DebugRenderer debugRenderer;
 
   /** Map from layer to list of renderables, allows us to render each layer in the correct order */
-  private final SortedIntMap<Array<Renderable>> renderables =
-      new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+  private final SortedIntMap<Layer> renderables = new SortedIntMap<>(INITIAL_LAYER_CAPACITY);
+
+  private final IntSet staticLayers = new IntSet();
 
   /**
    * Register a new renderable.
@@ -27,10 +34,11 @@ public class RenderService implements Disposable {
    */
   public void register(Renderable renderable) {
     int layerIndex = renderable.getLayer();
-    if (!renderables.containsKey(layerIndex)) {
-      renderables.put(layerIndex, new Array<>(INITIAL_CAPACITY));
+    Layer layer = renderables.get(layerIndex);
+    if (layer == null) {
+      layer = new Layer(staticLayers.contains(layerIndex));
+      renderables.put(layerIndex, layer);
     }
-    Array<Renderable> layer = renderables.get(layerIndex);
     layer.add(renderable);
   }
 
@@ -40,9 +48,43 @@ public class RenderService implements Disposable {
    * @param renderable renderable to unregister.
    */
   public void unregister(Renderable renderable) {
-    Array<Renderable> layer = renderables.get(renderable.getLayer());
+    Layer layer = renderables.get(renderable.getLayer());
+    if (layer != null) {
+      layer.remove(renderable);
+    }
+  }
+
+  /**
+   * Mark a layer as static or not. Renderables in a static layer are assumed to keep the same z
+   * index, so the layer is only sorted when renderables are added or {@link
+   * #invalidate(Renderable)} is called. Layers are not static by default.
+   *
+   * @param layerIndex layer to mark
+   * @param isStatic true if the layer's order only changes when told
+   */
+  public void setStaticLayer(int layerIndex, boolean isStatic) {
+    if (isStatic) {
+      staticLayers.add(layerIndex);
+    } else {
+      staticLayers.remove(layerIndex);
+    }
+    Layer layer = renderables.get(layerIndex);
     if (layer != null) {
-      layer.removeValue(renderable, true);
+      layer.isStatic = isStatic;
+      layer.dirty = true;
+    }
+  }
+
+  /**
+   * Notify the service that a renderable's z index may have changed, so its layer is re-sorted even
+   * if it is static.
+   *
+   * @param renderable renderable that moved
+   */
+  public void invalidate(Renderable renderable) {
+    Layer layer = renderables.get(renderable.getLayer());
+    if (layer != null) {
+      layer.dirty = true;
     }
   }
 
@@ -52,12 +94,15 @@ public class RenderService implements Disposable {
    * @param batch batch to render to.
    */
   public void render(SpriteBatch batch) {
-    for (Array<Renderable> layer : renderables) {
-      // Sort into rendering order
-      layer.sort();
+    for (Layer layer : renderables) {
+      if (layer.dirty || !layer.isStatic) {
+        layer.sort();
+      }
 
-      for (Renderable renderable : layer) {
-        renderable.render(batch);
+      // Size is re-read each iteration as rendering can register or unregister renderables
+      Array<Renderable> items = layer.items;
+      for (int i = 0; i < items.size; i++) {
+        items.get(i).render(batch);
       }
     }
   }
@@ -102,4 +147,72 @@ public class RenderService implements Disposable {
   public void dispose() {
     renderables.clear();
   }
+
+  /** Renderables of a single layer, kept in rendering order along with their last z index. */
+  private static class Layer {
+    private static final Comparator<Renderable> RENDER_ORDER =
+        (a, b) -> compare(a.getZIndex(), a, b.getZIndex(), b);
+
+    private final Array<Renderable> items = new Array<>(true, INITIAL_CAPACITY, Renderable.class);
+    private float[] zIndices = new float[INITIAL_CAPACITY];
+    private boolean isStatic;
+    private boolean dirty;
+    private int unsortedAdds;
+
+    Layer(boolean isStatic) {
+      this.isStatic = isStatic;
+    }
+
+    void add(Renderable renderable) {
+      items.add(renderable);
+      unsortedAdds++;
+      dirty = true;
+    }
+
+    void remove(Renderable renderable) {
+      // Removing keeps the remaining renderables in order, so no sort is needed
+      items.removeValue(renderable, true);
+    }
+
+    /**
+     * Sort into rendering order. Each renderable's z index is read once, then an insertion sort
+     * moves the few renderables that changed depth. If many were added since the last sort, e.g.
+     * when a level is created, a full sort is cheaper.
+     */
+    void sort() {
+      int size = items.size;
+      if (unsortedAdds > size / 4) {
+        items.sort(RENDER_ORDER);
+      }
+      unsortedAdds = 0;
+      dirty = false;
+
+      if (zIndices.length < size) {
+        zIndices = new float[Math.max(size, zIndices.length * 2)];
+      }
+      Renderable[] renderables = items.items;
+      float[] keys = zIndices;
+      for (int i = 0; i < size; i++) {
+        keys[i] = renderables[i].getZIndex();
+      }
+
+      for (int i = 1; i < size; i++) {
+        Renderable renderable = renderables[i];
+        float key = keys[i];
+        int j = i - 1;
+        while (j >= 0 && compare(key, renderable, keys[j], renderables[j]) < 0) {
+          renderables[j + 1] = renderables[j];
+          keys[j + 1] = keys[j];
+          j--;
+        }
+        renderables[j + 1] = renderable;
+        keys[j + 1] = key;
+      }
+    }
+
+    private static int compare(float keyA, Renderable a, float keyB, Renderable b) {
+      int order = Float.compare(keyA, keyB);
+      return order != 0 ? order : a.compareTo(b);
+    }
+  }
 }
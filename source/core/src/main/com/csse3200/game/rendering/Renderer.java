@@ -8,6 +8,8 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.csse3200.game.components.CameraComponent;
+import com.csse3200.game.services.FrameProfiler;
+import com.csse3200.game.services.FrameProfiler.Section;
 import com.csse3200.game.services.ServiceLocator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +29,7 @@ public class Renderer implements Disposable {
   private Stage stage;
   private RenderService renderService;
   private DebugRenderer debugRenderer;
+  private FrameProfiler profiler;
 
   /**
    * Create a new renderer with default settings
@@ -116,14 +119,56 @@ public class Renderer implements Disposable {
 
     batch.setColor(1f, 1f, 1f, 1f);
 
+    begin(Section.WORLD_BATCH);
     batch.begin();
     renderService.render(batch);
     batch.end();
+    end(Section.WORLD_BATCH);
+    recordDrawCalls(batch);
+
+    begin(Section.DEBUG_RENDER);
     debugRenderer.render(projMatrix);
+    end(Section.DEBUG_RENDER);
 
     // Use raw delta for UI so pause only affects game logic, not UI rendering/animations
+    begin(Section.STAGE_ACT);
     stage.act();
+    end(Section.STAGE_ACT);
+
+    begin(Section.STAGE_DRAW);
     stage.draw();
+    end(Section.STAGE_DRAW);
+    if (stage.getBatch() instanceof SpriteBatch stageBatch) {
+      recordDrawCalls(stageBatch);
+    }
+  }
+
+  /**
+   * Set the profiler that the world batch, debug renderer and stage are timed with.
+   *
+   * @param profiler frame profiler, or null to stop timing
+   */
+  public void setProfiler(FrameProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  private void begin(Section section) {
+    if (profiler != null) {
+      profiler.begin(section);
+    }
+  }
+
+  private void end(Section section) {
+    if (profiler != null) {
+      profiler.end(section);
+    }
+  }
+
+  /** Record the draw calls made since the batch last began, which resets its count. */
+  private void recordDrawCalls(SpriteBatch spriteBatch) {
+    if (profiler != null) {
+      profiler.recordDrawCalls(spriteBatch.renderCalls);
+    }
   }
 
   /**
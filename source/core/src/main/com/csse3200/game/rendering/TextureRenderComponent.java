@@ -3,12 +3,19 @@ package com.csse3200.game.rendering;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.csse3200.game.services.ResourceService;
 import com.csse3200.game.services.ServiceLocator;
 
-/** Render a static texture. */
+/**
+ * Render a static texture. Textures given by path may be regions of a packed atlas, see {@link
+ * com.csse3200.game.services.ResourceService#loadPackedTextures(String, String[])}.
+ */
 public class TextureRenderComponent extends RenderComponent {
   private final Texture texture;
+  // Only set when drawing part of the texture, i.e. a region of a packed atlas
+  private final TextureRegion region;
 
   /**
    * Create a new TextureRenderComponent.
@@ -17,7 +24,14 @@ public class TextureRenderComponent extends RenderComponent {
    *     scale.
    */
   public TextureRenderComponent(String texturePath) {
-    this(ServiceLocator.getResourceService().getAsset(texturePath, Texture.class));
+    ResourceService resourceService = ServiceLocator.getResourceService();
+    if (resourceService.isPacked(texturePath)) {
+      this.region = resourceService.getTextureRegion(texturePath);
+      this.texture = region.getTexture();
+    } else {
+      this.texture = resourceService.getAsset(texturePath, Texture.class);
+      this.region = null;
+    }
   }
 
   /**
@@ -27,11 +41,26 @@ public class TextureRenderComponent extends RenderComponent {
    */
   public TextureRenderComponent(Texture texture) {
     this.texture = texture;
+    this.region = null;
+  }
+
+  /**
+   * Create a new TextureRenderComponent.
+   *
+   * @param region Static texture region to render. Will be scaled to the entity's scale.
+   */
+  public TextureRenderComponent(TextureRegion region) {
+    this.texture = region.getTexture();
+    this.region = region;
   }
 
   /** Scale the entity to a width of 1 and a height matching the texture's ratio */
   public void scaleEntity() {
-    entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    if (region != null) {
+      entity.setScale(1f, (float) region.getRegionHeight() / region.getRegionWidth());
+    } else {
+      entity.setScale(1f, (float) texture.getHeight() / texture.getWidth());
+    }
   }
 
   @Override
@@ -39,16 +68,30 @@ public class TextureRenderComponent extends RenderComponent {
     Vector2 position = entity.getPosition();
     Vector2 scale = entity.getScale();
     batch.setColor(colour);
-    batch.draw(texture, position.x, position.y, scale.x, scale.y);
+    if (region != null) {
+      batch.draw(region, position.x, position.y, scale.x, scale.y);
+    } else {
+      batch.draw(texture, position.x, position.y, scale.x, scale.y);
+    }
     batch.setColor(Color.WHITE);
   }
 
   /**
-   * Get the texture.
+   * Get the texture. For a region of a packed atlas this is the whole atlas page, see {@link
+   * #getTextureRegion()}.
    *
    * @return the texture
    */
   public Texture getTexture() {
     return texture;
   }
+
+  /**
+   * Get the part of the texture that is drawn.
+   *
+   * @return the drawn region, covering the whole texture unless it was packed into an atlas
+   */
+  public TextureRegion getTextureRegion() {
+    return region != null ? region : new TextureRegion(texture);
+  }
 }
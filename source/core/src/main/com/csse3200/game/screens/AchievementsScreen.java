@@ -30,7 +30,7 @@ public class AchievementsScreen extends BaseScreen {
    */
   public AchievementsScreen(GdxGame gdxGame) {
     super(gdxGame, Optional.of("images/backgrounds/bg.png"), Optional.empty());
-    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerResourceService(new ResourceService(ServiceLocator.getAssetCache()));
   }
 
   /**
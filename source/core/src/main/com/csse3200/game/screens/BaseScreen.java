@@ -28,6 +28,7 @@ abstract class BaseScreen extends ScreenAdapter {
   protected final Renderer renderer;
   protected final Optional<String> backgroundTexture;
   protected final Optional<String[]> additionalTextures;
+  private final ResourceService resourceService;
 
   /**
    * Constructor for BaseScreen.
@@ -44,7 +45,8 @@ abstract class BaseScreen extends ScreenAdapter {
 
     logger.debug("[{}] Initialising services", getClass().getSimpleName());
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    resourceService = new ResourceService(ServiceLocator.getAssetCache());
+    ServiceLocator.registerResourceService(resourceService);
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeSource(new GameTime());
@@ -88,6 +90,7 @@ abstract class BaseScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    resourceService.dispose();
 
     logger.debug("[{}] Services cleared", getClass().getSimpleName());
     ServiceLocator.clear();
@@ -96,7 +99,6 @@ abstract class BaseScreen extends ScreenAdapter {
   /** Loads the assets for the base screen. */
   private void loadAssets() {
     logger.debug("[{}] Loading assets", getClass().getSimpleName());
-    ResourceService resourceService = ServiceLocator.getResourceService();
     if (backgroundTexture.isPresent()) {
       logger.debug("[{}] Loading background texture", getClass().getSimpleName());
       resourceService.loadTextures(new String[] {backgroundTexture.get()});
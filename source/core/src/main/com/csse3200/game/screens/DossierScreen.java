@@ -49,7 +49,7 @@ public class DossierScreen extends ScreenAdapter {
 
     logger.debug("[DossierScreen] Initialising services");
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerResourceService(new ResourceService(ServiceLocator.getAssetCache()));
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeSource(new GameTime());
@@ -182,6 +182,7 @@ public class DossierScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getResourceService().dispose();
 
     logger.debug("[DossierScreen] Services cleared");
     ServiceLocator.clear();
@@ -43,7 +43,7 @@ public class InventoryScreen extends ScreenAdapter {
     this.game = gdxGame;
     logger.debug("Initialising inventory screen services");
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerResourceService(new ResourceService(ServiceLocator.getAssetCache()));
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeSource(new GameTime());
@@ -88,6 +88,7 @@ public class InventoryScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getResourceService().dispose();
     ServiceLocator.clear();
   }
 
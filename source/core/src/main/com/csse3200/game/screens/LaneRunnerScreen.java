@@ -56,7 +56,7 @@ public class LaneRunnerScreen extends ScreenAdapter {
   public LaneRunnerScreen(GdxGame game) {
     this.game = game;
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerResourceService(new ResourceService(ServiceLocator.getAssetCache()));
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeSource(new GameTime());
@@ -228,6 +228,7 @@ public class LaneRunnerScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getResourceService().dispose();
 
     logger.debug("[LaneRunnerScreen] Services cleared");
     ServiceLocator.clear();
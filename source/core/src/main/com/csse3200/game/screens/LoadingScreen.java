@@ -14,8 +14,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A simple loading screen that displays a background image and "Loading..." text. This screen is
- * shown while the game initializes and loads assets.
+ * A simple loading screen that displays a background image and the loading progress. This screen
+ * is shown while the game boots, and drives the boot a slice at a time each frame so it keeps
+ * rendering while assets stream in.
  */
 public class LoadingScreen implements Screen {
   private static final Logger logger = LoggerFactory.getLogger(LoadingScreen.class);
@@ -26,8 +27,11 @@ public class LoadingScreen implements Screen {
   private Skin skin;
   private Label loadingLabel;
   private Texture backgroundTexture;
-  private float loadingTime = 0f;
-  private static final float MIN_LOADING_TIME = 2f;
+  private int shownProgress = -1;
+  private boolean drawnFirstFrame = false;
+
+  /** Time spent loading assets each frame, leaving room for the rest of the frame at 60 fps. */
+  private static final int LOAD_SLICE_MILLIS = 12;
 
   public LoadingScreen(GdxGame game) {
     this.game = game;
@@ -55,11 +59,7 @@ public class LoadingScreen implements Screen {
     Label.LabelStyle st = new Label.LabelStyle(loadingLabel.getStyle());
     loadingLabel.setStyle(st);
     loadingLabel.setFontScale(2f);
-
-    float labelWidth = loadingLabel.getPrefWidth();
-    float labelHeight = loadingLabel.getPrefHeight();
-    loadingLabel.setPosition(
-        (Gdx.graphics.getWidth() - labelWidth) / 2f, (Gdx.graphics.getHeight() - labelHeight) / 2f);
+    centreLabel(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
     stage.addActor(loadingLabel);
   }
@@ -71,8 +71,6 @@ public class LoadingScreen implements Screen {
 
   @Override
   public void render(float delta) {
-    loadingTime += delta;
-
     // Update camera
     camera.update();
     batch.setProjectionMatrix(camera.combined);
@@ -90,17 +88,33 @@ public class LoadingScreen implements Screen {
     stage.act(delta);
     stage.draw();
 
-    // Check if minimum loading time has passed
-    if (loadingTime >= MIN_LOADING_TIME) {
-      logger.debug("Loading complete, transitioning to main menu");
-      completeLoading();
+    // Show one frame before starting the boot, so the screen is never blank
+    if (!drawnFirstFrame) {
+      drawnFirstFrame = true;
+      return;
+    }
+
+    // Note: dispose() will be called automatically by GdxGame.setScreen() once the boot finishes
+    if (game.updateBoot(LOAD_SLICE_MILLIS)) {
+      logger.debug("Loading complete, transitioned to main menu");
+      return;
+    }
+    updateProgress(game.getBootProgress());
+  }
+
+  private void updateProgress(int progress) {
+    if (progress == shownProgress) {
+      return;
     }
+    shownProgress = progress;
+    loadingLabel.setText("LOADING... " + progress + "%");
+    centreLabel(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
   }
 
-  private void completeLoading() {
-    // Initialize the main game
-    // Note: dispose() will be called automatically by GdxGame.setScreen()
-    game.initializeGame();
+  private void centreLabel(int width, int height) {
+    float labelWidth = loadingLabel.getPrefWidth();
+    float labelHeight = loadingLabel.getPrefHeight();
+    loadingLabel.setPosition((width - labelWidth) / 2f, (height - labelHeight) / 2f);
   }
 
   @Override
@@ -110,9 +124,7 @@ public class LoadingScreen implements Screen {
 
     // Update label position
     if (loadingLabel != null) {
-      float labelWidth = loadingLabel.getPrefWidth();
-      float labelHeight = loadingLabel.getPrefHeight();
-      loadingLabel.setPosition((width - labelWidth) / 2f, (height - labelHeight) / 2f);
+      centreLabel(width, height);
     }
   }
 
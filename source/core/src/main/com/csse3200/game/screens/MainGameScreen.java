@@ -3,7 +3,10 @@ package com.csse3200.game.screens;
 import static com.csse3200.game.services.GameStateService.FreezeReason.INTRO_PAN;
 import static com.csse3200.game.services.GameStateService.FreezeReason.USER_PAUSE;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -25,6 +28,8 @@ import com.csse3200.game.entities.configs.BaseEnemyConfig;
 import com.csse3200.game.entities.configs.BaseGeneratorConfig;
 import com.csse3200.game.entities.configs.BaseItemConfig;
 import com.csse3200.game.entities.configs.BaseLevelConfig;
+import com.csse3200.game.entities.configs.BaseSpawnConfig;
+import com.csse3200.game.entities.configs.BaseWaveConfig;
 import com.csse3200.game.entities.factories.BossFactory;
 import com.csse3200.game.entities.factories.RenderFactory;
 import com.csse3200.game.entities.factories.RobotFactory;
@@ -32,13 +37,20 @@ import com.csse3200.game.input.InputDecorator;
 import com.csse3200.game.input.InputService;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.progression.statistics.Statistics;
+import com.csse3200.game.rendering.BackgroundMapComponent;
 import com.csse3200.game.rendering.RenderService;
 import com.csse3200.game.rendering.Renderer;
 import com.csse3200.game.services.*;
+import com.csse3200.game.ui.UIComponent;
 import com.csse3200.game.ui.terminal.Terminal;
 import com.csse3200.game.ui.terminal.TerminalDisplay;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,7 +62,6 @@ import org.slf4j.LoggerFactory;
  */
 public class MainGameScreen extends ScreenAdapter {
   private static final Logger logger = LoggerFactory.getLogger(MainGameScreen.class);
-  private final List<String> textureAtlases = new ArrayList<>();
   private static final String[] MAIN_GAME_TEXTURES = {
     "images/backgrounds/level_map_grass.png",
     "images/backgrounds/level_map_town.png",
@@ -92,23 +103,20 @@ public class MainGameScreen extends ScreenAdapter {
     "images/effects/buff.png",
     "images/effects/nuke.png",
     "images/entities/defences/forge_1.png",
-    "images/effects/sling_projectile.png",
-    "images/effects/bullet.png",
-    "images/effects/shock.png",
-    "images/effects/default_projectile.png",
-    "images/effects/sling_projectile_pad.png",
     "images/effects/shell_explosion.png",
-    "images/effects/harpoon_projectile.png",
     "images/entities/currency/scrap_metal.png",
-    "images/effects/shell.png",
     "images/entities/currency/scrap_metal.png",
     "images/entities/slotmachine/slot_reels_background.png",
     "images/entities/enemies/Scrap-titan.png",
     "images/entities/enemies/Scrap-titan2.png",
     "images/entities/enemies/Scrap-titan3.png",
     "images/entities/enemies/Scrap-titan4.png",
-    "images/effects/gun_bot_fireball.png",
   };
+  // Sprites drawn in the world, packed into one atlas by the core:packTextures Gradle task so they
+  // share a texture. The task reads the same list file, one texture path per line.
+  static final String MAIN_GAME_PACKED_ATLAS = "images/packed/main_game.atlas";
+  static final String MAIN_GAME_PACKED_LIST = "images/main_game_packed.txt";
+  private static String[] mainGamePackedTextures;
   private static final String[] MAIN_GAME_TEXTURE_ATLASES = {
     "images/entities/defences/sling_shooter.atlas",
     "images/entities/defences/shield.atlas",
@@ -149,9 +157,12 @@ public class MainGameScreen extends ScreenAdapter {
   protected final PhysicsEngine physicsEngine;
   protected LevelGameArea gameArea;
   protected final GameStateService gameStateService;
+  protected final WorldUpdater worldUpdater;
+  protected final FrameProfiler frameProfiler = new FrameProfiler();
+  protected final SessionRecorder sessionRecorder = new SessionRecorder();
   protected Entity uiEntity;
-  private final List<String> textures = new ArrayList<>();
   private final String level;
+  private final Statistics statistics;
 
   private enum PanPhase {
     RIGHT,
@@ -225,6 +236,11 @@ public class MainGameScreen extends ScreenAdapter {
     // Resolve which level to load
     this.level = resolveLevelToLoad();
     logger.debug("[MainGameScreen] Effective level to load: '{}'", level);
+    // Shots, kills and coins update statistics many times a frame, so check achievements per frame
+    this.statistics = resolveStatistics();
+    if (statistics != null) {
+      statistics.setBatching(true);
+    }
     logger.debug("[MainGameScreen] Initialising main game screen services");
 
     ServiceLocator.registerTimeSource(new GameTime());
@@ -234,15 +250,23 @@ public class MainGameScreen extends ScreenAdapter {
     ServiceLocator.registerPhysicsService(physicsService);
     physicsEngine = physicsService.getPhysics();
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerResourceService(new ResourceService(ServiceLocator.getAssetCache()));
     ServiceLocator.registerEntityService(new EntityService());
-    ServiceLocator.registerRenderService(new RenderService());
+    RenderService renderService = new RenderService();
+    // Terrain and UI never change depth, so those layers are only sorted when they change
+    renderService.setStaticLayer(BackgroundMapComponent.TERRAIN_LAYER, true);
+    renderService.setStaticLayer(UIComponent.UI_LAYER, true);
+    ServiceLocator.registerRenderService(renderService);
+    ServiceLocator.registerFrameProfiler(frameProfiler);
+    ServiceLocator.registerSessionRecorder(sessionRecorder);
     ServiceLocator.registerCurrencyService(new CurrencyService(150, 10000));
     ServiceLocator.registerItemEffectsService(new ItemEffectsService());
     ServiceLocator.registerWaveService(new WaveService());
     ServiceLocator.getWaveService().setCurrentLevel(this.level);
+    ServiceLocator.registerTimerService(new TimerService());
     renderer = RenderFactory.createRenderer();
     renderer.getCamera().getEntity().setPosition(CAMERA_POSITION);
+    renderer.setProfiler(frameProfiler);
     // Apply saved gameplay speed so effect matches HUD selection across screen transitions
     float savedScale = ServiceLocator.getSettingsService().getGameplaySpeedScale();
     ServiceLocator.getTimeSource().setTimeScale(savedScale);
@@ -252,7 +276,11 @@ public class MainGameScreen extends ScreenAdapter {
     createUI();
 
     logger.debug("Initialising main game screen entities");
+    // Seeds the level's randomness, so the session can be replayed by the level simulation
+    sessionRecorder.startRecording(level);
     gameArea = createGameArea();
+    worldUpdater = new WorldUpdater(physicsEngine, gameArea, gameStateService);
+    worldUpdater.setProfiler(frameProfiler);
     // Wire WaveService spawn callback to LevelGameArea.spawnRobot with enum conversion
     // Wire WaveService spawn callback to LevelGameArea.spawnRobot with enum conversion
     ServiceLocator.getWaveService()
@@ -269,6 +297,7 @@ public class MainGameScreen extends ScreenAdapter {
               }
             });
     gameArea.create();
+    gameArea.getProjectilePool().warmUp();
     snapCameraBottomLeft();
 
     ServiceLocator.getWaveService().initialiseNewWave();
@@ -318,24 +347,25 @@ public class MainGameScreen extends ScreenAdapter {
     return "levelOne";
   }
 
+  private static Statistics resolveStatistics() {
+    ProfileService profileService = ServiceLocator.getProfileService();
+    if (profileService == null || profileService.getProfile() == null) {
+      return null;
+    }
+    return profileService.getProfile().getStatistics();
+  }
+
   @Override
   public void render(float delta) {
-    updateWorld();
+    // Runs several fixed ticks when fast-forwarding, so only the last one is rendered
+    worldUpdater.updateFrame();
+    if (statistics != null) {
+      statistics.flushAchievements();
+    }
     updateIntroPan(delta);
     renderer.render();
-    gameArea.checkGameOver(); // check game-over state
-    gameArea.checkLevelComplete(); // check level-complete state
-  }
-
-  private void updateWorld() {
-    if (gameStateService.isFrozen()) {
-      return;
-    }
-
-    float scaledDelta = ServiceLocator.getTimeSource().getDeltaTime();
-    physicsEngine.update();
-    ServiceLocator.getEntityService().update();
-    ServiceLocator.getWaveService().update(scaledDelta);
+    worldUpdater.checkEndState(); // check game-over and level-complete state
+    frameProfiler.endFrame();
   }
 
   private void updateIntroPan(float delta) {
@@ -400,11 +430,16 @@ public class MainGameScreen extends ScreenAdapter {
   @Override
   public void dispose() {
     logger.debug("Disposing main game screen");
+    if (statistics != null) {
+      statistics.setBatching(false);
+    }
     renderer.dispose();
     unloadAssets();
+    gameArea.getProjectilePool().dispose();
     ServiceLocator.getEntityService().dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getResourceService().dispose();
+    sessionRecorder.saveLastSession();
     ServiceLocator.deregisterGameStateService();
     ServiceLocator.clear();
   }
@@ -412,6 +447,56 @@ public class MainGameScreen extends ScreenAdapter {
   protected void loadAssets() {
     logger.debug("Loading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
+    queueLevelAssets(resourceService, level);
+    resourceService.loadMusic(new String[] {"sounds/background-music/level1_music.mp3"});
+    resourceService.loadAll();
+    ServiceLocator.getMusicService().play("sounds/background-music/level1_music.mp3");
+  }
+
+  /**
+   * Queue the assets used while playing a level, starting with the ones specific to the level: its
+   * background map and the robots its waves can spawn. Music is left to the caller.
+   *
+   * @param resourceService resource service to queue the assets on
+   * @param levelKey level to queue the specific assets of, e.g. "levelTwo"
+   */
+  public static void queueLevelAssets(ResourceService resourceService, String levelKey) {
+    BaseLevelConfig levelConfig = ServiceLocator.getConfigService().getLevelConfig(levelKey);
+    if (levelConfig == null) {
+      queueLevelAssets(resourceService);
+      return;
+    }
+    if (levelConfig.getMapFile() != null && !levelConfig.getMapFile().isEmpty()) {
+      resourceService.loadTextures(new String[] {levelConfig.getMapFile()});
+    }
+
+    Set<String> textures = new LinkedHashSet<>();
+    Set<String> textureAtlases = new LinkedHashSet<>();
+    List<BaseWaveConfig> waves =
+        levelConfig.getWaves() != null ? levelConfig.getWaves() : List.of();
+    for (BaseWaveConfig wave : waves) {
+      for (Map.Entry<String, BaseSpawnConfig> spawn : wave.getSpawnConfigs().entrySet()) {
+        BaseEnemyConfig enemy =
+            ServiceLocator.getConfigService().getEnemyConfig(spawn.getKey() + "Robot");
+        if (enemy != null && spawn.getValue().getChance() > 0) {
+          textures.add(enemy.getAssetPath());
+          textureAtlases.add(enemy.getAtlasPath());
+        }
+      }
+    }
+    resourceService.loadTextureAtlases(textureAtlases.toArray(new String[0]));
+    resourceService.loadTextures(textures.toArray(new String[0]));
+    queueLevelAssets(resourceService);
+  }
+
+  /**
+   * Queue the textures, atlases and sounds used while playing a level. Music is left to the caller.
+   *
+   * @param resourceService resource service to queue the assets on
+   */
+  public static void queueLevelAssets(ResourceService resourceService) {
+    List<String> textures = new ArrayList<>();
+    List<String> textureAtlases = new ArrayList<>();
 
     // Load Item Textures
     for (BaseItemConfig item : ServiceLocator.getConfigService().getItemConfigValues()) {
@@ -437,23 +522,46 @@ public class MainGameScreen extends ScreenAdapter {
       textures.add(generator.getAssetPath());
     }
 
-    // Load Music & Sounds
+    // Load Sounds
     resourceService.loadSounds(SOUNDS);
-    resourceService.loadMusic(new String[] {"sounds/background-music/level1_music.mp3"});
 
     // Load Textures
     resourceService.loadTextures(MAIN_GAME_TEXTURES);
+    resourceService.loadPackedTextures(MAIN_GAME_PACKED_ATLAS, getMainGamePackedTextures());
     resourceService.loadTextures(textures.toArray(new String[0]));
     resourceService.loadTextureAtlases(MAIN_GAME_TEXTURE_ATLASES);
     resourceService.loadTextureAtlases(textureAtlases.toArray(new String[0]));
-    ServiceLocator.getResourceService().loadAll();
-    ServiceLocator.getMusicService().play("sounds/background-music/level1_music.mp3");
+  }
+
+  /**
+   * Get the sprites packed into the level atlas, read once from {@link #MAIN_GAME_PACKED_LIST}.
+   *
+   * @return texture paths of the packed sprites
+   */
+  static String[] getMainGamePackedTextures() {
+    if (mainGamePackedTextures == null) {
+      FileHandle list = Gdx.files.internal(MAIN_GAME_PACKED_LIST);
+      if (!list.exists()) {
+        logger.error("Packed texture list {} is missing", MAIN_GAME_PACKED_LIST);
+        return new String[0];
+      }
+      mainGamePackedTextures =
+          Arrays.stream(list.readString().split("\\R"))
+              .map(String::trim)
+              .filter(line -> !line.isEmpty())
+              .toArray(String[]::new);
+    }
+    return mainGamePackedTextures;
   }
 
   private void unloadAssets() {
     logger.debug("Unloading assets");
     ResourceService resourceService = ServiceLocator.getResourceService();
     resourceService.unloadAssets(MAIN_GAME_TEXTURES);
+    resourceService.unloadAssets(getMainGamePackedTextures());
+    if (resourceService.containsAsset(MAIN_GAME_PACKED_ATLAS, TextureAtlas.class)) {
+      resourceService.unloadAssets(new String[] {MAIN_GAME_PACKED_ATLAS});
+    }
   }
 
   /**
@@ -47,7 +47,7 @@ public class MiniGameScreen extends ScreenAdapter {
 
     logger.debug("Initialising mini game screen services");
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerResourceService(new ResourceService(ServiceLocator.getAssetCache()));
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
 
@@ -84,6 +84,7 @@ public class MiniGameScreen extends ScreenAdapter {
     unloadAssets();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getResourceService().dispose();
 
     ServiceLocator.clear();
   }
@@ -44,7 +44,7 @@ public class PaddleGameScreen extends ScreenAdapter {
   public PaddleGameScreen(GdxGame game) {
     this.game = game;
     ServiceLocator.registerInputService(new InputService());
-    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerResourceService(new ResourceService(ServiceLocator.getAssetCache()));
     ServiceLocator.registerEntityService(new EntityService());
     ServiceLocator.registerRenderService(new RenderService());
     ServiceLocator.registerTimeSource(new GameTime());
@@ -197,6 +197,7 @@ public class PaddleGameScreen extends ScreenAdapter {
     renderer.dispose();
     ServiceLocator.getRenderService().dispose();
     ServiceLocator.getEntityService().dispose();
+    ServiceLocator.getResourceService().dispose();
 
     logger.debug("[PaddleGameScreen] Services cleared");
     ServiceLocator.clear();
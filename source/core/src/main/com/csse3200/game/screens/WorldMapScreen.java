@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.csse3200.game.GdxGame;
 import com.csse3200.game.components.CameraComponent;
 import com.csse3200.game.components.worldmap.AnimatedDropdownMenu;
+import com.csse3200.game.components.worldmap.LevelPrefetchComponent;
 import com.csse3200.game.components.worldmap.WorldMapNavigationMenu;
 import com.csse3200.game.components.worldmap.WorldMapNavigationMenuActions;
 import com.csse3200.game.components.worldmap.WorldMapNodeRenderComponent;
@@ -131,6 +132,7 @@ public class WorldMapScreen extends BaseScreen {
 
     playerEntity.setPosition(new Vector2(startX, startY));
     playerEntity.addComponent(new WorldMapPlayerComponent(WORLD_SIZE));
+    playerEntity.addComponent(new LevelPrefetchComponent());
     ServiceLocator.getEntityService().register(playerEntity);
 
     // Setup camera to follow player and start at the same place
@@ -0,0 +1,189 @@
+package com.csse3200.game.screens;
+
+import com.csse3200.game.areas.LevelGameArea;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.services.FrameProfiler;
+import com.csse3200.game.services.FrameProfiler.Section;
+import com.csse3200.game.services.GameStateService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SessionRecorder;
+import com.csse3200.game.services.TimerService;
+
+/**
+ * The per-frame simulation of a level, separated from rendering so it can be driven by {@link
+ * MainGameScreen} as well as without a window, e.g. by a headless simulation.
+ *
+ * <p>Speeds up to {@link #FAST_FORWARD_THRESHOLD} scale a single update's delta. Faster speeds are
+ * fast-forwarded instead: each rendered frame runs as many {@link #FAST_FORWARD_STEP} ticks as its
+ * scaled time covers, so physics, waves, AI and {@link TimerService} delays take the same size of
+ * step as at 1x and only the final state is drawn.
+ */
+public class WorldUpdater {
+  /** Time scales above this are run in fixed ticks rather than one scaled update per frame */
+  public static final float FAST_FORWARD_THRESHOLD = 2f;
+  /** Number of fast-forward ticks per second of game time */
+  static final int TICKS_PER_SECOND = 60;
+  /** Game time stepped by each fast-forward tick, the length of a frame at 60 FPS */
+  public static final float FAST_FORWARD_STEP = 1f / TICKS_PER_SECOND;
+  // Fraction of a tick the backlog may be short by and still run it, absorbing float rounding in
+  // the frame's delta
+  private static final double TICK_TOLERANCE = 1e-4;
+  /** Most game time fast-forwarding can fall behind by before the rest is dropped */
+  static final float MAX_BACKLOG = 2f;
+  /** Wall time a rendered frame may spend on fast-forward ticks by default */
+  static final long DEFAULT_TICK_BUDGET_NANOS = 12_000_000L;
+
+  private final PhysicsEngine physicsEngine;
+  private final LevelGameArea gameArea;
+  private final GameStateService gameStateService;
+  private FrameProfiler profiler;
+  private long tickBudgetNanos = DEFAULT_TICK_BUDGET_NANOS;
+  // Ticks owed, counted in whole ticks so running one subtracts exactly 1 and adds no error
+  private double backlogTicks;
+  private int lastFrameTicks;
+
+  /**
+   * Create an updater for a level.
+   *
+   * @param physicsEngine physics engine of the level
+   * @param gameArea the level's game area
+   * @param gameStateService game state, used to skip updates while the game is frozen
+   */
+  public WorldUpdater(
+      PhysicsEngine physicsEngine, LevelGameArea gameArea, GameStateService gameStateService) {
+    this.physicsEngine = physicsEngine;
+    this.gameArea = gameArea;
+    this.gameStateService = gameStateService;
+  }
+
+  /**
+   * Set the profiler that physics, entity, wave and end state updates are timed with.
+   *
+   * @param profiler frame profiler, or null to stop timing
+   */
+  public void setProfiler(FrameProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  /**
+   * Set how much wall time each rendered frame may spend on fast-forward ticks. Game time that does
+   * not fit is carried over to later frames, so fast-forwarding runs slower than asked rather than
+   * dropping the frame rate.
+   *
+   * @param tickBudgetNanos budget in nanoseconds, or {@link Long#MAX_VALUE} to always run every
+   *     tick, which keeps headless runs independent of CPU speed
+   */
+  public void setTickBudgetNanos(long tickBudgetNanos) {
+    this.tickBudgetNanos = tickBudgetNanos;
+  }
+
+  /**
+   * @return number of world updates the last {@link #updateFrame()} ran
+   */
+  public int getLastFrameTicks() {
+    return lastFrameTicks;
+  }
+
+  /**
+   * Advance the world by one rendered frame. At normal speeds this is one {@link #updateWorld()}.
+   * When fast-forwarding, the frame's scaled time is added to a backlog, which is worked off in
+   * {@link #FAST_FORWARD_STEP} ticks until it is used up, the game freezes (e.g. on game over) or
+   * the frame's tick budget is spent. The end state is checked between ticks; checking it after the
+   * last tick is left to {@link #checkEndState()}, as at normal speed.
+   */
+  public void updateFrame() {
+    GameTime time = ServiceLocator.getTimeSource();
+    if (gameStateService.isFrozen() || time.getTimeScale() <= FAST_FORWARD_THRESHOLD) {
+      backlogTicks = 0;
+      lastFrameTicks = gameStateService.isFrozen() ? 0 : 1;
+      updateWorld();
+      return;
+    }
+
+    double frameTicks = (double) time.getRawDeltaTime() * time.getTimeScale() * TICKS_PER_SECOND;
+    backlogTicks = Math.min(backlogTicks + frameTicks, (double) MAX_BACKLOG * TICKS_PER_SECOND);
+    long start = System.nanoTime();
+    int ticks = 0;
+    while (backlogTicks >= 1 - TICK_TOLERANCE) {
+      if (ticks > 0) {
+        checkEndState();
+        if (gameStateService.isFrozen() || System.nanoTime() - start >= tickBudgetNanos) {
+          break;
+        }
+      }
+      time.setFixedDelta(FAST_FORWARD_STEP);
+      try {
+        updateWorld();
+      } finally {
+        time.clearFixedDelta();
+      }
+      backlogTicks -= 1;
+      ticks++;
+    }
+    lastFrameTicks = ticks;
+  }
+
+  /**
+   * Step physics, entities, timers and waves by the time source's current delta. When a session is
+   * being replayed, the inputs due by now are applied first.
+   */
+  public void updateWorld() {
+    if (gameStateService.isFrozen()) {
+      return;
+    }
+
+    SessionRecorder recorder = ServiceLocator.getSessionRecorder();
+    if (recorder != null) {
+      recorder.applyDueInputs(gameArea);
+    }
+    float scaledDelta = ServiceLocator.getTimeSource().getDeltaTime();
+    begin(Section.PHYSICS);
+    physicsEngine.update();
+    // Projectiles that despawned during the physics step can only be deactivated once it is over
+    gameArea.getProjectilePool().processReleases();
+    end(Section.PHYSICS);
+
+    begin(Section.ENTITIES);
+    ServiceLocator.getEntityService().update();
+    TimerService timers = ServiceLocator.getTimerService();
+    if (timers != null) {
+      timers.update(scaledDelta);
+    }
+    end(Section.ENTITIES);
+
+    begin(Section.PHYSICS);
+    gameArea.updateRobotIndex();
+    // Straight-line projectiles are checked against robots once everything has moved this frame
+    gameArea.resolveLaneHits();
+    end(Section.PHYSICS);
+
+    begin(Section.WAVES);
+    ServiceLocator.getWaveService().update(scaledDelta);
+    end(Section.WAVES);
+
+    if (recorder != null) {
+      recorder.advance(scaledDelta);
+    }
+  }
+
+  /** Check whether the level has been lost or won. Should be called once per frame. */
+  public void checkEndState() {
+    begin(Section.END_STATE);
+    gameArea.checkGameOver();
+    gameArea.checkLevelComplete();
+    end(Section.END_STATE);
+  }
+
+  private void begin(Section section) {
+    if (profiler != null) {
+      profiler.begin(section);
+    }
+  }
+
+  private void end(Section section) {
+    if (profiler != null) {
+      profiler.end(section);
+    }
+  }
+}
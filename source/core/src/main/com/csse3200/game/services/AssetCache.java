@@ -0,0 +1,257 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Disposable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A reference-counted asset cache shared between screens. Each screen's {@link ResourceService}
+ * acquires the assets it loads and releases them when unloaded or disposed. Assets nobody holds are
+ * kept loaded, so returning to a screen or replaying a level does not decode them again, until the
+ * idle assets go over a memory budget and the least recently released are unloaded.
+ *
+ * <p>Memory use is estimated: textures count 4 bytes per pixel, atlases the sum of their pages, and
+ * other assets the size of their file.
+ */
+public class AssetCache implements Disposable {
+  private static final Logger logger = LoggerFactory.getLogger(AssetCache.class);
+  private static final long DEFAULT_IDLE_BUDGET_BYTES = 256L * 1024 * 1024;
+  private static final int BYTES_PER_PIXEL = 4;
+  private static final long UNMEASURED = -1;
+
+  private final AssetManager assetManager;
+  private final long idleBudgetBytes;
+  private final Map<String, Entry> entries = new HashMap<>();
+  /** Unreferenced entries, least recently released first */
+  private final LinkedHashMap<String, Entry> idle = new LinkedHashMap<>();
+
+  private long idleBytes;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  /** Create a cache with its own AssetManager and a 256 MB idle budget. */
+  public AssetCache() {
+    this(new AssetManager(), DEFAULT_IDLE_BUDGET_BYTES);
+  }
+
+  /**
+   * Create a cache.
+   *
+   * @param assetManager asset manager to load into. Only this cache should load or unload on it.
+   * @param idleBudgetBytes estimated bytes of unreferenced assets to keep loaded
+   */
+  public AssetCache(AssetManager assetManager, long idleBudgetBytes) {
+    if (idleBudgetBytes < 0) {
+      throw new IllegalArgumentException("Idle budget cannot be negative");
+    }
+    this.assetManager = assetManager;
+    this.idleBudgetBytes = idleBudgetBytes;
+  }
+
+  /**
+   * @return asset manager holding the cached assets
+   */
+  public AssetManager getAssetManager() {
+    return assetManager;
+  }
+
+  /**
+   * Take a reference to an asset, queueing it on the asset manager if it is not already loaded or
+   * queued.
+   *
+   * @param assetName asset path
+   * @param type asset type
+   * @param <T> asset type
+   */
+  public <T> void acquire(String assetName, Class<T> type) {
+    Entry entry = entries.get(assetName);
+    if (entry != null) {
+      hits++;
+      if (entry.references == 0) {
+        idle.remove(assetName);
+        idleBytes -= entry.bytes;
+      }
+      entry.references++;
+      return;
+    }
+
+    misses++;
+    assetManager.load(assetName, type);
+    entry = new Entry(assetName);
+    entry.references = 1;
+    entries.put(assetName, entry);
+  }
+
+  /**
+   * Drop a reference to an asset. Once unreferenced, a loaded asset stays loaded until evicted,
+   * while one still waiting to load is dropped from the queue.
+   *
+   * @param assetName asset path
+   */
+  public void release(String assetName) {
+    Entry entry = entries.get(assetName);
+    if (entry == null || entry.references == 0) {
+      logger.debug("[AssetCache] Released {} without a reference", assetName);
+      return;
+    }
+
+    entry.references--;
+    if (entry.references > 0) {
+      return;
+    }
+    if (!assetManager.isLoaded(assetName)) {
+      unload(entry);
+      return;
+    }
+    idle.put(assetName, entry);
+    idleBytes += bytesOf(entry);
+    trim(idleBudgetBytes);
+  }
+
+  /**
+   * Unload idle assets, least recently released first, until they fit the budget.
+   *
+   * @param budgetBytes estimated bytes of idle assets to keep
+   */
+  public void trim(long budgetBytes) {
+    Iterator<Entry> oldest = idle.values().iterator();
+    while (idleBytes > budgetBytes && oldest.hasNext()) {
+      Entry entry = oldest.next();
+      oldest.remove();
+      idleBytes -= entry.bytes;
+      evictions++;
+      unload(entry);
+    }
+  }
+
+  /**
+   * Get how many references are held on an asset.
+   *
+   * @param assetName asset path
+   * @return number of references, or 0 if the asset is not cached
+   */
+  public int getReferenceCount(String assetName) {
+    Entry entry = entries.get(assetName);
+    return entry == null ? 0 : entry.references;
+  }
+
+  /**
+   * Check whether an asset is cached, whether loaded or still queued.
+   *
+   * @param assetName asset path
+   * @return true if the asset is cached
+   */
+  public boolean contains(String assetName) {
+    return entries.containsKey(assetName);
+  }
+
+  /**
+   * @return number of acquires for assets that were already cached
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * @return number of acquires that had to queue a new load
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * @return number of idle assets unloaded to stay within the budget
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * @return estimated bytes of loaded assets that are not referenced
+   */
+  public long getIdleBytes() {
+    return idleBytes;
+  }
+
+  /**
+   * Get the estimated size of every loaded asset in the cache, referenced or not.
+   *
+   * @return estimated resident bytes
+   */
+  public long getResidentBytes() {
+    long total = idleBytes;
+    for (Entry entry : entries.values()) {
+      if (entry.references > 0 && assetManager.isLoaded(entry.name)) {
+        total += bytesOf(entry);
+      }
+    }
+    return total;
+  }
+
+  private void unload(Entry entry) {
+    entries.remove(entry.name);
+    logger.debug("[AssetCache] Unloading {}", entry.name);
+    try {
+      assetManager.unload(entry.name);
+    } catch (Exception e) {
+      logger.error("[AssetCache] Could not unload {}", entry.name);
+    }
+  }
+
+  /** Estimated size of a loaded entry, measured the first time it is asked for. */
+  private long bytesOf(Entry entry) {
+    if (entry.bytes == UNMEASURED) {
+      entry.bytes = estimateBytes(entry.name);
+    }
+    return entry.bytes;
+  }
+
+  private long estimateBytes(String assetName) {
+    Object asset = assetManager.get(assetName);
+    if (asset instanceof Texture texture) {
+      return textureBytes(texture);
+    }
+    if (asset instanceof TextureAtlas atlas) {
+      long total = 0;
+      for (Texture page : atlas.getTextures()) {
+        total += textureBytes(page);
+      }
+      return total;
+    }
+    return assetManager.getFileHandleResolver().resolve(assetName).length();
+  }
+
+  private static long textureBytes(Texture texture) {
+    return (long) texture.getWidth() * texture.getHeight() * BYTES_PER_PIXEL;
+  }
+
+  @Override
+  public void dispose() {
+    logger.debug(
+        "[AssetCache] Disposing with {} hits, {} misses, {} evictions", hits, misses, evictions);
+    entries.clear();
+    idle.clear();
+    idleBytes = 0;
+    assetManager.dispose();
+  }
+
+  /** Bookkeeping for one cached asset. */
+  private static class Entry {
+    private final String name;
+    private int references;
+    /** Estimated size, measured once the asset has loaded */
+    private long bytes = UNMEASURED;
+
+    private Entry(String name) {
+      this.name = name;
+    }
+  }
+}
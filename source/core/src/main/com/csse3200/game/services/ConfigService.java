@@ -1,5 +1,6 @@
 package com.csse3200.game.services;
 
+import com.csse3200.game.concurrency.JobSystem;
 import com.csse3200.game.entities.configs.BaseAchievementConfig;
 import com.csse3200.game.entities.configs.BaseAchievementConfig.DeserializedAchievementConfig;
 import com.csse3200.game.entities.configs.BaseDefenderConfig;
@@ -11,9 +12,11 @@ import com.csse3200.game.entities.configs.BaseItemConfig.DeserializedItemConfig;
 import com.csse3200.game.entities.configs.BaseLevelConfig;
 import com.csse3200.game.entities.configs.BaseLevelConfig.DeserializedLevelConfig;
 import com.csse3200.game.entities.configs.DeserializedDefencesConfig;
+import com.csse3200.game.persistence.ConfigSnapshot;
 import com.csse3200.game.persistence.FileLoader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import net.dermetfan.utils.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,11 +36,37 @@ public class ConfigService {
   private static final String ACHIEVEMENT_CONFIG_FILE = "configs/achievements.json";
   private static final String LEVEL_CONFIG_FILE = "configs/levels.json";
 
-  /** On registration, the config service will use the FileLoader to load all config files. */
+  /** On registration, the config service loads all config files, using snapshots where it can. */
   public ConfigService() {
+    this(new ConfigSnapshot());
+  }
+
+  /**
+   * Load all config files in parallel, each from its snapshot if it is up to date or otherwise from
+   * JSON. The loads read and write files, so they run as blocking jobs.
+   *
+   * @param snapshot snapshot cache to load through
+   */
+  public ConfigService(ConfigSnapshot snapshot) {
     logger.info("[ConfigService] Initializing ConfigService and loading all config files...");
+    CompletableFuture<DeserializedDefencesConfig> defences =
+        JobSystem.launchBlocking(
+            () -> snapshot.load(DeserializedDefencesConfig.class, DEFENCE_CONFIG_FILE));
+    CompletableFuture<DeserializedEnemyConfig> enemies =
+        JobSystem.launchBlocking(
+            () -> snapshot.load(DeserializedEnemyConfig.class, ENEMY_CONFIG_FILE));
+    CompletableFuture<DeserializedItemConfig> items =
+        JobSystem.launchBlocking(
+            () -> snapshot.load(DeserializedItemConfig.class, ITEM_CONFIG_FILE));
+    CompletableFuture<DeserializedAchievementConfig> achievements =
+        JobSystem.launchBlocking(
+            () -> snapshot.load(DeserializedAchievementConfig.class, ACHIEVEMENT_CONFIG_FILE));
+    CompletableFuture<DeserializedLevelConfig> levels =
+        JobSystem.launchBlocking(
+            () -> snapshot.load(DeserializedLevelConfig.class, LEVEL_CONFIG_FILE));
+
     Pair<Map<String, BaseDefenderConfig>, Map<String, BaseGeneratorConfig>> defenceConfigs =
-        loadDefenceConfigs(DEFENCE_CONFIG_FILE);
+        toDefenceConfigs(defences.join(), DEFENCE_CONFIG_FILE);
     this.defendersConfigs = defenceConfigs.getKey();
     this.generatorsConfigs = defenceConfigs.getValue();
     logger.info(
@@ -45,17 +74,21 @@ public class ConfigService {
         this.defendersConfigs.size(),
         this.generatorsConfigs.size());
 
-    this.enemyConfigs = loadEnemyConfigs(ENEMY_CONFIG_FILE);
+    this.enemyConfigs = toEnemyConfigs(enemies.join(), ENEMY_CONFIG_FILE);
     logger.info("[ConfigService] Loaded {} enemies", this.enemyConfigs.size());
 
-    this.itemConfigs = loadItemConfigs(ITEM_CONFIG_FILE);
+    this.itemConfigs = toItemConfigs(items.join(), ITEM_CONFIG_FILE);
     logger.info("[ConfigService] Loaded {} items", this.itemConfigs.size());
 
-    this.achievementConfigs = loadAchievementConfigs(ACHIEVEMENT_CONFIG_FILE);
+    this.achievementConfigs = toAchievementConfigs(achievements.join(), ACHIEVEMENT_CONFIG_FILE);
     logger.info("[ConfigService] Loaded {} achievements", this.achievementConfigs.size());
 
-    this.levelConfigs = loadLevelConfigs(LEVEL_CONFIG_FILE);
+    this.levelConfigs = toLevelConfigs(levels.join(), LEVEL_CONFIG_FILE);
     logger.info("[ConfigService] Loaded {} levels", this.levelConfigs.size());
+    logger.info(
+        "[ConfigService] Loaded {} config files from snapshots, {} from JSON",
+        snapshot.getHits(),
+        snapshot.getMisses());
 
     logger.info("[ConfigService] ConfigService initialization complete");
     String configString = toString();
@@ -69,8 +102,11 @@ public class ConfigService {
    * @return the item configs
    */
   public Map<String, BaseItemConfig> loadItemConfigs(String filename) {
-    DeserializedItemConfig wrapper = FileLoader.readClass(DeserializedItemConfig.class, filename);
+    return toItemConfigs(FileLoader.readClass(DeserializedItemConfig.class, filename), filename);
+  }
 
+  private static Map<String, BaseItemConfig> toItemConfigs(
+      DeserializedItemConfig wrapper, String filename) {
     if (wrapper == null) {
       logger.warn("[ConfigService] Failed to load item config file: {}", filename);
       return new HashMap<>();
@@ -93,8 +129,12 @@ public class ConfigService {
    */
   public Pair<Map<String, BaseDefenderConfig>, Map<String, BaseGeneratorConfig>> loadDefenceConfigs(
       String filename) {
-    DeserializedDefencesConfig wrapper =
-        FileLoader.readClass(DeserializedDefencesConfig.class, filename);
+    return toDefenceConfigs(
+        FileLoader.readClass(DeserializedDefencesConfig.class, filename), filename);
+  }
+
+  private static Pair<Map<String, BaseDefenderConfig>, Map<String, BaseGeneratorConfig>>
+      toDefenceConfigs(DeserializedDefencesConfig wrapper, String filename) {
     if (wrapper == null) {
       logger.warn("[ConfigService] Failed to load defence config file: {}", filename);
       return new Pair<>(new HashMap<>(), new HashMap<>());
@@ -124,7 +164,11 @@ public class ConfigService {
    * @return the enemy configs
    */
   public Map<String, BaseEnemyConfig> loadEnemyConfigs(String filename) {
-    DeserializedEnemyConfig wrapper = FileLoader.readClass(DeserializedEnemyConfig.class, filename);
+    return toEnemyConfigs(FileLoader.readClass(DeserializedEnemyConfig.class, filename), filename);
+  }
+
+  private static Map<String, BaseEnemyConfig> toEnemyConfigs(
+      DeserializedEnemyConfig wrapper, String filename) {
     if (wrapper == null) {
       logger.warn("[ConfigService] Failed to load enemy config file: {}", filename);
       return new HashMap<>();
@@ -146,8 +190,12 @@ public class ConfigService {
    * @return the achievement configs
    */
   public Map<String, BaseAchievementConfig> loadAchievementConfigs(String filename) {
-    DeserializedAchievementConfig wrapper =
-        FileLoader.readClass(DeserializedAchievementConfig.class, filename);
+    return toAchievementConfigs(
+        FileLoader.readClass(DeserializedAchievementConfig.class, filename), filename);
+  }
+
+  private static Map<String, BaseAchievementConfig> toAchievementConfigs(
+      DeserializedAchievementConfig wrapper, String filename) {
     if (wrapper == null) {
       logger.warn("[ConfigService] Failed to load achievement config file: {}", filename);
       return new HashMap<>();
@@ -170,7 +218,11 @@ public class ConfigService {
    * @return the level configs
    */
   public Map<String, BaseLevelConfig> loadLevelConfigs(String filename) {
-    DeserializedLevelConfig wrapper = FileLoader.readClass(DeserializedLevelConfig.class, filename);
+    return toLevelConfigs(FileLoader.readClass(DeserializedLevelConfig.class, filename), filename);
+  }
+
+  private static Map<String, BaseLevelConfig> toLevelConfigs(
+      DeserializedLevelConfig wrapper, String filename) {
     if (wrapper == null) {
       logger.error("[ConfigService] FileLoader returned null for level config file: {}", filename);
       return new HashMap<>();
@@ -0,0 +1,386 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.csse3200.game.events.EventKeys;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Times each part of the game loop and keeps the timings of the last frames in a ring buffer, so
+ * the cost of each subsystem can be compared, e.g. to see whether stutter comes from physics, AI or
+ * the UI.
+ *
+ * <p>Usage:
+ *
+ * <pre>
+ * profiler.begin(Section.PHYSICS);
+ * physicsEngine.update();
+ * profiler.end(Section.PHYSICS);
+ * ...
+ * profiler.endFrame();
+ * </pre>
+ *
+ * Recording a frame does not allocate. Statistics are computed on demand.
+ *
+ * <p>Ending a frame also drains the {@link EventKeys} trigger counters, so the number of times each
+ * event fired in the last finished frame can be read back. Only one profiler should be ending
+ * frames at a time.
+ */
+public class FrameProfiler {
+  private static final Logger logger = LoggerFactory.getLogger(FrameProfiler.class);
+  private static final int DEFAULT_CAPACITY = 300;
+  private static final Section[] SECTIONS = Section.values();
+
+  /** Timed parts of the game loop. */
+  public enum Section {
+    PHYSICS("physics"),
+    ENTITIES("entities"),
+    WAVES("waves"),
+    WORLD_BATCH("world batch"),
+    DEBUG_RENDER("debug render"),
+    STAGE_ACT("stage act"),
+    STAGE_DRAW("stage draw"),
+    END_STATE("end state"),
+    /** Whole frame, measured from the end of one frame to the end of the next. */
+    FRAME("frame");
+
+    private final String label;
+
+    Section(String label) {
+      this.label = label;
+    }
+
+    /**
+     * @return human readable name of the section
+     */
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  private final int capacity;
+  /** Nanoseconds spent per section, indexed by [section][frame slot] */
+  private final long[][] samples;
+
+  private final long[] current;
+  /** Sprite batch render calls, i.e. draw calls, indexed by frame slot */
+  private final int[] drawCalls;
+
+  private int currentDrawCalls;
+  private final long[] startTimes;
+  private final long[] scratch;
+  private int head;
+  private int frameCount;
+  private long lastFrameEnd;
+  /** Triggers of each event in the last finished frame, indexed by event ID */
+  private long[] frameEvents = new long[64];
+
+  private int frameEventCount;
+
+  /** Create a profiler that keeps the last 300 frames. */
+  public FrameProfiler() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a profiler.
+   *
+   * @param capacity number of most recent frames to keep
+   */
+  public FrameProfiler(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+    samples = new long[SECTIONS.length][capacity];
+    current = new long[SECTIONS.length];
+    startTimes = new long[SECTIONS.length];
+    scratch = new long[capacity];
+    drawCalls = new int[capacity];
+  }
+
+  /**
+   * Start timing a section of the current frame.
+   *
+   * @param section section to time
+   */
+  public void begin(Section section) {
+    startTimes[section.ordinal()] = System.nanoTime();
+  }
+
+  /**
+   * Stop timing a section and add its time to the current frame.
+   *
+   * @param section section started with {@link #begin(Section)}
+   */
+  public void end(Section section) {
+    record(section, System.nanoTime() - startTimes[section.ordinal()]);
+  }
+
+  /**
+   * Add time to a section of the current frame. A section timed more than once in a frame reports
+   * the total.
+   *
+   * @param section section to add to
+   * @param nanos time taken in nanoseconds
+   */
+  public void record(Section section, long nanos) {
+    current[section.ordinal()] += nanos;
+  }
+
+  /**
+   * Add draw calls to the current frame.
+   *
+   * @param calls number of draw calls made, e.g. a sprite batch's render calls
+   */
+  public void recordDrawCalls(int calls) {
+    currentDrawCalls += calls;
+  }
+
+  /** Finish the current frame, storing its timings and starting the next one. */
+  public void endFrame() {
+    long now = System.nanoTime();
+    if (lastFrameEnd != 0) {
+      record(Section.FRAME, now - lastFrameEnd);
+    }
+    lastFrameEnd = now;
+
+    for (int s = 0; s < SECTIONS.length; s++) {
+      samples[s][head] = current[s];
+      current[s] = 0;
+    }
+    drawCalls[head] = currentDrawCalls;
+    currentDrawCalls = 0;
+    head = (head + 1) % capacity;
+    frameCount = Math.min(frameCount + 1, capacity);
+
+    int events = EventKeys.getEventCount();
+    if (events > frameEvents.length) {
+      frameEvents = new long[Math.max(events, frameEvents.length * 2)];
+    }
+    frameEventCount = EventKeys.drainTriggerCounts(frameEvents);
+  }
+
+  /** Discard all stored frames. */
+  public void reset() {
+    Arrays.fill(current, 0);
+    currentDrawCalls = 0;
+    head = 0;
+    frameCount = 0;
+    lastFrameEnd = 0;
+    frameEventCount = 0;
+    EventKeys.resetTriggerCounts();
+  }
+
+  /**
+   * @return number of frames currently stored, at most the capacity
+   */
+  public int getFrameCount() {
+    return frameCount;
+  }
+
+  /**
+   * @return maximum number of frames stored
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Get the time a section took in the fastest stored frame.
+   *
+   * @param section section to query
+   * @return minimum in nanoseconds, or 0 if no frames are stored
+   */
+  public long getMin(Section section) {
+    if (frameCount == 0) {
+      return 0;
+    }
+    long[] sectionSamples = samples[section.ordinal()];
+    long min = Long.MAX_VALUE;
+    for (int i = 0; i < frameCount; i++) {
+      min = Math.min(min, sectionSamples[i]);
+    }
+    return min;
+  }
+
+  /**
+   * Get the average time a section took over the stored frames.
+   *
+   * @param section section to query
+   * @return average in nanoseconds, or 0 if no frames are stored
+   */
+  public long getAverage(Section section) {
+    if (frameCount == 0) {
+      return 0;
+    }
+    long[] sectionSamples = samples[section.ordinal()];
+    long total = 0;
+    for (int i = 0; i < frameCount; i++) {
+      total += sectionSamples[i];
+    }
+    return total / frameCount;
+  }
+
+  /**
+   * Get the average number of draw calls per frame over the stored frames.
+   *
+   * @return average draw calls, or 0 if no frames are stored
+   */
+  public float getAverageDrawCalls() {
+    if (frameCount == 0) {
+      return 0;
+    }
+    long total = 0;
+    for (int i = 0; i < frameCount; i++) {
+      total += drawCalls[i];
+    }
+    return (float) total / frameCount;
+  }
+
+  /**
+   * Get the most draw calls made in one of the stored frames.
+   *
+   * @return maximum draw calls, or 0 if no frames are stored
+   */
+  public int getMaxDrawCalls() {
+    int max = 0;
+    for (int i = 0; i < frameCount; i++) {
+      max = Math.max(max, drawCalls[i]);
+    }
+    return max;
+  }
+
+  /**
+   * Get how many times an event was triggered in the last finished frame.
+   *
+   * @param eventId interned event ID
+   * @return trigger count, or 0 if no frame has finished
+   */
+  public long getEventTriggers(int eventId) {
+    return eventId < frameEventCount ? frameEvents[eventId] : 0;
+  }
+
+  /**
+   * Get how many events were triggered in the last finished frame.
+   *
+   * @return trigger count over all events
+   */
+  public long getTotalEventTriggers() {
+    long total = 0;
+    for (int i = 0; i < frameEventCount; i++) {
+      total += frameEvents[i];
+    }
+    return total;
+  }
+
+  /**
+   * Find the events triggered most in the last finished frame.
+   *
+   * @param out array to fill with event IDs, most triggered first
+   * @return number of IDs written, fewer than the length of out if fewer events were triggered
+   */
+  public int getTopEvents(int[] out) {
+    int found = 0;
+    for (int id = 0; id < frameEventCount; id++) {
+      long triggers = frameEvents[id];
+      if (triggers == 0) {
+        continue;
+      }
+      // Insertion into the short sorted list of the best events so far
+      int slot = Math.min(found, out.length);
+      while (slot > 0 && frameEvents[out[slot - 1]] < triggers) {
+        slot--;
+      }
+      if (slot >= out.length) {
+        continue;
+      }
+      int last = Math.min(found, out.length - 1);
+      System.arraycopy(out, slot, out, slot + 1, last - slot);
+      out[slot] = id;
+      found = Math.min(found + 1, out.length);
+    }
+    return found;
+  }
+
+  /**
+   * Get the time a section took at a percentile of the stored frames, e.g. 99 for the 99th
+   * percentile. Uses the nearest-rank method.
+   *
+   * @param section section to query
+   * @param percentile percentile between 0 and 100
+   * @return time at the percentile in nanoseconds, or 0 if no frames are stored
+   */
+  public long getPercentile(Section section, int percentile) {
+    if (frameCount == 0) {
+      return 0;
+    }
+    // Only the stored slots are used, so their order in the ring does not matter
+    System.arraycopy(samples[section.ordinal()], 0, scratch, 0, frameCount);
+    Arrays.sort(scratch, 0, frameCount);
+    int rank = (percentile * frameCount + 99) / 100;
+    int index = Math.max(0, Math.min(frameCount - 1, rank - 1));
+    return scratch[index];
+  }
+
+  /**
+   * Write the stored frames as CSV, oldest first, with one column per section in nanoseconds and
+   * the frame's draw calls.
+   *
+   * @param writer writer to write to. Not closed.
+   * @throws IOException if writing fails
+   */
+  public void writeCsv(Writer writer) throws IOException {
+    writer.write("frame");
+    for (Section section : SECTIONS) {
+      writer.write(',');
+      writer.write(section.name().toLowerCase(Locale.ROOT));
+      writer.write("_ns");
+    }
+    writer.write(",draw_calls\n");
+
+    int oldest = (head - frameCount + capacity) % capacity;
+    for (int i = 0; i < frameCount; i++) {
+      int slot = (oldest + i) % capacity;
+      writer.write(Integer.toString(i));
+      for (int s = 0; s < SECTIONS.length; s++) {
+        writer.write(',');
+        writer.write(Long.toString(samples[s][slot]));
+      }
+      writer.write(',');
+      writer.write(Integer.toString(drawCalls[slot]));
+      writer.write('\n');
+    }
+  }
+
+  /**
+   * Export the stored frames to a CSV file.
+   *
+   * @param file file to write, replaced if it exists
+   * @return true if the file was written
+   */
+  public boolean exportCsv(FileHandle file) {
+    try (Writer writer = file.writer(false)) {
+      writeCsv(writer);
+      logger.info("Exported {} profiled frames to {}", frameCount, file.path());
+      return true;
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to export frame profile to {}", file.path(), e);
+      return false;
+    }
+  }
+
+  /**
+   * Build a default file name for an export.
+   *
+   * @return file name containing the current time
+   */
+  public static String defaultExportName() {
+    return "frame-profile-" + TimeUtils.millis() + ".csv";
+  }
+}
@@ -10,6 +10,7 @@ public class GameTime {
   private static Logger logger = LoggerFactory.getLogger(GameTime.class);
   private final long startTime;
   private float timeScale = 1f;
+  private float fixedDelta = -1f;
 
   /** Constructor for the GameTime class. */
   public GameTime() {
@@ -42,12 +43,32 @@ public class GameTime {
   }
 
   /**
-   * Get the time since the last frame in seconds, scaled by time scale
+   * Make {@link #getDeltaTime()} report a fixed step instead of the scaled frame time, until {@link
+   * #clearFixedDelta()} is called. Used to split a fast-forwarded frame into several ticks of the
+   * same size as a normal frame. While time is stopped, a delta of 0 is still reported.
+   *
+   * @param delta game time of each step in seconds, already including any speed-up
+   */
+  public void setFixedDelta(float delta) {
+    fixedDelta = Math.max(0f, delta);
+  }
+
+  /** Go back to reporting the scaled frame time from {@link #getDeltaTime()}. */
+  public void clearFixedDelta() {
+    fixedDelta = -1f;
+  }
+
+  /**
+   * Get the time since the last frame in seconds, scaled by time scale. If a fixed delta is set, it
+   * is returned instead.
    *
    * @return time passed since the last frame in seconds, scaled by time scale.
    */
   public float getDeltaTime() {
-    return Gdx.graphics.getDeltaTime() * timeScale;
+    if (fixedDelta >= 0f) {
+      return timeScale > 0f ? fixedDelta : 0f;
+    }
+    return getRawDeltaTime() * timeScale;
   }
 
   /**
@@ -1,32 +1,58 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.utils.Disposable;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Service for loading resources, e.g. textures, texture atlases, sounds, music, etc. Add new load
  * methods when new types of resources are added to the game.
+ *
+ * <p>A service created with an {@link AssetCache} shares the cache's AssetManager with other
+ * screens. Its loads take references on the cache and unloading or disposing the service releases
+ * them, leaving the assets loaded for the next screen that wants them.
  */
 public class ResourceService implements Disposable {
   private static final Logger logger = LoggerFactory.getLogger(ResourceService.class);
   private final AssetManager assetManager;
   private final Map<String, FreeTypeFontGenerator> fontGenerators;
+  // Legacy texture path -> atlas it was packed into
+  private final Map<String, String> packedTextures = new HashMap<>();
+  private final Map<String, TextureRegion> textureRegions = new HashMap<>();
+  private final AssetCache cache;
+  // Assets this service holds a reference to in the cache
+  private final Set<String> leases = new HashSet<>();
 
   /** Initialise this ResourceService to use the default AssetManager. */
   public ResourceService() {
     this(new AssetManager());
   }
 
+  /**
+   * Initialise this ResourceService to load through a shared cache.
+   *
+   * @param cache shared asset cache, or null to use a private AssetManager as before
+   */
+  public ResourceService(AssetCache cache) {
+    this.cache = cache;
+    this.assetManager = cache == null ? new AssetManager() : cache.getAssetManager();
+    this.fontGenerators = new HashMap<>();
+  }
+
   /**
    * Initialise this ResourceService to use the provided AssetManager.
    *
@@ -36,6 +62,7 @@ public class ResourceService implements Disposable {
   public ResourceService(AssetManager assetManager) {
     this.assetManager = assetManager;
     this.fontGenerators = new HashMap<>();
+    this.cache = null;
   }
 
   /**
@@ -107,13 +134,28 @@ public class ResourceService implements Disposable {
   }
 
   /**
-   * Clears all loaded assets and assets in the preloading queue.
+   * Clears all loaded assets and assets in the preloading queue. With a shared cache, only this
+   * service's references are released.
    *
    * @see AssetManager#clear()
    */
   public void clearAllAssets() {
     logger.debug("[ResourceService] Clearing all assets");
-    assetManager.clear();
+    packedTextures.clear();
+    textureRegions.clear();
+    releaseAssets();
+  }
+
+  /** Release this service's assets, or clear its own asset manager when not using a cache. */
+  private void releaseAssets() {
+    if (cache == null) {
+      assetManager.clear();
+      return;
+    }
+    for (String assetName : leases) {
+      cache.release(assetName);
+    }
+    leases.clear();
   }
 
   /**
@@ -126,7 +168,11 @@ public class ResourceService implements Disposable {
   private <T> void loadAsset(String assetName, Class<T> type) {
     logger.debug("[ResourceService] Loading {}: {}", type.getSimpleName(), assetName);
     try {
-      assetManager.load(assetName, type);
+      if (cache == null) {
+        assetManager.load(assetName, type);
+      } else if (leases.add(assetName)) {
+        cache.acquire(assetName, type);
+      }
     } catch (Exception e) {
       logger.error(
           "[ResourceService] Could not load {}: {} - {}",
@@ -167,6 +213,78 @@ public class ResourceService implements Disposable {
     loadAssets(textureAtlasNames, TextureAtlas.class);
   }
 
+  /**
+   * Loads textures that may have been packed into a single atlas by the {@code packTextures} Gradle
+   * task. If the atlas exists, the textures are resolved to its regions by {@link
+   * #getTextureRegion(String)}, so they are drawn without switching textures. Otherwise each
+   * texture is loaded on its own, as with {@link #loadTextures(String[])}.
+   *
+   * @param atlasName atlas the textures were packed into
+   * @param textureNames texture filenames. Each is packed as a region named after its path without
+   *     the file extension.
+   */
+  public void loadPackedTextures(String atlasName, String[] textureNames) {
+    if (!Gdx.files.internal(atlasName).exists()) {
+      logger.debug("[ResourceService] {} not packed, loading textures individually", atlasName);
+      loadTextures(textureNames);
+      return;
+    }
+
+    loadAsset(atlasName, TextureAtlas.class);
+    for (String textureName : textureNames) {
+      packedTextures.put(textureName, atlasName);
+    }
+  }
+
+  /**
+   * Get a loaded texture as a region. Textures loaded through {@link #loadPackedTextures(String,
+   * String[])} resolve to their region in the packed atlas, and any other texture to a region
+   * covering the whole texture. A packed texture missing from its atlas is logged and loaded on its
+   * own, blocking until it is ready. Regions are shared, so should not be modified.
+   *
+   * @param filename texture path
+   * @return region of the texture
+   */
+  public TextureRegion getTextureRegion(String filename) {
+    TextureRegion region = textureRegions.get(filename);
+    if (region != null) {
+      return region;
+    }
+
+    String atlasName = packedTextures.get(filename);
+    if (atlasName != null) {
+      region = getAsset(atlasName, TextureAtlas.class).findRegion(getRegionName(filename));
+      if (region == null) {
+        logger.error(
+            "[ResourceService] {} is missing from {}, loading it on its own", filename, atlasName);
+        // It was routed to the atlas, so it was never queued as a texture
+        packedTextures.remove(filename);
+        loadAsset(filename, Texture.class);
+        assetManager.finishLoadingAsset(filename);
+      }
+    }
+    if (region == null) {
+      region = new TextureRegion(getAsset(filename, Texture.class));
+    }
+    textureRegions.put(filename, region);
+    return region;
+  }
+
+  /**
+   * Check whether a texture was resolved to a region of a packed atlas.
+   *
+   * @param filename texture path
+   * @return true if the texture is drawn from a packed atlas
+   */
+  public boolean isPacked(String filename) {
+    return packedTextures.containsKey(filename);
+  }
+
+  private static String getRegionName(String filename) {
+    int extension = filename.lastIndexOf('.');
+    return extension == -1 ? filename : filename.substring(0, extension);
+  }
+
   /**
    * Loads a list of sounds into the asset manager.
    *
@@ -267,6 +385,18 @@ public class ResourceService implements Disposable {
   public void unloadAssets(String[] assetNames) {
     for (String assetName : assetNames) {
       logger.debug("[ResourceService] Unloading {}", assetName);
+      textureRegions.remove(assetName);
+      if (packedTextures.remove(assetName) != null) {
+        // Packed textures live in their atlas, which is unloaded separately
+        continue;
+      }
+      forgetPackedTextures(assetName);
+      if (cache != null) {
+        if (leases.remove(assetName)) {
+          cache.release(assetName);
+        }
+        continue;
+      }
       try {
         assetManager.unload(assetName);
       } catch (Exception e) {
@@ -275,6 +405,18 @@ public class ResourceService implements Disposable {
     }
   }
 
+  /** Drop the textures packed into an atlas, as they can no longer be resolved once it unloads. */
+  private void forgetPackedTextures(String atlasName) {
+    Iterator<Map.Entry<String, String>> entries = packedTextures.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<String, String> entry = entries.next();
+      if (entry.getValue().equals(atlasName)) {
+        textureRegions.remove(entry.getKey());
+        entries.remove();
+      }
+    }
+  }
+
   @Override
   public void dispose() {
     // Dispose all FreeType font generators
@@ -288,6 +430,8 @@ public class ResourceService implements Disposable {
       }
     }
     fontGenerators.clear();
-    assetManager.clear();
+    packedTextures.clear();
+    textureRegions.clear();
+    releaseAssets();
   }
 }
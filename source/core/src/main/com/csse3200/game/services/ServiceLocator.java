@@ -28,17 +28,22 @@ public class ServiceLocator {
   private static ConfigService configService;
   private static DialogService dialogService;
   private static ResourceService globalResourceService;
+  private static AssetCache assetCache;
   private static ProfileService profileService;
   private static ItemEffectsService itemEffectsService;
   private static CutsceneService cutsceneService;
   private static WorldMapService worldMapService;
   private static MusicService musicService;
+  private static SoundService soundService;
   private static WaveService waveService;
+  private static TimerService timerService;
   private static SettingsService settingsService;
   private static DiscordRichPresenceService discordRichPresenceService;
   private static MinigameService minigameService;
   private static GameStateService gameStateService;
   private static GameArea gameArea;
+  private static FrameProfiler frameProfiler;
+  private static SessionRecorder sessionRecorder;
 
   /**
    * Gets the entity service.
@@ -130,6 +135,15 @@ public class ServiceLocator {
     return globalResourceService;
   }
 
+  /**
+   * Gets the asset cache shared between screens.
+   *
+   * @return the asset cache
+   */
+  public static AssetCache getAssetCache() {
+    return assetCache;
+  }
+
   /**
    * Gets the profile service.
    *
@@ -193,6 +207,15 @@ public class ServiceLocator {
     return musicService;
   }
 
+  /**
+   * Gets the sound service.
+   *
+   * @return the sound service
+   */
+  public static SoundService getSoundService() {
+    return soundService;
+  }
+
   /**
    * Gets the wave service.
    *
@@ -202,6 +225,15 @@ public class ServiceLocator {
     return waveService;
   }
 
+  /**
+   * Gets the timer service.
+   *
+   * @return the timer service
+   */
+  public static TimerService getTimerService() {
+    return timerService;
+  }
+
   /**
    * Gets the settings service.
    *
@@ -229,6 +261,24 @@ public class ServiceLocator {
     return minigameService;
   }
 
+  /**
+   * Gets the frame profiler.
+   *
+   * @return the frame profiler, or null if frames are not being profiled
+   */
+  public static FrameProfiler getFrameProfiler() {
+    return frameProfiler;
+  }
+
+  /**
+   * Gets the session recorder.
+   *
+   * @return the session recorder, or null if the level is not being recorded or replayed
+   */
+  public static SessionRecorder getSessionRecorder() {
+    return sessionRecorder;
+  }
+
   /**
    * Registers the entity service.
    *
@@ -309,6 +359,22 @@ public class ServiceLocator {
     globalResourceService = source;
   }
 
+  /**
+   * Registers the asset cache shared between screens.
+   *
+   * @param cache the asset cache
+   */
+  public static void registerAssetCache(AssetCache cache) {
+    logger.debug("Registering asset cache {}", cache);
+    assetCache = cache;
+  }
+
+  /** Deregisters the asset cache. */
+  public static void deregisterAssetCache() {
+    logger.debug("Removing asset cache");
+    assetCache = null;
+  }
+
   /** Deregisters the global resource service. */
   public static void deregisterGlobalResourceService() {
     logger.debug("Removing global resource service");
@@ -401,6 +467,22 @@ public class ServiceLocator {
     musicService = service;
   }
 
+  /**
+   * Registers the sound service.
+   *
+   * @param service the sound service
+   */
+  public static void registerSoundService(SoundService service) {
+    logger.debug("Registering sound service {}", service);
+    soundService = service;
+  }
+
+  /** Deregisters the sound service. */
+  public static void deregisterSoundService() {
+    logger.debug("Removing sound service");
+    soundService = null;
+  }
+
   /** Deregisters the cutscene service. */
   public static void deregisterCutsceneService() {
     logger.debug("Removing cutscene service");
@@ -490,6 +572,22 @@ public class ServiceLocator {
     waveService = null;
   }
 
+  /**
+   * Registers the timer service.
+   *
+   * @param source the timer service
+   */
+  public static void registerTimerService(TimerService source) {
+    logger.debug("Registering timer service {}", source);
+    timerService = source;
+  }
+
+  /** Deregisters the timer service. */
+  public static void deregisterTimerService() {
+    logger.debug("Removing timer service");
+    timerService = null;
+  }
+
   /**
    * Registers the minigame service.
    *
@@ -500,6 +598,32 @@ public class ServiceLocator {
     minigameService = source;
   }
 
+  /**
+   * Registers the frame profiler.
+   *
+   * @param profiler the frame profiler
+   */
+  public static void registerFrameProfiler(FrameProfiler profiler) {
+    logger.debug("Registering frame profiler {}", profiler);
+    frameProfiler = profiler;
+  }
+
+  /** Deregisters the frame profiler. */
+  public static void deregisterFrameProfiler() {
+    logger.debug("Removing frame profiler");
+    frameProfiler = null;
+  }
+
+  /**
+   * Registers the session recorder.
+   *
+   * @param recorder the session recorder
+   */
+  public static void registerSessionRecorder(SessionRecorder recorder) {
+    logger.debug("Registering session recorder {}", recorder);
+    sessionRecorder = recorder;
+  }
+
   /** Clears all transient services. */
   public static void clear() {
     entityService = null;
@@ -513,6 +637,9 @@ public class ServiceLocator {
     minigameService = null;
     gameArea = null;
     gameStateService = null;
+    frameProfiler = null;
+    sessionRecorder = null;
+    timerService = null;
   }
 
   /** Private constructor to prevent instantiation. */
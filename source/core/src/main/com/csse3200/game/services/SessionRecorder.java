@@ -0,0 +1,256 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.areas.LevelGameArea;
+import com.csse3200.game.entities.configs.BaseLevelConfig;
+import com.csse3200.game.persistence.SessionRecording;
+import com.csse3200.game.persistence.SessionRecording.Input;
+import com.csse3200.game.progression.Profile;
+import java.io.File;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the player's inputs during a level, or feeds a recording back in. Gameplay randomness
+ * all goes through {@link MathUtils#random}, so seeding it when the level starts and replaying the
+ * same placements, item uses and speed changes at the same game times plays the level out the same
+ * way.
+ *
+ * <p>Times are measured in game time that has passed in {@link
+ * com.csse3200.game.screens.WorldUpdater}, i.e. scaled by the gameplay speed and not counting
+ * frozen frames. Replays are only identical to each other when stepped with the same fixed frame
+ * delta, such as in the headless level simulation; a live session has uneven frame times, so its
+ * replay stays close to it but can differ in detail.
+ *
+ * <p>Slot machine rewards are recorded as free placements, but the spins that won them are not, so
+ * replays of slot machine levels are only approximate.
+ */
+public class SessionRecorder {
+  private static final Logger logger = LoggerFactory.getLogger(SessionRecorder.class);
+  private static final String RECORDINGS_DIR =
+      "The Day We Fought Back" + File.separator + "recordings";
+
+  private SessionRecording recording;
+  private boolean replaying;
+  private int nextInput;
+  private float elapsed;
+
+  /**
+   * Start recording a level with a new random seed.
+   *
+   * @param levelKey level being played
+   * @return the seed the level's randomness was started from
+   */
+  public long startRecording(String levelKey) {
+    long seed = MathUtils.random.nextLong();
+    startRecording(levelKey, seed);
+    return seed;
+  }
+
+  /**
+   * Start recording a level, seeding the game's randomness. Should be called just before the level
+   * is created.
+   *
+   * @param levelKey level being played
+   * @param seed seed for the level's randomness
+   */
+  public void startRecording(String levelKey, long seed) {
+    logger.debug("Recording {} with seed {}", levelKey, seed);
+    MathUtils.random.setSeed(seed);
+    recording = new SessionRecording(levelKey, seed);
+    ProfileService profileService = ServiceLocator.getProfileService();
+    if (profileService != null && profileService.getProfile() != null) {
+      Profile profile = profileService.getProfile();
+      recording.setLoadout(
+          profile.getArsenal().getDefenders(),
+          profile.getArsenal().getGenerators(),
+          profile.getInventory().getKeys());
+    }
+    replaying = false;
+    nextInput = 0;
+    elapsed = 0f;
+  }
+
+  /**
+   * Start replaying a recording, seeding the game's randomness as it was when recorded. Should be
+   * called just before the recorded level is created. Inputs made while replaying are not recorded.
+   *
+   * @param recording recording to replay
+   */
+  public void startReplay(SessionRecording recording) {
+    logger.debug(
+        "Replaying {} with seed {} and {} inputs",
+        recording.getLevelKey(),
+        recording.getSeed(),
+        recording.getInputs().size);
+    if (isSlotMachineLevel(recording.getLevelKey())) {
+      // Spins are made at real-time moments that are not recorded, so the random draws differ
+      logger.warn(
+          "Slot machine spins in {} drew from the game's random numbers and are not replayed, so"
+              + " the replay can drift from the recorded play",
+          recording.getLevelKey());
+    }
+    MathUtils.random.setSeed(recording.getSeed());
+    this.recording = recording;
+    replaying = true;
+    nextInput = 0;
+    elapsed = 0f;
+  }
+
+  /**
+   * Record a unit placed from the hotbar.
+   *
+   * @param key hotbar key of the unit
+   * @param position tile index the unit was placed on
+   */
+  public void recordPlacement(String key, int position) {
+    if (isRecording()) {
+      recording.addPlacement(elapsed, key, position);
+    }
+  }
+
+  /**
+   * Record a free defence placed from a slot machine reward.
+   *
+   * @param defenderKey config key of the defence
+   * @param position tile index the defence was placed on
+   */
+  public void recordRewardPlacement(String defenderKey, int position) {
+    if (isRecording()) {
+      recording.addRewardPlacement(elapsed, defenderKey, position);
+    }
+  }
+
+  /**
+   * Record an item used from the hotbar.
+   *
+   * @param key hotbar key of the item
+   * @param position tile index the item was used on
+   */
+  public void recordItemUse(String key, int position) {
+    if (isRecording()) {
+      recording.addItemUse(elapsed, key, position);
+    }
+  }
+
+  /**
+   * Record a change of gameplay speed.
+   *
+   * @param speed new time scale
+   */
+  public void recordSpeedChange(float speed) {
+    if (isRecording()) {
+      recording.addSpeedChange(elapsed, speed);
+    }
+  }
+
+  /**
+   * When replaying, apply every recorded input that is due by the current game time. Should be
+   * called at the start of each unfrozen world update, before the world is stepped.
+   *
+   * @param area level to apply placements and item uses to
+   */
+  public void applyDueInputs(LevelGameArea area) {
+    if (!replaying) {
+      return;
+    }
+    Array<Input> inputs = recording.getInputs();
+    while (nextInput < inputs.size && inputs.get(nextInput).getTime() <= elapsed) {
+      apply(inputs.get(nextInput++), area);
+    }
+  }
+
+  /**
+   * Move the recorder's clock forward. Should be called once per unfrozen world update.
+   *
+   * @param delta scaled game time the world was stepped by
+   */
+  public void advance(float delta) {
+    elapsed += delta;
+  }
+
+  /**
+   * @return true if inputs are being recorded
+   */
+  public boolean isRecording() {
+    return recording != null && !replaying;
+  }
+
+  /**
+   * @return true if a recording is being replayed
+   */
+  public boolean isReplaying() {
+    return replaying;
+  }
+
+  /**
+   * @return true if a replay has applied all of its inputs
+   */
+  public boolean isReplayFinished() {
+    return replaying && nextInput >= recording.getInputs().size;
+  }
+
+  /**
+   * @return game time recorded or replayed so far, in seconds
+   */
+  public float getElapsed() {
+    return elapsed;
+  }
+
+  /**
+   * @return the recording being made or replayed, or null if neither has started
+   */
+  public SessionRecording getRecording() {
+    return recording;
+  }
+
+  /**
+   * Save the recording being made as the last session of its level, replacing the previous one.
+   * Does nothing while replaying.
+   */
+  public void saveLastSession() {
+    if (!isRecording()) {
+      return;
+    }
+    FileHandle file = getLastSessionFile(recording.getLevelKey());
+    try {
+      recording.save(file);
+      logger.debug("Saved session recording to {}", file.path());
+    } catch (RuntimeException e) {
+      logger.warn("Could not save session recording to {}", file.path(), e);
+    }
+  }
+
+  /**
+   * Get the file the last session of a level is saved to.
+   *
+   * @param levelKey level key
+   * @return external file handle of the recording
+   */
+  public static FileHandle getLastSessionFile(String levelKey) {
+    return Gdx.files.external(RECORDINGS_DIR + File.separator + levelKey + ".json");
+  }
+
+  private static boolean isSlotMachineLevel(String levelKey) {
+    ConfigService configService = ServiceLocator.getConfigService();
+    BaseLevelConfig level = configService != null ? configService.getLevelConfig(levelKey) : null;
+    return level != null && level.isSlotMachine();
+  }
+
+  private void apply(Input input, LevelGameArea area) {
+    switch (input.getType()) {
+      case PLACE_UNIT, USE_ITEM -> area.spawnRecordedUnit(input.getKey(), input.getPosition());
+      case PLACE_REWARD -> area.spawnRecordedReward(input.getKey(), input.getPosition());
+      case SET_SPEED -> {
+        ServiceLocator.getTimeSource().setTimeScale(input.getSpeed());
+        GameStateService gameStateService = ServiceLocator.getGameStateService();
+        if (gameStateService != null) {
+          gameStateService.setPreferredTimeScale(input.getSpeed());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SoundService plays short sound effects, limiting how many voices each sound and the game as a
+ * whole can use at once. In heavy waves many identical sounds fire in the same frame, and starting
+ * a voice for each one is expensive while adding nothing audible.
+ *
+ * <ul>
+ *   <li>Plays of a sound that closely follow a play of the same sound are coalesced into it,
+ *       raising its volume instead of starting another voice.
+ *   <li>A sound already using its maximum number of voices stops its oldest voice to start a new
+ *       one.
+ *   <li>When every voice is in use, the oldest voice of the lowest priority at or below the new
+ *       sound's priority is stopped. If there is none, the new sound is dropped.
+ * </ul>
+ *
+ * <p>Sounds are looked up in the current screen's resources first, then in the global resources,
+ * and the handles are cached until the screen changes. Volumes given to {@link #play} are scaled by
+ * the sound volume setting.
+ */
+public class SoundService {
+  private static final Logger logger = LoggerFactory.getLogger(SoundService.class);
+  /** Default number of voices one sound can play at once */
+  static final int DEFAULT_MAX_VOICES = 4;
+  /** Sources the desktop backend allocates for sound effects */
+  static final int MAX_TOTAL_VOICES = 16;
+  /** Plays of the same sound closer together than this are coalesced */
+  static final long COALESCE_WINDOW_MS = 40;
+  /** How long a voice is assumed to play for, since libGDX does not report when sounds end */
+  static final long VOICE_LIFETIME_MS = 1000;
+  /** Share of a coalesced play's volume added to the voice it joins */
+  private static final float COALESCE_GAIN = 0.5f;
+
+  /** Which sounds keep playing when there are not enough voices for all of them. */
+  public enum Priority {
+    LOW,
+    NORMAL,
+    HIGH
+  }
+
+  private record SoundSettings(int maxVoices, Priority priority) {}
+
+  private static final class Voice {
+    private final String path;
+    private final Sound sound;
+    private final long id;
+    private final long startTime;
+    private final Priority priority;
+    private float volume;
+
+    private Voice(
+        String path, Sound sound, long id, long startTime, Priority priority, float volume) {
+      this.path = path;
+      this.sound = sound;
+      this.id = id;
+      this.startTime = startTime;
+      this.priority = priority;
+      this.volume = volume;
+    }
+  }
+
+  private final LongSupplier clock;
+  private final Map<String, SoundSettings> settings = new HashMap<>();
+  private final Map<String, Sound> handles = new HashMap<>();
+  private final List<Voice> voices = new ArrayList<>(MAX_TOTAL_VOICES);
+  private ResourceService handlesOwner;
+  private long playsRequested;
+  private long playsIssued;
+  private long playsCoalesced;
+  private long playsDropped;
+
+  /** Create a sound service with limits for the game's combat sounds. */
+  public SoundService() {
+    this(TimeUtils::millis);
+    configure("sounds/damage.mp3", 3, Priority.LOW);
+    configure("sounds/robot-attack.mp3", 3, Priority.LOW);
+    configure("sounds/robot-death.mp3", 3, Priority.NORMAL);
+    configure("sounds/generator-death.mp3", 2, Priority.HIGH);
+    configure("sounds/teleport_start.mp3", 2, Priority.NORMAL);
+    configure("sounds/teleport_end.mp3", 2, Priority.NORMAL);
+  }
+
+  /**
+   * Create a sound service with no configured sounds.
+   *
+   * @param clock current time in milliseconds
+   */
+  SoundService(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Set the voice limit and priority of a sound. Unconfigured sounds use {@link
+   * #DEFAULT_MAX_VOICES} voices at {@link Priority#NORMAL} priority.
+   *
+   * @param path sound asset path
+   * @param maxVoices voices the sound can play at once, at least 1
+   * @param priority priority of the sound
+   */
+  public void configure(String path, int maxVoices, Priority priority) {
+    settings.put(path, new SoundSettings(Math.max(1, maxVoices), priority));
+  }
+
+  /**
+   * Play a sound at its configured priority.
+   *
+   * @param path sound asset path
+   * @param volume volume from 0 to 1, before the sound volume setting is applied
+   * @return id of the voice playing the sound, or -1 if it was dropped
+   */
+  public long play(String path, float volume) {
+    SoundSettings soundSettings = settings.get(path);
+    return play(path, volume, soundSettings != null ? soundSettings.priority() : Priority.NORMAL);
+  }
+
+  /**
+   * Play a sound.
+   *
+   * @param path sound asset path
+   * @param volume volume from 0 to 1, before the sound volume setting is applied
+   * @param priority priority of this play
+   * @return id of the voice playing the sound, or -1 if it was dropped
+   */
+  public long play(String path, float volume, Priority priority) {
+    playsRequested++;
+    long now = clock.getAsLong();
+    expireVoices(now);
+
+    Sound sound = getSound(path);
+    if (sound == null) {
+      playsDropped++;
+      return -1;
+    }
+    SettingsService settingsService = ServiceLocator.getSettingsService();
+    float scaled = volume * (settingsService != null ? settingsService.getSoundVolume() : 1f);
+
+    Voice latest = null;
+    int sameSound = 0;
+    for (Voice voice : voices) {
+      if (voice.path.equals(path)) {
+        sameSound++;
+        latest = voice;
+      }
+    }
+    if (latest != null && now - latest.startTime < COALESCE_WINDOW_MS) {
+      latest.volume = Math.min(1f, latest.volume + scaled * COALESCE_GAIN);
+      sound.setVolume(latest.id, latest.volume);
+      playsCoalesced++;
+      return latest.id;
+    }
+
+    SoundSettings soundSettings = settings.get(path);
+    int maxVoices = soundSettings != null ? soundSettings.maxVoices() : DEFAULT_MAX_VOICES;
+    if (sameSound >= maxVoices) {
+      stopVoice(oldestVoiceOf(path));
+    } else if (voices.size() >= MAX_TOTAL_VOICES) {
+      Voice victim = lowestPriorityVoice(priority);
+      if (victim == null) {
+        playsDropped++;
+        return -1;
+      }
+      stopVoice(victim);
+    }
+
+    long id = sound.play(scaled);
+    if (id == -1) {
+      playsDropped++;
+      return -1;
+    }
+    playsIssued++;
+    voices.add(new Voice(path, sound, id, now, priority, scaled));
+    return id;
+  }
+
+  /**
+   * @return number of plays asked for
+   */
+  public long getPlaysRequested() {
+    return playsRequested;
+  }
+
+  /**
+   * @return number of plays that started a voice
+   */
+  public long getPlaysIssued() {
+    return playsIssued;
+  }
+
+  /**
+   * @return number of plays merged into a voice of the same sound
+   */
+  public long getPlaysCoalesced() {
+    return playsCoalesced;
+  }
+
+  /**
+   * @return number of plays skipped, for lack of a voice or a loaded sound
+   */
+  public long getPlaysDropped() {
+    return playsDropped;
+  }
+
+  /**
+   * @return number of voices assumed to still be playing
+   */
+  public int getActiveVoices() {
+    expireVoices(clock.getAsLong());
+    return voices.size();
+  }
+
+  private void expireVoices(long now) {
+    voices.removeIf(voice -> now - voice.startTime >= VOICE_LIFETIME_MS);
+  }
+
+  private Voice oldestVoiceOf(String path) {
+    for (Voice voice : voices) {
+      if (voice.path.equals(path)) {
+        return voice;
+      }
+    }
+    return null;
+  }
+
+  /** Oldest voice with the lowest priority, as long as that is at or below the given priority. */
+  private Voice lowestPriorityVoice(Priority atMost) {
+    Voice lowest = null;
+    for (Voice voice : voices) {
+      if (voice.priority.compareTo(atMost) <= 0
+          && (lowest == null || voice.priority.compareTo(lowest.priority) < 0)) {
+        lowest = voice;
+      }
+    }
+    return lowest;
+  }
+
+  private void stopVoice(Voice voice) {
+    voice.sound.stop(voice.id);
+    voices.remove(voice);
+  }
+
+  private Sound getSound(String path) {
+    ResourceService local = ServiceLocator.getResourceService();
+    if (local != handlesOwner) {
+      // The previous screen's sounds may have been unloaded with it
+      handles.clear();
+      voices.clear();
+      handlesOwner = local;
+    }
+    Sound sound = handles.get(path);
+    if (sound == null) {
+      sound = loadSound(local, path);
+      if (sound == null) {
+        sound = loadSound(ServiceLocator.getGlobalResourceService(), path);
+      }
+      if (sound == null) {
+        logger.warn("Sound {} is not loaded", path);
+        return null;
+      }
+      handles.put(path, sound);
+    }
+    return sound;
+  }
+
+  private static Sound loadSound(ResourceService resourceService, String path) {
+    if (resourceService == null) {
+      return null;
+    }
+    try {
+      return resourceService.getAsset(path, Sound.class);
+    } catch (GdxRuntimeException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.csse3200.game.services;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Runs gameplay tasks after a delay in game time. Unlike libGDX's {@link
+ * com.badlogic.gdx.utils.Timer}, which counts wall-clock time, delays here are counted down by the
+ * world update, so they pause while the game is frozen and follow the game speed, including
+ * fast-forward ticks.
+ *
+ * <p>Tasks are run on the thread updating the world, after entities have updated. A task scheduled
+ * with no delay runs at the end of the current update, which makes it safe to schedule from
+ * physics callbacks.
+ */
+public class TimerService {
+  private final Array<ScheduledTask> tasks = new Array<>(true, 16, ScheduledTask.class);
+  private final Array<ScheduledTask> dueTasks = new Array<>(true, 16, ScheduledTask.class);
+
+  /**
+   * Schedule a task to run once after a delay.
+   *
+   * @param delay game time to wait in seconds, 0 to run on the next update
+   * @param task task to run
+   */
+  public void schedule(float delay, Runnable task) {
+    tasks.add(new ScheduledTask(delay, task));
+  }
+
+  /**
+   * Count down scheduled tasks and run those that are due, in the order they were scheduled. Tasks
+   * scheduled while running wait for the next update.
+   *
+   * @param deltaTime game time elapsed since the last update in seconds
+   */
+  public void update(float deltaTime) {
+    int kept = 0;
+    for (int i = 0; i < tasks.size; i++) {
+      ScheduledTask scheduled = tasks.items[i];
+      scheduled.remaining -= deltaTime;
+      if (scheduled.remaining <= 0f) {
+        dueTasks.add(scheduled);
+      } else {
+        tasks.items[kept++] = scheduled;
+      }
+    }
+    tasks.truncate(kept);
+
+    for (int i = 0; i < dueTasks.size; i++) {
+      dueTasks.items[i].task.run();
+    }
+    dueTasks.clear();
+  }
+
+  /**
+   * Get the number of tasks waiting to run.
+   *
+   * @return number of scheduled tasks
+   */
+  public int size() {
+    return tasks.size;
+  }
+
+  /** Drop every scheduled task without running it. */
+  public void clear() {
+    tasks.clear();
+  }
+
+  private static class ScheduledTask {
+    private float remaining;
+    private final Runnable task;
+
+    private ScheduledTask(float delay, Runnable task) {
+      this.remaining = delay;
+      this.task = task;
+    }
+  }
+}
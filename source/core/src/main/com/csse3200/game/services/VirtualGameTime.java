@@ -0,0 +1,32 @@
+package com.csse3200.game.services;
+
+/**
+ * Game time that only moves forward when {@link #advance(float)} is called, instead of following
+ * the real frame rate. Lets the game loop be stepped at a fixed rate, as fast as the CPU allows, for
+ * headless simulation and repeatable runs.
+ */
+public class VirtualGameTime extends GameTime {
+  private float frameDelta;
+  private double elapsedSeconds;
+
+  /**
+   * Move time forward by one frame. The delta is reported by {@link #getDeltaTime()} until the next
+   * call.
+   *
+   * @param delta unscaled length of the frame in seconds
+   */
+  public void advance(float delta) {
+    frameDelta = delta;
+    elapsedSeconds += delta;
+  }
+
+  @Override
+  public float getRawDeltaTime() {
+    return frameDelta;
+  }
+
+  @Override
+  public long getTime() {
+    return (long) (elapsedSeconds * 1000d);
+  }
+}
@@ -1,5 +1,6 @@
 package com.csse3200.game.services;
 
+import com.badlogic.gdx.math.MathUtils;
 import com.csse3200.game.entities.EntitySpawn;
 import com.csse3200.game.entities.WaveConfigProvider;
 import com.csse3200.game.entities.configs.BaseLevelConfig;
@@ -26,6 +27,7 @@ public class WaveService implements WaveConfigProvider {
   private boolean waveActive = false;
 
   private boolean preparationPhaseActive = false;
+  private float waveWeightScale = 1f;
   private static final float PREPARATION_PHASE_DURATION = 5.0f;
   private float preparationPhaseTimer = 0.0f;
   private final EntitySpawn entitySpawn;
@@ -69,7 +71,7 @@ public class WaveService implements WaveConfigProvider {
     this.preparationPhaseTimer = 0.0f;
     this.enemiesDisposed = 0;
     resetToInitialState();
-    Collections.shuffle(laneOrder);
+    Collections.shuffle(laneOrder, MathUtils.random);
     logger.debug("[WaveService] Wave service created.");
   }
 
@@ -83,7 +85,7 @@ public class WaveService implements WaveConfigProvider {
     this.preparationPhaseTimer = 0.0f;
     this.enemiesDisposed = 0;
 
-    Collections.shuffle(laneOrder);
+    Collections.shuffle(laneOrder, MathUtils.random);
   }
 
   /**
@@ -186,7 +188,7 @@ public class WaveService implements WaveConfigProvider {
     }
 
     waveLaneSequence = new ArrayList<>(laneOrder.subList(0, maxLanes));
-    Collections.shuffle(waveLaneSequence);
+    Collections.shuffle(waveLaneSequence, MathUtils.random);
     waveLanePointer = 0;
     if (waveEventListener != null) {
       waveEventListener.onPreparationPhaseStarted(currentWave);
@@ -322,7 +324,7 @@ public class WaveService implements WaveConfigProvider {
     timeSinceLastSpawn = 0f;
     waveLaneSequence.clear();
     waveLanePointer = 0;
-    Collections.shuffle(laneOrder);
+    Collections.shuffle(laneOrder, MathUtils.random);
     bossActive = false;
     bossSpawnQueue.clear();
     logger.info("WaveService reset to initial state - ready for new game");
@@ -353,7 +355,7 @@ public class WaveService implements WaveConfigProvider {
     }
 
     if (waveLanePointer >= waveLaneSequence.size()) {
-      Collections.shuffle(waveLaneSequence);
+      Collections.shuffle(waveLaneSequence, MathUtils.random);
       waveLanePointer = 0;
     }
     int lane = waveLaneSequence.get(waveLanePointer);
@@ -406,7 +408,22 @@ public class WaveService implements WaveConfigProvider {
    */
   public int getWaveWeight() {
     BaseWaveConfig waveConfig = getCurrentWaveConfig();
-    return waveConfig != null ? waveConfig.getWaveWeight() : 20; // Default fallback
+    int weight = waveConfig != null ? waveConfig.getWaveWeight() : 20; // Default fallback
+    return scaleWaveWeight(weight);
+  }
+
+  /**
+   * Scale every wave's weight/budget, e.g. to stress test a level with far more enemies than it is
+   * configured for. Takes effect from the next wave that is initialised.
+   *
+   * @param scale multiplier applied to configured wave weights, 1 for the configured values
+   */
+  public void setWaveWeightScale(float scale) {
+    this.waveWeightScale = Math.max(0f, scale);
+  }
+
+  private int scaleWaveWeight(int weight) {
+    return waveWeightScale == 1f ? weight : Math.round(weight * waveWeightScale);
   }
 
   /**
@@ -448,10 +465,10 @@ public class WaveService implements WaveConfigProvider {
         && levelConfig.getWaves() != null
         && waveIndex >= 0
         && waveIndex < levelConfig.getWaves().size()) {
-      return levelConfig.getWaves().get(waveIndex).getWaveWeight();
+      return scaleWaveWeight(levelConfig.getWaves().get(waveIndex).getWaveWeight());
     }
     // Fallback default
-    return 20;
+    return scaleWaveWeight(20);
   }
 
   @Override
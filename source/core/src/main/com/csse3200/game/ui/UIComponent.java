@@ -10,7 +10,7 @@ import com.csse3200.game.services.ServiceLocator;
 
 /** A generic component for rendering onto the ui. */
 public abstract class UIComponent extends RenderComponent {
-  private static final int UI_LAYER = 2;
+  public static final int UI_LAYER = 2;
   protected static final Skin skin = new Skin(Gdx.files.internal("skin/tdwfb.json"));
   protected static final UIFactory ui = new UIFactory(skin, Settings.UIScale.MEDIUM);
   protected Stage stage;
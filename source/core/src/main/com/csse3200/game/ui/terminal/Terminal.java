@@ -39,6 +39,7 @@ public class Terminal extends Component {
     addCommand("stopSpawning", new StopSpawning());
     addCommand("resumeSpawning", new ResumeSpawning());
     addCommand("addItem", new AddItem());
+    addCommand("profile", new ProfileCommand());
   }
 
   /**
@@ -0,0 +1,48 @@
+package com.csse3200.game.ui.terminal.commands;
+
+import com.badlogic.gdx.Gdx;
+import com.csse3200.game.services.FrameProfiler;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.ArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A command for the frame profiler. "profile export [file]" writes the recent frame timings to a
+ * CSV file in local storage, and "profile reset" discards them.
+ */
+public class ProfileCommand implements Command {
+  private static final Logger logger = LoggerFactory.getLogger(ProfileCommand.class);
+
+  /**
+   * Exports or resets the frame profile depending on the argument received.
+   *
+   * @param args command arguments
+   * @return true when successful, otherwise false
+   */
+  @Override
+  public boolean action(ArrayList<String> args) {
+    if (args.isEmpty() || args.size() > 2) {
+      logger.warn("Invalid arguments received for 'profile' command: {}", args);
+      return false;
+    }
+
+    FrameProfiler profiler = ServiceLocator.getFrameProfiler();
+    if (profiler == null) {
+      logger.warn("Frames are not profiled on this screen.");
+      return false;
+    }
+
+    switch (args.get(0)) {
+      case "export":
+        String fileName = args.size() == 2 ? args.get(1) : FrameProfiler.defaultExportName();
+        return profiler.exportCsv(Gdx.files.local(fileName));
+      case "reset":
+        profiler.reset();
+        return true;
+      default:
+        logger.warn("Unrecognised argument received for 'profile' command: {}", args);
+        return false;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.csse3200.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.ResourceService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class BootSequenceTest {
+  @Test
+  void shouldFinishOnceAssetsAndJobsAreDone() throws InterruptedException {
+    ResourceService resourceService = mock(ResourceService.class);
+    when(resourceService.loadForMillis(anyInt())).thenReturn(false, true);
+    when(resourceService.getProgress()).thenReturn(50);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<Thread> appliedOn = new AtomicReference<>();
+
+    BootSequence boot = new BootSequence(resourceService);
+    boot.launch(
+        "job",
+        () -> {
+          awaitQuietly(release);
+          return "done";
+        },
+        result -> appliedOn.set(Thread.currentThread()));
+
+    assertFalse(boot.update(5));
+    assertEquals(25, boot.getProgress());
+    assertFalse(boot.update(5));
+    assertEquals(50, boot.getProgress());
+
+    release.countDown();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!boot.update(5) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(1);
+    }
+
+    assertTrue(boot.isFinished());
+    assertEquals(100, boot.getProgress());
+    assertSame(Thread.currentThread(), appliedOn.get());
+    verify(resourceService, times(2)).loadForMillis(5);
+  }
+
+  @Test
+  void shouldReportEachPhase() {
+    ResourceService resourceService = mock(ResourceService.class);
+    when(resourceService.loadForMillis(anyInt())).thenReturn(true);
+    BootSequence boot = new BootSequence(resourceService);
+
+    boot.step("services", () -> {});
+    assertTrue(boot.update(5));
+
+    String report = boot.getReport();
+    assertTrue(report.contains("services: "));
+    assertTrue(report.contains("assets: "));
+    assertTrue(report.contains("total: "));
+  }
+
+  @Test
+  void shouldRethrowJobFailures() {
+    ResourceService resourceService = mock(ResourceService.class);
+    when(resourceService.loadForMillis(anyInt())).thenReturn(true);
+    BootSequence boot = new BootSequence(resourceService);
+    boot.launch(
+        "broken",
+        () -> {
+          throw new IllegalStateException("bad config");
+        },
+        result -> {});
+
+    assertThrows(
+        RuntimeException.class,
+        () -> {
+          long deadline = System.currentTimeMillis() + 5000;
+          while (!boot.update(5) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+          }
+        });
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
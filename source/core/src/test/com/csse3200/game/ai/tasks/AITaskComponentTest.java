@@ -1,11 +1,17 @@
 package com.csse3200.game.ai.tasks;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.events.EventKeys;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -80,4 +86,85 @@ class AITaskComponentTest {
 
     verify(task).stop();
   }
+
+  @Test
+  void shouldDeferPriorityOfDeferrableTasks() {
+    AITaskComponent taskComponent = new AITaskComponent(4);
+    PriorityTask task = activeTask(1, true);
+    taskComponent.addTask(task);
+
+    // Adding the task, then starting it, both force an evaluation
+    taskComponent.update();
+    taskComponent.update();
+    verify(task, times(2)).getPriority();
+
+    for (int i = 0; i < 8; i++) {
+      taskComponent.update();
+    }
+    verify(task, times(4)).getPriority();
+    verify(task, times(10)).update();
+  }
+
+  @Test
+  void shouldEvaluateNonDeferrableTasksEveryFrame() {
+    AITaskComponent taskComponent = new AITaskComponent(4);
+    PriorityTask task = activeTask(1, false);
+    taskComponent.addTask(task);
+
+    for (int i = 0; i < 10; i++) {
+      taskComponent.update();
+    }
+    verify(task, times(10)).getPriority();
+  }
+
+  @Test
+  void shouldEvaluateAllTasksAfterCollision() {
+    AITaskComponent taskComponent = new AITaskComponent(Integer.MAX_VALUE);
+    PriorityTask lowPriorityTask = activeTask(1, true);
+    PriorityTask highPriorityTask = activeTask(0, true);
+    taskComponent.addTask(lowPriorityTask).addTask(highPriorityTask);
+    Entity entity = new Entity().addComponent(taskComponent);
+    entity.create();
+
+    taskComponent.update();
+    taskComponent.update();
+    when(highPriorityTask.getPriority()).thenReturn(2);
+    taskComponent.update();
+    verify(highPriorityTask, times(0)).start();
+
+    entity.getEvents().trigger(EventKeys.COLLISION_START, null, null);
+    taskComponent.update();
+    verify(lowPriorityTask).stop();
+    verify(highPriorityTask).start();
+  }
+
+  @Test
+  void shouldOnlyMarkUpdatingDuringUpdate() {
+    AITaskComponent taskComponent = new AITaskComponent();
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    boolean[] updating = new boolean[1];
+    doAnswer(
+            invocation -> {
+              updating[0] = taskComponent.isUpdating();
+              return null;
+            })
+        .when(task)
+        .update();
+    taskComponent.addTask(task);
+
+    assertFalse(taskComponent.isUpdating());
+    taskComponent.update();
+    assertTrue(updating[0]);
+    assertFalse(taskComponent.isUpdating());
+    assertEquals(1, taskComponent.getTick());
+  }
+
+  private static PriorityTask activeTask(int priority, boolean deferrable) {
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(priority);
+    when(task.getStatus()).thenReturn(Task.Status.ACTIVE);
+    when(task.canDeferPriority()).thenReturn(deferrable);
+    return task;
+  }
 }
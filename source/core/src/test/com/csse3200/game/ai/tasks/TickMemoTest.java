@@ -0,0 +1,77 @@
+package com.csse3200.game.ai.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class TickMemoTest {
+  @Test
+  void shouldRememberResultWithinTick() {
+    AITaskComponent taskComponent = new AITaskComponent();
+    TickMemo<String> memo = new TickMemo<>();
+    List<Boolean> hits = new ArrayList<>();
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    doAnswer(
+            invocation -> {
+              hits.add(memo.has(taskComponent));
+              memo.put(taskComponent, "target");
+              hits.add(memo.has(taskComponent));
+              return null;
+            })
+        .when(task)
+        .update();
+    taskComponent.addTask(task);
+
+    taskComponent.update();
+    taskComponent.update();
+
+    // Each tick starts with a miss, then hits once the result is stored
+    assertEquals(List.of(false, true, false, true), hits);
+    assertEquals("target", memo.get());
+  }
+
+  @Test
+  void shouldMissOutsideUpdate() {
+    AITaskComponent taskComponent = new AITaskComponent();
+    TickMemo<String> memo = new TickMemo<>();
+
+    assertEquals("target", memo.put(taskComponent, "target"));
+    assertFalse(memo.has(taskComponent));
+  }
+
+  @Test
+  void shouldMissForOtherRunners() {
+    AITaskComponent taskComponent = new AITaskComponent();
+    AITaskComponent other = new AITaskComponent();
+    TickMemo<String> memo = new TickMemo<>();
+    boolean[] results = new boolean[2];
+    PriorityTask task = mock(PriorityTask.class);
+    when(task.getPriority()).thenReturn(1);
+    doAnswer(
+            invocation -> {
+              memo.put(taskComponent, "target");
+              results[0] = memo.has(taskComponent);
+              results[1] = memo.has(other);
+              return null;
+            })
+        .when(task)
+        .update();
+    taskComponent.addTask(task);
+
+    taskComponent.update();
+
+    assertTrue(results[0]);
+    assertFalse(results[1]);
+  }
+}
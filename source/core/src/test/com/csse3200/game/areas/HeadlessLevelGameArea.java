@@ -0,0 +1,26 @@
+package com.csse3200.game.areas;
+
+import com.csse3200.game.entities.Entity;
+
+/**
+ * A level game area without the hotbar or any windows, so a level can be played without a window
+ * or player input. The game over entity is kept as a bare entity since the level still notifies it.
+ * The hotbar's unit and item lists are still filled in, so recorded placements can be replayed.
+ */
+public class HeadlessLevelGameArea extends LevelGameArea {
+  /**
+   * Initialise a headless game area for a level.
+   *
+   * @param levelKey the level key to load
+   */
+  public HeadlessLevelGameArea(String levelKey) {
+    super(levelKey);
+  }
+
+  @Override
+  protected void displayUI() {
+    populateHotbarLists();
+    gameOverEntity = new Entity();
+    spawnEntity(gameOverEntity);
+  }
+}
@@ -0,0 +1,160 @@
+package com.csse3200.game.areas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.csse3200.game.components.CombatStatsComponent;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.ProjectileType;
+import com.csse3200.game.events.EventKeys;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class LaneHitSystemTest {
+  private static final float TILE = 10f;
+
+  private RobotLaneIndex index;
+  private LaneHitSystem laneHits;
+  private List<Entity> robots;
+  private int despawns;
+
+  @BeforeEach
+  void beforeEach() {
+    index = new RobotLaneIndex();
+    index.setLayout(0f, TILE, 5);
+    laneHits = new LaneHitSystem(index);
+    robots = new ArrayList<>();
+    despawns = 0;
+  }
+
+  @Test
+  void shouldOnlySupportSingleHitStraightProjectiles() {
+    assertTrue(LaneHitSystem.supports(ProjectileType.SLINGSHOT));
+    assertTrue(LaneHitSystem.supports(ProjectileType.BULLET));
+    assertTrue(LaneHitSystem.supports(ProjectileType.SHOCK));
+    assertFalse(LaneHitSystem.supports(ProjectileType.HARPOON_PROJECTILE));
+    assertFalse(LaneHitSystem.supports(ProjectileType.SHELL));
+    assertFalse(LaneHitSystem.supports(ProjectileType.GUNNER_BULLET));
+  }
+
+  @Test
+  void shouldHitFirstRobotSweptThrough() {
+    Entity near = robotAt(30f, 20f, 10);
+    Entity far = robotAt(60f, 20f, 10);
+    Entity projectile = projectileAt(0f, 21f, 3);
+    laneHits.add(projectile);
+
+    // Moves past both robots in a single frame
+    projectile.setPosition(100f, 21f);
+    index.refresh(robots);
+    laneHits.update();
+
+    assertEquals(7, near.getComponent(CombatStatsComponent.class).getHealth());
+    assertEquals(10, far.getComponent(CombatStatsComponent.class).getHealth());
+    assertEquals(1, despawns);
+    assertEquals(1, laneHits.getHits());
+    assertEquals(0, laneHits.size());
+  }
+
+  @Test
+  void shouldIgnoreRobotsInOtherLanes() {
+    Entity robot = robotAt(30f, 20f, 10);
+    Entity projectile = projectileAt(0f, 34f, 3);
+    laneHits.add(projectile);
+
+    projectile.setPosition(100f, 34f);
+    index.refresh(robots);
+    laneHits.update();
+
+    assertEquals(10, robot.getComponent(CombatStatsComponent.class).getHealth());
+    assertEquals(0, despawns);
+    assertEquals(1, laneHits.size());
+  }
+
+  @Test
+  void shouldNotHitDeadRobots() {
+    Entity dead = robotAt(30f, 20f, 0);
+    Entity alive = robotAt(60f, 20f, 10);
+    Entity projectile = projectileAt(0f, 21f, 3);
+    laneHits.add(projectile);
+
+    projectile.setPosition(100f, 21f);
+    index.refresh(robots);
+    laneHits.update();
+
+    assertEquals(0, dead.getComponent(CombatStatsComponent.class).getHealth());
+    assertEquals(7, alive.getComponent(CombatStatsComponent.class).getHealth());
+  }
+
+  @Test
+  void shouldMissRobotSpritesAboveTheirHitbox() {
+    Entity robot = robotAt(30f, 20f, 10);
+    // The robot's sprite spans y 20 to 30 but its hitbox only 20 to 25
+    Entity projectile = projectileAt(0f, 26f, 3);
+    laneHits.add(projectile);
+
+    projectile.setPosition(100f, 26f);
+    index.refresh(robots);
+    laneHits.update();
+
+    assertEquals(10, robot.getComponent(CombatStatsComponent.class).getHealth());
+    assertEquals(0, despawns);
+    assertEquals(1, laneHits.size());
+  }
+
+  @Test
+  void shouldCentreProjectileHitboxOnSprite() {
+    Entity robot = robotAt(30f, 20f, 10);
+    // The sprite overlaps the robot's hitbox, but the centred hitbox from x 38.5 to 39.5 does not
+    Entity projectile = projectileAt(40f, 21f, 3);
+    laneHits.add(projectile);
+
+    projectile.setPosition(34f, 21f);
+    index.refresh(robots);
+    laneHits.update();
+    assertEquals(10, robot.getComponent(CombatStatsComponent.class).getHealth());
+
+    projectile.setPosition(30f, 21f);
+    laneHits.update();
+    assertEquals(7, robot.getComponent(CombatStatsComponent.class).getHealth());
+  }
+
+  @Test
+  void shouldStopTrackingRemovedProjectiles() {
+    Entity robot = robotAt(30f, 20f, 10);
+    Entity projectile = projectileAt(0f, 21f, 3);
+    laneHits.add(projectile);
+    laneHits.add(projectile);
+    assertEquals(1, laneHits.size());
+    laneHits.remove(projectile);
+
+    projectile.setPosition(100f, 21f);
+    index.refresh(robots);
+    laneHits.update();
+
+    assertEquals(10, robot.getComponent(CombatStatsComponent.class).getHealth());
+    assertEquals(0, laneHits.size());
+  }
+
+  private Entity robotAt(float x, float y, int health) {
+    Entity robot = new Entity().addComponent(new CombatStatsComponent(health, 0));
+    robot.setPosition(x, y);
+    robot.setScale(TILE, TILE);
+    robots.add(robot);
+    return robot;
+  }
+
+  private Entity projectileAt(float x, float y, int damage) {
+    Entity projectile = new Entity().addComponent(new CombatStatsComponent(1, damage));
+    projectile.setPosition(x, y);
+    projectile.setScale(TILE, TILE);
+    projectile.getEvents().addListener(EventKeys.DESPAWN_SLINGSHOT, (Entity e) -> despawns++);
+    return projectile;
+  }
+}
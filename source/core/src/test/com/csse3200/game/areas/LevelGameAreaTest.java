@@ -23,6 +23,7 @@ import com.csse3200.game.entities.factories.BossFactory;
 import com.csse3200.game.entities.factories.RobotFactory;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.persistence.Persistence;
+import com.csse3200.game.persistence.SessionRecording;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.physics.components.HitboxComponent;
@@ -49,7 +50,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.quality.Strictness;
 
@@ -68,8 +68,6 @@ class LevelGameAreaTest {
   private MockedStatic<Persistence> persistenceMock;
   private Profile profile;
 
-  private MockedStatic<com.badlogic.gdx.utils.Timer> timerMock;
-
   /** A class to capture spawned entities without needing a full ECS */
   static class CapturingLevelGameArea extends LevelGameArea {
     final List<Entity> spawned = new ArrayList<>();
@@ -128,32 +126,17 @@ class LevelGameAreaTest {
     persistenceMock = mockStatic(Persistence.class, withSettings().strictness(Strictness.LENIENT));
     // Note: Persistence.profile() no longer exists in the reworked system
 
-    // Make Timer.schedule(task, delay) run the task immediately
-    timerMock =
-        mockStatic(
-            com.badlogic.gdx.utils.Timer.class, withSettings().strictness(Strictness.LENIENT));
-    timerMock
-        .when(
-            () ->
-                com.badlogic.gdx.utils.Timer.schedule(
-                    Mockito.<com.badlogic.gdx.utils.Timer.Task>any(), Mockito.anyFloat()))
-        .thenAnswer(
-            inv -> {
-              com.badlogic.gdx.utils.Timer.Task task = inv.getArgument(0);
-              // run the Stop task immediately so your test can assert synchronously
-              task.run();
-              return null;
-            });
+    ServiceLocator.registerTimerService(new TimerService());
   }
 
   @AfterEach
   void afterEach() {
     try {
       ServiceLocator.clear();
+      ServiceLocator.deregisterSoundService();
       if (persistenceMock != null) {
         persistenceMock.close();
       }
-      if (timerMock != null) timerMock.close();
     } catch (Throwable ignored) {
       // Ignore throwable and continue to next test
     }
@@ -265,6 +248,17 @@ class LevelGameAreaTest {
     assertFalse(area.isCharacterSelected());
   }
 
+  @Test
+  void spawnRecordedUnitIgnoresUnknownKey() {
+    CapturingLevelGameArea area = new CapturingLevelGameArea();
+    area.setGrid(new LevelGameGrid(5, 5));
+
+    area.spawnRecordedUnit("images/missing.png", 0);
+
+    assertTrue(area.spawned.isEmpty());
+    assertFalse(area.getGrid().isOccupiedIndex(0));
+  }
+
   @Test
   void getters() {
     LevelGameGrid grid = mock(LevelGameGrid.class);
@@ -700,6 +694,25 @@ class LevelGameAreaTest {
     assertNotNull(area.getGrid());
   }
 
+  @Test
+  void spawnUnit_recordsSlotRewardPlacements() {
+    SessionRecorder recorder = new SessionRecorder();
+    ServiceLocator.registerSessionRecorder(recorder);
+    recorder.startRecording("levelOne", 1L);
+    CapturingLevelGameArea area = new CapturingLevelGameArea();
+    area.setGrid(mock(LevelGameGrid.class));
+
+    // Slot rewards are not in the hotbar lists, so they are recorded by their defender key
+    area.setSelectedUnit(new Entity().addComponent(new DeckInputComponent(area, Entity::new)));
+    area.markNextPlacementFree("slingshooter");
+    area.spawnUnit(3);
+
+    SessionRecording.Input input = recorder.getRecording().getInputs().first();
+    assertEquals(SessionRecording.InputType.PLACE_REWARD, input.getType());
+    assertEquals("slingshooter", input.getKey());
+    assertEquals(3, input.getPosition());
+  }
+
   @Test
   void placeDefenceUnit_playsSound() {
     // Arrange
@@ -717,6 +730,7 @@ class LevelGameAreaTest {
     ServiceLocator.registerResourceService(resources);
     ServiceLocator.registerSettingsService(settings);
     ServiceLocator.registerCurrencyService(currencyService);
+    ServiceLocator.registerSoundService(new SoundService());
 
     // Mock behaviour
     when(unit.getProperty(anyString())).thenReturn(null);
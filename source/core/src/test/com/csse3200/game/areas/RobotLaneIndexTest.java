@@ -0,0 +1,172 @@
+package com.csse3200.game.areas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class RobotLaneIndexTest {
+  private static final float TILE = 10f;
+
+  private RobotLaneIndex index;
+  private List<Entity> robots;
+
+  @BeforeEach
+  void beforeEach() {
+    index = new RobotLaneIndex();
+    index.setLayout(0f, TILE, 5);
+    robots = new ArrayList<>();
+  }
+
+  @Test
+  void shouldBucketRobotsByLaneSortedByX() {
+    Entity far = robotAt(80f, 20f);
+    Entity near = robotAt(30f, 20f);
+    Entity other = robotAt(10f, 40f);
+    index.refresh(robots);
+
+    assertEquals(3, index.size());
+    assertEquals(2, index.getLaneSize(2));
+    assertEquals(1, index.getLaneSize(4));
+    assertSame(near, index.getFrontMost(2));
+    assertSame(other, index.getFrontMost(4));
+    assertNull(index.getFrontMost(0));
+    assertSame(far, index.getNearestAhead(2, 40f, 100f));
+    assertNull(index.getNearestAhead(2, 40f, 70f));
+  }
+
+  @Test
+  void shouldFollowRobotsAcrossRefreshes() {
+    Entity first = robotAt(50f, 0f);
+    Entity second = robotAt(60f, 0f);
+    index.refresh(robots);
+    assertSame(first, index.getFrontMost(0));
+
+    // Overtake within the lane, then change lane
+    second.setPosition(40f, 0f);
+    index.refresh(robots);
+    assertSame(second, index.getFrontMost(0));
+
+    second.setPosition(40f, 30f);
+    index.refresh(robots);
+    assertSame(first, index.getFrontMost(0));
+    assertSame(second, index.getFrontMost(3));
+
+    robots.remove(first);
+    index.refresh(robots);
+    assertEquals(1, index.size());
+    assertNull(index.getFrontMost(0));
+  }
+
+  @Test
+  void shouldFollowRobotsIncrementally() {
+    Entity first = new Entity();
+    first.setPosition(50f, 0f);
+    Entity second = new Entity();
+    second.setPosition(60f, 0f);
+    Entity third = new Entity();
+    third.setPosition(70f, 0f);
+    index.add(first);
+    index.add(second);
+    index.add(third);
+    index.add(first);
+    assertEquals(3, index.size());
+    assertSame(first, index.getFrontMost(0));
+
+    // The last robot overtakes both others, and the first changes lane
+    third.setPosition(40f, 0f);
+    first.setPosition(45f, 20f);
+    index.update();
+    assertSame(third, index.getFrontMost(0));
+    assertSame(second, index.getNearestAhead(0, 41f, 100f));
+    assertSame(first, index.getFrontMost(2));
+    assertEquals(2, index.getLaneSize(0));
+
+    second.setPosition(10f, 0f);
+    index.move(second);
+    assertSame(second, index.getFrontMost(0));
+
+    index.remove(second);
+    index.remove(second);
+    assertEquals(2, index.size());
+    assertSame(third, index.getFrontMost(0));
+  }
+
+  @Test
+  void shouldFindRobotsWithinRadius() {
+    Entity inside = robotAt(20f, 20f);
+    Entity diagonal = robotAt(27f, 27f);
+    robotAt(20f, 40f);
+    robotAt(45f, 20f);
+    index.refresh(robots);
+
+    Array<Entity> found = index.getWithinRadius(new Vector2(20f, 20f), 11f, new Array<>());
+    assertEquals(2, found.size);
+    assertTrue(found.contains(inside, true));
+    assertTrue(found.contains(diagonal, true));
+  }
+
+  @Test
+  void shouldFindRobotPastThreshold() {
+    robotAt(30f, 0f);
+    Entity leaking = robotAt(-10f, 40f);
+    index.refresh(robots);
+
+    assertSame(leaking, index.findRobotAtOrBefore(-10f));
+    assertNull(index.findRobotAtOrBefore(-11f));
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertNull(index.findRobotAtOrBefore(100f));
+  }
+
+  @Test
+  void shouldFindFirstRobotSweptThrough() {
+    Entity near = robotAt(30f, 20f);
+    Entity far = robotAt(60f, 20f);
+    robotAt(40f, 40f);
+    for (Entity robot : robots) {
+      robot.setScale(TILE, TILE);
+    }
+    index.refresh(robots);
+
+    // Moving right through both robots in one step still hits the nearer one
+    assertSame(near, index.findFirstHit(0f, 80f, 1f, 22f, 23f));
+    // Moving left hits the robot whose right edge comes first
+    assertSame(far, index.findFirstHit(80f, 0f, 1f, 22f, 23f));
+    // Starting inside a robot's hitbox counts as touching it
+    assertSame(far, index.findFirstHit(62f, 63f, 1f, 22f, 23f));
+    assertNull(index.findFirstHit(0f, 28f, 1f, 22f, 23f));
+    assertNull(index.findFirstHit(0f, 80f, 1f, 31f, 32f));
+  }
+
+  @Test
+  void shouldOnlyHitRobotHitboxes() {
+    Entity robot = robotAt(30f, 20f);
+    robot.setScale(TILE, TILE);
+    index.refresh(robots);
+
+    // The hitbox is the lower-left quarter of the sprite, from (30, 20) to (35, 25)
+    assertSame(robot, index.findFirstHit(0f, 80f, 1f, 24f, 25f));
+    assertNull(index.findFirstHit(0f, 80f, 1f, 26f, 27f));
+    assertNull(index.findFirstHit(36f, 80f, 1f, 22f, 23f));
+  }
+
+  private Entity robotAt(float x, float y) {
+    Entity robot = new Entity();
+    robot.setPosition(x, y);
+    robots.add(robot);
+    return robot;
+  }
+}
@@ -6,7 +6,10 @@ import static org.mockito.Mockito.*;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.csse3200.game.ai.tasks.AITaskComponent;
+import com.csse3200.game.components.DefenderStatsComponent;
+import com.csse3200.game.components.GeneratorStatsComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityQuery;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
@@ -23,6 +26,7 @@ class GunnerAttackTaskTest {
   private Entity gunner;
   private Entity defense;
   private GameTime gameTime;
+  private EntityQuery defenders;
 
   @BeforeEach
   void setup() {
@@ -40,6 +44,11 @@ class GunnerAttackTaskTest {
     ServiceLocator.registerPhysicsService(new PhysicsService());
     EntityService entityService = mock(EntityService.class);
     ServiceLocator.registerEntityService(entityService);
+    defenders = mock(EntityQuery.class);
+    EntityQuery generators = mock(EntityQuery.class);
+    when(entityService.query(DefenderStatsComponent.class)).thenReturn(defenders);
+    when(entityService.query(GeneratorStatsComponent.class)).thenReturn(generators);
+    when(generators.getEntities()).thenReturn(new com.badlogic.gdx.utils.Array<>());
 
     // Physics component, body, etc. (same as before)
     PhysicsComponent physicsComponent = mock(PhysicsComponent.class);
@@ -55,15 +64,14 @@ class GunnerAttackTaskTest {
     defense = new Entity();
     defense.setPosition(new Vector2(3, 0));
 
-    when(entityService.getEntities())
+    when(defenders.getEntities())
         .thenReturn(new com.badlogic.gdx.utils.Array<>(new Entity[] {defense}));
   }
 
   @Test
   void lowPriorityWhenTargetNot() {
     // no visible target
-    when(ServiceLocator.getEntityService().getEntities())
-        .thenReturn(new com.badlogic.gdx.utils.Array<>());
+    when(defenders.getEntities()).thenReturn(new com.badlogic.gdx.utils.Array<>());
     // set up gunner attack task
     GunnerAttackTask task = new GunnerAttackTask(5f, (short) 1);
     gunner.getComponent(AITaskComponent.class).addTask(task);
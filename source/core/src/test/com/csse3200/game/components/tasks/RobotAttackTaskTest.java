@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import com.badlogic.gdx.utils.Array;
 import com.csse3200.game.ai.tasks.AITaskComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityQuery;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.physics.PhysicsService;
@@ -26,6 +27,7 @@ class RobotAttackTaskTest {
   private Entity attacker;
   private Entity defender;
   private RobotAttackTask task;
+  private EntityQuery hitboxes;
 
   @BeforeEach
   void beforeEach() {
@@ -40,7 +42,8 @@ class RobotAttackTaskTest {
     ServiceLocator.registerPhysicsService(new PhysicsService());
 
     EntityService entityService = mock(EntityService.class);
-    when(entityService.getEntities()).thenReturn(Array.with());
+    hitboxes = mock(EntityQuery.class);
+    when(entityService.query(HitboxComponent.class)).thenReturn(hitboxes);
     ServiceLocator.registerEntityService(entityService);
 
     attacker = new Entity();
@@ -50,14 +53,14 @@ class RobotAttackTaskTest {
     ai.addTask(task);
     attacker.addComponent(ai);
 
-    Array<Entity> entities = Array.with(attacker, defender);
-    when(ServiceLocator.getEntityService().getEntities()).thenReturn(entities);
+    Array<Entity> entities = Array.with(defender);
+    when(hitboxes.getEntities()).thenReturn(entities);
     when(defender.getComponent(HitboxComponent.class).getLayer()).thenReturn(defenderLayer);
   }
 
   @Test
   void noFoundWhenNoEntity() {
-    when(ServiceLocator.getEntityService().getEntities()).thenReturn(new Array<>());
+    when(hitboxes.getEntities()).thenReturn(new Array<>());
     assertNull(task.getNearestVisibleTarget());
   }
 
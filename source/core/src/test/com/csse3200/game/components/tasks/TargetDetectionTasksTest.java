@@ -12,6 +12,7 @@ import com.csse3200.game.ai.tasks.TaskRunner;
 import com.csse3200.game.areas.LevelGameArea;
 import com.csse3200.game.components.CombatStatsComponent;
 import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityQuery;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.physics.PhysicsEngine;
 import com.csse3200.game.physics.PhysicsLayer;
@@ -253,7 +254,9 @@ class TargetDetectionTasksTest {
     entities.add(entity2);
     entities.add(entity3);
     entities.add(entity4);
-    when(entityServiceMock.getEntities()).thenReturn(entities);
+    EntityQuery hitboxes = mock(EntityQuery.class);
+    when(hitboxes.getEntities()).thenReturn(entities);
+    when(entityServiceMock.query(HitboxComponent.class)).thenReturn(hitboxes);
 
     List<Entity> targets = targetTask.getAllTargets();
 
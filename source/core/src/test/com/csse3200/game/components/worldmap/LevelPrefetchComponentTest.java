@@ -0,0 +1,93 @@
+package com.csse3200.game.components.worldmap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.csse3200.game.entities.configs.BaseDefenderConfig;
+import com.csse3200.game.entities.configs.BaseEnemyConfig;
+import com.csse3200.game.entities.configs.BaseGeneratorConfig;
+import com.csse3200.game.entities.configs.BaseItemConfig;
+import com.csse3200.game.entities.configs.BaseLevelConfig;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.AssetCache;
+import com.csse3200.game.services.ConfigService;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class LevelPrefetchComponentTest {
+  private static final String LEVEL_ONE_MAP = "test/files/tree.png";
+  private static final String LEVEL_TWO_MAP = "test/files/heart.png";
+
+  private AssetCache cache;
+
+  @BeforeEach
+  void beforeEach() {
+    ConfigService configService = mock(ConfigService.class);
+    when(configService.getItemConfigValues()).thenReturn(new BaseItemConfig[0]);
+    when(configService.getEnemyConfigValues()).thenReturn(new BaseEnemyConfig[0]);
+    when(configService.getDefenderConfigValues()).thenReturn(new BaseDefenderConfig[0]);
+    when(configService.getGeneratorConfigValues()).thenReturn(new BaseGeneratorConfig[0]);
+    BaseLevelConfig levelOne = mock(BaseLevelConfig.class);
+    when(levelOne.getMapFile()).thenReturn(LEVEL_ONE_MAP);
+    when(levelOne.getWaves()).thenReturn(List.of());
+    BaseLevelConfig levelTwo = mock(BaseLevelConfig.class);
+    when(levelTwo.getMapFile()).thenReturn(LEVEL_TWO_MAP);
+    when(levelTwo.getWaves()).thenReturn(List.of());
+    when(configService.getLevelConfig("levelOne")).thenReturn(levelOne);
+    when(configService.getLevelConfig("levelTwo")).thenReturn(levelTwo);
+    ServiceLocator.registerConfigService(configService);
+
+    cache = new AssetCache(new AssetManager(), 100_000_000L);
+  }
+
+  @Test
+  void shouldWaitUntilPlayerIsIdle() {
+    LevelPrefetchComponent prefetch = new LevelPrefetchComponent(cache, 1f, 100_000_000L);
+
+    prefetch.step("levelOne", true, 0.6f);
+    prefetch.step("levelOne", false, 0.6f);
+    prefetch.step("levelOne", true, 0.6f);
+    assertFalse(prefetch.isPrefetching());
+    assertFalse(cache.contains(LEVEL_ONE_MAP));
+
+    prefetch.step("levelOne", true, 0.6f);
+    assertTrue(prefetch.isPrefetching());
+    assertEquals("levelOne", prefetch.getTargetLevel());
+    assertTrue(cache.contains(LEVEL_ONE_MAP));
+  }
+
+  @Test
+  void shouldCancelWhenPredictionChanges() {
+    LevelPrefetchComponent prefetch = new LevelPrefetchComponent(cache, 0f, 100_000_000L);
+    prefetch.step("levelOne", true, 0.1f);
+    assertTrue(cache.contains(LEVEL_ONE_MAP));
+
+    prefetch.step("levelTwo", true, 0.1f);
+    assertFalse(cache.contains(LEVEL_ONE_MAP));
+    assertEquals("levelTwo", prefetch.getTargetLevel());
+    assertTrue(cache.contains(LEVEL_TWO_MAP));
+
+    prefetch.dispose();
+    assertFalse(cache.contains(LEVEL_TWO_MAP));
+  }
+
+  @Test
+  void shouldNotStartOverBudget() {
+    ResourceService screen = new ResourceService(cache);
+    screen.loadTextures(new String[] {LEVEL_TWO_MAP});
+    screen.loadAll();
+
+    LevelPrefetchComponent prefetch = new LevelPrefetchComponent(cache, 0f, 1L);
+    prefetch.step("levelOne", true, 0.1f);
+
+    assertTrue(prefetch.isDone());
+    assertFalse(prefetch.isPrefetching());
+    assertFalse(cache.contains(LEVEL_ONE_MAP));
+  }
+}
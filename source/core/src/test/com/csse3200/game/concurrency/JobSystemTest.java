@@ -7,6 +7,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -32,4 +33,14 @@ class JobSystemTest {
 
     assertEquals(10, result);
   }
+
+  @Test
+  void shouldRunParallelForOncePerIndex() {
+    AtomicIntegerArray runs = new AtomicIntegerArray(37);
+    JobSystem.parallelFor(runs.length(), runs::incrementAndGet);
+
+    for (int i = 0; i < runs.length(); i++) {
+      assertEquals(1, runs.get(i));
+    }
+  }
 }
@@ -1,10 +1,16 @@
 package com.csse3200.game.entities;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ParallelSafe;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,4 +55,152 @@ class EntityServiceTest {
     entityService.dispose();
     verify(entity).dispose();
   }
+
+  @Test
+  void shouldRemoveBySwappingLastEntity() {
+    EntityService entityService = new EntityService();
+    Entity first = new Entity();
+    Entity second = new Entity();
+    Entity third = new Entity();
+    entityService.register(first);
+    entityService.register(second);
+    entityService.register(third);
+
+    entityService.unregister(first);
+    assertEquals(2, entityService.getEntities().size);
+    assertSame(third, entityService.getEntities().get(0));
+    assertSame(second, entityService.getEntities().get(1));
+
+    // Unregistering twice should be a no-op
+    entityService.unregister(first);
+    assertEquals(2, entityService.getEntities().size);
+  }
+
+  @Test
+  void shouldDeferRegisterDuringUpdate() {
+    EntityService entityService = new EntityService();
+    Entity spawned = spy(Entity.class);
+    Entity spawner = new Entity().addComponent(new SpawnComponent(entityService, spawned));
+    entityService.register(spawner);
+
+    entityService.update();
+    verify(spawned).create();
+    verify(spawned, times(0)).update();
+    assertTrue(entityService.getEntities().contains(spawned, true));
+
+    entityService.update();
+    verify(spawned).update();
+  }
+
+  @Test
+  void shouldSkipEntitiesUnregisteredDuringUpdate() {
+    EntityService entityService = new EntityService();
+    Entity victim = spy(Entity.class);
+    Entity killer = new Entity().addComponent(new DespawnComponent(entityService, victim));
+    entityService.register(killer);
+    entityService.register(victim);
+
+    entityService.update();
+    verify(victim, times(0)).update();
+    assertFalse(entityService.getEntities().contains(victim, true));
+    assertEquals(1, entityService.getEntities().size);
+  }
+
+  @Test
+  void shouldKeepQueryViewsUpToDate() {
+    EntityService entityService = new EntityService();
+    Entity both =
+        new Entity().addComponent(new QueryComponentA()).addComponent(new QueryComponentB());
+    Entity onlyA = new Entity().addComponent(new QueryComponentA());
+    entityService.register(both);
+
+    EntityQuery query = entityService.query(QueryComponentA.class, QueryComponentB.class);
+    assertSame(query, entityService.query(QueryComponentA.class, QueryComponentB.class));
+    assertEquals(1, query.size());
+
+    entityService.register(onlyA);
+    assertEquals(1, query.size());
+    assertEquals(2, entityService.query(QueryComponentA.class).size());
+
+    entityService.unregister(both);
+    assertEquals(0, query.size());
+    assertEquals(1, entityService.query(QueryComponentA.class).size());
+  }
+
+  @Test
+  void shouldUpdateParallelSafeComponentsBeforeOthers() {
+    EntityService entityService = new EntityService();
+    StringBuilder order = new StringBuilder();
+    Entity entity =
+        new Entity()
+            .addComponent(new OrderComponent(order, 's'))
+            .addComponent(new ParallelOrderComponent(order, 'p'));
+    entityService.register(entity);
+
+    entityService.update();
+    assertEquals("ps", order.toString());
+
+    // The entity's own update skips parallel-safe components, as the service updates them first
+    entity.update();
+    assertEquals("pss", order.toString());
+  }
+
+  static class SpawnComponent extends Component {
+    private final EntityService entityService;
+    private final Entity toSpawn;
+    private boolean spawned = false;
+
+    SpawnComponent(EntityService entityService, Entity toSpawn) {
+      this.entityService = entityService;
+      this.toSpawn = toSpawn;
+    }
+
+    @Override
+    public void update() {
+      if (!spawned) {
+        spawned = true;
+        entityService.register(toSpawn);
+      }
+    }
+  }
+
+  static class DespawnComponent extends Component {
+    private final EntityService entityService;
+    private final Entity toDespawn;
+
+    DespawnComponent(EntityService entityService, Entity toDespawn) {
+      this.entityService = entityService;
+      this.toDespawn = toDespawn;
+    }
+
+    @Override
+    public void update() {
+      entityService.unregister(toDespawn);
+    }
+  }
+
+  static class QueryComponentA extends Component {}
+
+  static class QueryComponentB extends Component {}
+
+  static class OrderComponent extends Component {
+    private final StringBuilder order;
+    private final char mark;
+
+    OrderComponent(StringBuilder order, char mark) {
+      this.order = order;
+      this.mark = mark;
+    }
+
+    @Override
+    public void update() {
+      order.append(mark);
+    }
+  }
+
+  static class ParallelOrderComponent extends OrderComponent implements ParallelSafe {
+    ParallelOrderComponent(StringBuilder order, char mark) {
+      super(order, mark);
+    }
+  }
 }
@@ -1,8 +1,10 @@
 package com.csse3200.game.entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -172,6 +174,14 @@ class EntityTest {
     verify(component, times(0)).update();
   }
 
+  @Test
+  void shouldTrackComponentMask() {
+    Entity entity = new Entity();
+    entity.addComponent(new TestComponent1());
+    assertTrue(entity.hasComponent(TestComponent1.class));
+    assertFalse(entity.hasComponent(TestComponent2.class));
+  }
+
   static class TestComponent1 extends Component {}
 
   static class TestComponent2 extends Component {}
@@ -0,0 +1,95 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.csse3200.game.components.Component;
+import com.csse3200.game.components.ParallelSafe;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ParallelUpdatePhaseTest {
+  @Test
+  void shouldUpdateEveryEntityOnce() {
+    ParallelUpdatePhase phase = new ParallelUpdatePhase();
+    AtomicInteger updates = new AtomicInteger();
+    int count = ParallelUpdatePhase.CHUNK_SIZE * 3 + 5;
+    List<Integer> deferred = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      phase.add(createEntity(new DeferringComponent(i, updates, deferred)));
+    }
+    assertEquals(count, phase.size());
+
+    phase.run();
+    assertEquals(count, updates.get());
+    assertEquals(0, phase.size());
+  }
+
+  @Test
+  void shouldRunDeferredCommandsAfterPhaseInEntityOrder() {
+    ParallelUpdatePhase phase = new ParallelUpdatePhase();
+    AtomicInteger updates = new AtomicInteger();
+    int count = ParallelUpdatePhase.CHUNK_SIZE * 4;
+    List<Integer> deferred = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      phase.add(createEntity(new DeferringComponent(i, updates, deferred)));
+    }
+
+    phase.run();
+    assertEquals(count, deferred.size());
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, deferred.get(i));
+    }
+  }
+
+  @Test
+  void shouldRunDeferredCommandImmediatelyOutsidePhase() {
+    AtomicBoolean ran = new AtomicBoolean();
+    ParallelUpdatePhase.defer(() -> ran.set(true));
+    assertTrue(ran.get());
+  }
+
+  @Test
+  void shouldNotUpdateDisabledEntities() {
+    ParallelUpdatePhase phase = new ParallelUpdatePhase();
+    AtomicInteger updates = new AtomicInteger();
+    Entity entity = createEntity(new DeferringComponent(0, updates, new ArrayList<>()));
+    entity.setEnabled(false);
+    phase.add(entity);
+
+    phase.run();
+    assertEquals(0, updates.get());
+  }
+
+  private static Entity createEntity(Component component) {
+    Entity entity = new Entity().addComponent(component);
+    entity.create();
+    return entity;
+  }
+
+  /** Counts its updates, and defers recording its id until the phase is over. */
+  static class DeferringComponent extends Component implements ParallelSafe {
+    private final int id;
+    private final AtomicInteger updates;
+    private final List<Integer> deferred;
+
+    DeferringComponent(int id, AtomicInteger updates, List<Integer> deferred) {
+      this.id = id;
+      this.updates = updates;
+      this.deferred = deferred;
+    }
+
+    @Override
+    public void update() {
+      updates.incrementAndGet();
+      // Not thread-safe, so only works if deferred commands run one at a time
+      ParallelUpdatePhase.defer(() -> deferred.add(id));
+    }
+  }
+}
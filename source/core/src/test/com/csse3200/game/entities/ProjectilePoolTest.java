@@ -0,0 +1,124 @@
+package com.csse3200.game.entities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.csse3200.game.areas.LaneHitSystem;
+import com.csse3200.game.areas.RobotLaneIndex;
+import com.csse3200.game.components.tasks.TargetDetectionTasks.AttackDirection;
+import com.csse3200.game.events.EventKeys;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.physics.components.PhysicsComponent;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.services.GameTime;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class ProjectilePoolTest {
+  private EntityService entityService;
+
+  @BeforeEach
+  void beforeEach() {
+    ServiceLocator.registerTimeSource(new GameTime());
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+    ServiceLocator.registerRenderService(mock(RenderService.class));
+    entityService = new EntityService();
+    ServiceLocator.registerEntityService(entityService);
+
+    ResourceService resourceService = mock(ResourceService.class);
+    Texture texture = mock(Texture.class);
+    when(texture.getWidth()).thenReturn(16);
+    when(texture.getHeight()).thenReturn(16);
+    when(resourceService.getAsset(anyString(), eq(Texture.class))).thenReturn(texture);
+    ServiceLocator.registerResourceService(resourceService);
+  }
+
+  @Test
+  void shouldReuseReleasedProjectile() {
+    ProjectilePool pool = new ProjectilePool();
+    Entity first = pool.obtain(ProjectileType.SLINGSHOT, 1f, 2f, 30f, 5, AttackDirection.RIGHT);
+    assertEquals(1, pool.getMisses(ProjectileType.SLINGSHOT));
+    assertEquals(1, pool.getActiveCount(ProjectileType.SLINGSHOT));
+    assertTrue(entityService.getEntities().contains(first, true));
+
+    first.getEvents().trigger(EventKeys.DESPAWN_SLINGSHOT, first);
+    pool.processReleases();
+    assertEquals(1, pool.getFreeCount(ProjectileType.SLINGSHOT));
+    assertFalse(entityService.getEntities().contains(first, true));
+    assertFalse(first.getComponent(PhysicsComponent.class).getBody().isActive());
+
+    Entity second = pool.obtain(ProjectileType.SLINGSHOT, 3f, 4f, 30f, 5, AttackDirection.LEFT);
+    assertSame(first, second);
+    assertEquals(1, pool.getHits(ProjectileType.SLINGSHOT));
+    assertTrue(entityService.getEntities().contains(second, true));
+    assertTrue(second.getComponent(PhysicsComponent.class).getBody().isActive());
+  }
+
+  @Test
+  void shouldOnlyReleaseOncePerDespawn() {
+    ProjectilePool pool = new ProjectilePool();
+    Entity projectile = pool.obtain(ProjectileType.BULLET, 0f, 0f, 30f, 1, AttackDirection.RIGHT);
+    projectile.getEvents().trigger(EventKeys.DESPAWN_SLINGSHOT, projectile);
+    projectile.getEvents().trigger(EventKeys.DESPAWN_SLINGSHOT, projectile);
+    pool.processReleases();
+    assertEquals(1, pool.getFreeCount(ProjectileType.BULLET));
+  }
+
+  @Test
+  void shouldWarmUpConfiguredSizes() {
+    ProjectilePool pool = new ProjectilePool(Map.of(ProjectileType.GUNNER_BULLET, 3));
+    pool.warmUp();
+    assertEquals(3, pool.getFreeCount(ProjectileType.GUNNER_BULLET));
+    assertEquals(0, entityService.getEntities().size);
+
+    pool.obtain(ProjectileType.GUNNER_BULLET, 0f, 0f, 30f, 5, AttackDirection.LEFT);
+    assertEquals(1, pool.getHits(ProjectileType.GUNNER_BULLET));
+    assertEquals(0, pool.getMisses(ProjectileType.GUNNER_BULLET));
+  }
+
+  @Test
+  void shouldRejectNonPoolableTypes() {
+    ProjectilePool pool = new ProjectilePool();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> pool.obtain(ProjectileType.SHELL, 0f, 0f, 30f, 1, AttackDirection.RIGHT));
+  }
+
+  @Test
+  void shouldBuildLaneResolvedProjectilesWithoutBodies() {
+    LaneHitSystem laneHits = new LaneHitSystem(new RobotLaneIndex());
+    ProjectilePool pool = new ProjectilePool(Map.of(), laneHits);
+    Entity projectile =
+        pool.obtain(ProjectileType.SLINGSHOT, 0f, 0f, 30f, 5, AttackDirection.RIGHT);
+    assertNull(projectile.getComponent(PhysicsComponent.class));
+    assertEquals(1, laneHits.size());
+
+    projectile.getEvents().trigger(EventKeys.DESPAWN_SLINGSHOT, projectile);
+    pool.processReleases();
+    assertEquals(0, laneHits.size());
+    assertSame(
+        projectile, pool.obtain(ProjectileType.SLINGSHOT, 0f, 0f, 30f, 5, AttackDirection.RIGHT));
+    assertEquals(1, laneHits.size());
+
+    // Gunner bullets hit defences, so they keep their Box2D body
+    Entity bullet = pool.obtain(ProjectileType.GUNNER_BULLET, 0f, 0f, 30f, 5, AttackDirection.LEFT);
+    assertNotNull(bullet.getComponent(PhysicsComponent.class));
+    assertEquals(1, laneHits.size());
+  }
+}
@@ -1,9 +1,11 @@
 package com.csse3200.game.events;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import com.csse3200.game.concurrency.JobSystem;
 import com.csse3200.game.events.listeners.EventListener0;
 import com.csse3200.game.events.listeners.EventListener1;
 import com.csse3200.game.events.listeners.EventListener2;
@@ -96,4 +98,61 @@ class EventHandlerTest {
           handler.trigger("stringEvent", true);
         });
   }
+
+  @Test
+  void shouldShareListenersBetweenNameAndId() {
+    EventListener1<String> listener = mock();
+    EventListener1<String> listener2 = mock();
+    int eventId = EventKeys.intern("event");
+    handler.addListener("event", listener);
+    handler.addListener(eventId, listener2);
+
+    handler.trigger(eventId, "byId");
+    verify(listener).handle("byId");
+    verify(listener2).handle("byId");
+
+    handler.trigger("event", "byName");
+    verify(listener).handle("byName");
+    verify(listener2).handle("byName");
+  }
+
+  @Test
+  void shouldInternNamesOnce() {
+    int eventId = EventKeys.intern("internedEvent");
+    assertEquals(eventId, EventKeys.intern("internedEvent"));
+    assertEquals("internedEvent", EventKeys.getName(eventId));
+    assertEquals(EventKeys.COLLISION_START, EventKeys.intern("collisionStart"));
+  }
+
+  @Test
+  void shouldCountTriggers() {
+    EventKeys.resetTriggerCounts();
+    handler.trigger("countedEvent");
+    handler.trigger("countedEvent", 1);
+    handler.trigger(EventKeys.intern("countedEvent"));
+    assertEquals(3, EventKeys.getTriggerCount("countedEvent"));
+    assertEquals(0, EventKeys.getTriggerCount("neverInterned"));
+
+    EventKeys.resetTriggerCounts();
+    assertEquals(0, EventKeys.getTriggerCount("countedEvent"));
+  }
+
+  @Test
+  void shouldCountTriggersFromSeveralThreads() {
+    int eventId = EventKeys.intern("parallelEvent");
+    EventKeys.resetTriggerCounts();
+    JobSystem.parallelFor(
+        8,
+        job -> {
+          EventHandler events = new EventHandler();
+          for (int i = 0; i < 1000; i++) {
+            events.trigger(eventId);
+            events.trigger("parallelEvent" + (i % 40));
+          }
+        });
+
+    assertEquals(8000, EventKeys.getTriggerCount(eventId));
+    assertEquals(200, EventKeys.getTriggerCount("parallelEvent0"));
+    assertEquals(200, EventKeys.getTriggerCount("parallelEvent39"));
+  }
 }
@@ -0,0 +1,93 @@
+package com.csse3200.game.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.csse3200.game.entities.configs.BaseItemConfig.DeserializedItemConfig;
+import com.csse3200.game.extensions.GameExtension;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(GameExtension.class)
+class ConfigSnapshotTest {
+  @TempDir Path tempDir;
+
+  private FileHandle source;
+  private FileHandle snapshotDir;
+
+  @BeforeEach
+  void beforeEach() {
+    source = new FileHandle(tempDir.resolve("items.json").toFile());
+    source.writeString(items(30), false);
+    snapshotDir = new FileHandle(tempDir.resolve("cache").toFile());
+  }
+
+  @Test
+  void shouldLoadFromSnapshotOnNextLaunch() {
+    ConfigSnapshot first = new ConfigSnapshot(snapshotDir);
+    DeserializedItemConfig parsed = first.load(DeserializedItemConfig.class, source);
+    assertEquals(1, first.getMisses());
+    assertTrue(snapshotDir.child("items.bin").exists());
+
+    ConfigSnapshot second = new ConfigSnapshot(snapshotDir);
+    DeserializedItemConfig cached = second.load(DeserializedItemConfig.class, source);
+    assertEquals(1, second.getHits());
+    assertEquals(0, second.getMisses());
+    assertNotSame(parsed, cached);
+    assertEquals("Item 1", cached.getConfig().get("item1").getName());
+    assertEquals(30, cached.getConfig().get("item1").getCost());
+  }
+
+  @Test
+  void shouldRebuildWhenSourceChanges() {
+    new ConfigSnapshot(snapshotDir).load(DeserializedItemConfig.class, source);
+    source.writeString(items(45), false);
+
+    ConfigSnapshot snapshot = new ConfigSnapshot(snapshotDir);
+    DeserializedItemConfig loaded = snapshot.load(DeserializedItemConfig.class, source);
+    assertEquals(1, snapshot.getMisses());
+    assertEquals(45, loaded.getConfig().get("item1").getCost());
+
+    snapshot.load(DeserializedItemConfig.class, source);
+    assertEquals(1, snapshot.getHits());
+  }
+
+  @Test
+  void shouldFallBackToJsonWhenSnapshotIsCorrupt() {
+    new ConfigSnapshot(snapshotDir).load(DeserializedItemConfig.class, source);
+    byte[] bytes = snapshotDir.child("items.bin").readBytes();
+    snapshotDir.child("items.bin").writeBytes(Arrays.copyOf(bytes, 80), false);
+
+    ConfigSnapshot snapshot = new ConfigSnapshot(snapshotDir);
+    DeserializedItemConfig loaded = snapshot.load(DeserializedItemConfig.class, source);
+    assertEquals(1, snapshot.getMisses());
+    assertEquals(30, loaded.getConfig().get("item1").getCost());
+  }
+
+  @Test
+  void shouldNotSnapshotWhenDisabled() {
+    ConfigSnapshot snapshot = ConfigSnapshot.disabled();
+    DeserializedItemConfig loaded = snapshot.load(DeserializedItemConfig.class, source);
+    snapshot.load(DeserializedItemConfig.class, source);
+
+    assertEquals(30, loaded.getConfig().get("item1").getCost());
+    assertEquals(2, snapshot.getMisses());
+    assertEquals(0, snapshot.getHits());
+    assertFalse(snapshotDir.exists());
+  }
+
+  @Test
+  void shouldReturnNullForMissingFile() {
+    ConfigSnapshot snapshot = new ConfigSnapshot(snapshotDir);
+    FileHandle missing = new FileHandle(tempDir.resolve("missing.json").toFile());
+    assertNull(snapshot.load(DeserializedItemConfig.class, missing));
+  }
+
+  private static String items(int cost) {
+    return "{ config: { item1: { name: \"Item 1\", cost: " + cost + " } } }";
+  }
+}
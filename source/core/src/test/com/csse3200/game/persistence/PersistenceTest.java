@@ -9,9 +9,15 @@ import com.badlogic.gdx.files.FileHandle;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.progression.Profile;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,6 +25,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(GameExtension.class)
 class PersistenceTest {
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void beforeEach() {
+    Persistence.setWriter(new SaveWriter(new FileHandle(tempDir.toFile())));
+  }
+
+  @AfterEach
+  void afterEach() {
+    Persistence.setWriter(null);
+  }
 
   @Test
   void testLoad() {
@@ -66,35 +83,6 @@ class PersistenceTest {
     }
   }
 
-  @Test
-  void testSave() {
-    try (MockedStatic<FileLoader> mockFileLoader = Mockito.mockStatic(FileLoader.class)) {
-      // Create a new profile
-      mockFileLoader
-          .when(
-              () ->
-                  FileLoader.writeClass(
-                      any(Profile.class), anyString(), eq(FileLoader.Location.EXTERNAL)))
-          .thenAnswer(inv -> null);
-
-      Files mockFiles = mock(Files.class);
-      FileHandle mockRoot = mock(FileHandle.class);
-      Gdx.files = mockFiles;
-      when(mockFiles.external(anyString())).thenReturn(mockRoot);
-      when(mockRoot.exists()).thenReturn(true);
-      when(mockRoot.list(".json")).thenReturn(new FileHandle[0]);
-
-      Persistence.create("testProfile", 1);
-      mockFileLoader.verify(
-          () ->
-              FileLoader.writeClass(
-                  any(Profile.class),
-                  matches(".*testProfile\\$\\d+\\$1\\.json"),
-                  eq(FileLoader.Location.EXTERNAL)),
-          atLeastOnce());
-    }
-  }
-
   @Test
   void testFetch() {
     Files mockFiles = mock(Files.class);
@@ -105,6 +93,7 @@ class PersistenceTest {
     when(mockFiles.external(anyString())).thenReturn(mockRootDir);
     when(mockRootDir.exists()).thenReturn(true);
     when(mockSaveFile.name()).thenReturn("testProfile$1234567890$1.json");
+    when(mockRootDir.list(".sav")).thenReturn(new FileHandle[0]);
     when(mockRootDir.list(".json")).thenReturn(new FileHandle[] {mockSaveFile});
 
     List<Savefile> result = Persistence.fetch();
@@ -135,97 +124,6 @@ class PersistenceTest {
     }
   }
 
-  @Test
-  void testCreate() {
-    try (MockedStatic<FileLoader> mockFileLoader = Mockito.mockStatic(FileLoader.class)) {
-      mockFileLoader
-          .when(
-              () ->
-                  FileLoader.writeClass(
-                      any(Profile.class), anyString(), eq(FileLoader.Location.EXTERNAL)))
-          .thenAnswer(inv -> null);
-      Files mockFiles = mock(Files.class);
-      FileHandle mockRoot = mock(FileHandle.class);
-      Gdx.files = mockFiles;
-      when(mockFiles.external(anyString())).thenReturn(mockRoot);
-      when(mockRoot.exists()).thenReturn(true);
-      when(mockRoot.list(".json")).thenReturn(new FileHandle[0]);
-
-      var result = Persistence.create("testProfile", 2);
-      Profile profile = result.getKey();
-
-      assertNotNull(profile);
-      assertEquals("testProfile", profile.getName());
-
-      mockFileLoader.verify(
-          () ->
-              FileLoader.writeClass(
-                  any(Profile.class),
-                  matches(".*testProfile\\$\\d+\\$2\\.json"),
-                  eq(FileLoader.Location.EXTERNAL)),
-          atLeastOnce());
-    }
-  }
-
-  @Test
-  void testCreateWithNullName() {
-    try (MockedStatic<FileLoader> mockFileLoader = Mockito.mockStatic(FileLoader.class)) {
-      mockFileLoader
-          .when(
-              () ->
-                  FileLoader.writeClass(
-                      any(Profile.class), anyString(), eq(FileLoader.Location.EXTERNAL)))
-          .thenAnswer(inv -> null);
-      Files mockFiles = mock(Files.class);
-      FileHandle mockRoot = mock(FileHandle.class);
-      Gdx.files = mockFiles;
-      when(mockFiles.external(anyString())).thenReturn(mockRoot);
-      when(mockRoot.exists()).thenReturn(true);
-      when(mockRoot.list(".json")).thenReturn(new FileHandle[0]);
-      var result = Persistence.create(null, 1);
-      Profile profile = result.getKey();
-
-      assertNotNull(profile);
-      assertNotNull(profile.getName()); // Should have default name
-
-      mockFileLoader.verify(
-          () ->
-              FileLoader.writeClass(
-                  any(Profile.class),
-                  matches(".*\\$\\d+\\$1\\.json"),
-                  eq(FileLoader.Location.EXTERNAL)),
-          atLeastOnce());
-    }
-  }
-
-  @Test
-  void testSaveWithProfile() {
-    try (MockedStatic<FileLoader> mockFileLoader = Mockito.mockStatic(FileLoader.class)) {
-      mockFileLoader
-          .when(
-              () ->
-                  FileLoader.writeClass(
-                      any(Profile.class), anyString(), eq(FileLoader.Location.EXTERNAL)))
-          .thenAnswer(inv -> null);
-      Files mockFiles = mock(Files.class);
-      FileHandle mockRoot = mock(FileHandle.class);
-      Gdx.files = mockFiles;
-      when(mockFiles.external(anyString())).thenReturn(mockRoot);
-      when(mockRoot.exists()).thenReturn(true);
-      when(mockRoot.list(".json")).thenReturn(new FileHandle[0]);
-      Profile testProfile = new Profile();
-      Persistence.save(1, testProfile);
-
-      mockFileLoader.verify(
-          () ->
-              FileLoader.writeClass(
-                  any(Profile.class),
-                  matches(".*\\$\\d+\\$1\\.json"),
-                  eq(FileLoader.Location.EXTERNAL)),
-          atLeastOnce());
-    }
-  }
-
   @Test
   void testSaveInvalidSlot() {
     try (MockedStatic<FileLoader> mockFileLoader = Mockito.mockStatic(FileLoader.class)) {
@@ -248,6 +146,7 @@ class PersistenceTest {
 
     when(mockFiles.external(anyString())).thenReturn(mockRootDir);
     when(mockRootDir.exists()).thenReturn(true);
+    when(mockRootDir.list(".sav")).thenReturn(new FileHandle[0]);
     when(mockRootDir.list(".json")).thenReturn(new FileHandle[0]);
 
     List<Savefile> result = Persistence.fetch();
@@ -268,6 +167,7 @@ class PersistenceTest {
     when(mockFiles.external(anyString())).thenReturn(mockRootDir);
     when(mockRootDir.exists()).thenReturn(true);
     when(mockInvalidFile.name()).thenReturn("invalid-file.txt");
+    when(mockRootDir.list(".sav")).thenReturn(new FileHandle[0]);
     when(mockRootDir.list(".json")).thenReturn(new FileHandle[] {mockInvalidFile});
 
     List<Savefile> result = Persistence.fetch();
@@ -288,6 +188,7 @@ class PersistenceTest {
     when(mockFiles.external(anyString())).thenReturn(mockRootDir);
     when(mockRootDir.exists()).thenReturn(true);
     when(mockSaveFile.name()).thenReturn("testProfile$1234567890$5.json");
+    when(mockRootDir.list(".sav")).thenReturn(new FileHandle[0]);
     when(mockRootDir.list(".json")).thenReturn(new FileHandle[] {mockSaveFile});
 
     List<Savefile> result = Persistence.fetch();
@@ -308,6 +209,7 @@ class PersistenceTest {
     when(mockFiles.external(anyString())).thenReturn(mockRootDir);
     when(mockRootDir.exists()).thenReturn(true);
     when(mockSaveFile.name()).thenReturn("testProfile$invalid$1.json");
+    when(mockRootDir.list(".sav")).thenReturn(new FileHandle[0]);
     when(mockRootDir.list(".json")).thenReturn(new FileHandle[] {mockSaveFile});
 
     List<Savefile> result = Persistence.fetch();
@@ -330,6 +232,7 @@ class PersistenceTest {
     when(mockRootDir.exists()).thenReturn(true);
     when(mockSaveFile1.name()).thenReturn("save1$1234567890$1.json");
     when(mockSaveFile2.name()).thenReturn("save2$1234567891$2.json");
+    when(mockRootDir.list(".sav")).thenReturn(new FileHandle[0]);
     when(mockRootDir.list(".json")).thenReturn(new FileHandle[] {mockSaveFile1, mockSaveFile2});
 
     List<Savefile> result = Persistence.fetch();
@@ -345,34 +248,54 @@ class PersistenceTest {
   }
 
   @Test
-  void testSaveOverwrite() {
-    Files mockFiles = mock(Files.class);
-    FileHandle mockRootDir = mock(FileHandle.class);
-    FileHandle mockExistingFile = mock(FileHandle.class);
-    Gdx.files = mockFiles;
+  void testSave() {
+    Persistence.save(1, new Profile());
+    Persistence.flush();
 
-    when(mockFiles.external(anyString())).thenReturn(mockRootDir);
-    when(mockRootDir.exists()).thenReturn(true);
-    when(mockExistingFile.name()).thenReturn("existing$1234567890$1.json");
-    when(mockRootDir.list(".json")).thenReturn(new FileHandle[] {mockExistingFile});
+    assertEquals(1, savesIn(tempDir).length);
+    assertTrue(savesIn(tempDir)[0].matches(".*\\$\\d+\\$1\\.sav"));
+  }
 
-    try (MockedStatic<FileLoader> mockFileLoader = Mockito.mockStatic(FileLoader.class)) {
-      mockFileLoader
-          .when(
-              () ->
-                  FileLoader.writeClass(
-                      any(Profile.class), anyString(), eq(FileLoader.Location.EXTERNAL)))
-          .thenAnswer(inv -> null);
+  @Test
+  void testCreate() {
+    var result = Persistence.create("testProfile", 2);
+    Profile profile = result.getKey();
+    Persistence.flush();
+
+    assertNotNull(profile);
+    assertEquals("testProfile", profile.getName());
+    assertEquals(2, result.getValue());
+    assertTrue(savesIn(tempDir)[0].matches("testProfile\\$\\d+\\$2\\.sav"));
+  }
 
-      Persistence.create("newProfile", 1);
+  @Test
+  void testCreateWithNullName() {
+    var result = Persistence.create(null, 1);
+    Persistence.flush();
 
-      mockFileLoader.verify(
-          () ->
-              FileLoader.writeClass(
-                  any(Profile.class),
-                  matches(".*newProfile\\$\\d+\\$1\\.json"),
-                  eq(FileLoader.Location.EXTERNAL)),
-          atLeastOnce());
-    }
+    assertNotNull(result.getKey().getName()); // Should have default name
+    assertEquals(1, savesIn(tempDir).length);
+  }
+
+  @Test
+  void testSaveOverwrite() throws IOException {
+    java.nio.file.Files.writeString(tempDir.resolve("existing$1234567890$1.json"), "{}");
+    java.nio.file.Files.writeString(tempDir.resolve("other$1234567890$2.json"), "{}");
+
+    Persistence.create("newProfile", 1);
+    Persistence.flush();
+
+    String[] saves = savesIn(tempDir);
+    assertEquals(2, saves.length);
+    assertTrue(Arrays.asList(saves).contains("other$1234567890$2.json"));
+    assertTrue(
+        Arrays.stream(saves).anyMatch(name -> name.matches("newProfile\\$\\d+\\$1\\.sav")));
+  }
+
+  private static String[] savesIn(Path dir) {
+    String[] names =
+        dir.toFile().list((parent, name) -> name.endsWith(".sav") || name.endsWith(".json"));
+    Arrays.sort(names);
+    return names;
   }
 }
@@ -0,0 +1,135 @@
+package com.csse3200.game.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Json;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.progression.Profile;
+import com.csse3200.game.progression.arsenal.Arsenal;
+import com.csse3200.game.progression.inventory.Inventory;
+import com.csse3200.game.progression.skilltree.Skill;
+import com.csse3200.game.progression.skilltree.SkillSet;
+import com.csse3200.game.progression.statistics.Statistics;
+import com.csse3200.game.progression.wallet.Wallet;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.dermetfan.utils.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(GameExtension.class)
+class SaveFormatTest {
+  private static final long TIMESTAMP = 1_700_000_000_000L;
+
+  private Profile profile;
+
+  @BeforeEach
+  void beforeEach() {
+    Inventory inventory = new Inventory();
+    inventory.addItem("grenade");
+    inventory.addItem("grenade");
+    SkillSet skillSet = new SkillSet();
+    skillSet.addSkill(SkillSet.getSkills().get(0));
+    Arsenal arsenal = new Arsenal();
+    arsenal.unlockDefence("slingshooter");
+    arsenal.unlockGenerator("furnace");
+    Statistics statistics = new Statistics(Map.of("enemiesKilled", 42), List.of("firstKill"));
+
+    profile =
+        new Profile(
+            new Pair<>("Player", "levelThree"),
+            new Pair<>(new Wallet(120, 4), inventory),
+            new Pair<>(skillSet, statistics),
+            new Pair<>(
+                new HashSet<>(Set.of("levelOne", "levelTwo", "levelThree")),
+                new HashSet<>(Set.of("levelOne", "levelTwo"))),
+            new Pair<>(true, false),
+            new Pair<>(12.5f, -3f),
+            new Pair<>(2, arsenal));
+    profile.markItemAsSold(1);
+  }
+
+  @Test
+  void shouldRoundTripProfile() throws IOException {
+    Profile loaded = SaveFormat.decode(SaveFormat.encode(profile, 2, TIMESTAMP));
+
+    assertEquals("Player", loaded.getName());
+    assertEquals("levelThree", loaded.getCurrentLevel());
+    assertEquals(120, loaded.getWallet().getCoins());
+    assertEquals(4, loaded.getWallet().getSkillsPoints());
+    assertEquals(List.of("grenade", "grenade"), loaded.getInventory().getKeys());
+    assertTrue(loaded.getSkillset().checkIfUnlocked(SkillSet.getSkills().get(0).getName()));
+    assertEquals(
+        Skill.StatType.HEALTH, loaded.getSkillset().getUnlockedSkills().get(0).getStatType());
+    assertEquals(42, loaded.getStatistics().getStatistic("enemiesKilled"));
+    assertTrue(loaded.getStatistics().isAchievementUnlocked("firstKill"));
+    assertEquals(List.of("slingshooter"), loaded.getArsenal().getDefenders());
+    assertEquals(List.of("furnace"), loaded.getArsenal().getGenerators());
+    assertEquals(profile.getCompletedLevels(), loaded.getCompletedLevels());
+    assertEquals(profile.getUnlockedNodes(), loaded.getUnlockedNodes());
+    assertTrue(loaded.getPlayedLevelTutorial());
+    assertFalse(loaded.getPlayedMapTutorial());
+    assertEquals(12.5f, loaded.getWorldMapX());
+    assertEquals(-3f, loaded.getWorldMapY());
+    assertEquals(2, loaded.getWorldMapZoomIdx());
+    assertArrayEquals(new boolean[] {false, true, false}, loaded.getSoldItems());
+    assertEquals(profile.getLastShopPeriod(), loaded.getLastShopPeriod());
+  }
+
+  @Test
+  void shouldDecodeSectionsOnFirstUse() throws IOException {
+    Profile loaded = SaveFormat.decode(SaveFormat.encode(profile, 1, TIMESTAMP));
+
+    Wallet wallet = loaded.getWallet();
+    wallet.addCoins(5);
+    assertSame(wallet, loaded.getWallet());
+    assertEquals(125, loaded.getWallet().getCoins());
+  }
+
+  @Test
+  void shouldReadHeaderOnly(@TempDir Path dir) throws IOException {
+    FileHandle file = new FileHandle(dir.resolve("Player$1700000000000$3.sav").toFile());
+    file.writeBytes(SaveFormat.encode(profile, 3, TIMESTAMP), false);
+
+    SaveHeader header = SaveFormat.readHeader(file);
+    assertEquals(new SaveHeader("Player", TIMESTAMP, 3, "levelThree", 120, 4, 2, 1), header);
+  }
+
+  @Test
+  void shouldRejectInvalidSaves() {
+    byte[] data = SaveFormat.encode(profile, 1, TIMESTAMP);
+
+    byte[] json = "{\"name\":\"Player\"}".getBytes();
+    assertThrows(IOException.class, () -> SaveFormat.decode(json));
+    byte[] truncated = Arrays.copyOf(data, data.length - 4);
+    assertThrows(IOException.class, () -> SaveFormat.decode(truncated));
+    byte[] newer = data.clone();
+    newer[5] = (byte) (SaveFormat.VERSION + 1);
+    assertThrows(IOException.class, () -> SaveFormat.decode(newer));
+  }
+
+  @Test
+  void shouldRoundTripJson() {
+    Profile imported = SaveFormat.fromJson(SaveFormat.toJson(profile));
+
+    assertEquals("Player", imported.getName());
+    assertEquals(120, imported.getWallet().getCoins());
+    assertEquals(List.of("slingshooter"), imported.getArsenal().getDefenders());
+  }
+
+  @Test
+  void shouldBeSmallerThanJson() {
+    int binary = SaveFormat.encode(profile, 1, TIMESTAMP).length;
+    int json = new Json().prettyPrint(profile).length();
+
+    assertTrue(binary < json, "Binary save of " + binary + " bytes vs JSON of " + json);
+  }
+}
@@ -0,0 +1,91 @@
+package com.csse3200.game.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.progression.Profile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(GameExtension.class)
+class SaveWriterTest {
+  @TempDir Path tempDir;
+
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+  @Test
+  void shouldCoalesceSavesToSameSlot() {
+    SaveWriter writer = new SaveWriter(new FileHandle(tempDir.toFile()), tasks::add);
+    Profile profile = new Profile();
+    writer.submit(1, profile);
+    writer.submit(1, profile);
+    writer.submit(1, profile);
+
+    assertEquals(1, tasks.size());
+    assertEquals(0, savesIn(tempDir).length);
+
+    tasks.poll().run();
+    assertEquals(3, writer.getSubmittedCount());
+    assertEquals(1, writer.getWrittenCount());
+    assertEquals(1, savesIn(tempDir).length);
+  }
+
+  @Test
+  void shouldSnapshotProfileOnSubmit() throws IOException {
+    SaveWriter writer = new SaveWriter(new FileHandle(tempDir.toFile()), tasks::add);
+    Profile profile = new Profile();
+    profile.setName("before");
+    writer.submit(2, profile);
+    profile.setName("after");
+
+    tasks.poll().run();
+    String[] saves = savesIn(tempDir);
+    assertTrue(saves[0].startsWith("before$"));
+    SaveHeader header = SaveFormat.readHeader(new FileHandle(tempDir.resolve(saves[0]).toFile()));
+    assertEquals("before", header.name());
+    assertEquals(2, header.slot());
+  }
+
+  @Test
+  void shouldReplaceOlderSaveInSlot() throws IOException {
+    Files.writeString(tempDir.resolve("old$1234567890$1.json"), "{}");
+    Files.writeString(tempDir.resolve("kept$1234567890$2.json"), "{}");
+    SaveWriter writer = new SaveWriter(new FileHandle(tempDir.toFile()), Runnable::run);
+
+    writer.submit(1, new Profile());
+
+    String[] saves = savesIn(tempDir);
+    assertEquals(2, saves.length);
+    assertFalse(Arrays.asList(saves).contains("old$1234567890$1.json"));
+    assertTrue(Arrays.asList(saves).contains("kept$1234567890$2.json"));
+    assertEquals(2, tempDir.toFile().list().length, "Temporary file should be renamed");
+  }
+
+  @Test
+  void shouldFlushBackgroundWrites() {
+    SaveWriter writer = new SaveWriter(new FileHandle(tempDir.resolve("saves").toFile()));
+    writer.submit(1, new Profile());
+    writer.submit(3, new Profile());
+
+    writer.flush();
+    assertEquals(2, savesIn(tempDir.resolve("saves")).length);
+  }
+
+  private static String[] savesIn(Path dir) {
+    String[] names =
+        dir.toFile().list((parent, name) -> name.endsWith(".sav") || name.endsWith(".json"));
+    if (names == null) {
+      return new String[0];
+    }
+    Arrays.sort(names);
+    return names;
+  }
+}
@@ -0,0 +1,45 @@
+package com.csse3200.game.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.persistence.SessionRecording.InputType;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(GameExtension.class)
+class SessionRecordingTest {
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldRoundTripThroughFile() {
+    SessionRecording recording = new SessionRecording("levelTwo", -7L);
+    recording.setLoadout(
+        List.of("slingshooter"), List.of("furnace"), List.of("grenade", "grenade"));
+    recording.addPlacement(0.5f, "images/entities/defences/sling_shooter_1.png", 12);
+    recording.addItemUse(3.25f, "images/items/grenade.png", 4);
+    recording.addSpeedChange(10f, 1.5f);
+    FileHandle file = new FileHandle(tempDir.resolve("levelTwo.json").toFile());
+
+    recording.save(file);
+    SessionRecording loaded = SessionRecording.load(file);
+
+    assertEquals("levelTwo", loaded.getLevelKey());
+    assertEquals(-7L, loaded.getSeed());
+    assertEquals("slingshooter", loaded.getDefenders().first());
+    assertEquals("furnace", loaded.getGenerators().first());
+    assertEquals(2, loaded.getItems().size);
+    assertEquals(3, loaded.getInputs().size);
+    assertEquals(InputType.PLACE_UNIT, loaded.getInputs().get(0).getType());
+    assertEquals(12, loaded.getInputs().get(0).getPosition());
+    assertEquals(InputType.USE_ITEM, loaded.getInputs().get(1).getType());
+    assertEquals(3.25f, loaded.getInputs().get(1).getTime());
+    assertEquals(InputType.SET_SPEED, loaded.getInputs().get(2).getType());
+    assertEquals(1.5f, loaded.getInputs().get(2).getSpeed());
+    assertNull(loaded.getInputs().get(2).getKey());
+  }
+}
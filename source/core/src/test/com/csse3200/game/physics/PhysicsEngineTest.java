@@ -1,13 +1,16 @@
 package com.csse3200.game.physics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.badlogic.gdx.physics.box2d.Joint;
 import com.badlogic.gdx.physics.box2d.JointDef;
 import com.badlogic.gdx.physics.box2d.World;
@@ -78,4 +81,39 @@ class PhysicsEngineTest {
     engine.dispose();
     verify(world).dispose();
   }
+
+  @Test
+  void shouldCountActiveBodiesByType() {
+    PhysicsEngine engine = new PhysicsEngine(new World(Vector2.Zero, true), gameTime);
+    createBody(engine, BodyType.StaticBody, true);
+    createBody(engine, BodyType.StaticBody, true);
+    createBody(engine, BodyType.KinematicBody, true);
+    createBody(engine, BodyType.DynamicBody, true);
+    createBody(engine, BodyType.DynamicBody, false);
+
+    PhysicsStats stats = engine.getStats();
+    assertEquals(2, stats.getStaticBodies());
+    assertEquals(1, stats.getKinematicBodies());
+    assertEquals(1, stats.getDynamicBodies());
+    assertEquals(1, stats.getInactiveBodies());
+    assertEquals(0, stats.getContacts());
+    engine.dispose();
+  }
+
+  @Test
+  void shouldRecordStepsOfLastUpdate() {
+    when(gameTime.getDeltaTime()).thenReturn(0.04f);
+    PhysicsEngine engine = new PhysicsEngine(new World(Vector2.Zero, true), gameTime);
+
+    engine.update();
+    assertEquals(2, engine.getStats().getSteps());
+    engine.dispose();
+  }
+
+  private static void createBody(PhysicsEngine engine, BodyType type, boolean active) {
+    BodyDef bodyDef = new BodyDef();
+    bodyDef.type = type;
+    bodyDef.active = active;
+    engine.createBody(bodyDef);
+  }
 }
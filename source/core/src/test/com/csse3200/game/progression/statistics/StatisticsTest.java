@@ -332,6 +332,90 @@ class StatisticsTest {
     assertTrue(statistics.isAchievementUnlocked("killStreak"));
   }
 
+  @Test
+  void shouldUnlockThresholdsInQuotaOrder() {
+    Map<String, BaseAchievementConfig> configs = new HashMap<>();
+    configs.put("kills10", createMockAchievement("kills10", "enemiesKilled", 10));
+    configs.put("kills1", createMockAchievement("kills1", "enemiesKilled", 1));
+    configs.put("kills5", createMockAchievement("kills5", "enemiesKilled", 5));
+    when(mockConfigService.getAchievementConfigs()).thenReturn(configs);
+
+    statistics.incrementStatistic("enemiesKilled");
+    assertEquals(List.of("kills1"), statistics.getUnlockedAchievements());
+
+    statistics.incrementStatistic("enemiesKilled", 9);
+    assertEquals(List.of("kills1", "kills5", "kills10"), statistics.getUnlockedAchievements());
+  }
+
+  @Test
+  void shouldSkipAchievementsUnlockedBeforeLoading() {
+    Map<String, BaseAchievementConfig> configs = new HashMap<>();
+    configs.put("kills1", createMockAchievement("kills1", "enemiesKilled", 1));
+    configs.put("kills5", createMockAchievement("kills5", "enemiesKilled", 5));
+    when(mockConfigService.getAchievementConfigs()).thenReturn(configs);
+
+    Statistics loaded = new Statistics(Map.of("enemiesKilled", 3), List.of("kills1"));
+    loaded.incrementStatistic("enemiesKilled", 2);
+
+    assertEquals(List.of("kills1", "kills5"), loaded.getUnlockedAchievements());
+    verify(mockWallet, times(1)).addSkillsPoints(10);
+  }
+
+  @Test
+  void shouldDeferAchievementsWhileBatching() {
+    when(mockConfigService.getAchievementConfigs()).thenReturn(createMockAchievementConfigs());
+    statistics.setBatching(true);
+
+    for (int i = 0; i < 5; i++) {
+      statistics.incrementStatistic("enemiesKilled");
+    }
+    assertEquals(5, statistics.getStatistic("enemiesKilled"));
+    verify(mockWallet, never()).addSkillsPoints(anyInt());
+
+    statistics.flushAchievements();
+    verify(mockWallet, times(1)).addSkillsPoints(10);
+    assertTrue(statistics.isAchievementUnlocked("killStreak"));
+  }
+
+  @Test
+  void shouldFlushWhenAchievementsAreRead() {
+    when(mockConfigService.getAchievementConfigs()).thenReturn(createMockAchievementConfigs());
+    statistics.setBatching(true);
+
+    statistics.incrementStatistic("enemiesKilled", 5);
+
+    assertEquals(List.of("killStreak"), statistics.getUnlockedAchievements());
+  }
+
+  @Test
+  void shouldFlushWhenBatchingEnds() {
+    when(mockConfigService.getAchievementConfigs()).thenReturn(createMockAchievementConfigs());
+    statistics.setBatching(true);
+    statistics.incrementStatistic("enemiesKilled", 5);
+
+    statistics.setBatching(false);
+    verify(mockWallet, times(1)).addSkillsPoints(10);
+
+    statistics.incrementStatistic("enemiesKilled");
+    verify(mockWallet, times(1)).addSkillsPoints(10);
+  }
+
+  @Test
+  void shouldCheckSkillPointAchievementsUnlockedByOtherAchievements() {
+    Map<String, BaseAchievementConfig> configs = new HashMap<>();
+    configs.put("killStreak", createMockAchievement("killStreak", "enemiesKilled", 5));
+    configs.put("points", createMockAchievement("points", "skillPointsCollected", 11));
+    when(mockConfigService.getAchievementConfigs()).thenReturn(configs);
+    statistics.setBatching(true);
+
+    statistics.incrementStatistic("enemiesKilled", 5);
+    statistics.flushAchievements();
+
+    verify(mockWallet, times(2)).addSkillsPoints(10);
+    statistics.setBatching(false);
+    assertTrue(statistics.isAchievementUnlocked("points"));
+  }
+
   private Map<String, BaseAchievementConfig> createMockAchievementConfigs() {
     Map<String, BaseAchievementConfig> configs = new HashMap<>();
     BaseAchievementConfig achievement = createMockAchievement("killStreak", "enemiesKilled", 5);
@@ -0,0 +1,78 @@
+package com.csse3200.game.rendering;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class AnimationCacheTest {
+  @BeforeEach
+  void beforeEach() {
+    AnimationCache.clear();
+  }
+
+  @AfterEach
+  void afterEach() {
+    AnimationCache.clear();
+  }
+
+  @Test
+  void shouldShareAnimationForSameKey() {
+    TextureAtlas atlas = AnimationRenderComponentTest.createMockAtlas("walk", 3);
+
+    Animation<TextureRegion> first = AnimationCache.get(atlas, "walk", 0.1f, PlayMode.LOOP);
+    Animation<TextureRegion> second = AnimationCache.get(atlas, "walk", 0.1f, PlayMode.LOOP);
+
+    assertNotNull(first);
+    assertSame(first, second);
+    assertEquals(3, first.getKeyFrames().length);
+    verify(atlas, times(1)).findRegions("walk");
+    assertEquals(1, AnimationCache.getHits());
+    assertEquals(1, AnimationCache.getMisses());
+  }
+
+  @Test
+  void shouldBuildSeparateAnimationsForDifferentKeys() {
+    TextureAtlas atlas = AnimationRenderComponentTest.createMockAtlas("walk", 2);
+    TextureAtlas otherAtlas = AnimationRenderComponentTest.createMockAtlas("walk", 2);
+
+    Animation<TextureRegion> walk = AnimationCache.get(atlas, "walk", 0.1f, PlayMode.LOOP);
+
+    assertNotSame(walk, AnimationCache.get(atlas, "walk", 0.2f, PlayMode.LOOP));
+    assertNotSame(walk, AnimationCache.get(atlas, "walk", 0.1f, PlayMode.NORMAL));
+    assertNotSame(walk, AnimationCache.get(otherAtlas, "walk", 0.1f, PlayMode.LOOP));
+    assertEquals(4, AnimationCache.size());
+  }
+
+  @Test
+  void shouldReturnNullForMissingRegions() {
+    TextureAtlas atlas = mock(TextureAtlas.class);
+
+    assertNull(AnimationCache.get(atlas, "missing", 0.1f, PlayMode.NORMAL));
+    assertEquals(0, AnimationCache.size());
+  }
+
+  @Test
+  void shouldKeepPlayTimePerComponent() {
+    TextureAtlas atlas = AnimationRenderComponentTest.createMockAtlas("walk", 1);
+    AnimationRenderComponent first = new AnimationRenderComponent(atlas);
+    AnimationRenderComponent second = new AnimationRenderComponent(atlas);
+
+    assertTrue(first.addAnimation("walk", 0.1f, PlayMode.LOOP));
+    assertTrue(second.addAnimation("walk", 0.1f, PlayMode.LOOP));
+    verify(atlas, times(1)).findRegions("walk");
+
+    first.startAnimation("walk");
+    assertEquals("walk", first.getCurrentAnimation());
+    assertNull(second.getCurrentAnimation());
+  }
+}
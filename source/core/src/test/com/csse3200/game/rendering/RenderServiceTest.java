@@ -80,4 +80,57 @@ class RenderServiceTest {
     inOrder.verify(renderable1).render(any());
     inOrder.verify(renderable2).render(any());
   }
+
+  @Test
+  void shouldResortWhenZIndexChanges() {
+    RenderService renderService = new RenderService();
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable renderable1 = mock(Renderable.class);
+    Renderable renderable2 = mock(Renderable.class);
+    when(renderable1.getZIndex()).thenReturn(1f);
+    when(renderable2.getZIndex()).thenReturn(2f);
+
+    renderService.register(renderable1);
+    renderService.register(renderable2);
+    renderService.render(spriteBatch);
+
+    // renderable1 moves in front
+    when(renderable1.getZIndex()).thenReturn(3f);
+    renderService.render(spriteBatch);
+
+    InOrder inOrder = Mockito.inOrder(renderable1, renderable2);
+    inOrder.verify(renderable1).render(any());
+    inOrder.verify(renderable2, times(2)).render(any());
+    inOrder.verify(renderable1).render(any());
+  }
+
+  @Test
+  void shouldOnlyResortStaticLayerWhenInvalidated() {
+    RenderService renderService = new RenderService();
+    renderService.setStaticLayer(1, true);
+    SpriteBatch spriteBatch = mock(SpriteBatch.class);
+    Renderable renderable1 = mock(Renderable.class);
+    Renderable renderable2 = mock(Renderable.class);
+    when(renderable1.getLayer()).thenReturn(1);
+    when(renderable2.getLayer()).thenReturn(1);
+    when(renderable1.getZIndex()).thenReturn(1f);
+    when(renderable2.getZIndex()).thenReturn(2f);
+
+    renderService.register(renderable1);
+    renderService.register(renderable2);
+    renderService.render(spriteBatch);
+
+    when(renderable1.getZIndex()).thenReturn(3f);
+    renderService.render(spriteBatch);
+    renderService.invalidate(renderable1);
+    renderService.render(spriteBatch);
+
+    InOrder inOrder = Mockito.inOrder(renderable1, renderable2);
+    // Sorted on registration, then kept in order until invalidated
+    inOrder.verify(renderable1).render(any());
+    inOrder.verify(renderable2).render(any());
+    inOrder.verify(renderable1).render(any());
+    inOrder.verify(renderable2, times(2)).render(any());
+    inOrder.verify(renderable1).render(any());
+  }
 }
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.when;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.csse3200.game.entities.Entity;
 import com.csse3200.game.extensions.GameExtension;
@@ -30,4 +31,16 @@ class TextureRenderComponentTest {
 
     verify(spriteBatch).draw(texture, 2f, 2f, 1f, 1f);
   }
+
+  @Test
+  void shouldDrawTextureRegion() {
+    TextureRegion region = new TextureRegion(texture, 0, 0, 1, 1);
+    when(entity.getPosition()).thenReturn(new Vector2(2f, 2f));
+    when(entity.getScale()).thenReturn(new Vector2(1f, 1f));
+    TextureRenderComponent component = new TextureRenderComponent(region);
+    component.setEntity(entity);
+    component.render(spriteBatch);
+
+    verify(spriteBatch).draw(region, 2f, 2f, 1f, 1f);
+  }
 }
@@ -0,0 +1,39 @@
+package com.csse3200.game.screens;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+import com.csse3200.game.extensions.GameExtension;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/** Checks the packed level atlas built by the core:packTextures Gradle task. */
+@ExtendWith(GameExtension.class)
+class PackedTexturesTest {
+  @Test
+  void shouldPackEveryLevelSprite() {
+    FileHandle atlasFile = Gdx.files.internal(MainGameScreen.MAIN_GAME_PACKED_ATLAS);
+    assertTrue(
+        atlasFile.exists(),
+        MainGameScreen.MAIN_GAME_PACKED_ATLAS + " is missing, run ./gradlew :core:packTextures");
+
+    TextureAtlasData atlas = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
+    Set<String> regions = new HashSet<>();
+    for (Region region : atlas.getRegions()) {
+      regions.add(region.name);
+    }
+    String[] textures = MainGameScreen.getMainGamePackedTextures();
+    assertTrue(textures.length > 0, MainGameScreen.MAIN_GAME_PACKED_LIST + " lists no textures");
+    for (String texture : textures) {
+      String regionName = texture.substring(0, texture.lastIndexOf('.'));
+      assertTrue(
+          regions.contains(regionName),
+          texture + " is not packed, run ./gradlew :core:packTextures");
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.csse3200.game.screens;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.csse3200.game.areas.LevelGameArea;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.ProjectilePool;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.physics.PhysicsEngine;
+import com.csse3200.game.services.GameStateService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.TimerService;
+import com.csse3200.game.services.VirtualGameTime;
+import com.csse3200.game.services.WaveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class WorldUpdaterTest {
+  private static final float FRAME = 1f / 60f;
+
+  private VirtualGameTime time;
+  private PhysicsEngine physics;
+  private LevelGameArea area;
+  private GameStateService gameState;
+  private WaveService waves;
+  private boolean frozen;
+  private WorldUpdater updater;
+
+  @BeforeEach
+  void beforeEach() {
+    time = new VirtualGameTime();
+    ServiceLocator.registerTimeSource(time);
+    ServiceLocator.registerEntityService(new EntityService());
+    waves = mock(WaveService.class);
+    ServiceLocator.registerWaveService(waves);
+
+    physics = mock(PhysicsEngine.class);
+    area = mock(LevelGameArea.class);
+    when(area.getProjectilePool()).thenReturn(mock(ProjectilePool.class));
+    gameState = mock(GameStateService.class);
+    frozen = false;
+    when(gameState.isFrozen()).thenAnswer(invocation -> frozen);
+    updater = new WorldUpdater(physics, area, gameState);
+  }
+
+  @Test
+  void shouldUpdateOnceAtNormalSpeed() {
+    time.setTimeScale(WorldUpdater.FAST_FORWARD_THRESHOLD);
+    time.advance(FRAME);
+    updater.updateFrame();
+
+    assertEquals(1, updater.getLastFrameTicks());
+    verify(physics).update();
+    verify(waves).update(FRAME * WorldUpdater.FAST_FORWARD_THRESHOLD);
+  }
+
+  @Test
+  void shouldRunFixedTicksWhenFastForwarding() {
+    time.setTimeScale(8f);
+    time.advance(FRAME);
+    updater.updateFrame();
+
+    assertEquals(8, updater.getLastFrameTicks());
+    verify(physics, times(8)).update();
+    verify(waves, times(8)).update(WorldUpdater.FAST_FORWARD_STEP);
+    // The end state after the last tick is checked by the caller, after rendering
+    verify(area, times(7)).checkGameOver();
+    // Ticks only report the fixed step while they run
+    assertEquals(FRAME * 8f, time.getDeltaTime());
+  }
+
+  @Test
+  void shouldStopTickingWhenFrozen() {
+    doAnswer(
+            invocation -> {
+              frozen = true;
+              return null;
+            })
+        .when(area)
+        .checkGameOver();
+    time.setTimeScale(16f);
+    time.advance(FRAME);
+    updater.updateFrame();
+
+    assertEquals(1, updater.getLastFrameTicks());
+    verify(waves, times(1)).update(anyFloat());
+  }
+
+  @Test
+  void shouldCarryTicksOverBudgetToNextFrame() {
+    updater.setTickBudgetNanos(0L);
+    time.setTimeScale(4f);
+    time.advance(FRAME);
+    updater.updateFrame();
+    assertEquals(1, updater.getLastFrameTicks());
+
+    updater.setTickBudgetNanos(Long.MAX_VALUE);
+    time.advance(FRAME);
+    updater.updateFrame();
+    assertEquals(7, updater.getLastFrameTicks());
+  }
+
+  @Test
+  void shouldNotLoseTicksToRounding() {
+    updater.setTickBudgetNanos(Long.MAX_VALUE);
+    time.setTimeScale(16f);
+    // 1/30 s is not exact as a float, so subtracting float steps from the backlog dropped ticks
+    for (int i = 0; i < 600; i++) {
+      time.advance(1f / 30f);
+      updater.updateFrame();
+      assertEquals(32, updater.getLastFrameTicks());
+    }
+  }
+
+  @Test
+  void shouldRunTimersInGameTime() {
+    TimerService timers = new TimerService();
+    ServiceLocator.registerTimerService(timers);
+    int[] runs = {0};
+    timers.schedule(0.1f, () -> runs[0]++);
+
+    time.advance(FRAME);
+    updater.updateFrame();
+    frozen = true;
+    time.advance(1f);
+    updater.updateFrame();
+    assertEquals(0, runs[0]);
+
+    // Fast-forward ticks count towards the delay like frames at 1x
+    frozen = false;
+    time.setTimeScale(8f);
+    time.advance(FRAME);
+    updater.updateFrame();
+    assertEquals(1, runs[0]);
+    assertEquals(0, timers.size());
+  }
+}
@@ -0,0 +1,118 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class AssetCacheTest {
+  private static final String TREE = "test/files/tree.png"; // 1000x1500
+  private static final String HEART = "test/files/heart.png"; // 1000x1000
+
+  @Test
+  void shouldKeepReleasedAssetsForNextScreen() {
+    AssetManager assetManager = spy(AssetManager.class);
+    AssetCache cache = new AssetCache(assetManager, 100_000_000L);
+
+    ResourceService first = new ResourceService(cache);
+    first.loadTextures(new String[] {TREE});
+    first.loadAll();
+    first.dispose();
+
+    assertTrue(assetManager.isLoaded(TREE, Texture.class));
+    assertEquals(0, cache.getReferenceCount(TREE));
+    assertEquals(6_000_000L, cache.getIdleBytes());
+
+    ResourceService second = new ResourceService(cache);
+    second.loadTextures(new String[] {TREE});
+    second.loadAll();
+
+    assertNotNull(second.getAsset(TREE, Texture.class));
+    assertEquals(1, cache.getReferenceCount(TREE));
+    assertEquals(0, cache.getIdleBytes());
+    assertEquals(6_000_000L, cache.getResidentBytes());
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    verify(assetManager, times(1)).load(TREE, Texture.class);
+  }
+
+  @Test
+  void shouldCountReferencesAcrossServices() {
+    AssetCache cache = new AssetCache(new AssetManager(), 0);
+    ResourceService first = new ResourceService(cache);
+    ResourceService second = new ResourceService(cache);
+    first.loadTextures(new String[] {HEART});
+    first.loadTextures(new String[] {HEART});
+    second.loadTextures(new String[] {HEART});
+    first.loadAll();
+
+    assertEquals(2, cache.getReferenceCount(HEART));
+
+    first.unloadAssets(new String[] {HEART});
+    assertTrue(cache.getAssetManager().isLoaded(HEART, Texture.class));
+
+    second.dispose();
+    assertFalse(cache.contains(HEART));
+    assertFalse(cache.getAssetManager().isLoaded(HEART, Texture.class));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyReleasedOverBudget() {
+    AssetCache cache = new AssetCache(new AssetManager(), 6_000_000L);
+    ResourceService resourceService = new ResourceService(cache);
+    resourceService.loadTextures(new String[] {HEART, TREE});
+    resourceService.loadAll();
+
+    resourceService.unloadAssets(new String[] {HEART});
+    resourceService.unloadAssets(new String[] {TREE});
+
+    assertFalse(cache.contains(HEART));
+    assertTrue(cache.contains(TREE));
+    assertEquals(1, cache.getEvictions());
+    assertEquals(6_000_000L, cache.getIdleBytes());
+
+    cache.trim(0);
+    assertFalse(cache.contains(TREE));
+    assertEquals(0, cache.getResidentBytes());
+  }
+
+  @Test
+  void shouldMeasureEachAssetOnce() {
+    AssetManager assetManager = spy(AssetManager.class);
+    AssetCache cache = new AssetCache(assetManager, 100_000_000L);
+    ResourceService resourceService = new ResourceService(cache);
+    resourceService.loadTextures(new String[] {TREE});
+    resourceService.loadAll();
+
+    assertEquals(6_000_000L, cache.getResidentBytes());
+    assertEquals(6_000_000L, cache.getResidentBytes());
+    resourceService.dispose();
+    assertEquals(6_000_000L, cache.getResidentBytes());
+
+    verify(assetManager, times(1)).get(TREE);
+  }
+
+  @Test
+  void shouldDropQueuedAssetsWhenReleased() {
+    AssetCache cache = new AssetCache(new AssetManager(), 100_000_000L);
+    ResourceService resourceService = new ResourceService(cache);
+    resourceService.loadTextures(new String[] {TREE});
+    resourceService.dispose();
+
+    assertFalse(cache.contains(TREE));
+    assertTrue(cache.getAssetManager().isFinished());
+  }
+
+  @Test
+  void shouldRejectNegativeBudget() {
+    AssetManager assetManager = new AssetManager();
+    assertThrows(IllegalArgumentException.class, () -> new AssetCache(assetManager, -1));
+  }
+}
@@ -2,11 +2,15 @@ package com.csse3200.game.services;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.badlogic.gdx.files.FileHandle;
 import com.csse3200.game.entities.configs.BaseItemConfig;
 import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.persistence.ConfigSnapshot;
+import java.nio.file.Path;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 @ExtendWith(GameExtension.class)
 class ConfigServiceTest {
@@ -14,7 +18,7 @@ class ConfigServiceTest {
 
   @Test
   void testLoadConfigsValidConfigFile() {
-    configService = new ConfigService();
+    configService = new ConfigService(ConfigSnapshot.disabled());
     Map<String, BaseItemConfig> itemConfigs =
         configService.loadItemConfigs("test/files/exampleconfig.json");
     assertNotNull(itemConfigs);
@@ -33,7 +37,7 @@ class ConfigServiceTest {
 
   @Test
   void testLoadConfigsMissingConfigFile() {
-    configService = new ConfigService();
+    configService = new ConfigService(ConfigSnapshot.disabled());
     Map<String, BaseItemConfig> itemConfigs =
         configService.loadItemConfigs("test/files/missing.json");
     assertNotNull(itemConfigs);
@@ -42,10 +46,26 @@ class ConfigServiceTest {
 
   @Test
   void testLoadConfigsInvalidConfigFile() {
-    configService = new ConfigService();
+    configService = new ConfigService(ConfigSnapshot.disabled());
     Map<String, BaseItemConfig> itemConfigs =
         configService.loadItemConfigs("test/files/invalid.json");
     assertNotNull(itemConfigs);
     assertEquals(0, itemConfigs.size());
   }
+
+  @Test
+  void testLoadFromSnapshotsOnSecondLaunch(@TempDir Path tempDir) {
+    FileHandle cacheDir = new FileHandle(tempDir.toFile());
+    ConfigService fromJson = new ConfigService(new ConfigSnapshot(cacheDir));
+
+    ConfigSnapshot snapshot = new ConfigSnapshot(cacheDir);
+    configService = new ConfigService(snapshot);
+    assertEquals(5, snapshot.getHits());
+    assertEquals(0, snapshot.getMisses());
+    assertEquals(fromJson.getEnemyConfigs().keySet(), configService.getEnemyConfigs().keySet());
+    assertEquals(fromJson.getLevelConfigs().keySet(), configService.getLevelConfigs().keySet());
+    assertEquals(
+        fromJson.getLevelConfig("levelOne").getWaves().size(),
+        configService.getLevelConfig("levelOne").getWaves().size());
+  }
 }
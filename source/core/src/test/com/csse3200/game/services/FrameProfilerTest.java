@@ -0,0 +1,131 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.csse3200.game.events.EventHandler;
+import com.csse3200.game.events.EventKeys;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.FrameProfiler.Section;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class FrameProfilerTest {
+  @Test
+  void shouldReportZeroWithoutFrames() {
+    FrameProfiler profiler = new FrameProfiler(4);
+    assertEquals(0, profiler.getFrameCount());
+    assertEquals(0, profiler.getMin(Section.PHYSICS));
+    assertEquals(0, profiler.getAverage(Section.PHYSICS));
+    assertEquals(0, profiler.getPercentile(Section.PHYSICS, 99));
+  }
+
+  @Test
+  void shouldComputeStatsPerSection() {
+    FrameProfiler profiler = new FrameProfiler(100);
+    for (int i = 1; i <= 100; i++) {
+      profiler.record(Section.PHYSICS, i);
+      profiler.record(Section.WAVES, 7);
+      profiler.endFrame();
+    }
+
+    assertEquals(100, profiler.getFrameCount());
+    assertEquals(1, profiler.getMin(Section.PHYSICS));
+    assertEquals(50, profiler.getAverage(Section.PHYSICS));
+    assertEquals(99, profiler.getPercentile(Section.PHYSICS, 99));
+    assertEquals(100, profiler.getPercentile(Section.PHYSICS, 100));
+    assertEquals(7, profiler.getAverage(Section.WAVES));
+    assertEquals(0, profiler.getAverage(Section.STAGE_DRAW));
+  }
+
+  @Test
+  void shouldSumRepeatedSectionsInFrame() {
+    FrameProfiler profiler = new FrameProfiler(4);
+    profiler.record(Section.ENTITIES, 3);
+    profiler.record(Section.ENTITIES, 4);
+    profiler.endFrame();
+    assertEquals(7, profiler.getMin(Section.ENTITIES));
+  }
+
+  @Test
+  void shouldKeepOnlyMostRecentFrames() {
+    FrameProfiler profiler = new FrameProfiler(3);
+    for (int i = 1; i <= 5; i++) {
+      profiler.record(Section.PHYSICS, i * 10L);
+      profiler.endFrame();
+    }
+
+    assertEquals(3, profiler.getFrameCount());
+    assertEquals(30, profiler.getMin(Section.PHYSICS));
+    assertEquals(40, profiler.getAverage(Section.PHYSICS));
+
+    profiler.reset();
+    assertEquals(0, profiler.getFrameCount());
+  }
+
+  @Test
+  void shouldWriteCsvOldestFirst() throws IOException {
+    FrameProfiler profiler = new FrameProfiler(2);
+    for (int i = 1; i <= 3; i++) {
+      profiler.record(Section.PHYSICS, i);
+      profiler.endFrame();
+    }
+
+    StringWriter writer = new StringWriter();
+    profiler.writeCsv(writer);
+    String[] lines = writer.toString().split("\n");
+
+    assertEquals(3, lines.length);
+    assertTrue(lines[0].startsWith("frame,physics_ns,entities_ns"));
+    assertTrue(lines[0].endsWith(",frame_ns,draw_calls"));
+    assertTrue(lines[1].startsWith("0,2,"));
+    assertTrue(lines[2].startsWith("1,3,"));
+  }
+
+  @Test
+  void shouldTrackDrawCalls() {
+    FrameProfiler profiler = new FrameProfiler(4);
+    profiler.recordDrawCalls(3);
+    profiler.recordDrawCalls(2);
+    profiler.endFrame();
+    profiler.recordDrawCalls(9);
+    profiler.endFrame();
+
+    assertEquals(7f, profiler.getAverageDrawCalls());
+    assertEquals(9, profiler.getMaxDrawCalls());
+  }
+
+  @Test
+  void shouldCountEventsPerFrame() {
+    FrameProfiler profiler = new FrameProfiler(4);
+    profiler.reset();
+    EventHandler events = new EventHandler();
+    int often = EventKeys.intern("profiledOften");
+    int rarely = EventKeys.intern("profiledRarely");
+    for (int i = 0; i < 5; i++) {
+      events.trigger(often);
+    }
+    events.trigger(rarely);
+    profiler.endFrame();
+
+    assertEquals(5, profiler.getEventTriggers(often));
+    assertEquals(1, profiler.getEventTriggers(rarely));
+    assertEquals(6, profiler.getTotalEventTriggers());
+    int[] top = new int[3];
+    assertEquals(2, profiler.getTopEvents(top));
+    assertEquals(often, top[0]);
+    assertEquals(rarely, top[1]);
+
+    events.trigger(rarely);
+    profiler.endFrame();
+    assertEquals(0, profiler.getEventTriggers(often));
+    assertEquals(1, profiler.getTotalEventTriggers());
+  }
+
+  @Test
+  void shouldRejectInvalidCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new FrameProfiler(0));
+  }
+}
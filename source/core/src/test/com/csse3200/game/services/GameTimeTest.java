@@ -54,6 +54,21 @@ class GameTimeTest {
     assertEquals(0f, gameTime.getDeltaTime());
   }
 
+  @Test
+  void shouldReportFixedDeltaUntilCleared() {
+    gameTime.setTimeScale(8f);
+    gameTime.setFixedDelta(0.5f);
+    assertEquals(0.5f, gameTime.getDeltaTime());
+    assertEquals(10f, gameTime.getRawDeltaTime());
+
+    gameTime.setTimeScale(0f);
+    assertEquals(0f, gameTime.getDeltaTime());
+
+    gameTime.setTimeScale(8f);
+    gameTime.clearFixedDelta();
+    assertEquals(80f, gameTime.getDeltaTime());
+  }
+
   private void shouldScale(float scale, float delta, float rawDelta) {
     gameTime.setTimeScale(scale);
     assertEquals(scale, gameTime.getTimeScale());
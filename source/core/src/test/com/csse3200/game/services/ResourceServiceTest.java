@@ -9,6 +9,7 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.csse3200.game.extensions.GameExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -143,4 +144,53 @@ class ResourceServiceTest {
     verify(assetManager).load(asset1, Music.class);
     verify(assetManager).load(asset2, Music.class);
   }
+
+  @Test
+  void shouldResolvePackedTexturesToAtlasRegions() {
+    String atlas = "test/files/packed.atlas";
+    String packed = "test/files/tree.png";
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+
+    resourceService.loadPackedTextures(atlas, new String[] {packed});
+    resourceService.loadAll();
+
+    assertTrue(resourceService.isPacked(packed));
+    assertFalse(resourceService.containsAsset(packed, Texture.class));
+    TextureRegion region = resourceService.getTextureRegion(packed);
+    assertEquals(8, region.getRegionWidth());
+    assertSame(
+        resourceService.getAsset(atlas, TextureAtlas.class).getTextures().first(),
+        region.getTexture());
+    assertSame(region, resourceService.getTextureRegion(packed));
+  }
+
+  @Test
+  void shouldLoadTexturesMissingFromPackedAtlas() {
+    String atlas = "test/files/packed.atlas";
+    String missing = "test/files/heart.png";
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+
+    resourceService.loadPackedTextures(atlas, new String[] {missing});
+    resourceService.loadAll();
+    assertFalse(resourceService.containsAsset(missing, Texture.class));
+
+    TextureRegion region = resourceService.getTextureRegion(missing);
+    assertFalse(resourceService.isPacked(missing));
+    assertSame(resourceService.getAsset(missing, Texture.class), region.getTexture());
+  }
+
+  @Test
+  void shouldLoadTexturesIndividuallyWithoutPackedAtlas() {
+    String texture = "test/files/tree.png";
+    ResourceService resourceService = new ResourceService(spy(AssetManager.class));
+
+    resourceService.loadPackedTextures("test/files/missing.atlas", new String[] {texture});
+    resourceService.loadAll();
+
+    assertFalse(resourceService.isPacked(texture));
+    assertTrue(resourceService.containsAsset(texture, Texture.class));
+    assertSame(
+        resourceService.getAsset(texture, Texture.class),
+        resourceService.getTextureRegion(texture).getTexture());
+  }
 }
@@ -7,6 +7,7 @@ import com.badlogic.gdx.utils.Timer;
 import com.csse3200.game.entities.EntityService;
 import com.csse3200.game.extensions.GameExtension;
 import com.csse3200.game.input.InputService;
+import com.csse3200.game.persistence.ConfigSnapshot;
 import com.csse3200.game.physics.PhysicsService;
 import com.csse3200.game.rendering.RenderService;
 import org.junit.jupiter.api.AfterEach;
@@ -53,7 +54,7 @@ class ServiceLocatorTest {
     worldMapService = new WorldMapService();
     dialogService = new DialogService();
     globalResourceService = new ResourceService();
-    configService = new ConfigService();
+    configService = new ConfigService(ConfigSnapshot.disabled());
     settingsService = mock(SettingsService.class);
     discordRichPresenceService = new DiscordRichPresenceService();
     timer = mock(Timer.class);
@@ -123,6 +124,8 @@ class ServiceLocatorTest {
     assertNull(ServiceLocator.getCurrencyService());
     assertNull(ServiceLocator.getItemEffectsService());
     assertNull(ServiceLocator.getGameStateService());
+    assertNull(ServiceLocator.getFrameProfiler());
+    assertNull(ServiceLocator.getTimerService());
     // Persistent services should remain after clear
     assertNotNull(ServiceLocator.getCutsceneService());
     assertNotNull(ServiceLocator.getWorldMapService());
@@ -184,6 +187,8 @@ class ServiceLocatorTest {
     ServiceLocator.registerSettingsService(settingsService);
     ServiceLocator.registerDiscordRichPresenceService(discordRichPresenceService);
     ServiceLocator.registerGameStateService(gameStateService);
+    ServiceLocator.registerFrameProfiler(new FrameProfiler());
+    ServiceLocator.registerTimerService(new TimerService());
   }
 
   private void assertAllServicesRegistered() {
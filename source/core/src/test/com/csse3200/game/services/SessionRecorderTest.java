@@ -0,0 +1,139 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.csse3200.game.areas.LevelGameArea;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.persistence.SessionRecording;
+import com.csse3200.game.persistence.SessionRecording.Input;
+import com.csse3200.game.persistence.SessionRecording.InputType;
+import com.csse3200.game.progression.Profile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+
+@ExtendWith(GameExtension.class)
+class SessionRecorderTest {
+  private SessionRecorder recorder;
+  private GameTime time;
+
+  @BeforeEach
+  void beforeEach() {
+    recorder = new SessionRecorder();
+    time = new GameTime();
+    ServiceLocator.registerTimeSource(time);
+  }
+
+  @Test
+  void shouldSeedRandomness() {
+    recorder.startRecording("levelOne", 42L);
+    int first = MathUtils.random.nextInt();
+    assertEquals(new RandomXS128(42L).nextInt(), first);
+
+    recorder.startReplay(recorder.getRecording());
+    assertEquals(first, MathUtils.random.nextInt());
+  }
+
+  @Test
+  void shouldRecordInputsAtGameTime() {
+    recorder.startRecording("levelOne", 1L);
+    recorder.recordPlacement("images/slingshooter.png", 3);
+    recorder.advance(1.5f);
+    recorder.recordSpeedChange(2f);
+    recorder.recordItemUse("images/grenade.png", 7);
+
+    SessionRecording recording = recorder.getRecording();
+    assertEquals(3, recording.getInputs().size);
+    Input placement = recording.getInputs().get(0);
+    assertEquals(InputType.PLACE_UNIT, placement.getType());
+    assertEquals(0f, placement.getTime());
+    assertEquals(3, placement.getPosition());
+    assertEquals(InputType.SET_SPEED, recording.getInputs().get(1).getType());
+    assertEquals(1.5f, recording.getInputs().get(1).getTime());
+    assertEquals(2f, recording.getInputs().get(1).getSpeed());
+    assertEquals("images/grenade.png", recording.getInputs().get(2).getKey());
+  }
+
+  @Test
+  void shouldRecordLoadout() {
+    Profile profile = new Profile();
+    profile.getArsenal().unlockDefence("slingshooter");
+    profile.getInventory().addItem("grenade");
+    profile.getInventory().addItem("grenade");
+    ProfileService profileService = mock(ProfileService.class);
+    when(profileService.getProfile()).thenReturn(profile);
+    ServiceLocator.registerProfileService(profileService);
+
+    recorder.startRecording("levelOne", 1L);
+
+    SessionRecording recording = recorder.getRecording();
+    assertTrue(recording.getDefenders().contains("slingshooter", false));
+    assertEquals(2, recording.getItems().size);
+  }
+
+  @Test
+  void shouldApplyInputsWhenDue() {
+    SessionRecording recording = new SessionRecording("levelOne", 1L);
+    recording.addPlacement(0f, "unit", 1);
+    recording.addSpeedChange(1f, 2f);
+    recording.addItemUse(1f, "item", 2);
+    LevelGameArea area = mock(LevelGameArea.class);
+    recorder.startReplay(recording);
+
+    recorder.applyDueInputs(area);
+    verify(area).spawnRecordedUnit("unit", 1);
+    verifyNoMoreInteractions(area);
+
+    recorder.advance(0.5f);
+    recorder.applyDueInputs(area);
+    verifyNoMoreInteractions(area);
+    assertEquals(1f, time.getTimeScale());
+
+    recorder.advance(0.5f);
+    recorder.applyDueInputs(area);
+    verify(area).spawnRecordedUnit("item", 2);
+    assertEquals(2f, time.getTimeScale());
+    assertTrue(recorder.isReplayFinished());
+  }
+
+  @Test
+  void shouldReplaySlotRewardPlacements() {
+    recorder.startRecording("levelOne", 1L);
+    recorder.recordRewardPlacement("boxer", 4);
+    assertEquals(InputType.PLACE_REWARD, recorder.getRecording().getInputs().first().getType());
+
+    LevelGameArea area = mock(LevelGameArea.class);
+    recorder.startReplay(recorder.getRecording());
+    recorder.applyDueInputs(area);
+    verify(area).spawnRecordedReward("boxer", 4);
+  }
+
+  @Test
+  void shouldNotRecordWhileReplaying() {
+    recorder.startReplay(new SessionRecording("levelOne", 1L));
+    recorder.recordPlacement("unit", 1);
+    recorder.recordSpeedChange(2f);
+
+    assertFalse(recorder.isRecording());
+    assertTrue(recorder.getRecording().getInputs().isEmpty());
+  }
+
+  @Test
+  void shouldApplyPlacementsInRecordedOrder() {
+    SessionRecording recording = new SessionRecording("levelOne", 1L);
+    recording.addPlacement(0.25f, "first", 1);
+    recording.addPlacement(0.25f, "second", 2);
+    LevelGameArea area = mock(LevelGameArea.class);
+    recorder.startReplay(recording);
+
+    recorder.advance(1f);
+    recorder.applyDueInputs(area);
+    InOrder order = inOrder(area);
+    order.verify(area).spawnRecordedUnit("first", 1);
+    order.verify(area).spawnRecordedUnit("second", 2);
+  }
+}
@@ -0,0 +1,186 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.services.SoundService.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class SoundServiceTest {
+  private static final String DAMAGE = "sounds/damage.mp3";
+  private static final String DEATH = "sounds/robot-death.mp3";
+
+  private long now;
+  private long nextId;
+  private ResourceService resources;
+  private Sound damage;
+  private Sound death;
+  private SoundService sounds;
+
+  @BeforeEach
+  void beforeEach() {
+    now = 10_000;
+    nextId = 1;
+    resources = mock(ResourceService.class);
+    damage = mockSound();
+    death = mockSound();
+    when(resources.getAsset(DAMAGE, Sound.class)).thenReturn(damage);
+    when(resources.getAsset(DEATH, Sound.class)).thenReturn(death);
+    SettingsService settings = mock(SettingsService.class);
+    when(settings.getSoundVolume()).thenReturn(0.5f);
+    ServiceLocator.registerResourceService(resources);
+    ServiceLocator.registerSettingsService(settings);
+
+    sounds = new SoundService(() -> now);
+  }
+
+  @AfterEach
+  void afterEach() {
+    ServiceLocator.clear();
+    ServiceLocator.deregisterSettingsService();
+    ServiceLocator.deregisterGlobalResourceService();
+  }
+
+  @Test
+  void shouldPlayAtSettingsVolume() {
+    long id = sounds.play(DAMAGE, 0.8f);
+
+    verify(damage).play(0.4f);
+    assertNotEquals(-1, id);
+    assertEquals(1, sounds.getPlaysIssued());
+  }
+
+  @Test
+  void shouldCoalescePlaysWithinWindow() {
+    long id = sounds.play(DAMAGE, 1f);
+    now += SoundService.COALESCE_WINDOW_MS - 1;
+    assertEquals(id, sounds.play(DAMAGE, 1f));
+    assertEquals(id, sounds.play(DAMAGE, 1f));
+
+    verify(damage, times(1)).play(anyFloat());
+    verify(damage).setVolume(id, 0.75f);
+    verify(damage).setVolume(id, 1f);
+    assertEquals(3, sounds.getPlaysRequested());
+    assertEquals(1, sounds.getPlaysIssued());
+    assertEquals(2, sounds.getPlaysCoalesced());
+  }
+
+  @Test
+  void shouldNotCoalesceDifferentSounds() {
+    sounds.play(DAMAGE, 1f);
+    sounds.play(DEATH, 1f);
+
+    verify(damage).play(anyFloat());
+    verify(death).play(anyFloat());
+    assertEquals(2, sounds.getActiveVoices());
+  }
+
+  @Test
+  void shouldStopOldestVoiceAtSoundLimit() {
+    sounds.configure(DAMAGE, 2, Priority.NORMAL);
+    long first = sounds.play(DAMAGE, 1f);
+    now += 100;
+    sounds.play(DAMAGE, 1f);
+    now += 100;
+    sounds.play(DAMAGE, 1f);
+
+    verify(damage).stop(first);
+    verify(damage, times(3)).play(anyFloat());
+    assertEquals(2, sounds.getActiveVoices());
+  }
+
+  @Test
+  void shouldExpireVoices() {
+    sounds.configure(DAMAGE, 1, Priority.NORMAL);
+    sounds.play(DAMAGE, 1f);
+    now += SoundService.VOICE_LIFETIME_MS;
+
+    assertEquals(0, sounds.getActiveVoices());
+    sounds.play(DAMAGE, 1f);
+    verify(damage, never()).stop(anyLong());
+  }
+
+  @Test
+  void shouldStealLowerPriorityVoiceWhenFull() {
+    sounds.configure(DAMAGE, SoundService.MAX_TOTAL_VOICES, Priority.LOW);
+    long first = fillVoices();
+
+    sounds.play(DEATH, 1f, Priority.HIGH);
+
+    verify(damage).stop(first);
+    verify(death).play(anyFloat());
+    assertEquals(SoundService.MAX_TOTAL_VOICES, sounds.getActiveVoices());
+  }
+
+  @Test
+  void shouldDropLowerPriorityPlayWhenFull() {
+    sounds.configure(DAMAGE, SoundService.MAX_TOTAL_VOICES, Priority.HIGH);
+    fillVoices();
+
+    assertEquals(-1, sounds.play(DEATH, 1f, Priority.LOW));
+
+    verify(death, never()).play(anyFloat());
+    verify(damage, never()).stop(anyLong());
+    assertEquals(1, sounds.getPlaysDropped());
+  }
+
+  @Test
+  void shouldCacheHandlesUntilScreenChanges() {
+    sounds.play(DAMAGE, 1f);
+    now += 100;
+    sounds.play(DAMAGE, 1f);
+    verify(resources, times(1)).getAsset(DAMAGE, Sound.class);
+
+    ResourceService next = mock(ResourceService.class);
+    when(next.getAsset(DAMAGE, Sound.class)).thenReturn(damage);
+    ServiceLocator.registerResourceService(next);
+    sounds.play(DAMAGE, 1f);
+    verify(next).getAsset(DAMAGE, Sound.class);
+  }
+
+  @Test
+  void shouldFallBackToGlobalResources() {
+    ResourceService global = mock(ResourceService.class);
+    Sound click = mockSound();
+    when(resources.getAsset("sounds/button_clicked.mp3", Sound.class))
+        .thenThrow(new GdxRuntimeException("Asset not loaded"));
+    when(global.getAsset("sounds/button_clicked.mp3", Sound.class)).thenReturn(click);
+    ServiceLocator.registerGlobalResourceService(global);
+
+    sounds.play("sounds/button_clicked.mp3", 1f);
+
+    verify(click).play(0.5f);
+  }
+
+  @Test
+  void shouldDropMissingSounds() {
+    assertEquals(-1, sounds.play("sounds/missing.mp3", 1f));
+    assertEquals(1, sounds.getPlaysRequested());
+    assertEquals(0, sounds.getPlaysIssued());
+    assertEquals(1, sounds.getPlaysDropped());
+  }
+
+  /** Fill every voice with damage sounds, returning the id of the first. */
+  private long fillVoices() {
+    long first = sounds.play(DAMAGE, 1f);
+    for (int i = 1; i < SoundService.MAX_TOTAL_VOICES; i++) {
+      now += SoundService.COALESCE_WINDOW_MS;
+      sounds.play(DAMAGE, 1f);
+    }
+    assertEquals(SoundService.MAX_TOTAL_VOICES, sounds.getActiveVoices());
+    return first;
+  }
+
+  private Sound mockSound() {
+    Sound sound = mock(Sound.class);
+    when(sound.play(anyFloat())).thenAnswer(invocation -> nextId++);
+    return sound;
+  }
+}
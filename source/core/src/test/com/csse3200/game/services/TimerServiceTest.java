@@ -0,0 +1,60 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.csse3200.game.extensions.GameExtension;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class TimerServiceTest {
+  @Test
+  void shouldRunTasksOnceDue() {
+    TimerService timers = new TimerService();
+    List<String> runs = new ArrayList<>();
+    timers.schedule(0.75f, () -> runs.add("late"));
+    timers.schedule(0.5f, () -> runs.add("early"));
+    timers.schedule(0.5f, () -> runs.add("early again"));
+
+    timers.update(0.25f);
+    assertEquals(List.of(), runs);
+    assertEquals(3, timers.size());
+
+    timers.update(0.25f);
+    assertEquals(List.of("early", "early again"), runs);
+
+    timers.update(0.25f);
+    assertEquals(List.of("early", "early again", "late"), runs);
+    assertEquals(0, timers.size());
+
+    timers.update(1f);
+    assertEquals(3, runs.size());
+  }
+
+  @Test
+  void shouldRunTasksScheduledWhileRunningOnNextUpdate() {
+    TimerService timers = new TimerService();
+    int[] runs = {0};
+    timers.schedule(0f, () -> timers.schedule(0f, () -> runs[0]++));
+
+    timers.update(0f);
+    assertEquals(0, runs[0]);
+    assertEquals(1, timers.size());
+
+    timers.update(0f);
+    assertEquals(1, runs[0]);
+  }
+
+  @Test
+  void shouldDropTasksWhenCleared() {
+    TimerService timers = new TimerService();
+    int[] runs = {0};
+    timers.schedule(0.1f, () -> runs[0]++);
+
+    timers.clear();
+    timers.update(1f);
+    assertEquals(0, runs[0]);
+  }
+}
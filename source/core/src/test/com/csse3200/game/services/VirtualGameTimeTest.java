@@ -0,0 +1,32 @@
+package com.csse3200.game.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.csse3200.game.extensions.GameExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GameExtension.class)
+class VirtualGameTimeTest {
+  @Test
+  void shouldOnlyAdvanceWhenTold() {
+    VirtualGameTime time = new VirtualGameTime();
+    assertEquals(0f, time.getDeltaTime());
+    assertEquals(0L, time.getTime());
+
+    time.advance(0.5f);
+    time.advance(0.25f);
+    assertEquals(0.25f, time.getDeltaTime(), 0.0001f);
+    assertEquals(750L, time.getTime());
+  }
+
+  @Test
+  void shouldScaleDeltaButNotTime() {
+    VirtualGameTime time = new VirtualGameTime();
+    time.setTimeScale(2f);
+    time.advance(0.5f);
+    assertEquals(1f, time.getDeltaTime(), 0.0001f);
+    assertEquals(0.5f, time.getRawDeltaTime(), 0.0001f);
+    assertEquals(500L, time.getTime());
+  }
+}
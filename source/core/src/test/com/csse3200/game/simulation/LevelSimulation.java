@@ -0,0 +1,469 @@
+package com.csse3200.game.simulation;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.csse3200.game.areas.HeadlessLevelGameArea;
+import com.csse3200.game.entities.Entity;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.entities.configs.BaseDefenderConfig;
+import com.csse3200.game.entities.factories.BossFactory;
+import com.csse3200.game.entities.factories.DefenceFactory;
+import com.csse3200.game.entities.factories.RobotFactory;
+import com.csse3200.game.input.InputService;
+import com.csse3200.game.persistence.ConfigSnapshot;
+import com.csse3200.game.persistence.SessionRecording;
+import com.csse3200.game.persistence.Settings;
+import com.csse3200.game.physics.PhysicsService;
+import com.csse3200.game.progression.Profile;
+import com.csse3200.game.rendering.RenderService;
+import com.csse3200.game.screens.MainGameScreen;
+import com.csse3200.game.screens.WorldUpdater;
+import com.csse3200.game.services.ConfigService;
+import com.csse3200.game.services.CurrencyService;
+import com.csse3200.game.services.GameStateService;
+import com.csse3200.game.services.GameStateService.FreezeReason;
+import com.csse3200.game.services.ItemEffectsService;
+import com.csse3200.game.services.ProfileService;
+import com.csse3200.game.services.ResourceService;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.services.SessionRecorder;
+import com.csse3200.game.services.SettingsService;
+import com.csse3200.game.services.TimerService;
+import com.csse3200.game.services.VirtualGameTime;
+import com.csse3200.game.services.WaveService;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plays a whole level without a window or GL context, as fast as the CPU allows. The level is
+ * loaded from its config, waves are spawned by the real {@link WaveService}, and each frame runs
+ * the same {@link WorldUpdater} as {@link MainGameScreen} on a {@link VirtualGameTime}. Rendering
+ * and UI are mocked out.
+ *
+ * <p>Runs are repeatable: all gameplay randomness goes through {@link MathUtils#random}, which is
+ * seeded, and the defender layout is generated rather than placed by hand. Instead of a generated
+ * layout, a session recorded in game by {@link SessionRecorder} can be replayed, with its seed and
+ * its inputs applied at the game times they were made. Delayed gameplay tasks go through a {@link
+ * TimerService}, so they fire at the same game time as in game.
+ *
+ * <p>Run from {@code core/assets} so configs and assets resolve, e.g. through Gradle:
+ *
+ * <pre>./gradlew :core:simulate -PsimArgs="level=levelTwo seed=7 waveScale=10"</pre>
+ *
+ * <pre>./gradlew :core:simulate -PsimArgs="replay=/path/to/recordings/levelTwo.json"</pre>
+ */
+public class LevelSimulation {
+  private static final Logger logger = LoggerFactory.getLogger(LevelSimulation.class);
+  private static final int STARTING_SCRAP = 1_000_000;
+  private static final float STAGE_WIDTH = 1920f;
+  private static final float STAGE_HEIGHT = 1080f;
+  // Held so the level set in main() is not lost when the logger is garbage collected
+  private static final java.util.logging.Logger julLogger =
+      java.util.logging.Logger.getLogger(LevelSimulation.class.getName());
+
+  private final Options options;
+  private Runnable postFrame = () -> {};
+
+  /** Settings for a simulation run. The replay is null unless a recorded session is replayed. */
+  public record Options(
+      String levelKey,
+      long seed,
+      float waveWeightScale,
+      float frameDelta,
+      float maxSimSeconds,
+      String defenderKey,
+      int defenderColumns,
+      SessionRecording replay) {
+
+    /**
+     * Default settings for a level: a fixed seed, configured wave weights, 60 updates per simulated
+     * second, and two columns of slingshooters.
+     *
+     * @param levelKey level to play
+     * @return default options
+     */
+    public static Options defaults(String levelKey) {
+      return new Options(levelKey, 1L, 1f, 1f / 60f, 600f, "slingshooter", 2, null);
+    }
+
+    /**
+     * Settings for replaying a recorded session: its level and seed, configured wave weights and 60
+     * updates per simulated second. Only the recorded defences are placed.
+     *
+     * @param recording session to replay
+     * @return replay options
+     */
+    public static Options replay(SessionRecording recording) {
+      return new Options(
+          recording.getLevelKey(), recording.getSeed(), 1f, 1f / 60f, 600f, null, 0, recording);
+    }
+  }
+
+  /** How a simulation run ended. */
+  public enum Outcome {
+    LEVEL_COMPLETE,
+    GAME_OVER,
+    TIME_LIMIT
+  }
+
+  /** Results of a simulation run. Frame times are in milliseconds of wall-clock time. */
+  public record Report(
+      Options options,
+      Outcome outcome,
+      int frames,
+      int wavesReached,
+      double simSeconds,
+      double wallSeconds,
+      double p50FrameMs,
+      double p95FrameMs,
+      double p99FrameMs,
+      double maxFrameMs,
+      int peakEntities,
+      int peakRobots) {
+
+    /**
+     * Get how many seconds of game time were simulated per second of real time.
+     *
+     * @return simulated seconds per wall-clock second
+     */
+    public double simSecondsPerWallSecond() {
+      return wallSeconds > 0d ? simSeconds / wallSeconds : 0d;
+    }
+
+    /**
+     * Format the report for logs and the command line.
+     *
+     * @return human readable summary
+     */
+    public String summary() {
+      return String.format(
+          "%s seed=%d waveScale=%.1f%s: %s after %d waves%n"
+              + "  %.1f sim s in %.2f wall s (%.1fx real time), %d frames%n"
+              + "  frame ms p50=%.3f p95=%.3f p99=%.3f max=%.3f%n"
+              + "  peak entities=%d peak robots=%d",
+          options.levelKey(),
+          options.seed(),
+          options.waveWeightScale(),
+          options.replay() != null ? " (replay)" : "",
+          outcome,
+          wavesReached,
+          simSeconds,
+          wallSeconds,
+          simSecondsPerWallSecond(),
+          frames,
+          p50FrameMs,
+          p95FrameMs,
+          p99FrameMs,
+          maxFrameMs,
+          peakEntities,
+          peakRobots);
+    }
+  }
+
+  /**
+   * Create a simulation.
+   *
+   * @param options settings for the run
+   */
+  public LevelSimulation(Options options) {
+    this.options = options;
+  }
+
+  /**
+   * Set work to run after every frame on the simulation thread, such as running tasks posted to the
+   * application.
+   *
+   * @param postFrame work to run after each frame
+   */
+  public void setPostFrame(Runnable postFrame) {
+    this.postFrame = postFrame;
+  }
+
+  /**
+   * Play the level until it is won, lost or the time limit is reached. Needs a libGDX application
+   * and leaves the service locator cleared afterwards.
+   *
+   * @return results of the run
+   */
+  public Report run() {
+    MathUtils.random.setSeed(options.seed());
+    VirtualGameTime time = new VirtualGameTime();
+    GameStateService gameState = registerServices(time);
+    PhysicsService physicsService = ServiceLocator.getPhysicsService();
+    EntityService entityService = ServiceLocator.getEntityService();
+    WaveService waveService = ServiceLocator.getWaveService();
+
+    if (options.replay() != null) {
+      applyLoadout(ServiceLocator.getProfileService().getProfile(), options.replay());
+      SessionRecorder recorder = new SessionRecorder();
+      ServiceLocator.registerSessionRecorder(recorder);
+      recorder.startReplay(options.replay());
+    }
+    HeadlessLevelGameArea area = new HeadlessLevelGameArea(options.levelKey());
+    waveService.setEnemySpawnCallback(
+        new WaveService.EnemySpawnCallback() {
+          @Override
+          public void spawnEnemy(int col, int row, RobotFactory.RobotType robotType) {
+            area.spawnRobot(col, row, robotType);
+          }
+
+          @Override
+          public void spawnBoss(int row, BossFactory.BossTypes bossType) {
+            area.spawnBoss(bossType);
+          }
+        });
+    area.create();
+    area.getProjectilePool().warmUp();
+    if (options.replay() == null) {
+      placeDefenders(area);
+    }
+    waveService.initialiseNewWave();
+    WorldUpdater updater = new WorldUpdater(physicsService.getPhysics(), area, gameState);
+    // Fast-forwarded replays must run every tick, however long they take
+    updater.setTickBudgetNanos(Long.MAX_VALUE);
+
+    int maxFrames = (int) Math.ceil(options.maxSimSeconds() / options.frameDelta());
+    long[] frameNanos = new long[maxFrames];
+    int frames = 0;
+    int peakEntities = 0;
+    int peakRobots = 0;
+    Outcome outcome = Outcome.TIME_LIMIT;
+    long wallStart = System.nanoTime();
+    while (frames < maxFrames) {
+      long frameStart = System.nanoTime();
+      time.advance(options.frameDelta());
+      updater.updateFrame();
+      updater.checkEndState();
+      postFrame.run();
+      frameNanos[frames++] = System.nanoTime() - frameStart;
+
+      peakEntities = Math.max(peakEntities, entityService.getEntities().size);
+      peakRobots = Math.max(peakRobots, area.getRobotCount());
+      if (gameState.getActiveReasons().contains(FreezeReason.GAME_OVER)) {
+        outcome = Outcome.GAME_OVER;
+        break;
+      }
+      if (waveService.isLevelComplete()
+          || gameState.getActiveReasons().contains(FreezeReason.LEVEL_COMPLETE)) {
+        outcome = Outcome.LEVEL_COMPLETE;
+        break;
+      }
+    }
+    double wallSeconds = (System.nanoTime() - wallStart) / 1e9d;
+    int wavesReached = waveService.getCurrentWave();
+
+    area.getProjectilePool().dispose();
+    entityService.dispose();
+    ServiceLocator.getResourceService().dispose();
+    ServiceLocator.clear();
+
+    long[] sorted = Arrays.copyOf(frameNanos, frames);
+    Arrays.sort(sorted);
+    return new Report(
+        options,
+        outcome,
+        frames,
+        wavesReached,
+        frames * (double) options.frameDelta(),
+        wallSeconds,
+        percentileMs(sorted, 0.50),
+        percentileMs(sorted, 0.95),
+        percentileMs(sorted, 0.99),
+        percentileMs(sorted, 1.0),
+        peakEntities,
+        peakRobots);
+  }
+
+  private GameStateService registerServices(VirtualGameTime time) {
+    ServiceLocator.registerTimeSource(time);
+    GameStateService gameState = new GameStateService(time);
+    ServiceLocator.registerGameStateService(gameState);
+    ServiceLocator.registerPhysicsService(new PhysicsService());
+    ServiceLocator.registerInputService(new InputService());
+    ServiceLocator.registerResourceService(new ResourceService());
+    ServiceLocator.registerEntityService(new EntityService());
+    ServiceLocator.registerCurrencyService(new CurrencyService(STARTING_SCRAP, STARTING_SCRAP));
+    ServiceLocator.registerItemEffectsService(new ItemEffectsService());
+
+    // Nothing is drawn, so rendering and UI only need a stage of the right size
+    RenderService renderService = mock(RenderService.class, RETURNS_DEEP_STUBS);
+    Stage stage = mock(Stage.class, RETURNS_DEEP_STUBS);
+    when(renderService.getStage()).thenReturn(stage);
+    when(stage.getWidth()).thenReturn(STAGE_WIDTH);
+    when(stage.getHeight()).thenReturn(STAGE_HEIGHT);
+    ServiceLocator.registerRenderService(renderService);
+
+    SettingsService settings = mock(SettingsService.class, RETURNS_DEEP_STUBS);
+    when(settings.getSettings().getCurrentUIScale()).thenReturn(Settings.UIScale.MEDIUM);
+    when(settings.getSoundVolume()).thenReturn(0f);
+    when(settings.getGameplaySpeedScale()).thenReturn(1f);
+    ServiceLocator.registerSettingsService(settings);
+
+    Profile profile = new Profile();
+    profile.setPlayedLevelTutorial();
+    ProfileService profileService = mock(ProfileService.class);
+    when(profileService.getProfile()).thenReturn(profile);
+    ServiceLocator.registerProfileService(profileService);
+
+    ServiceLocator.registerConfigService(new ConfigService(ConfigSnapshot.disabled()));
+    WaveService waveService = new WaveService();
+    ServiceLocator.registerWaveService(waveService);
+    waveService.setCurrentLevel(options.levelKey());
+    waveService.setWaveWeightScale(options.waveWeightScale());
+    ServiceLocator.registerTimerService(new TimerService());
+
+    ResourceService resources = ServiceLocator.getResourceService();
+    MainGameScreen.queueLevelAssets(resources);
+    resources.loadAll();
+    return gameState;
+  }
+
+  private void placeDefenders(HeadlessLevelGameArea area) {
+    BaseDefenderConfig config =
+        ServiceLocator.getConfigService().getDefenderConfig(options.defenderKey());
+    if (config == null) {
+      logger.warn("No defender config for {}, simulating without defences", options.defenderKey());
+      return;
+    }
+    int rows = area.getLevelRows();
+    int cols = Math.min(options.defenderColumns(), area.getLevelCols());
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        Entity defender = DefenceFactory.createDefenceUnit(config);
+        area.placeUnit(row * area.getLevelCols() + col, defender);
+      }
+    }
+  }
+
+  /** Give the profile the units and items the recorded player brought, so placements can replay. */
+  private static void applyLoadout(Profile profile, SessionRecording recording) {
+    for (String key : recording.getDefenders()) {
+      if (!profile.getArsenal().contains(key)) {
+        profile.getArsenal().unlockDefence(key);
+      }
+    }
+    for (String key : recording.getGenerators()) {
+      if (!profile.getArsenal().contains(key)) {
+        profile.getArsenal().unlockGenerator(key);
+      }
+    }
+    for (String key : recording.getItems()) {
+      profile.getInventory().addItem(key);
+    }
+  }
+
+  private static double percentileMs(long[] sortedNanos, double percentile) {
+    if (sortedNanos.length == 0) {
+      return 0d;
+    }
+    int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+    index = Math.max(0, Math.min(index, sortedNanos.length - 1));
+    return sortedNanos[index] / 1e6d;
+  }
+
+  /**
+   * Run a simulation from the command line. Arguments are {@code key=value} pairs overriding the
+   * defaults: level, seed, waveScale, seconds, defender and columns. Alternatively, replay gives
+   * the path of a recorded session to replay, which sets the level and seed.
+   *
+   * @param args command line arguments
+   * @throws InterruptedException if interrupted while waiting for the run to finish
+   */
+  public static void main(String[] args) throws InterruptedException {
+    Options options = parseOptions(args);
+    // Gameplay logs at info level on every hit and spawn, which would dominate the measurements
+    java.util.logging.Logger.getLogger("").setLevel(Level.WARNING);
+    julLogger.setLevel(Level.INFO);
+    AtomicReference<Report> report = new AtomicReference<>();
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    // The whole run happens on the application thread, so posted tasks (e.g. from Timer) can be
+    // run between frames without racing the simulation
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    config.updatesPerSecond = -1;
+    new HeadlessApplication(
+        new ApplicationAdapter() {
+          @Override
+          public void create() {
+            Gdx.gl20 = Mockito.mock(GL20.class);
+            Gdx.gl = Gdx.gl20;
+            Application app = Gdx.app;
+            LevelSimulation simulation = new LevelSimulation(options);
+            simulation.setPostFrame(((HeadlessApplication) app)::executeRunnables);
+            try {
+              report.set(simulation.run());
+            } catch (RuntimeException e) {
+              failure.set(e);
+            } finally {
+              done.countDown();
+              app.exit();
+            }
+          }
+        },
+        config);
+    done.await();
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+    logger.info("Simulation finished\n{}", report.get().summary());
+  }
+
+  private static Options parseOptions(String[] args) {
+    Options defaults = Options.defaults("levelOne");
+    String level = defaults.levelKey();
+    long seed = defaults.seed();
+    float waveScale = defaults.waveWeightScale();
+    float seconds = defaults.maxSimSeconds();
+    String defender = defaults.defenderKey();
+    int columns = defaults.defenderColumns();
+    String replayPath = null;
+    for (String arg : args) {
+      String[] pair = arg.split("=", 2);
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("Expected key=value but got " + arg);
+      }
+      switch (pair[0]) {
+        case "level" -> level = pair[1];
+        case "seed" -> seed = Long.parseLong(pair[1]);
+        case "waveScale" -> waveScale = Float.parseFloat(pair[1]);
+        case "seconds" -> seconds = Float.parseFloat(pair[1]);
+        case "defender" -> defender = pair[1];
+        case "columns" -> columns = Integer.parseInt(pair[1]);
+        case "replay" -> replayPath = pair[1];
+        default -> throw new IllegalArgumentException("Unknown simulation option " + pair[0]);
+      }
+    }
+    if (replayPath != null) {
+      Options replay = Options.replay(SessionRecording.load(new FileHandle(replayPath)));
+      return new Options(
+          replay.levelKey(),
+          replay.seed(),
+          waveScale,
+          replay.frameDelta(),
+          seconds,
+          replay.defenderKey(),
+          replay.defenderColumns(),
+          replay.replay());
+    }
+    return new Options(
+        level, seed, waveScale, defaults.frameDelta(), seconds, defender, columns, null);
+  }
+}
@@ -0,0 +1,94 @@
+package com.csse3200.game.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.csse3200.game.components.DefenderStatsComponent;
+import com.csse3200.game.entities.EntityService;
+import com.csse3200.game.extensions.GameExtension;
+import com.csse3200.game.persistence.SessionRecording;
+import com.csse3200.game.services.ServiceLocator;
+import com.csse3200.game.simulation.LevelSimulation.Options;
+import com.csse3200.game.simulation.LevelSimulation.Outcome;
+import com.csse3200.game.simulation.LevelSimulation.Report;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/** Runs short headless levels, so changes to the world update or level area break a build. */
+@ExtendWith(GameExtension.class)
+class LevelSimulationTest {
+  private static final float SECONDS = 30f;
+  private static final float REPLAY_SECONDS = 15f;
+  private static final String SLINGSHOOTER = "images/entities/defences/sling_shooter_1.png";
+
+  @Test
+  void shouldPlayLevelHeadless() {
+    Options defaults = Options.defaults("levelOne");
+    Options options =
+        new Options(
+            "levelOne",
+            7L,
+            1f,
+            defaults.frameDelta(),
+            SECONDS,
+            defaults.defenderKey(),
+            defaults.defenderColumns(),
+            null);
+
+    Report report = new LevelSimulation(options).run();
+
+    assertEquals(Outcome.TIME_LIMIT, report.outcome());
+    assertEquals(Math.round(SECONDS / options.frameDelta()), report.frames());
+    assertTrue(report.peakEntities() > 0);
+    assertTrue(report.peakRobots() > 0);
+    assertTrue(report.wavesReached() > 0);
+  }
+
+  @Test
+  void shouldReplaySessionIdentically() {
+    SessionRecording recording = new SessionRecording("levelOne", 11L);
+    recording.setLoadout(List.of("slingshooter"), List.of(), List.of());
+    recording.addPlacement(0.5f, SLINGSHOOTER, 12);
+    recording.addSpeedChange(1f, 2f);
+
+    List<Integer> first = new ArrayList<>();
+    List<Integer> second = new ArrayList<>();
+    Report report = replay(recording, first);
+    replay(recording, second);
+
+    assertEquals(Math.round(REPLAY_SECONDS / report.options().frameDelta()), first.size());
+    assertEquals(first, second);
+    assertTrue(report.peakRobots() > 0);
+  }
+
+  /** Replay a recording, collecting the entity and defender counts after every frame. */
+  private static Report replay(SessionRecording recording, List<Integer> counts) {
+    Options replay = Options.replay(recording);
+    Options options =
+        new Options(
+            replay.levelKey(),
+            replay.seed(),
+            replay.waveWeightScale(),
+            replay.frameDelta(),
+            REPLAY_SECONDS,
+            replay.defenderKey(),
+            replay.defenderColumns(),
+            recording);
+    LevelSimulation simulation = new LevelSimulation(options);
+    List<Integer> defenders = new ArrayList<>();
+    simulation.setPostFrame(
+        () -> {
+          EntityService entityService = ServiceLocator.getEntityService();
+          counts.add(entityService.getEntities().size);
+          defenders.add(entityService.query(DefenderStatsComponent.class).size());
+        });
+    Report report = simulation.run();
+
+    // The recorded placement was replayed half a second in
+    assertEquals(0, (int) defenders.get(0));
+    assertTrue(defenders.contains(1));
+    return report;
+  }
+}